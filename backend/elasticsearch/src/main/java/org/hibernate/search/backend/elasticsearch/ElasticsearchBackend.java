@@ -23,4 +23,10 @@ public interface ElasticsearchBackend extends Backend {
 	 */
 	<T> T getClient(Class<T> clientClass);
 
+	/**
+	 * @return Statistics about bulked works that were rejected by an overloaded Elasticsearch cluster
+	 * and automatically submitted again.
+	 */
+	ElasticsearchBulkRetryStatistics getBulkRetryStatistics();
+
 }
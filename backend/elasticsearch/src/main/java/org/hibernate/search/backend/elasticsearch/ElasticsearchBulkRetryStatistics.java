@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+
+/**
+ * Statistics about works that were rejected by an overloaded Elasticsearch cluster
+ * and automatically submitted again in a later bulk request.
+ *
+ * @see ElasticsearchBackendSettings#BULK_RETRY_MAX_RETRIES
+ */
+public interface ElasticsearchBulkRetryStatistics {
+
+	/**
+	 * @return The number of works submitted again because they were rejected,
+	 * or because they targeted the same document as a rejected work and had to be executed after it.
+	 */
+	long getRetriedWorkCount();
+
+	/**
+	 * @return The number of rejected works that were not submitted again
+	 * because the maximum number of retries was reached.
+	 * These works were reported as failed.
+	 */
+	long getGivenUpWorkCount();
+
+}
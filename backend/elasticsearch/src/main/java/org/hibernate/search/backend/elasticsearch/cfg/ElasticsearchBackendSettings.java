@@ -136,6 +136,21 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * Whether request bodies sent to Elasticsearch should be compressed with gzip,
+	 * and compressed response bodies should be accepted.
+	 * <p>
+	 * Compression trades CPU time for bandwidth:
+	 * it is mostly useful when the network link to the Elasticsearch cluster is slow,
+	 * in particular when indexing, since bulk request bodies compress very well.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -166,6 +181,129 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String LOG_JSON_PRETTY_PRINTING = "log.json_pretty_printing";
 
+	/**
+	 * The time Elasticsearch should keep the context of a scroll alive between two requests for the next chunk of hits.
+	 * <p>
+	 * Expects a positive Integer value in seconds, such as {@code 60},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_TIMEOUT}.
+	 */
+	public static final String SCROLL_TIMEOUT = "scroll_timeout";
+
+	/**
+	 * The maximum number of batches of bulk requests that the backend's shared parallel orchestrator,
+	 * used in particular by the mass indexer, may send to Elasticsearch concurrently.
+	 * <p>
+	 * With a value of {@code 1}, the orchestrator waits for a batch to complete before it sends the next one.
+	 * Higher values allow to make better use of the {@link #MAX_CONNECTIONS connection pool}
+	 * and to put a higher load on the Elasticsearch cluster, at the cost of higher heap consumption.
+	 * Index-scoped, serial orchestrators are not affected: they always send one batch at a time
+	 * in order to preserve the order of works.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#MAX_CONCURRENT_BATCHES}.
+	 */
+	public static final String MAX_CONCURRENT_BATCHES = "max_concurrent_batches";
+
+	/**
+	 * The maximum number of works in a single bulk request sent to Elasticsearch.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 250},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#BULK_MAX_ACTIONS}.
+	 */
+	public static final String BULK_MAX_ACTIONS = "bulk.max_actions";
+
+	/**
+	 * The maximum size in bytes of a single bulk request sent to Elasticsearch.
+	 * <p>
+	 * When set, works are serialized once more before being added to a bulk in order to compute their size,
+	 * and a bulk is sent as soon as adding another work would make it larger than the given size.
+	 * A single work larger than the given size will still be sent, alone in its bulk.
+	 * The value should be set well below the {@code http.max_content_length} setting of the Elasticsearch cluster.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 10000000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no value, meaning bulks are only limited by {@link #BULK_MAX_ACTIONS}.
+	 */
+	public static final String BULK_MAX_BYTES = "bulk.max_bytes";
+
+	/**
+	 * The target execution time of bulk requests, enabling adaptive sizing of bulks.
+	 * <p>
+	 * When set, the maximum number of works in a single bulk request is adjusted at runtime:
+	 * it is halved whenever a bulk request takes longer than the target to execute,
+	 * and increased slowly, up to {@link #BULK_MAX_ACTIONS}, while full bulk requests execute faster than the target.
+	 * <p>
+	 * Expects a strictly positive Long value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no value, meaning bulks are not sized adaptively.
+	 */
+	public static final String BULK_ADAPTIVE_TARGET_LATENCY = "bulk.adaptive.target_latency";
+
+	/**
+	 * The maximum number of times a bulked work rejected by an overloaded Elasticsearch cluster
+	 * (HTTP status 429, typically because of a saturated write thread pool) will be submitted again.
+	 * <p>
+	 * Only rejected works are submitted again, along with any subsequent work of the same bulk targeting the same document,
+	 * so that works affecting a given document are still executed in order.
+	 * Works that are still rejected after the last retry are reported as failed.
+	 * <p>
+	 * Expects a positive or zero Integer value, such as {@code 3},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * Defaults to {@link Defaults#BULK_RETRY_MAX_RETRIES}.
+	 *
+	 * @see org.hibernate.search.backend.elasticsearch.ElasticsearchBulkRetryStatistics
+	 */
+	public static final String BULK_RETRY_MAX_RETRIES = "bulk.retry.max_retries";
+
+	/**
+	 * The delay before submitting rejected bulked works again for the first time.
+	 * <p>
+	 * The delay doubles with each subsequent retry, up to {@link #BULK_RETRY_MAX_DELAY},
+	 * and is randomly reduced by up to half its value to avoid all clients retrying at the same time.
+	 * <p>
+	 * Expects a strictly positive Long value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#BULK_RETRY_INITIAL_DELAY}.
+	 */
+	public static final String BULK_RETRY_INITIAL_DELAY = "bulk.retry.initial_delay";
+
+	/**
+	 * The maximum delay before submitting rejected bulked works again.
+	 * <p>
+	 * Expects a strictly positive Long value in milliseconds, such as {@code 5000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#BULK_RETRY_MAX_DELAY}.
+	 */
+	public static final String BULK_RETRY_MAX_DELAY = "bulk.retry.max_delay";
+
+	/**
+	 * Whether documents should be encoded to JSON as soon as they are built,
+	 * instead of when the request sending them to Elasticsearch is written.
+	 * <p>
+	 * When enabled, only the encoded form of each document is kept in memory while the document waits to be sent,
+	 * instead of a tree of JSON objects.
+	 * This reduces the number of objects retained by bulks, and thus the pressure on the garbage collector,
+	 * at the cost of a copy of the encoded document.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#ENCODE_DOCUMENTS_EAGERLY}.
+	 */
+	public static final String ENCODE_DOCUMENTS_EAGERLY = "encode_documents_eagerly";
+
 	/**
 	 * The multi-tenancy strategy to use.
 	 * <p>
@@ -202,9 +340,17 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 3000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
+		public static final int SCROLL_TIMEOUT = 60;
+		public static final int MAX_CONCURRENT_BATCHES = 1;
+		public static final int BULK_MAX_ACTIONS = 250;
+		public static final int BULK_RETRY_MAX_RETRIES = 3;
+		public static final long BULK_RETRY_INITIAL_DELAY = 100L;
+		public static final long BULK_RETRY_MAX_DELAY = 5000L;
+		public static final boolean ENCODE_DOCUMENTS_EAGERLY = false;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 	}
 }
@@ -106,6 +106,12 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS_PER_ROUTE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> DISCOVERY_ENABLED =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.DISCOVERY_ENABLED )
 					.asBoolean()
@@ -136,6 +142,7 @@ public ElasticsearchClientImplementor create(ConfigurationPropertySource propert
 		return new ElasticsearchClientImpl(
 				restClient, sniffer, threadPoolProvider,
 				requestTimeoutMs, TimeUnit.MILLISECONDS,
+				COMPRESSION_ENABLED.get( propertySource ),
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
@@ -6,10 +6,9 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
 import java.lang.invoke.MethodHandles;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -20,10 +19,15 @@
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
@@ -42,7 +46,6 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 
 
 public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
@@ -51,6 +54,14 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final String GZIP_ENCODING = "gzip";
+
+	private static final int DECOMPRESSION_BUFFER_SIZE = 4096;
+
+	private static final RequestOptions ACCEPT_GZIP_REQUEST_OPTIONS = RequestOptions.DEFAULT.toBuilder()
+			.addHeader( HttpHeaders.ACCEPT_ENCODING, GZIP_ENCODING )
+			.build();
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
@@ -60,18 +71,22 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final int requestTimeoutValue;
 	private final TimeUnit requestTimeoutUnit;
 
+	private final boolean compressionEnabled;
+
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ThreadPoolProvider threadPoolProvider,
 			int requestTimeoutValue, TimeUnit requestTimeoutUnit,
+			boolean compressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = threadPoolProvider.newScheduledThreadPool( "Elasticsearch request timeout executor" );
 		this.requestTimeoutValue = requestTimeoutValue;
 		this.requestTimeoutUnit = requestTimeoutUnit;
+		this.compressionEnabled = compressionEnabled;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -101,7 +116,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compressionEnabled );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -151,7 +166,7 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.getMethod(), elasticsearchRequest.getPath() );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.getParameters().entrySet() ) {
@@ -160,16 +175,31 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 
 		request.setEntity( entity );
 
+		if ( compressionEnabled ) {
+			request.setOptions( ACCEPT_GZIP_REQUEST_OPTIONS );
+		}
+
 		return request;
 	}
 
 	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
-			JsonObject body = parseBody( response );
+			HttpEntity entity = response.getEntity();
+			if ( entity == null ) {
+				return new ElasticsearchResponse(
+						response.getStatusLine().getStatusCode(),
+						response.getStatusLine().getReasonPhrase(),
+						null );
+			}
+			/*
+			 * Only read the body here: parsing will happen later, and only if necessary.
+			 * This allows search result extraction to parse the body incrementally,
+			 * without ever building a tree of JSON elements for the whole body.
+			 */
 			return new ElasticsearchResponse(
 					response.getStatusLine().getStatusCode(),
 					response.getStatusLine().getReasonPhrase(),
-					body );
+					gson, toByteArray( entity ), getCharset( entity ) );
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.failedToParseElasticsearchResponse(
@@ -179,16 +209,20 @@ private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Resp
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
-		HttpEntity entity = response.getEntity();
-		if ( entity == null ) {
-			return null;
+	private static byte[] toByteArray(HttpEntity entity) throws IOException {
+		Header contentEncoding = entity.getContentEncoding();
+		if ( contentEncoding == null || !GZIP_ENCODING.equalsIgnoreCase( contentEncoding.getValue() ) ) {
+			return EntityUtils.toByteArray( entity );
 		}
-
-		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
+		// The low-level client does not decompress responses by itself
+		try ( InputStream stream = new GZIPInputStream( entity.getContent() ) ) {
+			ByteArrayOutputStream decompressed = new ByteArrayOutputStream( DECOMPRESSION_BUFFER_SIZE );
+			byte[] buffer = new byte[DECOMPRESSION_BUFFER_SIZE];
+			int read;
+			while ( ( read = stream.read( buffer ) ) != -1 ) {
+				decompressed.write( buffer, 0, read );
+			}
+			return decompressed.toByteArray();
 		}
 	}
 
@@ -7,7 +7,11 @@
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
@@ -40,12 +44,36 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
-		final List<JsonObject> bodyParts = request.getBodyParts();
-		if ( bodyParts.isEmpty() ) {
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean compress) throws IOException {
+		if ( request.getBodyParts().isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, request, compress );
+	}
+
+	/**
+	 * @param gson The Gson instance used to serialize request bodies.
+	 * @param bodyParts The body parts of a request.
+	 * @return The number of bytes the given body parts will take once serialized in a request.
+	 */
+	public static long computeContentLength(Gson gson, List<JsonObject> bodyParts) {
+		/*
+		 * Serialize the body parts the same way GsonHttpEntity.writeTo() does,
+		 * but to a stream that just discards the content.
+		 */
+		CountingOutputStream countingStream = new CountingOutputStream( DiscardingOutputStream.INSTANCE );
+		try ( Writer writer = new OutputStreamWriter( countingStream, StandardCharsets.UTF_8 ) ) {
+			for ( JsonObject bodyPart : bodyParts ) {
+				gson.toJson( bodyPart, writer );
+				writer.append( '\n' );
+			}
+			writer.flush();
+			return countingStream.getBytesWritten();
+		}
+		catch (IOException e) {
+			// Cannot happen: we are not writing to an actual output
+			throw new AssertionFailure( "Unexpected failure while computing the length of a request body", e );
+		}
 	}
 
 	public static ElasticsearchVersion getElasticsearchVersion(ElasticsearchClient client) {
@@ -72,4 +100,18 @@ public static ElasticsearchVersion getElasticsearchVersion(ElasticsearchClient c
 		}
 	}
 
+	private static final class DiscardingOutputStream extends OutputStream {
+		private static final DiscardingOutputStream INSTANCE = new DiscardingOutputStream();
+
+		@Override
+		public void write(int b) {
+			// Discard
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			// Discard
+		}
+	}
+
 }
@@ -14,6 +14,7 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -24,6 +25,8 @@
 import org.apache.http.nio.entity.HttpAsyncContentProducer;
 import org.apache.http.protocol.HTTP;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.util.common.impl.Contracts;
 
 import com.google.gson.Gson;
@@ -55,6 +58,13 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Body parts that were {@link EncodedJsonObject already encoded} are written as-is,
+ * without going through Gson or the charset encoder.
+ *
+ * When compression is enabled, the output of the charset encoder is compressed
+ * page by page on its way to the HTTP client, see {@link GzipContentEncoder}.
+ * Small content is compressed upfront so that the content length can still be reported.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -63,6 +73,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -81,8 +93,14 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final int CHAR_BUFFER_SIZE = BYTE_BUFFER_PAGE_SIZE;
 
 	private final Gson gson;
+	private final ElasticsearchRequest request;
 	private final List<JsonObject> bodyParts;
 
+	/**
+	 * Null if compression is disabled.
+	 */
+	private final GzipContentEncoder gzipEncoder;
+
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
 	 * for large bulks.
@@ -121,11 +139,13 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	public GsonHttpEntity(Gson gson, ElasticsearchRequest request, boolean compress) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
-		Contracts.assertNotNull( bodyParts, "bodyParts" );
+		Contracts.assertNotNull( request, "request" );
 		this.gson = gson;
-		this.bodyParts = bodyParts;
+		this.request = request;
+		this.bodyParts = request.getBodyParts();
+		this.gzipEncoder = compress ? new GzipContentEncoder() : null;
 		this.contentLength = -1;
 		attemptOnePassEncoding();
 	}
@@ -153,6 +173,9 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
+		if ( gzipEncoder != null ) {
+			return CONTENT_ENCODING_GZIP;
+		}
 		//Apparently this is the correct value:
 		return null;
 	}
@@ -174,12 +197,25 @@ public void writeTo(OutputStream out) throws IOException {
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, writer );
+		GZIPOutputStream gzipStream = gzipEncoder != null ? new GZIPOutputStream( countingStream ) : null;
+		OutputStream bodyStream = gzipStream != null ? gzipStream : countingStream;
+		Writer writer = new OutputStreamWriter( bodyStream, CHARSET );
+		for ( int i = 0; i < bodyParts.size(); i++ ) {
+			EncodedJsonObject encodedBodyPart = request.getEncodedBodyPart( i );
+			if ( encodedBodyPart != null ) {
+				writer.flush();
+				encodedBodyPart.writeTo( bodyStream );
+			}
+			else {
+				gson.toJson( bodyParts.get( i ), writer );
+			}
 			writer.append( '\n' );
 		}
 		writer.flush();
+		if ( gzipStream != null ) {
+			// Write the gzip trailer, but don't close the output stream
+			gzipStream.finish();
+		}
 		//Now we finally know the content size in bytes:
 		hintContentLength( countingStream.getBytesWritten() );
 	}
@@ -201,6 +237,9 @@ public void close() {
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
 		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		if ( gzipEncoder != null ) {
+			gzipEncoder.reset();
+		}
 	}
 
 	/**
@@ -220,10 +259,20 @@ private void attemptOnePassEncoding() throws IOException {
 		triggerFullWrite();
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
 			writer.flush();
-			// The buffer's current content size is the final content size,
-			// as we know the entire content has been encoded already,
-			// and we also know no content was consumed from the buffer yet.
-			hintContentLength( writer.byteBufferContentSize() );
+			if ( gzipEncoder == null ) {
+				// The buffer's current content size is the final content size,
+				// as we know the entire content has been encoded already,
+				// and we also know no content was consumed from the buffer yet.
+				hintContentLength( writer.byteBufferContentSize() );
+			}
+			else {
+				// The content is small enough: compress it upfront to know its compressed size.
+				// The gzip encoder has no output yet, so it will just buffer the compressed content.
+				writer.setOutput( gzipEncoder );
+				writer.flushToOutput();
+				gzipEncoder.finish();
+				hintContentLength( gzipEncoder.getPendingContentSize() );
+			}
 		}
 	}
 
@@ -237,8 +286,14 @@ private void attemptOnePassEncoding() throws IOException {
 	 */
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
+			int bodyPartIndex = nextBodyToEncodeIndex++;
+			EncodedJsonObject encodedBodyPart = request.getEncodedBodyPart( bodyPartIndex );
+			if ( encodedBodyPart != null ) {
+				writer.writeEncoded( encodedBodyPart.toByteBuffer() );
+			}
+			else {
+				gson.toJson( bodyParts.get( bodyPartIndex ), writer );
+			}
 			writer.append( '\n' );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
@@ -256,7 +311,13 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
 		//Re-set the encoder as it might be a different one than a previously used instance:
-		writer.setOutput( encoder );
+		if ( gzipEncoder != null ) {
+			gzipEncoder.setOutput( encoder );
+			writer.setOutput( gzipEncoder );
+		}
+		else {
+			writer.setOutput( encoder );
+		}
 
 		//First write unfinished business from previous attempts
 		writer.resumePendingWrites();
@@ -276,6 +337,10 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
 		}
+		if ( gzipEncoder != null && !gzipEncoder.finish() ) {
+			//Just quit: return control to the caller and trust we'll be called again.
+			return;
+		}
 		// If we haven't aborted yet, we finished!
 		encoder.complete();
 
@@ -285,6 +350,9 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 
 		//Allow to repeat the content rendering from the beginning:
 		this.nextBodyToEncodeIndex = 0;
+		if ( gzipEncoder != null ) {
+			gzipEncoder.reset();
+		}
 	}
 
 	private void hintContentLength(long contentLength) {
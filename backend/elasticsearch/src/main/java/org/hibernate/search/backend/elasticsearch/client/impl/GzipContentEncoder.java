@@ -0,0 +1,176 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * A {@link ContentEncoder} that compresses content with gzip
+ * before passing it to another {@link #setOutput(ContentEncoder) output} encoder.
+ * <p>
+ * Compressed content is buffered when the output pushes back,
+ * and as long as there is buffered content, this encoder pushes back too.
+ * Thus, only the compressed form of a single write is ever buffered,
+ * and the content never needs to be fully buffered.
+ * <p>
+ * When no output is set, all compressed content is buffered instead:
+ * this allows to compress small content upfront in order to know its compressed length.
+ */
+final class GzipContentEncoder implements ContentEncoder {
+
+	/**
+	 * Size of the buffer used to copy content from buffers that don't expose their backing array.
+	 * Consistent with the size of byte buffer pages in {@link GsonHttpEntity}.
+	 */
+	private static final int COPY_BUFFER_SIZE = 1024;
+
+	private final CompressedContentBuffer compressedContent = new CompressedContentBuffer();
+
+	/**
+	 * Initially null: created lazily, and discarded on {@link #reset()}.
+	 */
+	private GZIPOutputStream gzipStream;
+
+	private byte[] copyBuffer;
+
+	/**
+	 * Initially null: must be set before writing is started and each
+	 * time it's resumed as it might change between writes during
+	 * chunked encoding.
+	 */
+	private ContentEncoder output;
+
+	private boolean finished = false;
+
+	/**
+	 * Set the encoder to write compressed content to.
+	 */
+	public void setOutput(ContentEncoder output) {
+		this.output = output;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		if ( output != null && !compressedContent.writeTo( output ) ) {
+			// Flow control is pushing back: don't accept more content for now.
+			return 0;
+		}
+
+		int length = src.remaining();
+		GZIPOutputStream stream = getGzipStream();
+		if ( src.hasArray() ) {
+			stream.write( src.array(), src.arrayOffset() + src.position(), length );
+			src.position( src.limit() );
+		}
+		else {
+			// Typically read-only buffers wrapping pre-encoded content
+			if ( copyBuffer == null ) {
+				copyBuffer = new byte[COPY_BUFFER_SIZE];
+			}
+			while ( src.hasRemaining() ) {
+				int chunkLength = Math.min( src.remaining(), copyBuffer.length );
+				src.get( copyBuffer, 0, chunkLength );
+				stream.write( copyBuffer, 0, chunkLength );
+			}
+		}
+
+		if ( output != null ) {
+			// Avoid storing compressed content if we can simply flush it
+			compressedContent.writeTo( output );
+		}
+
+		// All content was consumed, even if some compressed content is still buffered.
+		return length;
+	}
+
+	/**
+	 * Finish compression, then attempt to send all remaining compressed content to the output.
+	 * <p>
+	 * Flow control may push back, in which case this method should be called again later.
+	 *
+	 * @return {@code true} if all compressed content was sent to the output, {@code false} otherwise.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public boolean finish() throws IOException {
+		if ( !finished ) {
+			getGzipStream().finish();
+			finished = true;
+		}
+		return output != null && compressedContent.writeTo( output );
+	}
+
+	/**
+	 * @return The size of compressed content that has not been sent to the output yet, in bytes.
+	 */
+	public int getPendingContentSize() {
+		return compressedContent.remaining();
+	}
+
+	/**
+	 * Discard any pending content and reset compression,
+	 * so that this encoder can be used to compress new content.
+	 */
+	public void reset() {
+		compressedContent.reset();
+		gzipStream = null;
+		finished = false;
+	}
+
+	@Override
+	public void complete() throws IOException {
+		output.complete();
+	}
+
+	@Override
+	public boolean isCompleted() {
+		return output != null && output.isCompleted();
+	}
+
+	private GZIPOutputStream getGzipStream() throws IOException {
+		if ( gzipStream == null ) {
+			// This writes the gzip header to the buffer
+			gzipStream = new GZIPOutputStream( compressedContent, COPY_BUFFER_SIZE );
+		}
+		return gzipStream;
+	}
+
+	private static final class CompressedContentBuffer extends ByteArrayOutputStream {
+
+		private int readPosition = 0;
+
+		/**
+		 * @return {@code true} if all content was written, {@code false} if flow control pushed back.
+		 */
+		boolean writeTo(ContentEncoder output) throws IOException {
+			while ( readPosition < count ) {
+				int written = output.write( ByteBuffer.wrap( buf, readPosition, count - readPosition ) );
+				if ( written <= 0 ) {
+					return false;
+				}
+				readPosition += written;
+			}
+			// Everything was written: reuse the buffer
+			reset();
+			return true;
+		}
+
+		int remaining() {
+			return count - readPosition;
+		}
+
+		@Override
+		public synchronized void reset() {
+			super.reset();
+			readPosition = 0;
+		}
+	}
+}
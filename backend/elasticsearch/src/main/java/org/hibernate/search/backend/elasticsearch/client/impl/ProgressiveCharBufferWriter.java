@@ -113,6 +113,29 @@ else if ( len > charBuffer.remaining() ) {
 		}
 	}
 
+	/**
+	 * Write content that was already encoded to bytes, bypassing the charset encoder.
+	 * <p>
+	 * The given buffer is not copied: it must not be altered until it has been written to the output.
+	 *
+	 * @param encoded The encoded content, which must use the charset of this writer.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void writeEncoded(ByteBuffer encoded) throws IOException {
+		// Make sure previously written chars are written first
+		flush();
+		if ( currentPage != null && currentPage.position() > 0 ) {
+			currentPage.flip();
+			needWritingPages.add( currentPage );
+			currentPage = null;
+		}
+		if ( encoded.hasRemaining() ) {
+			needWritingPages.add( encoded );
+		}
+		// Avoid storing buffers if we can simply flush them
+		attemptFlushPendingBuffers( false );
+	}
+
 	@Override
 	public void flush() throws IOException {
 		if ( charBuffer.position() == 0 ) {
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -13,6 +14,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -47,13 +49,18 @@ public static Builder builder(String method) {
 	private final String method;
 	private final String path;
 	private final Map<String, String> parameters;
-	private final List<JsonObject> bodyParts;
+	/*
+	 * Each element is either a JsonObject or an EncodedJsonObject.
+	 */
+	private final List<Object> bodyParts;
+	private final List<JsonObject> decodedBodyParts;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
 		this.path = builder.pathBuilder.toString();
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.decodedBodyParts = new DecodedBodyPartList();
 	}
 
 	public String getMethod() {
@@ -68,8 +75,24 @@ public Map<String, String> getParameters() {
 		return parameters;
 	}
 
+	/**
+	 * @return The body parts of this request.
+	 * Body parts added {@link Builder#body(EncodedJsonObject) in their encoded form}
+	 * are decoded each time they are accessed, which is costly:
+	 * when writing the request, use {@link #getEncodedBodyPart(int)} first.
+	 */
 	public List<JsonObject> getBodyParts() {
-		return bodyParts;
+		return decodedBodyParts;
+	}
+
+	/**
+	 * @param index The index of a body part in {@link #getBodyParts()}.
+	 * @return The body part at the given index if it was added {@link Builder#body(EncodedJsonObject) in its encoded form},
+	 * {@code null} otherwise.
+	 */
+	public EncodedJsonObject getEncodedBodyPart(int index) {
+		Object bodyPart = bodyParts.get( index );
+		return bodyPart instanceof EncodedJsonObject ? (EncodedJsonObject) bodyPart : null;
 	}
 
 	@Override
@@ -90,7 +113,7 @@ public static final class Builder {
 		private final StringBuilder pathBuilder = new StringBuilder( 20 );
 
 		private Map<String, String> parameters;
-		private List<JsonObject> bodyParts;
+		private List<Object> bodyParts;
 
 		private Builder(String method) {
 			super();
@@ -148,6 +171,14 @@ public Builder multiValuedParam(String name, Collection<String> values) {
 		}
 
 		public Builder body(JsonObject object) {
+			return addBodyPart( object );
+		}
+
+		public Builder body(EncodedJsonObject object) {
+			return addBodyPart( object );
+		}
+
+		private Builder addBodyPart(Object object) {
 			if ( bodyParts == null ) {
 				bodyParts = new ArrayList<>();
 			}
@@ -160,4 +191,22 @@ public ElasticsearchRequest build() {
 		}
 	}
 
+	private final class DecodedBodyPartList extends AbstractList<JsonObject> {
+		@Override
+		public JsonObject get(int index) {
+			Object bodyPart = bodyParts.get( index );
+			if ( bodyPart instanceof EncodedJsonObject ) {
+				return ( (EncodedJsonObject) bodyPart ).decode();
+			}
+			else {
+				return (JsonObject) bodyPart;
+			}
+		}
+
+		@Override
+		public int size() {
+			return bodyParts.size();
+		}
+	}
+
 }
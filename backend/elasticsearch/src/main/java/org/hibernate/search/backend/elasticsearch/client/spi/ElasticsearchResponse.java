@@ -6,16 +6,36 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.Charset;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 
 public final class ElasticsearchResponse {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final int statusCode;
 
 	private final String statusMessage;
 
-	private final JsonObject body;
+	private JsonObject body;
+
+	/*
+	 * The raw body, until it is parsed.
+	 */
+	private Gson gson;
+	private byte[] rawBody;
+	private Charset rawBodyCharset;
 
 	public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject body) {
 		super();
@@ -24,6 +44,25 @@ public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject bo
 		this.body = body;
 	}
 
+	/**
+	 * Create a response whose body will only be parsed when (and if) it is needed.
+	 *
+	 * @param statusCode The status code of the response.
+	 * @param statusMessage The status message of the response.
+	 * @param gson The Gson instance to use to parse the body.
+	 * @param rawBody The raw body of the response.
+	 * @param rawBodyCharset The charset of the raw body.
+	 */
+	public ElasticsearchResponse(int statusCode, String statusMessage,
+			Gson gson, byte[] rawBody, Charset rawBodyCharset) {
+		super();
+		this.statusCode = statusCode;
+		this.statusMessage = statusMessage;
+		this.gson = gson;
+		this.rawBody = rawBody;
+		this.rawBodyCharset = rawBodyCharset;
+	}
+
 	public int getStatusCode() {
 		return statusCode;
 	}
@@ -32,8 +71,45 @@ public String getStatusMessage() {
 		return statusMessage;
 	}
 
-	public JsonObject getBody() {
+	/**
+	 * @return The body of the response, parsed into a tree of JSON elements.
+	 * The body is parsed on the first call if necessary.
+	 */
+	public synchronized JsonObject getBody() {
+		if ( rawBody != null ) {
+			try ( Reader reader = openRawBodyReader() ) {
+				body = gson.fromJson( reader, JsonObject.class );
+			}
+			catch (IOException | RuntimeException e) {
+				throw log.failedToParseElasticsearchResponse( statusCode, statusMessage, e );
+			}
+			// Free memory: the parsed body is all we need from now on
+			gson = null;
+			rawBody = null;
+			rawBodyCharset = null;
+		}
 		return body;
 	}
 
+	/**
+	 * Open a reader over the body of the response, so that it can be parsed incrementally,
+	 * without building a tree of JSON elements for the whole body.
+	 * <p>
+	 * The raw body is still retained after this call,
+	 * so calling {@link #getBody()} later will still work.
+	 *
+	 * @return A reader over the raw body,
+	 * or {@code null} if the body was already parsed or if there is no body.
+	 */
+	public synchronized Reader openUnparsedBody() {
+		if ( rawBody == null || rawBody.length == 0 ) {
+			return null;
+		}
+		return openRawBodyReader();
+	}
+
+	private Reader openRawBodyReader() {
+		return new InputStreamReader( new ByteArrayInputStream( rawBody ), rawBodyCharset );
+	}
+
 }
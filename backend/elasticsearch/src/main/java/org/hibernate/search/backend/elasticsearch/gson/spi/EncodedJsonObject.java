@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Contracts;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A JSON object that was already encoded to UTF-8 bytes, ready to be written to a request body.
+ * <p>
+ * Holding on to the encoded form instead of a {@link JsonObject} tree
+ * means a single byte array is retained while the object waits to be sent (for example in a bulk),
+ * instead of one object per JSON property, value, array and nested object.
+ *
+ */
+public final class EncodedJsonObject {
+
+	private final byte[] bytes;
+
+	private EncodedJsonObject(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	@Override
+	public String toString() {
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * @return The number of bytes of the encoded object.
+	 */
+	public int getLengthInBytes() {
+		return bytes.length;
+	}
+
+	/**
+	 * @return A read-only buffer over the encoded object.
+	 * Each call returns a new buffer, so the returned buffer can be consumed freely.
+	 */
+	public ByteBuffer toByteBuffer() {
+		return ByteBuffer.wrap( bytes ).asReadOnlyBuffer();
+	}
+
+	public void writeTo(OutputStream out) throws IOException {
+		out.write( bytes );
+	}
+
+	/**
+	 * Parse the encoded object into a new {@link JsonObject}.
+	 * <p>
+	 * This is costly and defeats the purpose of encoding the object in the first place:
+	 * only use this when the tree is really needed, e.g. for logging.
+	 *
+	 * @return The decoded object.
+	 */
+	public JsonObject decode() {
+		try ( Reader reader = new InputStreamReader( new ByteArrayInputStream( bytes ), StandardCharsets.UTF_8 ) ) {
+			return new JsonParser().parse( reader ).getAsJsonObject();
+		}
+		catch (IOException e) {
+			// Cannot happen: we are not reading from an actual input
+			throw new AssertionFailure( "Unexpected failure while decoding a JSON object", e );
+		}
+	}
+
+	/**
+	 * Encodes JSON objects one after the other, reusing the same buffers.
+	 * <p>
+	 * Not thread-safe: each thread must use its own encoder.
+	 */
+	public static final class Encoder {
+
+		/**
+		 * Buffers that grew larger than this will not be kept for the next object,
+		 * to avoid retaining a lot of memory because of a single large object.
+		 */
+		private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+		private static final int INITIAL_BUFFER_SIZE = 1024;
+
+		private final Gson gson;
+
+		private ByteArrayOutputStream buffer;
+		private JsonWriter jsonWriter;
+
+		public Encoder(Gson gson) {
+			Contracts.assertNotNull( gson, "gson" );
+			this.gson = gson;
+		}
+
+		public EncodedJsonObject encode(JsonObject object) {
+			boolean success = false;
+			try {
+				if ( buffer == null ) {
+					buffer = new ByteArrayOutputStream( INITIAL_BUFFER_SIZE );
+					jsonWriter = gson.newJsonWriter( new OutputStreamWriter( buffer, StandardCharsets.UTF_8 ) );
+				}
+				/*
+				 * Gson writes leniently, so the writer can be reused for multiple top-level values,
+				 * and since we reset the buffer, no separator will end up in the encoded object.
+				 */
+				gson.toJson( object, jsonWriter );
+				jsonWriter.flush();
+				EncodedJsonObject result = new EncodedJsonObject( buffer.toByteArray() );
+				success = true;
+				return result;
+			}
+			catch (IOException e) {
+				// Cannot happen: we are not writing to an actual output
+				throw new AssertionFailure( "Unexpected failure while encoding a JSON object", e );
+			}
+			finally {
+				// On failure, the writer may be in an inconsistent state: don't reuse it
+				if ( !success || buffer.size() > MAX_RETAINED_BUFFER_SIZE ) {
+					buffer = null;
+					jsonWriter = null;
+				}
+				else {
+					buffer.reset();
+				}
+			}
+		}
+	}
+}
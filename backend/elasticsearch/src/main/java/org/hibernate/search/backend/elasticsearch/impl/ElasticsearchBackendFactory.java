@@ -37,6 +37,7 @@
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 import com.google.gson.Gson;
@@ -65,6 +66,58 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( ElasticsearchBackendSettings.Defaults.LOG_JSON_PRETTY_PRINTING )
 					.build();
 
+	private static final ConfigurationProperty<Integer> SCROLL_TIMEOUT =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_TIMEOUT )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_CONCURRENT_BATCHES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.MAX_CONCURRENT_BATCHES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_CONCURRENT_BATCHES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BULK_MAX_ACTIONS =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.BULK_MAX_ACTIONS )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.BULK_MAX_ACTIONS )
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> BULK_MAX_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.BULK_MAX_BYTES )
+					.asLong()
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> BULK_ADAPTIVE_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.BULK_ADAPTIVE_TARGET_LATENCY )
+					.asLong()
+					.build();
+
+	private static final ConfigurationProperty<Integer> BULK_RETRY_MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.BULK_RETRY_MAX_RETRIES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.BULK_RETRY_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Long> BULK_RETRY_INITIAL_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.BULK_RETRY_INITIAL_DELAY )
+					.asLong()
+					.withDefault( ElasticsearchBackendSettings.Defaults.BULK_RETRY_INITIAL_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Long> BULK_RETRY_MAX_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.BULK_RETRY_MAX_DELAY )
+					.asLong()
+					.withDefault( ElasticsearchBackendSettings.Defaults.BULK_RETRY_MAX_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ENCODE_DOCUMENTS_EAGERLY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.ENCODE_DOCUMENTS_EAGERLY )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.ENCODE_DOCUMENTS_EAGERLY )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends ElasticsearchClientFactory>> CLIENT_FACTORY =
 			ConfigurationProperty.forKey( ElasticsearchBackendSpiSettings.CLIENT_FACTORY )
 					.asBeanReference( ElasticsearchClientFactory.class )
@@ -130,6 +183,36 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 					userFacingGson,
 					analysisDefinitionRegistry,
 					getMultiTenancyStrategy( name, propertySource ),
+					SCROLL_TIMEOUT.get( propertySource ),
+					ENCODE_DOCUMENTS_EAGERLY.get( propertySource ),
+					MAX_CONCURRENT_BATCHES.getAndTransform( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} ),
+					BULK_MAX_ACTIONS.getAndTransform( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} ),
+					BULK_MAX_BYTES.getAndMap( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} ),
+					BULK_ADAPTIVE_TARGET_LATENCY.getAndMap( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} ),
+					BULK_RETRY_MAX_RETRIES.getAndTransform( propertySource, value -> {
+						Contracts.assertPositiveOrZero( value, "value" );
+						return value;
+					} ),
+					BULK_RETRY_INITIAL_DELAY.getAndTransform( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} ),
+					BULK_RETRY_MAX_DELAY.getAndTransform( propertySource, value -> {
+						Contracts.assertStrictlyPositive( value, "value" );
+						return value;
+					} ),
 					buildContext.getFailureHandler()
 			);
 		}
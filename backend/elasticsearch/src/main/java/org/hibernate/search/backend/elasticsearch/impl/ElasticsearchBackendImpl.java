@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -19,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
+import org.hibernate.search.backend.elasticsearch.ElasticsearchBulkRetryStatistics;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.index.impl.ElasticsearchIndexManagerBuilder;
@@ -71,6 +73,13 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 			Gson userFacingGson,
 			ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
+			int scrollTimeout,
+			boolean encodeDocumentsEagerly,
+			int maxConcurrentBatches,
+			int bulkMaxActions,
+			Optional<Long> bulkMaxBytes,
+			Optional<Long> bulkAdaptiveTargetLatency,
+			int bulkRetryMaxRetries, long bulkRetryInitialDelay, long bulkRetryMaxDelay,
 			FailureHandler failureHandler) {
 		this.link = link;
 		this.name = name;
@@ -79,6 +88,9 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 				"Elasticsearch parallel work orchestrator for backend " + name,
 				link,
 				threadPoolProvider,
+				maxConcurrentBatches,
+				bulkMaxActions, bulkMaxBytes, bulkAdaptiveTargetLatency,
+				bulkRetryMaxRetries, bulkRetryInitialDelay, bulkRetryMaxDelay,
 				failureHandler
 		);
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
@@ -99,6 +111,8 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 					return result;
 				},
 				multiTenancyStrategy,
+				scrollTimeout,
+				encodeDocumentsEagerly,
 				orchestratorProvider,
 				queryOrchestrator
 		);
@@ -160,6 +174,11 @@ public <T> T getClient(Class<T> clientClass) {
 		return link.getClient().unwrap( clientClass );
 	}
 
+	@Override
+	public ElasticsearchBulkRetryStatistics getBulkRetryStatistics() {
+		return orchestratorProvider.getBulkRetryStatistics();
+	}
+
 	@Override
 	public IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> createIndexManagerBuilder(
 			String hibernateSearchIndexName, boolean multiTenancyEnabled, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
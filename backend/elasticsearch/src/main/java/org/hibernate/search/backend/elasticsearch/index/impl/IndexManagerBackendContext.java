@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexAdministrationClient;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.IndexMetadata;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
@@ -48,6 +49,8 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final ElasticsearchLink link;
 	private final Gson userFacingGson;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final int scrollTimeout;
+	private final boolean encodeDocumentsEagerly;
 	private final ElasticsearchWorkOrchestratorProvider orchestratorProvider;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
 
@@ -57,12 +60,16 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	public IndexManagerBackendContext(EventContext eventContext, ElasticsearchLink link, Gson userFacingGson,
 			Function<String, String> indexNameConverter,
 			MultiTenancyStrategy multiTenancyStrategy,
+			int scrollTimeout,
+			boolean encodeDocumentsEagerly,
 			ElasticsearchWorkOrchestratorProvider orchestratorProvider,
 			ElasticsearchWorkOrchestrator queryOrchestrator) {
 		this.eventContext = eventContext;
 		this.link = link;
 		this.userFacingGson = userFacingGson;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.scrollTimeout = scrollTimeout;
+		this.encodeDocumentsEagerly = encodeDocumentsEagerly;
 		this.orchestratorProvider = orchestratorProvider;
 		this.queryOrchestrator = queryOrchestrator;
 
@@ -90,7 +97,8 @@ public IndexIndexingPlan<ElasticsearchDocumentObjectBuilder> createIndexingPlan(
 				link.getWorkBuilderFactory(), multiTenancyStrategy, orchestrator,
 				indexManagerContext,
 				refreshStrategy,
-				sessionContext
+				sessionContext,
+				createDocumentEncoder()
 		);
 	}
 
@@ -102,7 +110,7 @@ public IndexIndexer<ElasticsearchDocumentObjectBuilder> createIndexer(
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		return new ElasticsearchIndexIndexer( link.getWorkBuilderFactory(), multiTenancyStrategy, orchestrator,
-				indexManagerContext, sessionContext );
+				indexManagerContext, sessionContext, createDocumentEncoder() );
 	}
 
 	@Override
@@ -117,6 +125,14 @@ public IndexWorkspace createWorkspace(ElasticsearchWorkOrchestrator orchestrator
 		);
 	}
 
+	private EncodedJsonObject.Encoder createDocumentEncoder() {
+		if ( !encodeDocumentsEagerly ) {
+			return null;
+		}
+		// Must use the same Gson instance as the client, which will send the encoded documents as-is
+		return new EncodedJsonObject.Encoder( link.getGsonProvider().getGson() );
+	}
+
 	@Override
 	public DocumentReferenceExtractorHelper getDocumentReferenceExtractorHelper() {
 		return documentReferenceExtractorHelper;
@@ -134,6 +150,7 @@ public ElasticsearchSearchContext createSearchContext(BackendMappingContext mapp
 				mappingContext,
 				userFacingGson, link.getJsonSyntaxHelper(),
 				multiTenancyStrategy,
+				scrollTimeout,
 				scopeModel
 		);
 	}
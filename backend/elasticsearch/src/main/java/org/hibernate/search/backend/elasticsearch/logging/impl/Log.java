@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -34,6 +35,7 @@
 import org.hibernate.search.util.common.data.Range;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.search.util.common.logging.impl.MessageConstants;
 import org.hibernate.search.util.common.logging.impl.ClassFormatter;
 import org.jboss.logging.BasicLogger;
@@ -598,4 +600,13 @@ SearchException conflictingNestedDocumentPathHierarchyForProjection(String absol
 			+ " The host/port string must use the format 'host:port', for example 'mycompany.com:9200'"
 			+ " The URI scheme ('http://', 'https://') must not be included.")
 	SearchException invalidHostAndPort(String hostAndPort, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_3 + 90, value = "Query exceeded the timeout of %1$s %2$s: '%3$s'.")
+	SearchTimeoutException timedOut(long timeout, TimeUnit timeUnit, String queryDescription);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_3 + 91,
+			value = "Elasticsearch rejected bulked works because it is overloaded."
+					+ " Submitting %1$d works again in %2$dms (retry %3$d of %4$d).")
+	void retryingRejectedBulkedWorks(int workCount, long delayMs, int retry, int maxRetries);
 }
@@ -39,16 +39,18 @@ class ElasticsearchBatchingWorkOrchestrator extends AbstractElasticsearchWorkOrc
 	 * @param fair if {@code true} worksets are always submitted to the
 	 * delegate in FIFO order, if {@code false} worksets submitted
 	 * when the internal queue is full may be submitted out of order.
+	 * @param maxConcurrentBatches The maximum number of batches that may be executed concurrently.
+	 * Must be {@code 1} if worksets are expected to be executed in order.
 	 * @param failureHandler A failure handler to report failures of the background thread.
 	 */
 	ElasticsearchBatchingWorkOrchestrator(
 			String name, ElasticsearchWorkProcessor processor, ThreadPoolProvider threadPoolProvider,
-			int maxWorksetsPerBatch, boolean fair,
+			int maxWorksetsPerBatch, boolean fair, int maxConcurrentBatches,
 			FailureHandler failureHandler) {
 		super( name );
 		this.threadPoolProvider = threadPoolProvider;
 		this.executor = new BatchingExecutor<>(
-				name, processor, maxWorksetsPerBatch, fair,
+				name, processor, maxWorksetsPerBatch, fair, maxConcurrentBatches,
 				failureHandler
 		);
 	}
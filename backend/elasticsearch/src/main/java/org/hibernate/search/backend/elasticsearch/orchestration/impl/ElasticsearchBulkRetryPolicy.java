@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchBulkRetryStatistics;
+
+/**
+ * Defines how bulked works rejected by an overloaded Elasticsearch cluster are submitted again,
+ * and keeps track of statistics about retries.
+ * <p>
+ * This class is thread-safe.
+ */
+final class ElasticsearchBulkRetryPolicy implements ElasticsearchBulkRetryStatistics {
+
+	private final int maxRetries;
+	private final long initialDelayMs;
+	private final long maxDelayMs;
+	private final ScheduledExecutorService delayExecutor;
+
+	private final LongAdder retriedWorkCount = new LongAdder();
+	private final LongAdder givenUpWorkCount = new LongAdder();
+
+	/**
+	 * @param maxRetries The maximum number of times a rejected work will be submitted again.
+	 * @param initialDelayMs The delay before the first retry, in milliseconds.
+	 * @param maxDelayMs The maximum delay before a retry, in milliseconds.
+	 * @param delayExecutor An executor used to wait before retries without blocking any thread.
+	 */
+	ElasticsearchBulkRetryPolicy(int maxRetries, long initialDelayMs, long maxDelayMs,
+			ScheduledExecutorService delayExecutor) {
+		this.maxRetries = maxRetries;
+		this.initialDelayMs = initialDelayMs;
+		this.maxDelayMs = maxDelayMs;
+		this.delayExecutor = delayExecutor;
+	}
+
+	@Override
+	public long getRetriedWorkCount() {
+		return retriedWorkCount.sum();
+	}
+
+	@Override
+	public long getGivenUpWorkCount() {
+		return givenUpWorkCount.sum();
+	}
+
+	int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @param retry The index of the retry, starting at 0 for the first retry.
+	 * @return The delay before the given retry, in milliseconds:
+	 * the initial delay doubled for each previous retry, capped to the maximum delay,
+	 * then randomly reduced by up to half its value so that rejected clients don't all retry at the same time.
+	 */
+	long computeDelayMs(int retry) {
+		long exponentialDelay = initialDelayMs << Math.min( retry, 30 );
+		long cappedDelay = exponentialDelay <= 0 ? maxDelayMs : Math.min( maxDelayMs, exponentialDelay );
+		long halfDelay = cappedDelay / 2;
+		return halfDelay + ThreadLocalRandom.current().nextLong( cappedDelay - halfDelay + 1 );
+	}
+
+	CompletableFuture<Void> delay(long delayMs) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		delayExecutor.schedule( () -> future.complete( null ), delayMs, TimeUnit.MILLISECONDS );
+		return future;
+	}
+
+	void onRetry(int workCount) {
+		retriedWorkCount.add( workCount );
+	}
+
+	void onGiveUp(int workCount) {
+		givenUpWorkCount.add( workCount );
+	}
+}
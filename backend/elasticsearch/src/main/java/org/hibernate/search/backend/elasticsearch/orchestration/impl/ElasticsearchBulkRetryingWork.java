@@ -0,0 +1,202 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A bulk work that submits again the works rejected by an overloaded Elasticsearch cluster,
+ * after a delay, until they succeed or the maximum number of retries is reached.
+ * <p>
+ * When a work is rejected, any subsequent work in the same bulk targeting the same document
+ * is submitted again along with the rejected work, even if it initially succeeded,
+ * so that works affecting a given document are still executed in order.
+ * <p>
+ * The result of each work is the result of its last execution.
+ */
+class ElasticsearchBulkRetryingWork implements ElasticsearchWork<BulkResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<String> INDEX_NAME = JsonAccessor.root().property( "_index" ).asString();
+	private static final JsonAccessor<String> DOCUMENT_ID = JsonAccessor.root().property( "_id" ).asString();
+
+	private final List<BulkableElasticsearchWork<?>> works;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory;
+	private final ElasticsearchBulkRetryPolicy retryPolicy;
+
+	ElasticsearchBulkRetryingWork(List<? extends BulkableElasticsearchWork<?>> works,
+			DocumentRefreshStrategy refreshStrategy,
+			BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory,
+			ElasticsearchBulkRetryPolicy retryPolicy) {
+		// Copy the list: the bulker will clear it for the next bulk
+		this.works = new ArrayList<>( works );
+		this.refreshStrategy = refreshStrategy;
+		this.bulkWorkFactory = bulkWorkFactory;
+		this.retryPolicy = retryPolicy;
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "works = " ).append( works )
+				.append( ", refreshStrategy = " ).append( refreshStrategy )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		RetryingBulkResult result = new RetryingBulkResult( works.size() );
+		List<Integer> allWorkIndices = new ArrayList<>( works.size() );
+		for ( int i = 0; i < works.size(); i++ ) {
+			allWorkIndices.add( i );
+		}
+		return execute( context, result, allWorkIndices, 0 )
+				.thenApply( ignored -> result );
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> aggregate(ElasticsearchWorkAggregator aggregator) {
+		return aggregator.addNonBulkable( this );
+	}
+
+	@Override
+	public Object getInfo() {
+		return null;
+	}
+
+	private CompletableFuture<Void> execute(ElasticsearchWorkExecutionContext context, RetryingBulkResult result,
+			List<Integer> workIndices, int retry) {
+		List<BulkableElasticsearchWork<?>> worksToExecute = new ArrayList<>( workIndices.size() );
+		for ( Integer workIndex : workIndices ) {
+			worksToExecute.add( works.get( workIndex ) );
+		}
+		return bulkWorkFactory.apply( worksToExecute, refreshStrategy ).execute( context )
+				.thenCompose( attemptResult -> {
+					result.update( workIndices, attemptResult );
+					return retryIfNecessary( context, result, workIndices, attemptResult, retry );
+				} );
+	}
+
+	private CompletableFuture<Void> retryIfNecessary(ElasticsearchWorkExecutionContext context,
+			RetryingBulkResult result, List<Integer> executedWorkIndices, BulkResult attemptResult, int retry) {
+		List<Integer> workIndicesToRetry = new ArrayList<>();
+		int rejectedWorkCount = 0;
+		Set<String> rejectedDocuments = new HashSet<>();
+		for ( int i = 0; i < executedWorkIndices.size(); i++ ) {
+			Integer workIndex = executedWorkIndices.get( i );
+			String documentKey = toDocumentKey( works.get( workIndex ) );
+			if ( attemptResult.isRejected( i ) ) {
+				++rejectedWorkCount;
+				workIndicesToRetry.add( workIndex );
+				if ( documentKey != null ) {
+					rejectedDocuments.add( documentKey );
+				}
+			}
+			else if ( documentKey != null && rejectedDocuments.contains( documentKey ) ) {
+				// Must be executed again after the rejected work targeting the same document
+				workIndicesToRetry.add( workIndex );
+			}
+		}
+
+		if ( workIndicesToRetry.isEmpty() ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		if ( retry >= retryPolicy.getMaxRetries() ) {
+			// Rejected works will be reported as failed when their result is extracted.
+			retryPolicy.onGiveUp( rejectedWorkCount );
+			return CompletableFuture.completedFuture( null );
+		}
+
+		retryPolicy.onRetry( workIndicesToRetry.size() );
+		long delayMs = retryPolicy.computeDelayMs( retry );
+		log.retryingRejectedBulkedWorks( workIndicesToRetry.size(), delayMs, retry + 1, retryPolicy.getMaxRetries() );
+		return retryPolicy.delay( delayMs )
+				.thenCompose( ignored -> execute( context, result, workIndicesToRetry, retry + 1 ) );
+	}
+
+	private static String toDocumentKey(BulkableElasticsearchWork<?> work) {
+		// Action metadata has the following format: { "actionName" : { "_index" : "...", "_id" : "...", ... } }
+		JsonObject actionMetadata = work.getBulkableActionMetadata();
+		if ( actionMetadata == null || actionMetadata.size() != 1 ) {
+			return null;
+		}
+		Map.Entry<String, JsonElement> action = actionMetadata.entrySet().iterator().next();
+		if ( !action.getValue().isJsonObject() ) {
+			return null;
+		}
+		JsonObject actionParameters = action.getValue().getAsJsonObject();
+		String documentId = DOCUMENT_ID.get( actionParameters ).orElse( null );
+		if ( documentId == null ) {
+			return null;
+		}
+		return INDEX_NAME.get( actionParameters ).orElse( "" ) + "/" + documentId;
+	}
+
+	/**
+	 * A bulk result aggregating the results of multiple executions,
+	 * keeping the result of the last execution for each work.
+	 */
+	private static final class RetryingBulkResult implements BulkResult {
+		private final BulkResult[] resultsByWorkIndex;
+		private final int[] indicesInResultByWorkIndex;
+
+		RetryingBulkResult(int workCount) {
+			this.resultsByWorkIndex = new BulkResult[workCount];
+			this.indicesInResultByWorkIndex = new int[workCount];
+		}
+
+		void update(List<Integer> executedWorkIndices, BulkResult attemptResult) {
+			for ( int i = 0; i < executedWorkIndices.size(); i++ ) {
+				int workIndex = executedWorkIndices.get( i );
+				resultsByWorkIndex[workIndex] = attemptResult;
+				indicesInResultByWorkIndex[workIndex] = i;
+			}
+		}
+
+		@Override
+		public BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context) {
+			return new BulkResultItemExtractor() {
+				@Override
+				public <T> CompletableFuture<T> extract(BulkableElasticsearchWork<T> work, int index) {
+					return resultsByWorkIndex[index].withContext( context )
+							.extract( work, indicesInResultByWorkIndex[index] );
+				}
+			};
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return resultsByWorkIndex[index].isRejected( indicesInResultByWorkIndex[index] );
+		}
+	}
+}
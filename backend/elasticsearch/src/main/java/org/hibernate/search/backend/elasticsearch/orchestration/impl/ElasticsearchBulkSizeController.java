@@ -0,0 +1,104 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+
+/**
+ * Decides when a bulk is full, based on the number of works it contains and optionally on its size in bytes.
+ * <p>
+ * When a target latency is set, the maximum number of works per bulk is adjusted
+ * according to the observed execution time of bulks:
+ * it grows slowly while full bulks execute faster than the target latency,
+ * and is halved whenever a bulk executes slower than the target latency.
+ * <p>
+ * This class is thread-safe: bulks are built in the orchestrator thread,
+ * but their execution time is reported from the client threads.
+ */
+final class ElasticsearchBulkSizeController {
+
+	private static final ToLongFunction<BulkableElasticsearchWork<?>> NO_SIZE_ESTIMATOR = work -> 0L;
+
+	static ElasticsearchBulkSizeController fixed(int maxBulkActions) {
+		return new ElasticsearchBulkSizeController( maxBulkActions, Long.MAX_VALUE, NO_SIZE_ESTIMATOR, null );
+	}
+
+	private final int maxBulkActionsUpperBound;
+	private final int maxBulkActionsIncrement;
+	private final long maxBulkBytes;
+	private final ToLongFunction<BulkableElasticsearchWork<?>> sizeEstimator;
+	private final Long targetLatencyNanos;
+
+	private final AtomicInteger maxBulkActions;
+
+	/**
+	 * @param maxBulkActions The maximum number of works in a single bulk.
+	 * @param maxBulkBytes The maximum size of a single bulk in bytes, or {@link Long#MAX_VALUE} for no limit.
+	 * @param sizeEstimator A function returning the size in bytes a work will take in a bulk request.
+	 * Only called if {@code maxBulkBytes} is not {@link Long#MAX_VALUE}.
+	 * @param targetLatencyMs The target execution time of bulks in milliseconds,
+	 * or {@code null} to disable adaptive sizing.
+	 */
+	ElasticsearchBulkSizeController(int maxBulkActions, long maxBulkBytes,
+			ToLongFunction<BulkableElasticsearchWork<?>> sizeEstimator, Long targetLatencyMs) {
+		this.maxBulkActionsUpperBound = maxBulkActions;
+		this.maxBulkActionsIncrement = Math.max( 1, maxBulkActions / 20 );
+		this.maxBulkBytes = maxBulkBytes;
+		this.sizeEstimator = sizeEstimator;
+		this.targetLatencyNanos = targetLatencyMs == null ? null : TimeUnit.MILLISECONDS.toNanos( targetLatencyMs );
+		this.maxBulkActions = new AtomicInteger( maxBulkActions );
+	}
+
+	/**
+	 * @return The maximum number of works in a single bulk.
+	 * May change over time if adaptive sizing is enabled.
+	 */
+	int getMaxBulkActions() {
+		return maxBulkActions.get();
+	}
+
+	boolean hasMaxBulkBytes() {
+		return maxBulkBytes != Long.MAX_VALUE;
+	}
+
+	long getMaxBulkBytes() {
+		return maxBulkBytes;
+	}
+
+	long estimateSize(BulkableElasticsearchWork<?> work) {
+		return sizeEstimator.applyAsLong( work );
+	}
+
+	boolean isAdaptive() {
+		return targetLatencyNanos != null;
+	}
+
+	/**
+	 * @param bulkActions The number of works in the bulk that was executed.
+	 * @param latencyNanos The execution time of the bulk, in nanoseconds.
+	 */
+	void onBulkExecuted(int bulkActions, long latencyNanos) {
+		if ( !isAdaptive() ) {
+			return;
+		}
+		if ( latencyNanos > targetLatencyNanos ) {
+			maxBulkActions.updateAndGet( current -> Math.max( 1, current / 2 ) );
+		}
+		else {
+			/*
+			 * Only grow when the bulk was full:
+			 * a fast, small bulk doesn't tell us anything about larger bulks.
+			 */
+			maxBulkActions.updateAndGet( current -> bulkActions < current ? current
+					: Math.min( maxBulkActionsUpperBound, current + maxBulkActionsIncrement ) );
+		}
+	}
+}
@@ -15,6 +15,8 @@
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
@@ -24,11 +26,12 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory;
 	private final int minBulkSize;
-	private final int maxBulkSize;
+	private final ElasticsearchBulkSizeController sizeController;
 
 	private final List<BulkableElasticsearchWork<?>> currentBulkItems;
 	private final List<CompletableFuture<?>> currentBulkItemsFutures;
 	private int currentBulkFirstNonAddedItem;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<ElasticsearchWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -48,14 +51,34 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory,
 			int minBulkSize, int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, minBulkSize, ElasticsearchBulkSizeController.fixed( maxBulkSize ) );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param minBulkSize Minimum number of works in a single bulk.
+	 * If {@link #addWorksToSequence() adding works to the sequence} is requested before
+	 * this threshold has been reached, works will not be bulked.
+	 * @param sizeController The controller deciding when a bulk is full,
+	 * based on the number of works it contains and on its size in bytes.
+	 * If a bulk is full, it will be automatically
+	 * {@link #addWorksToSequence() add the bulk work and work extractions to the sequence}
+	 * and {@link #finalizeBulkWork() finalize the bulk work}
+	 * to the underlying sequence builder.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory,
+			int minBulkSize, ElasticsearchBulkSizeController sizeController) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.minBulkSize = minBulkSize;
-		this.maxBulkSize = maxBulkSize;
+		this.sizeController = sizeController;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkItemsFutures = new ArrayList<>();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -63,6 +86,7 @@ public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceB
 	@Override
 	public <T> CompletableFuture<T> add(BulkableElasticsearchWork<T> work) {
 		DocumentRefreshStrategy workRefreshStrategy = work.getRefreshStrategy();
+		long workBytes = sizeController.hasMaxBulkBytes() ? sizeController.estimateSize( work ) : 0L;
 		if ( currentBulkItems.isEmpty() ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
@@ -72,11 +96,19 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			finalizeBulkWork();
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
+		else if ( currentBulkBytes + workBytes > sizeController.getMaxBulkBytes() ) {
+			// This work would make the bulk too large; we can't reuse the current bulk.
+			addWorksToSequence();
+			finalizeBulkWork();
+			currentBulkRefreshStrategy = workRefreshStrategy;
+		}
 
 		CompletableFuture<T> future = new CompletableFuture<>();
 		currentBulkItems.add( work );
 		currentBulkItemsFutures.add( future );
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		currentBulkBytes += workBytes;
+		if ( currentBulkItems.size() >= sizeController.getMaxBulkActions()
+				|| currentBulkBytes >= sizeController.getMaxBulkBytes() ) {
 			addWorksToSequence();
 			finalizeBulkWork();
 		}
@@ -131,6 +163,9 @@ public void finalizeBulkWork() {
 		}
 
 		ElasticsearchWork<BulkResult> bulkWork = bulkWorkFactory.apply( currentBulkItems, currentBulkRefreshStrategy );
+		if ( sizeController.isAdaptive() ) {
+			bulkWork = new LatencyReportingBulkWork( bulkWork, currentBulkItems.size(), sizeController );
+		}
 		currentBulkWorkFuture.complete( bulkWork );
 		reset();
 	}
@@ -140,6 +175,7 @@ public void reset() {
 		this.currentBulkItems.clear();
 		this.currentBulkItemsFutures.clear();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
@@ -159,4 +195,43 @@ private <T> void addAndConnectBulkedWorkExtraction(BulkResultExtractionStep extr
 		extractionStep.add( work, index )
 				.whenComplete( Futures.copyHandler( future ) );
 	}
+
+	/**
+	 * Reports the execution time of a bulk work to the size controller.
+	 */
+	private static final class LatencyReportingBulkWork implements ElasticsearchWork<BulkResult> {
+		private final ElasticsearchWork<BulkResult> delegate;
+		private final int bulkActions;
+		private final ElasticsearchBulkSizeController sizeController;
+
+		LatencyReportingBulkWork(ElasticsearchWork<BulkResult> delegate, int bulkActions,
+				ElasticsearchBulkSizeController sizeController) {
+			this.delegate = delegate;
+			this.bulkActions = bulkActions;
+			this.sizeController = sizeController;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			long startTime = System.nanoTime();
+			return delegate.execute( context )
+					.whenComplete( (ignoredResult, ignoredThrowable) ->
+							sizeController.onBulkExecuted( bulkActions, System.nanoTime() - startTime ) );
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> aggregate(ElasticsearchWorkAggregator aggregator) {
+			return aggregator.addNonBulkable( this );
+		}
+
+		@Override
+		public Object getInfo() {
+			return delegate.getInfo();
+		}
+	}
 }
@@ -6,12 +6,29 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchBulkRetryStatistics;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.impl.Closer;
+
+import com.google.gson.JsonObject;
 
 /**
  * Provides access to various orchestrators.
@@ -80,12 +97,11 @@ public class ElasticsearchWorkOrchestratorProvider {
 	 * work to bulk), which would result in terrible performance.
 	 */
 	private static final int PARALLEL_MIN_BULK_SIZE = 1;
-	private static final int MAX_BULK_SIZE = 250;
 
 	/*
 	 * Setting the following constants involves a bit of guesswork.
 	 * Basically we want the number to be large enough for the orchestrator
-	 * to create bulks of the maximum size defined above most of the time,
+	 * to create bulks of the maximum size most of the time,
 	 * but we also want to keep the number as low as possible to avoid
 	 * consuming too much memory with pending worksets.
 	 * Here we set the number for parallel orchestrators higher than the number
@@ -93,34 +109,61 @@ public class ElasticsearchWorkOrchestratorProvider {
 	 * single-work worksets, and also because the parallel orchestrators rely on a single
 	 * consumer thread shared between all index managers.
 	 */
-	private static final int SERIAL_MAX_WORKSETS_PER_BATCH = 10 * MAX_BULK_SIZE;
-	private static final int PARALLEL_MAX_WORKSETS_PER_BATCH = 20 * MAX_BULK_SIZE;
+	private static final int SERIAL_MAX_WORKSETS_PER_BATCH_PER_BULK = 10;
+	private static final int PARALLEL_MAX_WORKSETS_PER_BATCH_PER_BULK = 20;
+	/*
+	 * The work queue of each orchestrator is preallocated with the maximum number of worksets per batch,
+	 * so we need an upper bound regardless of the maximum bulk size.
+	 * With very large bulks, this means bulks may not be full,
+	 * but such bulks would be impractical anyway.
+	 */
+	private static final int MAX_WORKSETS_PER_BATCH_UPPER_BOUND = 100_000;
 
 	private final ElasticsearchLink link;
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
+	private final int bulkMaxActions;
+	private final long bulkMaxBytes;
+	private final Long bulkAdaptiveTargetLatency;
+	private final ScheduledExecutorService bulkRetryDelayExecutor;
+	private final ElasticsearchBulkRetryPolicy bulkRetryPolicy;
 
 	private final ElasticsearchBatchingWorkOrchestrator rootParallelOrchestrator;
 
 	public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName,
 			ElasticsearchLink link,
 			ThreadPoolProvider threadPoolProvider,
+			int parallelMaxConcurrentBatches,
+			int bulkMaxActions, Optional<Long> bulkMaxBytes, Optional<Long> bulkAdaptiveTargetLatency,
+			int bulkRetryMaxRetries, long bulkRetryInitialDelay, long bulkRetryMaxDelay,
 			FailureHandler failureHandler) {
 		this.link = link;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.bulkMaxActions = bulkMaxActions;
+		this.bulkMaxBytes = bulkMaxBytes.orElse( Long.MAX_VALUE );
+		this.bulkAdaptiveTargetLatency = bulkAdaptiveTargetLatency.orElse( null );
+		// The executor only starts a thread when the first retry is scheduled
+		this.bulkRetryDelayExecutor = bulkRetryMaxRetries > 0
+				? threadPoolProvider.newScheduledThreadPool( "Elasticsearch bulk retry executor - " + rootParallelOrchestratorName )
+				: null;
+		this.bulkRetryPolicy = new ElasticsearchBulkRetryPolicy(
+				bulkRetryMaxRetries, bulkRetryInitialDelay, bulkRetryMaxDelay, bulkRetryDelayExecutor
+		);
 
 		/*
 		 * The following orchestrator doesn't require a strict execution ordering
 		 * (because it's mainly used by the mass indexer, which already takes care of
 		 * ordering works properly and waiting for pending works when necessary).
-		 * Thus we use a parallel orchestrator to maximize throughput.
+		 * Thus we use a parallel orchestrator to maximize throughput,
+		 * and allow multiple batches to be executed concurrently if configured to do so.
 		 */
 		this.rootParallelOrchestrator = createBatchingSharedOrchestrator(
 				rootParallelOrchestratorName,
 				createParallelWorkProcessor(),
-				PARALLEL_MAX_WORKSETS_PER_BATCH,
-				false // Do not care about ordering when queuing worksets
+				maxWorksetsPerBatch( PARALLEL_MAX_WORKSETS_PER_BATCH_PER_BULK, bulkMaxActions ),
+				false, // Do not care about ordering when queuing worksets
+				parallelMaxConcurrentBatches
 		);
 	}
 
@@ -133,7 +176,14 @@ public CompletableFuture<?> preStop() {
 	}
 
 	public void stop() {
-		rootParallelOrchestrator.stop();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( ElasticsearchBatchingWorkOrchestrator::stop, rootParallelOrchestrator );
+			closer.push( ExecutorService::shutdownNow, bulkRetryDelayExecutor );
+		}
+	}
+
+	public ElasticsearchBulkRetryStatistics getBulkRetryStatistics() {
+		return bulkRetryPolicy;
 	}
 
 	/**
@@ -154,8 +204,9 @@ public ElasticsearchWorkOrchestratorImplementor createSerialOrchestrator(String
 		return createBatchingSharedOrchestrator(
 				name,
 				processor,
-				SERIAL_MAX_WORKSETS_PER_BATCH,
-				true /* enqueue worksets in the exact order they were submitted */
+				maxWorksetsPerBatch( SERIAL_MAX_WORKSETS_PER_BATCH_PER_BULK, bulkMaxActions ),
+				true, /* enqueue worksets in the exact order they were submitted */
+				1 /* execute batches one after the other, so that worksets are executed in order */
 		);
 	}
 
@@ -167,12 +218,18 @@ public ElasticsearchWorkOrchestratorImplementor createParallelOrchestrator(Strin
 		return rootParallelOrchestrator.createChild( name );
 	}
 
+	private static int maxWorksetsPerBatch(int maxWorksetsPerBatchPerBulk, int bulkMaxActions) {
+		// Multiply as longs to avoid overflows with very large bulk sizes
+		long uncappedMaxWorksetsPerBatch = (long) maxWorksetsPerBatchPerBulk * bulkMaxActions;
+		return (int) Math.min( uncappedMaxWorksetsPerBatch, MAX_WORKSETS_PER_BATCH_UPPER_BOUND );
+	}
+
 	private ElasticsearchBatchingWorkOrchestrator createBatchingSharedOrchestrator(
 			String name, ElasticsearchWorkProcessor processor,
-			int maxWorksetsPerBatch, boolean fair) {
+			int maxWorksetsPerBatch, boolean fair, int maxConcurrentBatches) {
 		return new ElasticsearchBatchingWorkOrchestrator(
 				name, processor, threadPoolProvider,
-				maxWorksetsPerBatch, fair,
+				maxWorksetsPerBatch, fair, maxConcurrentBatches,
 				failureHandler
 		);
 	}
@@ -196,14 +253,44 @@ private ElasticsearchWorkSequenceBuilder createSequenceBuilder(Supplier<Elastics
 	}
 
 	private ElasticsearchWorkBulker createBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder, int minBulkSize) {
+		BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory =
+				(worksToBulk, refreshStrategy) ->
+						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build();
+		if ( bulkRetryPolicy.getMaxRetries() > 0 ) {
+			BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> simpleBulkWorkFactory =
+					bulkWorkFactory;
+			bulkWorkFactory = (worksToBulk, refreshStrategy) -> new ElasticsearchBulkRetryingWork(
+					worksToBulk, refreshStrategy, simpleBulkWorkFactory, bulkRetryPolicy
+			);
+		}
 		return new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				(worksToBulk, refreshStrategy) ->
-						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				minBulkSize, MAX_BULK_SIZE
+				bulkWorkFactory,
+				minBulkSize, createBulkSizeController()
 				);
 	}
 
+	private ElasticsearchBulkSizeController createBulkSizeController() {
+		return new ElasticsearchBulkSizeController(
+				bulkMaxActions, bulkMaxBytes, this::computeBulkedSize, bulkAdaptiveTargetLatency
+		);
+	}
+
+	private long computeBulkedSize(BulkableElasticsearchWork<?> work) {
+		EncodedJsonObject encodedActionBody = work.getEncodedBulkableActionBody();
+		if ( encodedActionBody != null ) {
+			// The encoded body is followed by a line break
+			return ElasticsearchClientUtils.computeContentLength( link.getGsonProvider().getGson(),
+					Collections.singletonList( work.getBulkableActionMetadata() ) )
+					+ encodedActionBody.getLengthInBytes() + 1;
+		}
+		JsonObject actionBody = work.getBulkableActionBody();
+		List<JsonObject> bodyParts = actionBody == null
+				? Collections.singletonList( work.getBulkableActionMetadata() )
+				: Arrays.asList( work.getBulkableActionMetadata(), actionBody );
+		return ElasticsearchClientUtils.computeContentLength( link.getGsonProvider().getGson(), bodyParts );
+	}
+
 	private ElasticsearchRefreshableWorkExecutionContext createRefreshingWorkExecutionContext() {
 		return new ElasticsearchDefaultWorkExecutionContext(
 				link.getClient(), link.getGsonProvider(), link.getWorkBuilderFactory(), failureHandler
@@ -29,6 +29,7 @@ public final class ElasticsearchSearchContext {
 	private final Gson userFacingGson;
 	private final ElasticsearchJsonSyntaxHelper jsonSyntaxHelper;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final int scrollTimeout;
 
 	// Targeted indexes
 	private final ElasticsearchScopeModel scopeModel;
@@ -36,12 +37,14 @@ public final class ElasticsearchSearchContext {
 	public ElasticsearchSearchContext(BackendMappingContext mappingContext,
 			Gson userFacingGson, ElasticsearchJsonSyntaxHelper jsonSyntaxHelper,
 			MultiTenancyStrategy multiTenancyStrategy,
+			int scrollTimeout,
 			ElasticsearchScopeModel scopeModel) {
 		this.toDocumentIdentifierValueConvertContext = new ToDocumentIdentifierValueConvertContextImpl( mappingContext );
 		this.toDocumentFieldValueConvertContext = new ToDocumentFieldValueConvertContextImpl( mappingContext );
 		this.userFacingGson = userFacingGson;
 		this.jsonSyntaxHelper = jsonSyntaxHelper;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.scrollTimeout = scrollTimeout;
 		this.scopeModel = scopeModel;
 	}
 
@@ -65,6 +68,13 @@ public String toElasticsearchId(String tenantId, String id) {
 		return multiTenancyStrategy.toElasticsearchId( tenantId, id );
 	}
 
+	/**
+	 * @return The time Elasticsearch should keep scroll contexts alive between two requests, as a time value string.
+	 */
+	public String getScrollTimeout() {
+		return scrollTimeout + "s";
+	}
+
 	public Set<URLEncodedString> getIndexNames() {
 		return scopeModel.getElasticsearchIndexNames();
 	}
@@ -26,6 +26,7 @@ public ElasticsearchEntityProjection(Set<String> indexNames, DocumentReferenceEx
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
 		helper.requestDocumentReference( requestBody );
+		context.requireEntityLoading();
 	}
 
 	@Override
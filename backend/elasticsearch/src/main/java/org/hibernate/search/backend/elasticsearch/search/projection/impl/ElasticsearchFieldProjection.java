@@ -48,6 +48,7 @@
 
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
+		context.requireHitSource();
 		JsonArray source = REQUEST_SOURCE_ACCESSOR.getOrCreate( requestBody, JsonArray::new );
 		JsonPrimitive fieldPathJson = new JsonPrimitive( absoluteFieldPath );
 		if ( !source.contains( fieldPathJson ) ) {
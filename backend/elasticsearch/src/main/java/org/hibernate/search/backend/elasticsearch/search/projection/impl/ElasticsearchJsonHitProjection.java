@@ -23,7 +23,8 @@ class ElasticsearchJsonHitProjection implements ElasticsearchSearchProjection<Js
 
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
-		// No-op
+		// The hit is returned as-is, so it must be complete
+		context.requireHitSource();
 	}
 
 	@Override
@@ -33,6 +33,7 @@ class ElasticsearchSourceProjection implements ElasticsearchSearchProjection<Jso
 
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
+		context.requireHitSource();
 		JsonArray source = REQUEST_SOURCE_ACCESSOR.getOrCreate( requestBody, JsonArray::new );
 		if ( !source.contains( WILDCARD_ALL ) ) {
 			source.add( WILDCARD_ALL );
@@ -12,4 +12,16 @@ public interface SearchProjectionRequestContext {
 
 	Integer getDistanceSortIndex(String absoluteFieldPath, GeoPoint location);
 
+	/**
+	 * Indicate that the {@code _source} of each hit will be needed when extracting projections.
+	 * <p>
+	 * Unless this method is called, the {@code _source} of hits may be skipped when parsing the response.
+	 */
+	void requireHitSource();
+
+	/**
+	 * Indicate that entities will be loaded when extracting projections.
+	 */
+	void requireEntityLoading();
+
 }
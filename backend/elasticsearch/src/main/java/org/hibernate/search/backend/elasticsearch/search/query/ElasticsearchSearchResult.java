@@ -35,9 +35,4 @@
 	 */
 	Duration getTook();
 
-	/**
-	 * @return whether or not a timeout occurred on the server side processing the request.
-	 */
-	boolean isTimedOut();
-
 }
@@ -6,27 +6,42 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
 
 class Elasticsearch7SearchResultExtractor<H> implements ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String HITS_PROPERTY_NAME = "hits";
+	private static final String HIT_SOURCE_PROPERTY_NAME = "_source";
+	private static final String AGGREGATIONS_PROPERTY_NAME = "aggregations";
+
 	protected static final JsonObjectAccessor HITS_ACCESSOR =
 			JsonAccessor.root().property( "hits" ).asObject();
 
@@ -36,6 +51,11 @@
 	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
 			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
 
+	private static final JsonAccessor<String> HITS_TOTAL_RELATION_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).property( "relation" ).asString();
+
+	private static final String HITS_TOTAL_RELATION_EQUAL_TO = "eq";
+
 	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
 			JsonAccessor.root().property( "aggregations" ).asObject();
 
@@ -60,9 +80,59 @@
 	}
 
 	@Override
-	public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
+	public ElasticsearchLoadableSearchResult<H> extract(ElasticsearchResponse response) {
+		try ( Reader unparsedBody = response.openUnparsedBody() ) {
+			if ( unparsedBody == null ) {
+				// The body was already parsed: just extract data from the tree
+				return extract( response.getBody() );
+			}
+			return extract( response, new JsonReader( unparsedBody ) );
+		}
+		catch (IOException | IllegalStateException | JsonParseException e) {
+			throw log.failedToParseElasticsearchResponse( response.getStatusCode(), response.getStatusMessage(), e );
+		}
+	}
+
+	/*
+	 * Extracts data while parsing the response,
+	 * so that hits are handed over to projections one at a time
+	 * and no tree is built for the whole response.
+	 * Everything except hits ends up in a partial response body,
+	 * which is enough for everything else we extract;
+	 * users asking for the full response body will trigger a full parsing.
+	 */
+	private ElasticsearchLoadableSearchResult<H> extract(ElasticsearchResponse response, JsonReader reader)
+			throws IOException {
+		JsonObject partialResponseBody = new JsonObject();
 		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext(
-				responseBody
+				partialResponseBody, response::getBody
+		);
+
+		List<Object> extractedHits = new ArrayList<>();
+
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( HITS_PROPERTY_NAME.equals( name ) ) {
+				JsonObject hits = new JsonObject();
+				partialResponseBody.add( HITS_PROPERTY_NAME, hits );
+				extractHits( extractContext, reader, hits, extractedHits );
+			}
+			else if ( AGGREGATIONS_PROPERTY_NAME.equals( name ) && aggregations.isEmpty() ) {
+				reader.skipValue();
+			}
+			else {
+				partialResponseBody.add( name, parseValue( reader ) );
+			}
+		}
+		reader.endObject();
+
+		return createResult( extractContext, partialResponseBody, extractedHits );
+	}
+
+	private ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
+		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext(
+				responseBody, () -> responseBody
 		);
 
 		long hitCount = extractHitCount( responseBody );
@@ -70,6 +140,14 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 		final List<Object> extractedHits = hitCount > 0 ?
 				extractHits( extractContext ) : Collections.emptyList();
 
+		return createResult( extractContext, responseBody, extractedHits );
+	}
+
+	private ElasticsearchLoadableSearchResult<H> createResult(ElasticsearchSearchQueryExtractContext extractContext,
+			JsonObject responseBody, List<Object> extractedHits) {
+		long hitCount = extractHitCount( responseBody );
+		boolean hitCountExact = extractHitCountExact( responseBody );
+
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
 				Collections.emptyMap() : extractAggregations( extractContext, responseBody );
 
@@ -79,7 +157,7 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
 				rootProjection,
-				hitCount,
+				hitCount, hitCountExact,
 				extractedHits,
 				extractedAggregations,
 				took, timedOut
@@ -90,6 +168,13 @@ protected long extractHitCount(JsonObject responseBody) {
 		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 	}
 
+	protected boolean extractHitCountExact(JsonObject responseBody) {
+		// "gte" means the total hit count threshold was reached and the hit count is a lower bound
+		return HITS_TOTAL_RELATION_ACCESSOR.get( responseBody )
+				.map( HITS_TOTAL_RELATION_EQUAL_TO::equals )
+				.orElse( true );
+	}
+
 	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext) {
 		JsonObject responseBody = extractContext.getResponseBody();
 		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
@@ -110,6 +195,61 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 		return extractedData;
 	}
 
+	private void extractHits(ElasticsearchSearchQueryExtractContext extractContext, JsonReader reader,
+			JsonObject hits, List<Object> extractedHits) throws IOException {
+		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
+		SearchProjectionExtractContext projectionExtractContext = extractContext.createProjectionExtractContext();
+		boolean skipHitSource = !requestContext.isHitSourceRequired();
+
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			// Elasticsearch always returns the total hit count before the hits
+			if ( HITS_PROPERTY_NAME.equals( name ) && extractHitCount( extractContext.getResponseBody() ) > 0 ) {
+				reader.beginArray();
+				while ( reader.hasNext() ) {
+					JsonObject hitObject = parseHit( reader, skipHitSource );
+					extractedHits.add( rootProjection.extract(
+							hitMapper, hitObject,
+							projectionExtractContext
+					) );
+				}
+				reader.endArray();
+			}
+			else if ( HITS_PROPERTY_NAME.equals( name ) ) {
+				reader.skipValue();
+			}
+			else {
+				hits.add( name, parseValue( reader ) );
+			}
+		}
+		reader.endObject();
+	}
+
+	private static JsonObject parseHit(JsonReader reader, boolean skipSource) throws IOException {
+		if ( !skipSource ) {
+			return parseValue( reader ).getAsJsonObject();
+		}
+		JsonObject hit = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( HIT_SOURCE_PROPERTY_NAME.equals( name ) ) {
+				// No projection needs the source: don't waste time and memory building a tree for it
+				reader.skipValue();
+			}
+			else {
+				hit.add( name, parseValue( reader ) );
+			}
+		}
+		reader.endObject();
+		return hit;
+	}
+
+	private static JsonElement parseValue(JsonReader reader) {
+		return new JsonParser().parse( reader );
+	}
+
 	private Map<AggregationKey<?>, ?> extractAggregations(ElasticsearchSearchQueryExtractContext extractContext,
 			JsonObject responseBody) {
 		JsonObject jsonAggregations = AGGREGATIONS_ACCESSOR.get( responseBody ).orElseGet( JsonObject::new );
@@ -11,12 +11,17 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+
+import com.google.gson.JsonObject;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -34,6 +39,7 @@
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private List<Object> extractedHits;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private final Integer took;
@@ -41,23 +47,68 @@
 
 	ElasticsearchLoadableSearchResult(ElasticsearchSearchQueryExtractContext extractContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			long hitCount,
+			long hitCount, boolean hitCountExact,
 			List<Object> extractedHits,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			Integer took, Boolean timedOut) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.extractedHits = extractedHits;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
 	}
 
+	boolean isTimedOut() {
+		return timedOut != null && timedOut;
+	}
+
+	JsonObject getResponseBody() {
+		return extractContext.getResponseBody();
+	}
+
 	ElasticsearchSearchResult<H> loadBlocking() {
-		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
+		List<H> loadedHits = loadHitsBlocking();
+		return toResult( loadedHits );
+	}
+
+	/**
+	 * Loads the hits without blocking the current thread.
+	 * <p>
+	 * Unlike {@link #loadBlocking()}, this may be called from a backend thread,
+	 * but will fail if the mapper cannot load entities without blocking.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the search result.
+	 */
+	CompletionStage<ElasticsearchSearchResult<H>> loadAsync() {
+		return extractContext.getProjectionHitMapper().loadAsync()
+				.thenApply( loadingResult -> toResult( transformHits( loadingResult ) ) );
+	}
 
+	SearchScrollResult<H> loadScrollChunkBlocking() {
+		// Check this before loading: some hits may be skipped if their entity cannot be loaded
+		boolean hasHits = !extractedHits.isEmpty();
+		List<H> loadedHits = loadHitsBlocking();
+		return new SimpleSearchScrollResult<>( hasHits, loadedHits, hitCount, isTimedOut() );
+	}
+
+	private ElasticsearchSearchResult<H> toResult(List<H> loadedHits) {
+		return new ElasticsearchSearchResultImpl<>(
+				extractContext.getFullResponseBodySupplier(),
+				hitCount, hitCountExact, loadedHits, extractedAggregations,
+				took, timedOut
+		);
+	}
+
+	private List<H> loadHitsBlocking() {
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
+		return transformHits( loadingResult );
+	}
+
+	private List<H> transformHits(LoadingResult<?> loadingResult) {
+		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		int readIndex = 0;
 		int writeIndex = 0;
@@ -88,9 +139,6 @@ ElasticsearchSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedHits = null;
 
-		return new ElasticsearchSearchResultImpl<>(
-				extractContext.getResponseBody(),
-				hitCount, loadedHits, extractedAggregations
-		, took, timedOut );
+		return loadedHits;
 	}
 }
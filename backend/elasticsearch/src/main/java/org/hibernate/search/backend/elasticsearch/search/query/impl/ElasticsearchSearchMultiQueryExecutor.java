@@ -0,0 +1,109 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryExecutor;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryItem;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Executes multiple queries in a single {@code _msearch} request,
+ * so that a single round-trip to the cluster is necessary.
+ * <p>
+ * Each item of the {@code _msearch} response may fail independently:
+ * such failures are reported for the corresponding query only.
+ */
+class ElasticsearchSearchMultiQueryExecutor implements SearchMultiQueryExecutor {
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+
+	ElasticsearchSearchMultiQueryExecutor(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || !getClass().equals( obj.getClass() ) ) {
+			return false;
+		}
+		ElasticsearchSearchMultiQueryExecutor other = (ElasticsearchSearchMultiQueryExecutor) obj;
+		return queryOrchestrator.equals( other.queryOrchestrator );
+	}
+
+	@Override
+	public int hashCode() {
+		return queryOrchestrator.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[queryOrchestrator=" + queryOrchestrator + "]";
+	}
+
+	@Override
+	public List<CompletableFuture<SearchResult<?>>> execute(List<SearchMultiQueryItem<?>> items) {
+		List<SearchWork<?>> works = new ArrayList<>( items.size() );
+		for ( SearchMultiQueryItem<?> item : items ) {
+			works.add( createSearchWork( item ) );
+		}
+
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = workFactory.multiSearch( works ).build();
+		MultiSearchResult multiSearchResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( multiSearchWork ) );
+
+		List<CompletableFuture<SearchResult<?>>> results = new ArrayList<>( items.size() );
+		for ( int i = 0; i < items.size(); i++ ) {
+			CompletableFuture<SearchResult<?>> result = new CompletableFuture<>();
+			try {
+				result.complete( extractAndLoad( items.get( i ), works.get( i ), multiSearchResult, i ) );
+			}
+			catch (RuntimeException e) {
+				result.completeExceptionally( e );
+			}
+			results.add( result );
+		}
+		return results;
+	}
+
+	private static <H> SearchWork<ElasticsearchLoadableSearchResult<H>> createSearchWork(SearchMultiQueryItem<H> item) {
+		return toElasticsearchQuery( item ).createSearchWork( item.getOffset(), item.getLimit() );
+	}
+
+	@SuppressWarnings("unchecked") // The work was created from this very item, so it has the right type
+	private static <H> SearchResult<H> extractAndLoad(SearchMultiQueryItem<H> item, SearchWork<?> work,
+			MultiSearchResult multiSearchResult, int index) {
+		ElasticsearchLoadableSearchResult<H> loadableResult = multiSearchResult.extract(
+				(SearchWork<ElasticsearchLoadableSearchResult<H>>) work, index
+		);
+		return toElasticsearchQuery( item ).checkTimeout( loadableResult )
+				/*
+				 * WARNING: the following call must run in the user thread.
+				 * See ElasticsearchSearchQueryImpl#fetch.
+				 */
+				.loadBlocking();
+	}
+
+	private static <H> ElasticsearchSearchQueryImpl<H> toElasticsearchQuery(SearchMultiQueryItem<H> item) {
+		// Only queries returning this executor from getMultiQueryExecutor() are passed to execute()
+		return (ElasticsearchSearchQueryImpl<H>) item.getQuery();
+	}
+}
@@ -12,8 +12,10 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
@@ -46,6 +48,9 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final JsonAccessor<JsonElement> BOOL_FILTER_ACCESSOR =
+			JsonAccessor.root().property( "bool" ).asObject().property( "filter" );
+
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
@@ -64,6 +69,11 @@
 	private Map<DistanceSortKey, Integer> distanceSorts;
 	private Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
+	private Long timeout;
+	private TimeUnit timeoutUnit;
+	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
+	private boolean constantScore = false;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
@@ -98,6 +108,30 @@ public void addRoutingKey(String routingKey) {
 		this.routingKeys.add( routingKey );
 	}
 
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		this.timeout = timeout;
+		this.timeoutUnit = timeUnit;
+		this.exceptionOnTimeout = true;
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		this.timeout = timeout;
+		this.timeoutUnit = timeUnit;
+		this.exceptionOnTimeout = false;
+	}
+
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
+	@Override
+	public void constantScore() {
+		this.constantScore = true;
+	}
+
 	@Override
 	public ElasticsearchSearchPredicateContext getRootPredicateContext() {
 		return rootPredicateContext;
@@ -148,8 +182,15 @@ public void requestTransformer(ElasticsearchSearchRequestTransformer transformer
 	public ElasticsearchSearchQuery<H> build() {
 		JsonObject payload = new JsonObject();
 
+		JsonObject jsonPredicateInContext = jsonPredicate;
+		if ( constantScore && jsonPredicate != null ) {
+			// Clauses in the "filter" of a bool query are not scored: every hit gets a score of 0
+			jsonPredicateInContext = new JsonObject();
+			BOOL_FILTER_ACCESSOR.set( jsonPredicateInContext, jsonPredicate );
+		}
+
 		JsonObject jsonQuery = multiTenancyStrategy.decorateJsonQuery(
-				jsonPredicate, sessionContext.getTenantIdentifier()
+				jsonPredicateInContext, sessionContext.getTenantIdentifier()
 		);
 		if ( jsonQuery != null ) {
 			payload.add( "query", jsonQuery );
@@ -186,9 +227,11 @@ public ElasticsearchSearchQuery<H> build() {
 
 		return new ElasticsearchSearchQueryImpl<>(
 				workFactory, queryOrchestrator,
-				searchContext, sessionContext, loadingContext, routingKeys,
+				searchContext, sessionContext, loadingContext, requestContext.isEntityLoadingRequired(), routingKeys,
 				payload, requestTransformer,
-				searchResultExtractor
+				searchResultExtractor,
+				timeout, timeoutUnit, exceptionOnTimeout,
+				totalHitCountThreshold
 		);
 	}
 }
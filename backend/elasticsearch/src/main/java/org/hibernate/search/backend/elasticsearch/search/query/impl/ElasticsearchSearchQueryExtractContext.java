@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.function.Supplier;
+
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionTransformContext;
@@ -27,15 +29,17 @@ class ElasticsearchSearchQueryExtractContext implements AggregationExtractContex
 	private final FromDocumentFieldValueConvertContext convertContext;
 
 	private final JsonObject responseBody;
+	private final Supplier<JsonObject> fullResponseBodySupplier;
 
 	ElasticsearchSearchQueryExtractContext(ElasticsearchSearchQueryRequestContext requestContext,
 			BackendSessionContext sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
-			JsonObject responseBody) {
+			JsonObject responseBody, Supplier<JsonObject> fullResponseBodySupplier) {
 		this.requestContext = requestContext;
 		this.projectionHitMapper = projectionHitMapper;
 		this.convertContext = new FromDocumentFieldValueConvertContextImpl( sessionContext );
 		this.responseBody = responseBody;
+		this.fullResponseBodySupplier = fullResponseBodySupplier;
 	}
 
 	@Override
@@ -43,10 +47,21 @@ public FromDocumentFieldValueConvertContext getConvertContext() {
 		return convertContext;
 	}
 
+	/**
+	 * @return The response body, possibly without the parts that were consumed while streaming the response,
+	 * such as hits.
+	 */
 	JsonObject getResponseBody() {
 		return responseBody;
 	}
 
+	/**
+	 * @return A supplier of the full response body, which may trigger parsing of the whole response.
+	 */
+	Supplier<JsonObject> getFullResponseBodySupplier() {
+		return fullResponseBodySupplier;
+	}
+
 	ProjectionHitMapper<?, ?> getProjectionHitMapper() {
 		return projectionHitMapper;
 	}
@@ -9,6 +9,9 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -22,12 +25,15 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryExecutor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -51,29 +57,42 @@
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
+	private final boolean entityLoadingRequired;
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final Long timeout;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
+	private final Long totalHitCountThreshold;
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
+			boolean entityLoadingRequired,
 			Set<String> routingKeys,
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
-			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor) {
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			Long timeout, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
+		this.entityLoadingRequired = entityLoadingRequired;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.requestTransformer = requestTransformer;
 		this.searchResultExtractor = searchResultExtractor;
+		this.timeout = timeout;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
 	@Override
@@ -95,29 +114,63 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
-		// TODO restore scrolling support. See HSEARCH-3323
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
+		ElasticsearchLoadableSearchResult<H> loadableResult =
+				Futures.unwrappedExceptionJoin( submitSearch( offset, limit ) );
+
+		return checkTimeout( loadableResult )
+				/*
+				 * WARNING: the following call must run in the user thread.
+				 * Loading is only performed in the backend thread when the user explicitly
+				 * requested asynchronous execution: see fetchAsync.
+				 */
+				.loadBlocking();
+	}
+
+	@Override
+	public CompletionStage<ElasticsearchSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> {
+			if ( entityLoadingRequired ) {
+				// Fail before sending the request if entities cannot be loaded asynchronously
+				loadingContext.checkAsyncLoadingSupported();
+			}
+			return submitSearch( offset, limit );
+		} )
+				// The mapper is responsible for not blocking the backend thread while loading
+				.thenCompose( loadableResult -> checkTimeout( loadableResult ).loadAsync() );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+
+		String scrollTimeout = searchContext.getScrollTimeout();
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> firstWork = workFactory.search( payload, searchResultExtractor )
 				.indexes( searchContext.getIndexNames() )
-				.paging( defaultedLimit( limit, offset ), offset )
+				.scrolling( chunkSize, scrollTimeout )
 				.routingKeys( routingKeys )
+				.timeout( timeout, timeoutUnit )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				)
 				.build();
 
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
+		return new ElasticsearchSearchScrollImpl<>(
+				workFactory, queryOrchestrator, firstWork, scrollTimeout, searchResultExtractor,
+				getQueryString(), timeout, timeoutUnit, exceptionOnTimeout
+		);
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
+		return Futures.unwrappedExceptionJoin( submitCount() );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( this::submitCount );
+	}
+
+	private CompletableFuture<Long> submitCount() {
 		JsonObject filteredPayload = new JsonObject();
 		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
 		if ( querySubTree.isPresent() ) {
@@ -131,7 +184,7 @@ public long fetchTotalHitCount() {
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				)
 				.build();
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		return queryOrchestrator.submit( work );
 	}
 
 	@Override
@@ -162,6 +215,39 @@ public JsonObject explain(String indexName, String id) {
 		return doExplain( encodedIndexName, id );
 	}
 
+	@Override
+	public SearchMultiQueryExecutor getMultiQueryExecutor() {
+		if ( requestTransformer != null ) {
+			// The transformer expects a single search request: execute this query on its own
+			return null;
+		}
+		return new ElasticsearchSearchMultiQueryExecutor( workFactory, queryOrchestrator );
+	}
+
+	SearchWork<ElasticsearchLoadableSearchResult<H>> createSearchWork(Integer offset, Integer limit) {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( searchContext.getIndexNames() )
+				.paging( defaultedLimit( limit, offset ), offset )
+				.routingKeys( routingKeys )
+				.timeout( timeout, timeoutUnit )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
+	private CompletableFuture<ElasticsearchLoadableSearchResult<H>> submitSearch(Integer offset, Integer limit) {
+		return queryOrchestrator.submit( createSearchWork( offset, limit ) );
+	}
+
+	ElasticsearchLoadableSearchResult<H> checkTimeout(ElasticsearchLoadableSearchResult<H> loadableResult) {
+		if ( exceptionOnTimeout && loadableResult.isTimedOut() ) {
+			throw log.timedOut( timeout, timeoutUnit, getQueryString() );
+		}
+		return loadableResult;
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
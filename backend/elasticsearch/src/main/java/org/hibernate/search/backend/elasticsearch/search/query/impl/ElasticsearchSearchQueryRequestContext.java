@@ -8,6 +8,7 @@
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.DistanceSortKey;
@@ -26,7 +27,7 @@
  *     For example distance projections need to inspect distance sorts (if any) for optimization purposes.
  *     ({@link #getDistanceSortIndex(String, GeoPoint)}</li>
  *     <li>When extracting data from the response, to get an "extract" context linked to the session/loading context
- *     ({@link #createExtractContext(JsonObject)}</li>
+ *     ({@link #createExtractContext(JsonObject, Supplier)}</li>
  * </ul>
  */
 class ElasticsearchSearchQueryRequestContext implements SearchProjectionRequestContext, AggregationRequestContext {
@@ -35,6 +36,9 @@ class ElasticsearchSearchQueryRequestContext implements SearchProjectionRequestC
 	private final LoadingContext<?, ?> loadingContext;
 	private final Map<DistanceSortKey, Integer> distanceSorts;
 
+	private boolean hitSourceRequired = false;
+	private boolean entityLoadingRequired = false;
+
 	ElasticsearchSearchQueryRequestContext(
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
@@ -53,12 +57,31 @@ public Integer getDistanceSortIndex(String absoluteFieldPath, GeoPoint location)
 		return distanceSorts.get( new DistanceSortKey( absoluteFieldPath, location ) );
 	}
 
-	ElasticsearchSearchQueryExtractContext createExtractContext(JsonObject responseBody) {
+	@Override
+	public void requireHitSource() {
+		hitSourceRequired = true;
+	}
+
+	boolean isHitSourceRequired() {
+		return hitSourceRequired;
+	}
+
+	@Override
+	public void requireEntityLoading() {
+		entityLoadingRequired = true;
+	}
+
+	boolean isEntityLoadingRequired() {
+		return entityLoadingRequired;
+	}
+
+	ElasticsearchSearchQueryExtractContext createExtractContext(JsonObject responseBody,
+			Supplier<JsonObject> fullResponseBodySupplier) {
 		return new ElasticsearchSearchQueryExtractContext(
 				this,
 				sessionContext,
 				loadingContext.getProjectionHitMapper(),
-				responseBody
+				responseBody, fullResponseBodySupplier
 		);
 	}
 
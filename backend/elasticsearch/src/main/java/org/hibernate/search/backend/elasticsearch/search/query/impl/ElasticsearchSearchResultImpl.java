@@ -9,6 +9,7 @@
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
@@ -19,21 +20,25 @@
 class ElasticsearchSearchResultImpl<H> extends SimpleSearchResult<H>
 		implements ElasticsearchSearchResult<H> {
 
-	private final JsonObject responseBody;
+	private final Supplier<JsonObject> responseBodySupplier;
+	private JsonObject responseBody;
 
 	private final Duration took;
-	private final boolean timedOut;
 
-	ElasticsearchSearchResultImpl(JsonObject responseBody,
-			long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut) {
-		super( hitCount, hits, aggregationResults );
-		this.responseBody = responseBody;
+	ElasticsearchSearchResultImpl(Supplier<JsonObject> responseBodySupplier,
+			long hitCount, boolean hitCountExact, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Integer took, Boolean timedOut) {
+		super( hitCount, hitCountExact, hits, aggregationResults, ( timedOut != null ) ? timedOut : false );
+		this.responseBodySupplier = responseBodySupplier;
 		this.took = Duration.ofMillis( took );
-		this.timedOut = ( timedOut != null ) ? timedOut : false;
 	}
 
 	@Override
 	public JsonObject getResponseBody() {
+		// The full response body is only parsed if someone asks for it
+		if ( responseBody == null ) {
+			responseBody = responseBodySupplier.get();
+		}
 		return responseBody;
 	}
 
@@ -41,9 +46,4 @@ public JsonObject getResponseBody() {
 	public Duration getTook() {
 		return took;
 	}
-
-	@Override
-	public boolean isTimedOut() {
-		return timedOut;
-	}
 }
@@ -0,0 +1,110 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A scroll relying on Elasticsearch's scroll API:
+ * the first chunk is fetched with a search request opening a scroll context,
+ * and the next ones with scroll requests.
+ * <p>
+ * The scroll context is cleared when the scroll is closed.
+ *
+ * @param <H> The type of query hits.
+ */
+class ElasticsearchSearchScrollImpl<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> firstWork;
+	private final String scrollTimeout;
+	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final String queryString;
+	private final Long timeout;
+	private final TimeUnit timeoutUnit;
+	private final boolean exceptionOnTimeout;
+
+	private String scrollId;
+
+	ElasticsearchSearchScrollImpl(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> firstWork,
+			String scrollTimeout,
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			String queryString,
+			Long timeout, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.firstWork = firstWork;
+		this.scrollTimeout = scrollTimeout;
+		this.searchResultExtractor = searchResultExtractor;
+		this.queryString = queryString;
+		this.timeout = timeout;
+		this.timeoutUnit = timeoutUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + queryString + ", scrollId=" + scrollId + "]";
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work;
+		if ( scrollId == null ) {
+			work = firstWork;
+		}
+		else {
+			work = workFactory.scroll( scrollId, scrollTimeout, searchResultExtractor ).build();
+		}
+
+		ElasticsearchLoadableSearchResult<H> loadableResult =
+				Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+
+		// Elasticsearch may change the scroll ID between two requests
+		scrollId = SCROLL_ID_ACCESSOR.get( loadableResult.getResponseBody() ).orElse( scrollId );
+
+		if ( exceptionOnTimeout && loadableResult.isTimedOut() ) {
+			throw log.timedOut( timeout, timeoutUnit, queryString );
+		}
+
+		/*
+		 * WARNING: the following call must run in the user thread.
+		 * See ElasticsearchSearchQueryImpl#fetch.
+		 */
+		return loadableResult.loadScrollChunkBlocking();
+	}
+
+	@Override
+	public void close() {
+		if ( scrollId == null ) {
+			// The scroll context was never opened
+			return;
+		}
+		ElasticsearchWork<Void> work = workFactory.clearScroll( scrollId ).build();
+		Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+	}
+}
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.document.model.esnative.impl.RootTypeMapping;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.CreateIndexWorkBuilder;
@@ -54,6 +55,13 @@ public IndexWorkBuilder index(String hibernateSearchIndexName, URLEncodedString
 				Paths.DOC, id, routingKey, document );
 	}
 
+	@Override
+	public IndexWorkBuilder index(String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName,
+			URLEncodedString id, String routingKey, EncodedJsonObject document) {
+		return IndexWork.Builder.forElasticsearch67AndBelow( hibernateSearchIndexName, elasticsearchIndexName,
+				Paths.DOC, id, routingKey, document );
+	}
+
 	@Override
 	public DeleteWorkBuilder delete(String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName,
 			URLEncodedString id, String routingKey) {
@@ -11,6 +11,7 @@
 
 import org.hibernate.search.backend.elasticsearch.document.model.esnative.impl.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 import org.hibernate.search.backend.elasticsearch.index.settings.esnative.impl.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -27,6 +28,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.GetIndexMetadataWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexExistsWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OptimizeWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
@@ -50,6 +52,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexExistsWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OptimizeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
@@ -76,6 +79,13 @@ public IndexWorkBuilder index(String hibernateSearchIndexName, URLEncodedString
 				id, routingKey, document );
 	}
 
+	@Override
+	public IndexWorkBuilder index(String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName,
+			URLEncodedString id, String routingKey, EncodedJsonObject document) {
+		return IndexWork.Builder.forElasticsearch7AndAbove( hibernateSearchIndexName, elasticsearchIndexName,
+				id, routingKey, document );
+	}
+
 	@Override
 	public DeleteWorkBuilder delete(String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName,
 			URLEncodedString id, String routingKey) {
@@ -113,6 +123,11 @@ public <T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchRe
 		return SearchWork.Builder.forElasticsearch7AndAbove( payload, searchResultExtractor );
 	}
 
+	@Override
+	public MultiSearchWorkBuilder multiSearch(List<? extends SearchWork<?>> searchWorks) {
+		return new MultiSearchWork.Builder( searchWorks );
+	}
+
 	@Override
 	public CountWorkBuilder count(Set<URLEncodedString> indexNames) {
 		return new CountWork.Builder( indexNames );
@@ -8,14 +8,15 @@
 
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
-import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 
 
-public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<ElasticsearchWork<R>> {
+public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<SearchWork<R>> {
 
 	SearchWorkBuilder<R> indexes(Collection<URLEncodedString> indexNames);
 
@@ -25,6 +26,10 @@
 
 	SearchWorkBuilder<R> routingKeys(Set<String> routingKeys);
 
+	SearchWorkBuilder<R> timeout(Long timeout, TimeUnit timeUnit);
+
+	SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold);
+
 	SearchWorkBuilder<R> requestTransformer(Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer);
 
 }
@@ -9,11 +9,13 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
@@ -28,16 +30,19 @@ public class ElasticsearchIndexIndexer implements IndexIndexer<ElasticsearchDocu
 	private final ElasticsearchWorkOrchestrator orchestrator;
 	private final WorkExecutionIndexManagerContext indexManagerContext;
 	private final String tenantId;
+	private final EncodedJsonObject.Encoder documentEncoder;
 
 	public ElasticsearchIndexIndexer(ElasticsearchWorkBuilderFactory factory, MultiTenancyStrategy multiTenancyStrategy,
 			ElasticsearchWorkOrchestrator orchestrator,
 			WorkExecutionIndexManagerContext indexManagerContext,
-			BackendSessionContext sessionContext) {
+			BackendSessionContext sessionContext,
+			EncodedJsonObject.Encoder documentEncoder) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
 		this.indexManagerContext = indexManagerContext;
 		this.tenantId = sessionContext.getTenantIdentifier();
+		this.documentEncoder = documentEncoder;
 	}
 
 	@Override
@@ -50,12 +55,28 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
-		ElasticsearchWork<Void> work = factory.index(
-				indexManagerContext.getHibernateSearchIndexName(),
-				indexManagerContext.getElasticsearchIndexName(),
-				URLEncodedString.fromString( elasticsearchId ), routingKey, document
-		)
-				.build();
+		IndexWorkBuilder workBuilder;
+		if ( documentEncoder != null ) {
+			EncodedJsonObject encodedDocument;
+			// The encoder reuses its buffers, so it must not be used concurrently
+			synchronized ( documentEncoder ) {
+				encodedDocument = documentEncoder.encode( document );
+			}
+			workBuilder = factory.index(
+					indexManagerContext.getHibernateSearchIndexName(),
+					indexManagerContext.getElasticsearchIndexName(),
+					URLEncodedString.fromString( elasticsearchId ), routingKey, encodedDocument
+			);
+		}
+		else {
+			workBuilder = factory.index(
+					indexManagerContext.getHibernateSearchIndexName(),
+					indexManagerContext.getElasticsearchIndexName(),
+					URLEncodedString.fromString( elasticsearchId ), routingKey, document
+			);
+		}
+
+		ElasticsearchWork<Void> work = workBuilder.build();
 		return orchestrator.submit( work );
 	}
 }
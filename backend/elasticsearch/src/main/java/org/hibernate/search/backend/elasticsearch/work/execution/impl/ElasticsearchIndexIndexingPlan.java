@@ -12,9 +12,11 @@
 
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentElasticsearchWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
@@ -35,6 +37,7 @@ public class ElasticsearchIndexIndexingPlan implements IndexIndexingPlan<Elastic
 	private final WorkExecutionIndexManagerContext indexManagerContext;
 	private final DocumentRefreshStrategy refreshStrategy;
 	private final String tenantId;
+	private final EncodedJsonObject.Encoder documentEncoder;
 
 	private final List<SingleDocumentElasticsearchWork<?>> works = new ArrayList<>();
 
@@ -43,13 +46,15 @@ public ElasticsearchIndexIndexingPlan(ElasticsearchWorkBuilderFactory builderFac
 			ElasticsearchWorkOrchestrator orchestrator,
 			WorkExecutionIndexManagerContext indexManagerContext,
 			DocumentRefreshStrategy refreshStrategy,
-			BackendSessionContext sessionContext) {
+			BackendSessionContext sessionContext,
+			EncodedJsonObject.Encoder documentEncoder) {
 		this.builderFactory = builderFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
 		this.indexManagerContext = indexManagerContext;
 		this.refreshStrategy = refreshStrategy;
 		this.tenantId = sessionContext.getTenantIdentifier();
+		this.documentEncoder = documentEncoder;
 	}
 
 	@Override
@@ -115,15 +120,24 @@ private void index(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
-		collect(
-				builderFactory.index(
-						indexManagerContext.getHibernateSearchIndexName(),
-						indexManagerContext.getElasticsearchIndexName(),
-						URLEncodedString.fromString( elasticsearchId ), routingKey, document
-				)
-						.refresh( refreshStrategy )
-						.build()
-		);
+		IndexWorkBuilder workBuilder;
+		if ( documentEncoder != null ) {
+			// Encode now, so that the JSON tree can be garbage-collected before the work is even executed
+			workBuilder = builderFactory.index(
+					indexManagerContext.getHibernateSearchIndexName(),
+					indexManagerContext.getElasticsearchIndexName(),
+					URLEncodedString.fromString( elasticsearchId ), routingKey, documentEncoder.encode( document )
+			);
+		}
+		else {
+			workBuilder = builderFactory.index(
+					indexManagerContext.getHibernateSearchIndexName(),
+					indexManagerContext.getElasticsearchIndexName(),
+					URLEncodedString.fromString( elasticsearchId ), routingKey, document
+			);
+		}
+
+		collect( workBuilder.refresh( refreshStrategy ).build() );
 	}
 
 	private void collect(SingleDocumentElasticsearchWork<?> work) {
@@ -11,6 +11,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -59,6 +60,16 @@ public JsonObject getBulkableActionBody() {
 		}
 	}
 
+	@Override
+	public EncodedJsonObject getEncodedBulkableActionBody() {
+		List<JsonObject> bodyParts = request.getBodyParts();
+		if ( bodyParts.size() != 1 ) {
+			// Either no body, or multiple body parts, which getBulkableActionBody() will report
+			return null;
+		}
+		return request.getEncodedBodyPart( 0 );
+	}
+
 	@Override
 	public CompletableFuture<R> handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
 		return Futures.create( () -> handleResult( context, bulkResponseItem ) );
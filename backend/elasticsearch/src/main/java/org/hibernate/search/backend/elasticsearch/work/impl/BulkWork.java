@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
@@ -36,6 +37,12 @@ public class BulkWork implements ElasticsearchWork<BulkResult> {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+	private static final JsonAccessor<String> BULK_ITEM_ERROR_TYPE =
+			JsonAccessor.root().property( "error" ).property( "type" ).asString();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+	private static final String REJECTED_EXECUTION_ERROR_TYPE = "es_rejected_execution_exception";
 
 	private final ElasticsearchRequest request;
 
@@ -97,7 +104,9 @@ public Object getInfo() {
 	private BulkResult generateResult(ElasticsearchResponse response) {
 		JsonObject parsedResponseBody = response.getBody();
 		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
-		return new BulkResultImpl( resultItems, refreshStrategy );
+		// The whole bulk may be rejected when the cluster is overloaded
+		boolean allRejected = response.getStatusCode() == TOO_MANY_REQUESTS_HTTP_STATUS_CODE;
+		return new BulkResultImpl( resultItems, refreshStrategy, allRejected );
 	}
 
 	private static class NoIndexDirtyBulkExecutionContext extends ElasticsearchForwardingWorkExecutionContext {
@@ -140,9 +149,15 @@ protected ElasticsearchRequest buildRequest() {
 
 			for ( BulkableElasticsearchWork<?> work : bulkableWorks ) {
 				builder.body( work.getBulkableActionMetadata() );
-				JsonObject actionBody = work.getBulkableActionBody();
-				if ( actionBody != null ) {
-					builder.body( actionBody );
+				EncodedJsonObject encodedActionBody = work.getEncodedBulkableActionBody();
+				if ( encodedActionBody != null ) {
+					builder.body( encodedActionBody );
+				}
+				else {
+					JsonObject actionBody = work.getBulkableActionBody();
+					if ( actionBody != null ) {
+						builder.body( actionBody );
+					}
 				}
 			}
 
@@ -158,11 +173,28 @@ public BulkWork build() {
 	private static class BulkResultImpl implements BulkResult {
 		private final JsonArray results;
 		private final DocumentRefreshStrategy refreshStrategy;
+		private final boolean allRejected;
 
-		public BulkResultImpl(JsonArray results, DocumentRefreshStrategy refreshStrategy) {
+		public BulkResultImpl(JsonArray results, DocumentRefreshStrategy refreshStrategy, boolean allRejected) {
 			super();
 			this.results = results;
 			this.refreshStrategy = refreshStrategy;
+			this.allRejected = allRejected;
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			if ( allRejected ) {
+				return true;
+			}
+			if ( index >= results.size() ) {
+				return false;
+			}
+			// Result items have the following format: { "actionName" : { "status" : 429, ... } }
+			JsonObject resultItem = results.get( index ).getAsJsonObject();
+			JsonObject responseBody = resultItem.entrySet().iterator().next().getValue().getAsJsonObject();
+			return BULK_ITEM_STATUS_CODE.get( responseBody ).filter( c -> c == TOO_MANY_REQUESTS_HTTP_STATUS_CODE ).isPresent()
+					|| BULK_ITEM_ERROR_TYPE.get( responseBody ).filter( REJECTED_EXECUTION_ERROR_TYPE::equals ).isPresent();
 		}
 
 		@Override
@@ -8,6 +8,7 @@
 
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
 import com.google.gson.JsonObject;
@@ -21,6 +22,13 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * @return The action body in its encoded form, if it was encoded when the work was built, or {@code null}.
+	 * When not {@code null}, this should be preferred over {@link #getBulkableActionBody()},
+	 * which would need to decode it.
+	 */
+	EncodedJsonObject getEncodedBulkableActionBody();
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
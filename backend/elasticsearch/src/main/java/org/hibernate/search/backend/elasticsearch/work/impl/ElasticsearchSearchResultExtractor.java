@@ -6,10 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
-import com.google.gson.JsonObject;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 
 public interface ElasticsearchSearchResultExtractor<R> {
 
-	R extract(JsonObject responseBody);
+	R extract(ElasticsearchResponse response);
 
 }
@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchDocumentReference;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
@@ -53,21 +54,39 @@ public DocumentReference getDocumentReference() {
 		private final URLEncodedString id;
 		private final String routingKey;
 		private final JsonObject document;
+		private final EncodedJsonObject encodedDocument;
 
 		public static Builder forElasticsearch67AndBelow(String hibernateSearchIndexName,
 				URLEncodedString elasticsearchIndexName, URLEncodedString typeName, URLEncodedString id, String routingKey,
 				JsonObject document) {
-			return new Builder( hibernateSearchIndexName, elasticsearchIndexName, typeName, id, routingKey, document );
+			return new Builder( hibernateSearchIndexName, elasticsearchIndexName, typeName, id, routingKey,
+					document, null );
+		}
+
+		public static Builder forElasticsearch67AndBelow(String hibernateSearchIndexName,
+				URLEncodedString elasticsearchIndexName, URLEncodedString typeName, URLEncodedString id, String routingKey,
+				EncodedJsonObject document) {
+			return new Builder( hibernateSearchIndexName, elasticsearchIndexName, typeName, id, routingKey,
+					null, document );
 		}
 
 		public static Builder forElasticsearch7AndAbove(String hibernateSearchIndexName,
 				URLEncodedString elasticsearchIndexName, URLEncodedString id, String routingKey,
 				JsonObject document) {
-			return new Builder( hibernateSearchIndexName, elasticsearchIndexName, null, id, routingKey, document );
+			return new Builder( hibernateSearchIndexName, elasticsearchIndexName, null, id, routingKey,
+					document, null );
+		}
+
+		public static Builder forElasticsearch7AndAbove(String hibernateSearchIndexName,
+				URLEncodedString elasticsearchIndexName, URLEncodedString id, String routingKey,
+				EncodedJsonObject document) {
+			return new Builder( hibernateSearchIndexName, elasticsearchIndexName, null, id, routingKey,
+					null, document );
 		}
 
 		private Builder(String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName,
-					URLEncodedString typeName, URLEncodedString id, String routingKey, JsonObject document) {
+					URLEncodedString typeName, URLEncodedString id, String routingKey,
+					JsonObject document, EncodedJsonObject encodedDocument) {
 			super( elasticsearchIndexName, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.hibernateSearchIndexName = hibernateSearchIndexName;
 			this.indexName = elasticsearchIndexName;
@@ -75,6 +94,7 @@ private Builder(String hibernateSearchIndexName, URLEncodedString elasticsearchI
 			this.id = id;
 			this.routingKey = routingKey;
 			this.document = document;
+			this.encodedDocument = encodedDocument;
 		}
 
 		@Override
@@ -83,8 +103,14 @@ protected ElasticsearchRequest buildRequest() {
 					ElasticsearchRequest.put()
 					.pathComponent( indexName )
 					.pathComponent( typeName != null ? typeName : Paths._DOC ) // _doc for ES7+
-					.pathComponent( id )
-					.body( document );
+					.pathComponent( id );
+
+			if ( encodedDocument != null ) {
+				builder.body( encodedDocument );
+			}
+			else {
+				builder.body( document );
+			}
 
 			if ( routingKey != null ) {
 				builder.param( "routing", routingKey );
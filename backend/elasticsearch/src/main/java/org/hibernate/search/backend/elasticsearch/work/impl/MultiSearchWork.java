@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A work executing multiple searches in a single {@code _msearch} request.
+ */
+public class MultiSearchWork implements ElasticsearchWork<MultiSearchResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final JsonAccessor<JsonArray> RESPONSES = JsonAccessor.root().property( "responses" ).asArray();
+	private static final JsonAccessor<Integer> RESPONSE_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+	private static final JsonAccessor<JsonObject> RESPONSE_ERROR = JsonAccessor.root().property( "error" ).asObject();
+
+	private static final int OK_HTTP_STATUS_CODE = 200;
+	private static final int INTERNAL_SERVER_ERROR_HTTP_STATUS_CODE = 500;
+
+	private final ElasticsearchRequest request;
+
+	private final List<SearchWork<?>> works;
+
+	protected MultiSearchWork(Builder builder) {
+		super();
+		this.request = builder.buildRequest();
+		this.works = new ArrayList<>( builder.searchWorks );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "works = " ).append( works )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	public CompletableFuture<MultiSearchResult> execute(ElasticsearchWorkExecutionContext context) {
+		return Futures.create( () -> {
+			queryLog.executingElasticsearchQuery(
+					request.getPath(),
+					request.getParameters(),
+					context.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+			);
+			return context.getClient().submit( request );
+		} )
+				.exceptionally( Futures.handler( throwable -> {
+					throw log.elasticsearchRequestFailed(
+							request, null,
+							throwable.getMessage(),
+							Throwables.expectException( throwable )
+					);
+				} ) )
+				.thenApply( this::generateResult );
+	}
+
+	@Override
+	public CompletableFuture<MultiSearchResult> aggregate(ElasticsearchWorkAggregator aggregator) {
+		return aggregator.addNonBulkable( this );
+	}
+
+	@Override
+	public Object getInfo() {
+		return null;
+	}
+
+	private MultiSearchResult generateResult(ElasticsearchResponse response) {
+		try {
+			// Failures of individual searches are reported when extracting their result
+			DefaultElasticsearchRequestSuccessAssessor.INSTANCE.checkSuccess( response );
+			JsonArray responses = RESPONSES.get( response.getBody() ).orElseGet( JsonArray::new );
+			return new MultiSearchResultImpl( request, responses );
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchRequestFailed( request, response, e.getMessage(), e );
+		}
+	}
+
+	public static class Builder implements MultiSearchWorkBuilder {
+		private final List<? extends SearchWork<?>> searchWorks;
+
+		public Builder(List<? extends SearchWork<?>> searchWorks) {
+			this.searchWorks = searchWorks;
+		}
+
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			for ( SearchWork<?> work : searchWorks ) {
+				builder.body( work.getMultiSearchHeader() );
+				builder.body( work.getMultiSearchBody() );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+
+	private static class MultiSearchResultImpl implements MultiSearchResult {
+		private final ElasticsearchRequest request;
+		private final JsonArray responses;
+
+		MultiSearchResultImpl(ElasticsearchRequest request, JsonArray responses) {
+			this.request = request;
+			this.responses = responses;
+		}
+
+		@Override
+		public <R> R extract(SearchWork<R> work, int index) {
+			ElasticsearchResponse itemResponse = null;
+			try {
+				JsonObject itemBody = responses.get( index ).getAsJsonObject();
+				// Each item has its own status code, since each search may fail independently
+				int statusCode = RESPONSE_STATUS_CODE.get( itemBody )
+						.orElseGet( () -> RESPONSE_ERROR.get( itemBody ).isPresent()
+								? INTERNAL_SERVER_ERROR_HTTP_STATUS_CODE : OK_HTTP_STATUS_CODE );
+				itemResponse = new ElasticsearchResponse( statusCode, "", itemBody );
+				return work.handleMultiSearchResult( itemResponse );
+			}
+			catch (RuntimeException e) {
+				throw log.elasticsearchRequestFailed( request, itemResponse, e.getMessage(), e );
+			}
+		}
+	}
+
+}
@@ -25,8 +25,7 @@ protected ScrollWork(Builder<R> builder) {
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		return resultExtractor.extract( response );
 	}
 
 	public static class Builder<R>
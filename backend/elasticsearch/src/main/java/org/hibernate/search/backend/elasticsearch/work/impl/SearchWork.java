@@ -8,8 +8,11 @@
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
@@ -20,6 +23,7 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
@@ -28,10 +32,14 @@
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
+	private final JsonObject multiSearchHeader;
+	private final JsonObject multiSearchBody;
 
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
+		this.multiSearchHeader = builder.buildMultiSearchHeader();
+		this.multiSearchBody = builder.buildMultiSearchBody();
 	}
 
 	@Override
@@ -46,8 +54,31 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
-		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		return resultExtractor.extract( response );
+	}
+
+	/**
+	 * @return The header of this search in a {@code _msearch} request,
+	 * i.e. the part that would otherwise be passed in the path and query parameters.
+	 */
+	JsonObject getMultiSearchHeader() {
+		return multiSearchHeader;
+	}
+
+	/**
+	 * @return The body of this search in a {@code _msearch} request.
+	 */
+	JsonObject getMultiSearchBody() {
+		return multiSearchBody;
+	}
+
+	/**
+	 * @param itemResponse The response to this search, extracted from a {@code _msearch} response.
+	 * @return The result of this search.
+	 */
+	R handleMultiSearchResult(ElasticsearchResponse itemResponse) {
+		resultAssessor.checkSuccess( itemResponse );
+		return resultExtractor.extract( itemResponse );
 	}
 
 	public static class Builder<R>
@@ -60,7 +91,6 @@ public static <T> Builder<T> forElasticsearch6AndBelow(JsonObject payload, Elast
 		}
 
 		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
-			// TODO HSEARCH-3517 disable track_total_hits when possible
 			return new Builder<>( payload, resultExtractor, true );
 		}
 
@@ -74,6 +104,9 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Integer scrollSize;
 		private String scrollTimeout;
 		private Set<String> routingKeys;
+		private Long timeout;
+		private TimeUnit timeoutUnit;
+		private Long totalHitCountThreshold;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
@@ -108,6 +141,19 @@ public SearchWorkBuilder<R> routingKeys(Set<String> routingKeys) {
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> timeout(Long timeout, TimeUnit timeUnit) {
+			this.timeout = timeout;
+			this.timeoutUnit = timeUnit;
+			return this;
+		}
+
+		@Override
+		public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -133,13 +179,77 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
+			if ( timeout != null && timeoutUnit != null ) {
+				// Sub-millisecond timeouts do not make sense for HTTP requests: round up to one millisecond
+				builder.param( "timeout", Math.max( 1L, timeoutUnit.toMillis( timeout ) ) + "ms" );
+			}
+
 			if ( trackTotalHits != null ) {
-				builder.param( "track_total_hits", trackTotalHits );
+				if ( trackTotalHits && totalHitCountThreshold != null ) {
+					// Elasticsearch expects an integer threshold
+					builder.param( "track_total_hits", (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE ) );
+				}
+				else {
+					builder.param( "track_total_hits", trackTotalHits );
+				}
 			}
+			// Else the threshold is ignored: total hits are always tracked exactly
 
 			return builder.build();
 		}
 
+		/*
+		 * Paging, routing, etc. cannot be passed as query parameters in a _msearch request:
+		 * they must be added to the header or body of each search instead.
+		 * Scrolling is not supported in _msearch requests, and is ignored here.
+		 */
+		private JsonObject buildMultiSearchHeader() {
+			JsonObject header = new JsonObject();
+			header.addProperty( "index", joinOriginal( indexes ) );
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+			return header;
+		}
+
+		private JsonObject buildMultiSearchBody() {
+			JsonObject body = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				body.add( entry.getKey(), entry.getValue() );
+			}
+
+			if ( from != null ) {
+				body.addProperty( "from", from );
+			}
+
+			if ( size != null ) {
+				body.addProperty( "size", size );
+			}
+
+			if ( timeout != null && timeoutUnit != null ) {
+				body.addProperty( "timeout", Math.max( 1L, timeoutUnit.toMillis( timeout ) ) + "ms" );
+			}
+
+			if ( trackTotalHits != null ) {
+				if ( trackTotalHits && totalHitCountThreshold != null ) {
+					body.addProperty( "track_total_hits", (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE ) );
+				}
+				else {
+					body.addProperty( "track_total_hits", trackTotalHits );
+				}
+			}
+
+			return body;
+		}
+
+		private static String joinOriginal(Collection<URLEncodedString> names) {
+			StringJoiner joiner = new StringJoiner( "," );
+			for ( URLEncodedString name : names ) {
+				joiner.add( name.original );
+			}
+			return joiner.toString();
+		}
+
 		@Override
 		public SearchWork<R> build() {
 			return new SearchWork<>( this );
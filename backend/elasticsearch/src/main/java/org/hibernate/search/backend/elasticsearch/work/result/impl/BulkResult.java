@@ -13,4 +13,12 @@ public interface BulkResult {
 
 	BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context);
 
+	/**
+	 * @param index The index of a work in the bulk.
+	 * @return {@code true} if Elasticsearch rejected the work because it was overloaded
+	 * (HTTP status 429, typically because of a saturated write thread pool),
+	 * meaning the work was not executed and can safely be submitted again later.
+	 */
+	boolean isRejected(int index);
+
 }
@@ -0,0 +1,23 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.result.impl;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+
+
+public interface MultiSearchResult {
+
+	/**
+	 * @param work A search work that was part of the multi-search.
+	 * @param index The index of the given work in the multi-search.
+	 * @param <R> The type of the work's result.
+	 * @return The result of the given work.
+	 * @throws org.hibernate.search.util.common.SearchException If this particular search failed.
+	 */
+	<R> R extract(SearchWork<R> work, int index);
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.spi.EncodedJsonObject;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+public class GsonHttpEntityTest {
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void encodedBodyParts_writeTo() throws IOException {
+		ElasticsearchRequest request = mixedRequest( 10 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, request, false );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		entity.writeTo( out );
+
+		assertThat( new String( out.toByteArray(), StandardCharsets.UTF_8 ) )
+				.isEqualTo( expectedContent( request ) );
+		assertThat( entity.getContentLength() ).isEqualTo( out.size() );
+	}
+
+	@Test
+	public void encodedBodyParts_produceContent_flowControl() throws IOException {
+		// Large enough to exceed the size of a single buffer page
+		ElasticsearchRequest request = mixedRequest( 200 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, request, false );
+
+		// Only accept a few bytes on each call, to trigger flow control
+		ThrottledContentEncoder encoder = new ThrottledContentEncoder( 100 );
+		int calls = 0;
+		while ( !encoder.isCompleted() ) {
+			encoder.resetBudget();
+			entity.produceContent( encoder, null );
+			assertThat( ++calls ).isLessThan( 100_000 );
+		}
+
+		assertThat( new String( encoder.out.toByteArray(), StandardCharsets.UTF_8 ) )
+				.isEqualTo( expectedContent( request ) );
+	}
+
+	@Test
+	public void encodedBodyParts_decoded() {
+		JsonObject document = document( 42 );
+		ElasticsearchRequest request = ElasticsearchRequest.put()
+				.body( new EncodedJsonObject.Encoder( gson ).encode( document ) )
+				.build();
+
+		assertThat( request.getEncodedBodyPart( 0 ) ).isNotNull();
+		assertThat( request.getBodyParts() ).containsExactly( document );
+	}
+
+	@Test
+	public void gzip_writeTo() throws IOException {
+		ElasticsearchRequest request = mixedRequest( 10 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, request, true );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		entity.writeTo( out );
+
+		assertThat( entity.getContentEncoding().getValue() ).isEqualTo( "gzip" );
+		assertThat( gunzip( out.toByteArray() ) ).isEqualTo( expectedContent( request ) );
+		assertThat( entity.getContentLength() ).isEqualTo( out.size() );
+	}
+
+	@Test
+	public void gzip_produceContent_flowControl() throws IOException {
+		// Large enough to exceed the size of a single buffer page
+		ElasticsearchRequest request = mixedRequest( 200 );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, request, true );
+
+		// The content length is unknown for large content
+		assertThat( entity.getContentLength() ).isEqualTo( -1L );
+
+		ThrottledContentEncoder encoder = produceAll( entity, 100 );
+
+		assertThat( gunzip( encoder.out.toByteArray() ) ).isEqualTo( expectedContent( request ) );
+		// Bulk-like content compresses well
+		assertThat( encoder.out.size() ).isLessThan( expectedContent( request ).length() / 3 );
+	}
+
+	@Test
+	public void gzip_produceContent_smallContent() throws IOException {
+		ElasticsearchRequest request = ElasticsearchRequest.put()
+				.body( document( 42 ) )
+				.build();
+		GsonHttpEntity entity = new GsonHttpEntity( gson, request, true );
+
+		// The content was compressed upfront, so its length is known
+		long contentLength = entity.getContentLength();
+		assertThat( contentLength ).isGreaterThan( 0L );
+
+		ThrottledContentEncoder encoder = produceAll( entity, 10 );
+
+		assertThat( encoder.out.size() ).isEqualTo( contentLength );
+		assertThat( gunzip( encoder.out.toByteArray() ) ).isEqualTo( expectedContent( request ) );
+
+		// The content can be produced again
+		encoder = produceAll( entity, 10 );
+		assertThat( encoder.out.size() ).isEqualTo( contentLength );
+		assertThat( gunzip( encoder.out.toByteArray() ) ).isEqualTo( expectedContent( request ) );
+	}
+
+	private ThrottledContentEncoder produceAll(GsonHttpEntity entity, int budgetPerCall) throws IOException {
+		ThrottledContentEncoder encoder = new ThrottledContentEncoder( budgetPerCall );
+		int calls = 0;
+		while ( !encoder.isCompleted() ) {
+			encoder.resetBudget();
+			entity.produceContent( encoder, null );
+			assertThat( ++calls ).isLessThan( 100_000 );
+		}
+		return encoder;
+	}
+
+	private static String gunzip(byte[] compressed) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try ( InputStream in = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = in.read( buffer ) ) != -1 ) {
+				out.write( buffer, 0, read );
+			}
+		}
+		return new String( out.toByteArray(), StandardCharsets.UTF_8 );
+	}
+
+	private ElasticsearchRequest mixedRequest(int documentCount) {
+		EncodedJsonObject.Encoder encoder = new EncodedJsonObject.Encoder( gson );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post();
+		for ( int i = 0; i < documentCount; i++ ) {
+			JsonObject metadata = new JsonObject();
+			metadata.addProperty( "_id", String.valueOf( i ) );
+			builder.body( metadata );
+			builder.body( encoder.encode( document( i ) ) );
+		}
+		return builder.build();
+	}
+
+	private String expectedContent(ElasticsearchRequest request) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : request.getBodyParts() ) {
+			builder.append( gson.toJson( bodyPart ) ).append( '\n' );
+		}
+		return builder.toString();
+	}
+
+	private static JsonObject document(int index) {
+		JsonObject document = new JsonObject();
+		document.addProperty( "text", "Some text with non-ASCII characters: éè中文 " + index );
+		JsonArray array = new JsonArray();
+		for ( int i = 0; i < 5; i++ ) {
+			array.add( index * i );
+		}
+		document.add( "numbers", array );
+		JsonObject nested = new JsonObject();
+		nested.addProperty( "flag", index % 2 == 0 );
+		document.add( "nested", nested );
+		return document;
+	}
+
+	private static class ThrottledContentEncoder implements ContentEncoder {
+		private final int budgetPerCall;
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		private int budget;
+		private boolean completed;
+
+		ThrottledContentEncoder(int budgetPerCall) {
+			this.budgetPerCall = budgetPerCall;
+		}
+
+		void resetBudget() {
+			budget = budgetPerCall;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			int written = Math.min( budget, src.remaining() );
+			for ( int i = 0; i < written; i++ ) {
+				out.write( src.get() );
+			}
+			budget -= written;
+			return written;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResultItemExtractor;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.impl.Futures;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import org.easymock.EasyMockSupport;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ElasticsearchBulkRetryingWorkTest extends EasyMockSupport {
+
+	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
+
+	private final ScheduledExecutorService delayExecutor = Executors.newSingleThreadScheduledExecutor();
+
+	private ElasticsearchWorkExecutionContext contextMock;
+	private BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactoryMock;
+
+	@Before
+	public void initMocks() {
+		contextMock = createMock( ElasticsearchWorkExecutionContext.class );
+		bulkWorkFactoryMock = createStrictMock( BiFunction.class );
+	}
+
+	@After
+	public void cleanup() {
+		delayExecutor.shutdownNow();
+	}
+
+	@Test
+	public void retryRejectedAndSubsequentWorksOnSameDocument() {
+		BulkableElasticsearchWork<Void> work1 = bulkableWork( 1, "A" );
+		BulkableElasticsearchWork<Void> work2 = bulkableWork( 2, "B" );
+		BulkableElasticsearchWork<Void> work3 = bulkableWork( 3, "A" );
+		ElasticsearchWork<BulkResult> bulkWork1 = createMock( "bulkWork1", ElasticsearchWork.class );
+		ElasticsearchWork<BulkResult> bulkWork2 = createMock( "bulkWork2", ElasticsearchWork.class );
+		BulkResult bulkResult1 = createMock( "bulkResult1", BulkResult.class );
+		BulkResult bulkResult2 = createMock( "bulkResult2", BulkResult.class );
+		BulkResultItemExtractor extractor1 = createMock( "extractor1", BulkResultItemExtractor.class );
+		BulkResultItemExtractor extractor2 = createMock( "extractor2", BulkResultItemExtractor.class );
+
+		ElasticsearchBulkRetryPolicy retryPolicy = new ElasticsearchBulkRetryPolicy( 3, 1L, 1L, delayExecutor );
+
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2, work3 ), DEFAULT_REFRESH ) ).andReturn( bulkWork1 );
+		expect( bulkWork1.execute( contextMock ) ).andReturn( CompletableFuture.completedFuture( bulkResult1 ) );
+		// work1 is rejected: it must be executed again, and so must work3 because it targets the same document
+		expect( bulkResult1.isRejected( 0 ) ).andReturn( true );
+		expect( bulkResult1.isRejected( 1 ) ).andReturn( false );
+		expect( bulkResult1.isRejected( 2 ) ).andReturn( false );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1, work3 ), DEFAULT_REFRESH ) ).andReturn( bulkWork2 );
+		expect( bulkWork2.execute( contextMock ) ).andReturn( CompletableFuture.completedFuture( bulkResult2 ) );
+		expect( bulkResult2.isRejected( 0 ) ).andReturn( false );
+		expect( bulkResult2.isRejected( 1 ) ).andReturn( false );
+		replayAll();
+		BulkResult result = Futures.unwrappedExceptionJoin(
+				new ElasticsearchBulkRetryingWork( Arrays.asList( work1, work2, work3 ), DEFAULT_REFRESH,
+						bulkWorkFactoryMock, retryPolicy )
+						.execute( contextMock )
+		);
+		verifyAll();
+
+		assertThat( retryPolicy.getRetriedWorkCount() ).isEqualTo( 2 );
+		assertThat( retryPolicy.getGivenUpWorkCount() ).isEqualTo( 0 );
+
+		// Each work's result must be extracted from its last execution
+		resetAll();
+		expect( bulkResult2.withContext( contextMock ) ).andReturn( extractor2 ).times( 2 );
+		expect( bulkResult1.withContext( contextMock ) ).andReturn( extractor1 );
+		expect( extractor2.extract( work1, 0 ) ).andReturn( CompletableFuture.completedFuture( null ) );
+		expect( extractor1.extract( work2, 1 ) ).andReturn( CompletableFuture.completedFuture( null ) );
+		expect( extractor2.extract( work3, 1 ) ).andReturn( CompletableFuture.completedFuture( null ) );
+		replayAll();
+		BulkResultItemExtractor extractor = result.withContext( contextMock );
+		extractor.extract( work1, 0 );
+		extractor.extract( work2, 1 );
+		extractor.extract( work3, 2 );
+		verifyAll();
+	}
+
+	@Test
+	public void giveUpAfterMaxRetries() {
+		BulkableElasticsearchWork<Void> work1 = bulkableWork( 1, "A" );
+		ElasticsearchWork<BulkResult> bulkWork1 = createMock( "bulkWork1", ElasticsearchWork.class );
+		ElasticsearchWork<BulkResult> bulkWork2 = createMock( "bulkWork2", ElasticsearchWork.class );
+		BulkResult bulkResult1 = createMock( "bulkResult1", BulkResult.class );
+		BulkResult bulkResult2 = createMock( "bulkResult2", BulkResult.class );
+
+		ElasticsearchBulkRetryPolicy retryPolicy = new ElasticsearchBulkRetryPolicy( 1, 1L, 1L, delayExecutor );
+
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1 ), DEFAULT_REFRESH ) ).andReturn( bulkWork1 );
+		expect( bulkWork1.execute( contextMock ) ).andReturn( CompletableFuture.completedFuture( bulkResult1 ) );
+		expect( bulkResult1.isRejected( 0 ) ).andReturn( true );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1 ), DEFAULT_REFRESH ) ).andReturn( bulkWork2 );
+		expect( bulkWork2.execute( contextMock ) ).andReturn( CompletableFuture.completedFuture( bulkResult2 ) );
+		expect( bulkResult2.isRejected( 0 ) ).andReturn( true );
+		replayAll();
+		BulkResult result = Futures.unwrappedExceptionJoin(
+				new ElasticsearchBulkRetryingWork( Arrays.asList( work1 ), DEFAULT_REFRESH,
+						bulkWorkFactoryMock, retryPolicy )
+						.execute( contextMock )
+		);
+		verifyAll();
+
+		assertThat( retryPolicy.getRetriedWorkCount() ).isEqualTo( 1 );
+		assertThat( retryPolicy.getGivenUpWorkCount() ).isEqualTo( 1 );
+
+		// The rejected work will be reported as failed based on the last execution
+		resetAll();
+		expect( bulkResult2.isRejected( 0 ) ).andReturn( true );
+		replayAll();
+		assertThat( result.isRejected( 0 ) ).isTrue();
+		verifyAll();
+	}
+
+	@Test
+	public void delay() {
+		ElasticsearchBulkRetryPolicy retryPolicy = new ElasticsearchBulkRetryPolicy( 10, 100L, 1000L, delayExecutor );
+		assertThat( retryPolicy.computeDelayMs( 0 ) ).isBetween( 50L, 100L );
+		assertThat( retryPolicy.computeDelayMs( 1 ) ).isBetween( 100L, 200L );
+		assertThat( retryPolicy.computeDelayMs( 2 ) ).isBetween( 200L, 400L );
+		assertThat( retryPolicy.computeDelayMs( 5 ) ).isBetween( 500L, 1000L );
+		assertThat( retryPolicy.computeDelayMs( 100 ) ).isBetween( 500L, 1000L );
+	}
+
+	private BulkableElasticsearchWork<Void> bulkableWork(int index, String documentId) {
+		BulkableElasticsearchWork<Void> mock = createMock( "bulkableWork" + index, BulkableElasticsearchWork.class );
+		JsonObject actionParameters = new JsonObject();
+		actionParameters.addProperty( "_index", "indexName" );
+		actionParameters.addProperty( "_id", documentId );
+		JsonObject actionMetadata = new JsonObject();
+		actionMetadata.add( "index", actionParameters );
+		expect( mock.getBulkableActionMetadata() ).andStubReturn( actionMetadata );
+		return mock;
+	}
+}
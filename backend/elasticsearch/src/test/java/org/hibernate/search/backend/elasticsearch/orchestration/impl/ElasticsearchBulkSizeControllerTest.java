@@ -0,0 +1,64 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ElasticsearchBulkSizeControllerTest {
+
+	private static final long TARGET_LATENCY_MS = 1000L;
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos( TARGET_LATENCY_MS / 2 );
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( TARGET_LATENCY_MS * 2 );
+
+	@Test
+	public void fixed() {
+		ElasticsearchBulkSizeController controller = ElasticsearchBulkSizeController.fixed( 100 );
+		assertThat( controller.isAdaptive() ).isFalse();
+		assertThat( controller.hasMaxBulkBytes() ).isFalse();
+
+		controller.onBulkExecuted( 100, SLOW );
+		assertThat( controller.getMaxBulkActions() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void adaptive() {
+		ElasticsearchBulkSizeController controller =
+				new ElasticsearchBulkSizeController( 100, Long.MAX_VALUE, work -> 0L, TARGET_LATENCY_MS );
+		assertThat( controller.isAdaptive() ).isTrue();
+		assertThat( controller.getMaxBulkActions() ).isEqualTo( 100 );
+
+		// Slow bulks: decrease the size
+		controller.onBulkExecuted( 100, SLOW );
+		assertThat( controller.getMaxBulkActions() ).isEqualTo( 50 );
+		controller.onBulkExecuted( 50, SLOW );
+		assertThat( controller.getMaxBulkActions() ).isEqualTo( 25 );
+
+		// Fast but incomplete bulks: do not change the size
+		controller.onBulkExecuted( 10, FAST );
+		assertThat( controller.getMaxBulkActions() ).isEqualTo( 25 );
+
+		// Fast, full bulks: increase the size
+		controller.onBulkExecuted( 25, FAST );
+		assertThat( controller.getMaxBulkActions() ).isEqualTo( 30 );
+
+		// Never exceed the configured maximum
+		for ( int i = 0; i < 100; i++ ) {
+			controller.onBulkExecuted( controller.getMaxBulkActions(), FAST );
+		}
+		assertThat( controller.getMaxBulkActions() ).isEqualTo( 100 );
+
+		// Never go below 1
+		for ( int i = 0; i < 100; i++ ) {
+			controller.onBulkExecuted( controller.getMaxBulkActions(), SLOW );
+		}
+		assertThat( controller.getMaxBulkActions() ).isEqualTo( 1 );
+	}
+}
@@ -13,7 +13,9 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
@@ -490,6 +492,55 @@ public void newBulkOnDifferentRefresh() {
 		verifyAll();
 	}
 
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void newBulkOnMaxBytes() {
+		BulkableElasticsearchWork<Void> work1 = bulkableWork( 1 );
+		BulkableElasticsearchWork<Void> work2 = bulkableWork( 2 );
+		BulkableElasticsearchWork<Void> work3 = bulkableWork( 3 );
+		ElasticsearchWork<BulkResult> bulkWork = work( 4 );
+
+		CompletableFuture<Void> work1FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work2FutureFromSequenceBuilder = new CompletableFuture<>();
+		Capture<CompletableFuture<ElasticsearchWork<BulkResult>>> bulkWorkFutureCapture = newCapture();
+		CompletableFuture<BulkResult> bulkWorkResultFuture = new CompletableFuture<>();
+
+		Map<BulkableElasticsearchWork<?>, Long> workSizes = new HashMap<>();
+		workSizes.put( work1, 40L );
+		workSizes.put( work2, 40L );
+		workSizes.put( work3, 40L );
+
+		replayAll();
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
+						DEFAULT_MIN_BULK_SIZE,
+						new ElasticsearchBulkSizeController( DEFAULT_MAX_BULK_SIZE,
+								100L /* Mandate maximum 100 bytes per bulk */,
+								workSizes::get, null ) );
+		verifyAll();
+
+		resetAll();
+		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( work2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		replayAll();
+		bulker.add( work1 );
+		bulker.add( work2 );
+		verifyAll();
+
+		// Adding a third work would exceed the size limit: the current bulk is sent without it
+		resetAll();
+		expect( work3.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWorkFutureCapture ) ) ).andReturn( bulkWorkResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWorkResultFuture ) ).andReturn( bulkResultExtractionStepMock );
+		expect( bulkResultExtractionStepMock.add( work1, 0 ) ).andReturn( work1FutureFromSequenceBuilder );
+		expect( bulkResultExtractionStepMock.add( work2, 1 ) ).andReturn( work2FutureFromSequenceBuilder );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).andReturn( (ElasticsearchWork) bulkWork );
+		replayAll();
+		bulker.add( work3 );
+		verifyAll();
+		assertThat( bulkWorkFutureCapture.getValue() ).isSuccessful( bulkWork );
+	}
+
 	private <T> ElasticsearchWork<T> work(int index) {
 		ElasticsearchWork<T> mock = createStrictMock( "work" + index, ElasticsearchWork.class );
 		return mock;
@@ -0,0 +1,147 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.same;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.easymock.Capture;
+import org.easymock.CaptureType;
+import org.easymock.EasyMockSupport;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class Elasticsearch7SearchResultExtractorTest extends EasyMockSupport {
+
+	private static final String RESPONSE = "{"
+			+ "\"took\": 42, \"timed_out\": false, \"_scroll_id\": \"someScrollId\","
+			+ "\"hits\": {"
+			+ "  \"total\": { \"value\": 2, \"relation\": \"eq\" },"
+			+ "  \"max_score\": 1.0,"
+			+ "  \"hits\": ["
+			+ "    { \"_index\": \"myIndex\", \"_id\": \"1\", \"_source\": { \"text\": \"foo\", \"nested\": [ { \"a\": 1 } ] } },"
+			+ "    { \"_index\": \"myIndex\", \"_id\": \"2\", \"_source\": { \"text\": \"bar\" } }"
+			+ "  ]"
+			+ "},"
+			+ "\"aggregations\": { \"someAgg\": { \"value\": 1 } }"
+			+ "}";
+
+	private final Gson gson = new Gson();
+
+	private ProjectionHitMapper<?, ?> hitMapperMock;
+	private ElasticsearchSearchProjection<Object, Object> projectionMock;
+	private ElasticsearchSearchQueryRequestContext requestContext;
+
+	@Before
+	public void initMocks() {
+		BackendSessionContext sessionContextMock = createMock( BackendSessionContext.class );
+		LoadingContext<?, ?> loadingContextMock = createMock( LoadingContext.class );
+		hitMapperMock = createMock( ProjectionHitMapper.class );
+		projectionMock = createMock( ElasticsearchSearchProjection.class );
+		expect( loadingContextMock.getProjectionHitMapper() ).andStubReturn( (ProjectionHitMapper) hitMapperMock );
+		requestContext = new ElasticsearchSearchQueryRequestContext( sessionContextMock, loadingContextMock, null );
+	}
+
+	@Test
+	public void streaming_sourceNotRequired() {
+		ElasticsearchResponse response = response( RESPONSE );
+		Capture<JsonObject> hits = Capture.newInstance( CaptureType.ALL );
+
+		expect( projectionMock.extract( same( hitMapperMock ), capture( hits ), anyObject( SearchProjectionExtractContext.class ) ) )
+				.andReturn( null ).times( 2 );
+		replayAll();
+		ElasticsearchLoadableSearchResult<Object> result = createExtractor().extract( response );
+		verifyAll();
+
+		assertThat( hits.getValues() ).hasSize( 2 );
+		assertThat( hits.getValues().get( 0 ).get( "_id" ).getAsString() ).isEqualTo( "1" );
+		assertThat( hits.getValues().get( 0 ).has( "_source" ) ).isFalse();
+		assertThat( hits.getValues().get( 1 ).get( "_id" ).getAsString() ).isEqualTo( "2" );
+		assertThat( hits.getValues().get( 1 ).has( "_source" ) ).isFalse();
+
+		// The partial body contains everything but hits, and aggregations since none were requested
+		JsonObject partialBody = result.getResponseBody();
+		assertThat( partialBody.get( "_scroll_id" ).getAsString() ).isEqualTo( "someScrollId" );
+		assertThat( partialBody.getAsJsonObject( "hits" ).has( "hits" ) ).isFalse();
+		assertThat( partialBody.getAsJsonObject( "hits" ).has( "max_score" ) ).isTrue();
+		assertThat( partialBody.has( "aggregations" ) ).isFalse();
+
+		// The full body is still available
+		assertThat( response.getBody() ).isEqualTo( gson.fromJson( RESPONSE, JsonObject.class ) );
+	}
+
+	@Test
+	public void streaming_sourceRequired() {
+		requestContext.requireHitSource();
+		ElasticsearchResponse response = response( RESPONSE );
+		Capture<JsonObject> hits = Capture.newInstance( CaptureType.ALL );
+
+		expect( projectionMock.extract( same( hitMapperMock ), capture( hits ), anyObject( SearchProjectionExtractContext.class ) ) )
+				.andReturn( null ).times( 2 );
+		replayAll();
+		createExtractor().extract( response );
+		verifyAll();
+
+		JsonObject expectedBody = gson.fromJson( RESPONSE, JsonObject.class );
+		assertThat( hits.getValues() ).containsExactlyElementsOf(
+				(Iterable) expectedBody.getAsJsonObject( "hits" ).getAsJsonArray( "hits" ) );
+	}
+
+	@Test
+	public void alreadyParsed() {
+		JsonObject body = gson.fromJson( RESPONSE, JsonObject.class );
+		ElasticsearchResponse response = new ElasticsearchResponse( 200, "OK", body );
+		Capture<JsonObject> hits = Capture.newInstance( CaptureType.ALL );
+
+		expect( projectionMock.extract( same( hitMapperMock ), capture( hits ), anyObject( SearchProjectionExtractContext.class ) ) )
+				.andReturn( null ).times( 2 );
+		replayAll();
+		ElasticsearchLoadableSearchResult<Object> result = createExtractor().extract( response );
+		verifyAll();
+
+		assertThat( hits.getValues() ).containsExactlyElementsOf(
+				(Iterable) body.getAsJsonObject( "hits" ).getAsJsonArray( "hits" ) );
+		assertThat( result.getResponseBody() ).isSameAs( body );
+	}
+
+	@Test
+	public void noHits() {
+		ElasticsearchResponse response = response( "{ \"took\": 1, \"timed_out\": false,"
+				+ " \"hits\": { \"total\": { \"value\": 0, \"relation\": \"eq\" }, \"hits\": [] } }" );
+
+		replayAll();
+		ElasticsearchLoadableSearchResult<Object> result = createExtractor().extract( response );
+		verifyAll();
+
+		assertThat( result.isTimedOut() ).isFalse();
+	}
+
+	private Elasticsearch7SearchResultExtractor<Object> createExtractor() {
+		return new Elasticsearch7SearchResultExtractor<>( requestContext, projectionMock, Collections.emptyMap() );
+	}
+
+	private ElasticsearchResponse response(String body) {
+		return new ElasticsearchResponse( 200, "OK", gson, body.getBytes( StandardCharsets.UTF_8 ), StandardCharsets.UTF_8 );
+	}
+}
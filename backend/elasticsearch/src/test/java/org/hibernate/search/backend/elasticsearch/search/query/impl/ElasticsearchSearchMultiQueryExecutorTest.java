@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.isNull;
+import static org.easymock.EasyMock.same;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.scope.model.impl.ElasticsearchScopeModel;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.query.SearchMultiResult;
+import org.hibernate.search.engine.search.query.spi.DefaultSearchMultiQuery;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import org.easymock.EasyMockSupport;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ElasticsearchSearchMultiQueryExecutorTest extends EasyMockSupport {
+
+	private ElasticsearchWorkBuilderFactory workFactoryMock;
+	private ElasticsearchWorkOrchestrator orchestratorMock;
+	private ElasticsearchScopeModel scopeModelMock;
+	private ElasticsearchSearchContext searchContext;
+	private BackendSessionContext sessionContextMock;
+	private LoadingContext<?, ?> loadingContextMock;
+
+	@Before
+	public void initMocks() {
+		workFactoryMock = createMock( ElasticsearchWorkBuilderFactory.class );
+		orchestratorMock = createMock( ElasticsearchWorkOrchestrator.class );
+		scopeModelMock = createMock( ElasticsearchScopeModel.class );
+		sessionContextMock = createMock( BackendSessionContext.class );
+		loadingContextMock = createMock( LoadingContext.class );
+		searchContext = new ElasticsearchSearchContext(
+				createMock( BackendMappingContext.class ), null, null, new NoMultiTenancyStrategy(), 0,
+				scopeModelMock
+		);
+	}
+
+	@Test
+	public void fetch_itemFailure() {
+		ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<Object>> extractor1Mock =
+				createMock( ElasticsearchSearchResultExtractor.class );
+		ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<Object>> extractor2Mock =
+				createMock( ElasticsearchSearchResultExtractor.class );
+		ElasticsearchSearchQueryImpl<Object> query1 = createQuery( extractor1Mock );
+		ElasticsearchSearchQueryImpl<Object> query2 = createQuery( extractor2Mock );
+
+		SearchWork<ElasticsearchLoadableSearchResult<Object>> work1Mock = createMock( SearchWork.class );
+		SearchWork<ElasticsearchLoadableSearchResult<Object>> work2Mock = createMock( SearchWork.class );
+		MultiSearchWorkBuilder multiSearchWorkBuilderMock = createMock( MultiSearchWorkBuilder.class );
+		ElasticsearchWork<MultiSearchResult> multiSearchWorkMock = createMock( ElasticsearchWork.class );
+		MultiSearchResult multiSearchResultMock = createMock( MultiSearchResult.class );
+		ElasticsearchLoadableSearchResult<Object> loadableResult1Mock =
+				createMock( ElasticsearchLoadableSearchResult.class );
+		ElasticsearchSearchResult<Object> result1Mock = createMock( ElasticsearchSearchResult.class );
+		SearchException failure = new SearchException( "Simulated failure of the second item" );
+
+		resetAll();
+		expectSearchWorkCreation( extractor1Mock, work1Mock );
+		expectSearchWorkCreation( extractor2Mock, work2Mock );
+		expect( workFactoryMock.multiSearch( Arrays.asList( work1Mock, work2Mock ) ) )
+				.andReturn( multiSearchWorkBuilderMock );
+		expect( multiSearchWorkBuilderMock.build() ).andReturn( multiSearchWorkMock );
+		expect( orchestratorMock.submit( multiSearchWorkMock ) )
+				.andReturn( CompletableFuture.completedFuture( multiSearchResultMock ) );
+		expect( multiSearchResultMock.extract( work1Mock, 0 ) ).andReturn( loadableResult1Mock );
+		expect( multiSearchResultMock.extract( work2Mock, 1 ) ).andThrow( failure );
+		expect( loadableResult1Mock.loadBlocking() ).andReturn( result1Mock );
+		replayAll();
+		SearchMultiResult multiResult = new DefaultSearchMultiQuery()
+				.add( query1, 10 )
+				.add( query2, 10 )
+				.fetch();
+		verifyAll();
+
+		// The failure of the second item must not discard the result of the first item
+		assertThat( multiResult.get( query1 ) ).isSameAs( result1Mock );
+		assertThatThrownBy( () -> multiResult.get( query2 ) ).isSameAs( failure );
+	}
+
+	@Test
+	public void fetch_requestFailure() {
+		ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<Object>> extractor1Mock =
+				createMock( ElasticsearchSearchResultExtractor.class );
+		ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<Object>> extractor2Mock =
+				createMock( ElasticsearchSearchResultExtractor.class );
+		ElasticsearchSearchQueryImpl<Object> query1 = createQuery( extractor1Mock );
+		ElasticsearchSearchQueryImpl<Object> query2 = createQuery( extractor2Mock );
+
+		SearchWork<ElasticsearchLoadableSearchResult<Object>> work1Mock = createMock( SearchWork.class );
+		SearchWork<ElasticsearchLoadableSearchResult<Object>> work2Mock = createMock( SearchWork.class );
+		MultiSearchWorkBuilder multiSearchWorkBuilderMock = createMock( MultiSearchWorkBuilder.class );
+		ElasticsearchWork<MultiSearchResult> multiSearchWorkMock = createMock( ElasticsearchWork.class );
+		SearchException failure = new SearchException( "Simulated failure of the whole request" );
+		CompletableFuture<MultiSearchResult> multiSearchFuture = new CompletableFuture<>();
+		multiSearchFuture.completeExceptionally( failure );
+
+		resetAll();
+		expectSearchWorkCreation( extractor1Mock, work1Mock );
+		expectSearchWorkCreation( extractor2Mock, work2Mock );
+		expect( workFactoryMock.multiSearch( Arrays.asList( work1Mock, work2Mock ) ) )
+				.andReturn( multiSearchWorkBuilderMock );
+		expect( multiSearchWorkBuilderMock.build() ).andReturn( multiSearchWorkMock );
+		expect( orchestratorMock.submit( multiSearchWorkMock ) ).andReturn( multiSearchFuture );
+		replayAll();
+		SearchMultiResult multiResult = new DefaultSearchMultiQuery()
+				.add( query1, 10 )
+				.add( query2, 10 )
+				.fetch();
+		verifyAll();
+
+		// No query could be executed: they all failed
+		assertThatThrownBy( () -> multiResult.get( query1 ) ).isSameAs( failure );
+		assertThatThrownBy( () -> multiResult.get( query2 ) ).isSameAs( failure );
+	}
+
+	private void expectSearchWorkCreation(
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<Object>> extractorMock,
+			SearchWork<ElasticsearchLoadableSearchResult<Object>> workMock) {
+		SearchWorkBuilder<ElasticsearchLoadableSearchResult<Object>> workBuilderMock =
+				createMock( SearchWorkBuilder.class );
+		expect( scopeModelMock.getElasticsearchIndexNames() ).andStubReturn( Collections.emptySet() );
+		expect( workFactoryMock.search( anyObject( JsonObject.class ), same( extractorMock ) ) )
+				.andReturn( workBuilderMock );
+		expect( workBuilderMock.indexes( anyObject() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.paging( eq( 10 ), isNull() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.routingKeys( anyObject() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.timeout( isNull(), isNull() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.totalHitCountThreshold( isNull() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.requestTransformer( isNull() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.build() ).andReturn( workMock );
+	}
+
+	private ElasticsearchSearchQueryImpl<Object> createQuery(
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<Object>> extractorMock) {
+		return new ElasticsearchSearchQueryImpl<>(
+				workFactoryMock, orchestratorMock, searchContext, sessionContextMock,
+				loadingContextMock, false, Collections.emptySet(),
+				new JsonObject(), null, extractorMock,
+				null, null, false, null
+		);
+	}
+}
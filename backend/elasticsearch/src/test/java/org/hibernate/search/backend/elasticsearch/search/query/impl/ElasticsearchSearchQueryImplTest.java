@@ -0,0 +1,149 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.EasyMock.isNull;
+import static org.easymock.EasyMock.same;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.scope.model.impl.ElasticsearchScopeModel;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.DocumentReferenceExtractorHelper;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchEntityProjection;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
+import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.FutureAssert;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import org.easymock.EasyMockSupport;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class ElasticsearchSearchQueryImplTest extends EasyMockSupport {
+
+	private ElasticsearchWorkBuilderFactory workFactoryMock;
+	private ElasticsearchWorkOrchestrator orchestratorMock;
+	private ElasticsearchScopeModel scopeModelMock;
+	private ElasticsearchSearchContext searchContext;
+	private BackendSessionContext sessionContextMock;
+	private LoadingContext<?, ?> loadingContextMock;
+	private ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<Object>> extractorMock;
+
+	@Before
+	public void initMocks() {
+		workFactoryMock = createMock( ElasticsearchWorkBuilderFactory.class );
+		orchestratorMock = createMock( ElasticsearchWorkOrchestrator.class );
+		scopeModelMock = createMock( ElasticsearchScopeModel.class );
+		sessionContextMock = createMock( BackendSessionContext.class );
+		loadingContextMock = createMock( LoadingContext.class );
+		extractorMock = createMock( ElasticsearchSearchResultExtractor.class );
+		searchContext = new ElasticsearchSearchContext(
+				createMock( BackendMappingContext.class ), null, null, new NoMultiTenancyStrategy(), 0,
+				scopeModelMock
+		);
+	}
+
+	@Test
+	public void entityProjection_requiresEntityLoading() {
+		ElasticsearchSearchQueryRequestContext requestContext =
+				new ElasticsearchSearchQueryRequestContext( sessionContextMock, loadingContextMock, null );
+		assertThat( requestContext.isEntityLoadingRequired() ).isFalse();
+
+		new ElasticsearchEntityProjection<>(
+				Collections.emptySet(),
+				new DocumentReferenceExtractorHelper( name -> name, new NoMultiTenancyStrategy() )
+		)
+				.request( new JsonObject(), requestContext );
+		assertThat( requestContext.isEntityLoadingRequired() ).isTrue();
+	}
+
+	@Test
+	public void fetchAsync_entityLoading_asyncLoadingNotSupported() {
+		SearchException failure = new SearchException( "Cannot load entities asynchronously" );
+
+		resetAll();
+		loadingContextMock.checkAsyncLoadingSupported();
+		expectLastCall().andThrow( failure );
+		replayAll();
+		CompletableFuture<?> future = createQuery( true ).fetchAsync( null, 10 ).toCompletableFuture();
+		// No work was submitted: the strict mocks would have failed otherwise
+		verifyAll();
+
+		FutureAssert.assertThat( future ).isFailed( failure );
+	}
+
+	@Test
+	public void fetchAsync_entityLoading_asyncLoadingSupported() {
+		CompletableFuture<ElasticsearchLoadableSearchResult<Object>> workFuture = new CompletableFuture<>();
+
+		resetAll();
+		loadingContextMock.checkAsyncLoadingSupported();
+		expectSearchWorkSubmission( workFuture );
+		replayAll();
+		CompletableFuture<?> future = createQuery( true ).fetchAsync( null, 10 ).toCompletableFuture();
+		verifyAll();
+
+		FutureAssert.assertThat( future ).isPending();
+	}
+
+	@Test
+	public void fetchAsync_noEntityLoading() {
+		CompletableFuture<ElasticsearchLoadableSearchResult<Object>> workFuture = new CompletableFuture<>();
+
+		resetAll();
+		// The loading context is not checked: no entity needs to be loaded
+		expectSearchWorkSubmission( workFuture );
+		replayAll();
+		CompletableFuture<?> future = createQuery( false ).fetchAsync( null, 10 ).toCompletableFuture();
+		verifyAll();
+
+		FutureAssert.assertThat( future ).isPending();
+	}
+
+	private void expectSearchWorkSubmission(CompletableFuture<ElasticsearchLoadableSearchResult<Object>> workFuture) {
+		SearchWorkBuilder<ElasticsearchLoadableSearchResult<Object>> workBuilderMock =
+				createMock( SearchWorkBuilder.class );
+		SearchWork<ElasticsearchLoadableSearchResult<Object>> workMock = createMock( SearchWork.class );
+		expect( scopeModelMock.getElasticsearchIndexNames() ).andStubReturn( Collections.emptySet() );
+		expect( workFactoryMock.search( anyObject( JsonObject.class ), same( extractorMock ) ) )
+				.andReturn( workBuilderMock );
+		expect( workBuilderMock.indexes( anyObject() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.paging( eq( 10 ), isNull() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.routingKeys( anyObject() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.timeout( isNull(), isNull() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.totalHitCountThreshold( isNull() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.requestTransformer( isNull() ) ).andReturn( workBuilderMock );
+		expect( workBuilderMock.build() ).andReturn( workMock );
+		expect( orchestratorMock.submit( workMock ) ).andReturn( workFuture );
+	}
+
+	private ElasticsearchSearchQueryImpl<Object> createQuery(boolean entityLoadingRequired) {
+		return new ElasticsearchSearchQueryImpl<>(
+				workFactoryMock, orchestratorMock, searchContext, sessionContextMock,
+				loadingContextMock, entityLoadingRequired, Collections.emptySet(),
+				new JsonObject(), null, extractorMock,
+				null, null, false, null
+		);
+	}
+}
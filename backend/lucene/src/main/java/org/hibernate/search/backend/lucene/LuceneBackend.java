@@ -10,6 +10,9 @@
 
 public interface LuceneBackend extends Backend {
 
-	// No Lucene-specific backend APIs yet
+	/**
+	 * @return Statistics about the query cache shared by all indexes of this backend.
+	 */
+	LuceneQueryCacheStatistics getQueryCacheStatistics();
 
 }
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+
+/**
+ * Statistics about the query cache shared by all indexes of a Lucene backend.
+ * <p>
+ * Counts are cumulative since the backend was started,
+ * and are incremented once per index segment: a single query may result in multiple hits or misses.
+ *
+ * @see LuceneBackendSettings#QUERY_CACHE_MAX_SIZE
+ */
+public interface LuceneQueryCacheStatistics {
+
+	/**
+	 * @return The number of times the results of a query on a segment were found in the cache.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return The number of times the results of a query on a segment were looked up in the cache,
+	 * but were not found.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return The number of query results on a segment currently held in the cache.
+	 */
+	long getCacheSize();
+
+	/**
+	 * @return The total number of query results on a segment that were ever added to the cache,
+	 * including those that have since been evicted.
+	 */
+	long getCacheCount();
+
+	/**
+	 * @return The number of query results on a segment that were evicted from the cache,
+	 * either because the cache was full or because the segment was closed.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * @return The amount of memory currently used by the cache, in bytes.
+	 */
+	long getRamBytesUsed();
+
+}
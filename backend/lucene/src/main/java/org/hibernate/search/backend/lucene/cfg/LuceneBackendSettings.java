@@ -10,7 +10,10 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.engine.environment.bean.BeanReference;
 
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
 import org.apache.lucene.util.Version;
 
 /**
@@ -114,6 +117,61 @@ private LuceneBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis.configurer";
 
+	/**
+	 * The number of threads used to search the segments of an index in parallel within a single query.
+	 * <p>
+	 * When set to a strictly positive value, a thread pool of the given size is created,
+	 * and the segments targeted by each query are split into slices that are searched concurrently.
+	 * When set to {@code 0}, each query is executed in the calling thread only.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#CONCURRENT_SEARCH_THREADS}.
+	 */
+	public static final String CONCURRENT_SEARCH_THREADS = "concurrent_search.threads";
+
+	/**
+	 * The maximum number of queries whose results are kept in the query cache.
+	 * <p>
+	 * The query cache is shared by all indexes of the backend,
+	 * and holds the documents matched by non-scoring query clauses (filters) on each segment,
+	 * so that these clauses are not re-evaluated on every search.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} disables the query cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_MAX_SIZE}.
+	 *
+	 * @see org.hibernate.search.backend.lucene.LuceneBackend#getQueryCacheStatistics()
+	 */
+	public static final String QUERY_CACHE_MAX_SIZE = "query_cache.max_size";
+
+	/**
+	 * The maximum amount of memory used by the query cache.
+	 * <p>
+	 * Expects a positive Integer value in megabytes, such as {@code 32},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default (32 megabytes or 5% of the maximum heap size, whichever is lower,
+	 * at the time of this writing).
+	 */
+	public static final String QUERY_CACHE_MAX_RAM_SIZE = "query_cache.max_ram_size";
+
+	/**
+	 * The policy deciding which queries are worth caching in the query cache.
+	 * <p>
+	 * Expects a reference to a bean of type {@link QueryCachingPolicy}.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_CACHING_POLICY},
+	 * which caches queries that are used frequently and are costly enough to evaluate.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String QUERY_CACHE_CACHING_POLICY = "query_cache.caching_policy";
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
@@ -146,5 +204,12 @@ private Defaults() {
 				FileSystemAccessStrategyName.AUTO;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int CONCURRENT_SEARCH_THREADS = 0;
+
+		public static final int QUERY_CACHE_MAX_SIZE = 1000;
+
+		public static final BeanReference<? extends QueryCachingPolicy> QUERY_CACHE_CACHING_POLICY =
+				BeanReference.of( UsageTrackingQueryCachingPolicy.class );
 	}
 }
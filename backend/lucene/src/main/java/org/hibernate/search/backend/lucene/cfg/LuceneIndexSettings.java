@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.cfg;
 
+import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.ReaderRefreshStrategyName;
+
 /**
  * Configuration properties for Lucene indexes.
  * <p>
@@ -58,6 +61,212 @@ private LuceneIndexSettings() {
 	 */
 	public static final String SHARDING_SHARD_IDENTIFIERS = SHARDING_PREFIX + ShardingRadicals.SHARD_IDENTIFIERS;
 
+	/**
+	 * The prefix for I/O-related property keys.
+	 */
+	public static final String IO_PREFIX = "io.";
+
+	/**
+	 * How the index is accessed for reading and writing,
+	 * in particular whether searches see uncommitted changes.
+	 * <p>
+	 * Expects an {@link IOStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * With {@link IOStrategyName#NEAR_REAL_TIME}, index readers are opened from the index writer,
+	 * so making changes visible to searches no longer requires a commit:
+	 * indexing with a forced refresh no longer triggers a commit, unless a commit is forced too.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_STRATEGY}.
+	 */
+	public static final String IO_STRATEGY = IO_PREFIX + IORadicals.STRATEGY;
+
+	/**
+	 * The minimum interval between two commits of changes to the index, in milliseconds.
+	 * <p>
+	 * When set to a positive value, changes applied in a batch of indexing works are not committed
+	 * at the end of the batch unless this interval elapsed since the last commit,
+	 * or unless {@link #IO_COMMIT_MAX_OPERATIONS} operations are left uncommitted.
+	 * Delayed changes are committed periodically in the background, and before shutdown.
+	 * Fewer commits mean fewer I/O operations (in particular fsync),
+	 * at the cost of more changes being lost in the event of a crash.
+	 * <p>
+	 * Changes submitted with a forced commit, or with a forced refresh unless using near-real-time I/O,
+	 * are always committed immediately.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as 1000,
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} means changes are committed at the end of every batch.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_INTERVAL}.
+	 */
+	public static final String IO_COMMIT_INTERVAL = IO_PREFIX + IORadicals.COMMIT_INTERVAL;
+
+	/**
+	 * The maximum number of uncommitted operations before changes are committed,
+	 * regardless of the {@link #IO_COMMIT_INTERVAL commit interval}.
+	 * <p>
+	 * Only relevant when the commit interval is positive.
+	 * <p>
+	 * Expects a positive Integer value, such as 1000,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_MAX_OPERATIONS}.
+	 */
+	public static final String IO_COMMIT_MAX_OPERATIONS = IO_PREFIX + IORadicals.COMMIT_MAX_OPERATIONS;
+
+	/**
+	 * The amount of RAM, in megabytes, that may be used to buffer added documents and deletions
+	 * before they are flushed to a new segment.
+	 * <p>
+	 * Larger values mean fewer, larger segments, and less merging,
+	 * which is useful in particular for mass indexing.
+	 * <p>
+	 * Expects a positive Integer value in megabytes, such as 64,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default (16 megabytes at the time of this writing).
+	 */
+	public static final String IO_WRITER_RAM_BUFFER_SIZE = IO_PREFIX + IORadicals.WRITER_RAM_BUFFER_SIZE;
+
+	/**
+	 * The maximum number of documents buffered in memory before they are flushed to a new segment.
+	 * <p>
+	 * If {@link #IO_WRITER_RAM_BUFFER_SIZE} is reached first, a flush is triggered anyway.
+	 * <p>
+	 * Expects a positive Integer value, such as 10000,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default (disabled at the time of this writing).
+	 */
+	public static final String IO_WRITER_MAX_BUFFERED_DOCS = IO_PREFIX + IORadicals.WRITER_MAX_BUFFERED_DOCS;
+
+	/**
+	 * The number of segments allowed per tier by the merge policy.
+	 * <p>
+	 * Smaller values mean more merging but fewer segments, and thus faster searches.
+	 * <p>
+	 * Expects a positive Integer value, such as 10,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default (10 at the time of this writing).
+	 *
+	 * @see org.apache.lucene.index.TieredMergePolicy#setSegmentsPerTier(double)
+	 */
+	public static final String IO_MERGE_SEGMENTS_PER_TIER = IO_PREFIX + IORadicals.MERGE_SEGMENTS_PER_TIER;
+
+	/**
+	 * The maximum size of segments produced by regular merges, in megabytes.
+	 * <p>
+	 * Expects a positive Integer value in megabytes, such as 5120,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default (5 gigabytes at the time of this writing).
+	 *
+	 * @see org.apache.lucene.index.TieredMergePolicy#setMaxMergedSegmentMB(double)
+	 */
+	public static final String IO_MERGE_MAX_MERGED_SEGMENT_SIZE = IO_PREFIX + IORadicals.MERGE_MAX_MERGED_SEGMENT_SIZE;
+
+	/**
+	 * The maximum percentage of deleted documents in the index before merges are triggered to reclaim space.
+	 * <p>
+	 * Expects an Integer value between 20 and 50, such as 33,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to Lucene's default (33 at the time of this writing).
+	 *
+	 * @see org.apache.lucene.index.TieredMergePolicy#setDeletesPctAllowed(double)
+	 */
+	public static final String IO_MERGE_DELETES_PCT_ALLOWED = IO_PREFIX + IORadicals.MERGE_DELETES_PCT_ALLOWED;
+
+	/**
+	 * The maximum size of a merged segment, relative to the total index size,
+	 * for that segment to use the compound file format.
+	 * <p>
+	 * Compound files require fewer file handles, but are slightly slower to search.
+	 * {@code 0.0} means merged segments never use the compound file format,
+	 * {@code 1.0} means they always do.
+	 * <p>
+	 * Expects a Double value between 0.0 and 1.0, such as 0.1,
+	 * or a String that can be parsed into such Double value.
+	 * <p>
+	 * Defaults to Lucene's default (0.1 at the time of this writing).
+	 *
+	 * @see org.apache.lucene.index.MergePolicy#setNoCFSRatio(double)
+	 */
+	public static final String IO_MERGE_NO_CFS_RATIO = IO_PREFIX + IORadicals.MERGE_NO_CFS_RATIO;
+
+	/**
+	 * The maximum number of threads merging segments concurrently.
+	 * <p>
+	 * Expects a positive Integer value, such as 2,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to a value auto-detected by Lucene, depending on the number of available processors.
+	 *
+	 * @see org.apache.lucene.index.ConcurrentMergeScheduler#setMaxMergesAndThreads(int, int)
+	 */
+	public static final String IO_MERGE_SCHEDULER_MAX_THREAD_COUNT =
+			IO_PREFIX + IORadicals.MERGE_SCHEDULER_MAX_THREAD_COUNT;
+
+	/**
+	 * The maximum number of pending merges before indexing threads are stalled
+	 * until running merges complete.
+	 * <p>
+	 * Must be greater than or equal to {@link #IO_MERGE_SCHEDULER_MAX_THREAD_COUNT}.
+	 * <p>
+	 * Expects a positive Integer value, such as 7,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the maximum thread count plus 5, like Lucene's auto-detection.
+	 *
+	 * @see org.apache.lucene.index.ConcurrentMergeScheduler#setMaxMergesAndThreads(int, int)
+	 */
+	public static final String IO_MERGE_SCHEDULER_MAX_MERGE_COUNT =
+			IO_PREFIX + IORadicals.MERGE_SCHEDULER_MAX_MERGE_COUNT;
+
+	/**
+	 * Whether the I/O rate of merges should be throttled automatically,
+	 * so that merges do not starve indexing and searches of I/O bandwidth.
+	 * <p>
+	 * Throttling is lifted automatically when merges fall behind.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_MERGE_SCHEDULER_AUTO_IO_THROTTLE}.
+	 *
+	 * @see org.apache.lucene.index.ConcurrentMergeScheduler#enableAutoIOThrottle()
+	 */
+	public static final String IO_MERGE_SCHEDULER_AUTO_IO_THROTTLE =
+			IO_PREFIX + IORadicals.MERGE_SCHEDULER_AUTO_IO_THROTTLE;
+
+	/**
+	 * The prefix for index-reader-related property keys.
+	 */
+	public static final String READER_PREFIX = "reader.";
+
+	/**
+	 * The strategy for refreshing the index reader shared between searches,
+	 * i.e. when changes committed to the index become visible to searches.
+	 * <p>
+	 * Expects a {@link ReaderRefreshStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#READER_REFRESH_STRATEGY}.
+	 */
+	public static final String READER_REFRESH_STRATEGY = READER_PREFIX + ReaderRadicals.REFRESH_STRATEGY;
+
+	/**
+	 * The minimum interval between two refreshes of the index reader shared between searches, in milliseconds.
+	 * <p>
+	 * Only available for the "periodic" reader refresh strategy.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as 1000,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#READER_REFRESH_INTERVAL}.
+	 */
+	public static final String READER_REFRESH_INTERVAL = READER_PREFIX + ReaderRadicals.REFRESH_INTERVAL;
+
 	/**
 	 * Configuration property keys for sharding, without the {@link #SHARDING_PREFIX prefix}.
 	 */
@@ -71,6 +280,40 @@ private ShardingRadicals() {
 		public static final String SHARD_IDENTIFIERS = "shard_identifiers";
 	}
 
+	/**
+	 * Configuration property keys for I/O, without the {@link #IO_PREFIX prefix}.
+	 */
+	public static final class IORadicals {
+
+		private IORadicals() {
+		}
+
+		public static final String STRATEGY = "strategy";
+		public static final String COMMIT_INTERVAL = "commit_interval";
+		public static final String COMMIT_MAX_OPERATIONS = "commit_max_operations";
+		public static final String WRITER_RAM_BUFFER_SIZE = "writer.ram_buffer_size";
+		public static final String WRITER_MAX_BUFFERED_DOCS = "writer.max_buffered_docs";
+		public static final String MERGE_SEGMENTS_PER_TIER = "merge.segments_per_tier";
+		public static final String MERGE_MAX_MERGED_SEGMENT_SIZE = "merge.max_merged_segment_size";
+		public static final String MERGE_DELETES_PCT_ALLOWED = "merge.deletes_pct_allowed";
+		public static final String MERGE_NO_CFS_RATIO = "merge.no_cfs_ratio";
+		public static final String MERGE_SCHEDULER_MAX_THREAD_COUNT = "merge.scheduler.max_thread_count";
+		public static final String MERGE_SCHEDULER_MAX_MERGE_COUNT = "merge.scheduler.max_merge_count";
+		public static final String MERGE_SCHEDULER_AUTO_IO_THROTTLE = "merge.scheduler.auto_io_throttle";
+	}
+
+	/**
+	 * Configuration property keys for index readers, without the {@link #READER_PREFIX prefix}.
+	 */
+	public static final class ReaderRadicals {
+
+		private ReaderRadicals() {
+		}
+
+		public static final String REFRESH_STRATEGY = "refresh_strategy";
+		public static final String REFRESH_INTERVAL = "refresh_interval";
+	}
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -80,5 +323,17 @@ private Defaults() {
 		}
 
 		public static final String SHARDING_STRATEGY = "none";
+
+		public static final IOStrategyName IO_STRATEGY = IOStrategyName.DIRECTORY;
+
+		public static final int IO_COMMIT_INTERVAL = 0;
+
+		public static final int IO_COMMIT_MAX_OPERATIONS = 1000;
+
+		public static final boolean IO_MERGE_SCHEDULER_AUTO_IO_THROTTLE = true;
+
+		public static final ReaderRefreshStrategyName READER_REFRESH_STRATEGY = ReaderRefreshStrategyName.ON_COMMIT;
+
+		public static final int READER_REFRESH_INTERVAL = 1000;
 	}
 }
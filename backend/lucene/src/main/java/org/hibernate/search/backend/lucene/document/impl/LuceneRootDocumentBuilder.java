@@ -11,10 +11,13 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.util.BytesRef;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
@@ -47,6 +50,9 @@ private List<Document> assembleDocuments(String indexName, MultiTenancyStrategy
 		document.add( new StringField( LuceneFields.typeFieldName(), LuceneFields.TYPE_MAIN_DOCUMENT, Store.YES ) );
 		document.add( new StringField( LuceneFields.indexFieldName(), indexName, Store.YES ) );
 		document.add( new StringField( LuceneFields.idFieldName(), id, Store.YES ) );
+		// doc values allow to extract document references without loading stored fields
+		document.add( new SortedDocValuesField( LuceneFields.indexFieldName(), new BytesRef( indexName ) ) );
+		document.add( new BinaryDocValuesField( LuceneFields.idFieldName(), new BytesRef( id ) ) );
 
 		// all the ancestors of a subdocument must be added after it
 		List<Document> documents = new ArrayList<>();
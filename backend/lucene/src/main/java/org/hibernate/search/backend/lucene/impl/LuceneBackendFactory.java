@@ -19,6 +19,7 @@
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryProviderInitializationContextImpl;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
@@ -38,6 +39,7 @@
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.util.Version;
 
 
@@ -62,6 +64,29 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<Integer> CONCURRENT_SEARCH_THREADS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.CONCURRENT_SEARCH_THREADS )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.CONCURRENT_SEARCH_THREADS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_MAX_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHE_MAX_SIZE )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> QUERY_CACHE_MAX_RAM_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_MAX_RAM_SIZE )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<BeanReference<? extends QueryCachingPolicy>> QUERY_CACHE_CACHING_POLICY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_CACHING_POLICY )
+					.asBeanReference( QueryCachingPolicy.class )
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHE_CACHING_POLICY )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -82,6 +107,8 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				name,
 				directoryProviderHolder,
 				buildContext.getThreadPoolProvider(),
+				CONCURRENT_SEARCH_THREADS.get( propertySource ),
+				createQueryCache( buildContext, propertySource ),
 				new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
 				multiTenancyStrategy,
@@ -120,6 +147,16 @@ private BeanHolder<? extends DirectoryProvider> getDirectoryProvider(EventContex
 		return initializationContext.createDirectoryProvider();
 	}
 
+	private LuceneQueryCache createQueryCache(BackendBuildContext buildContext,
+			ConfigurationPropertySource propertySource) {
+		long maxRamBytesUsed = QUERY_CACHE_MAX_RAM_SIZE.get( propertySource )
+				.map( megabytes -> megabytes * 1024L * 1024L )
+				.orElseGet( LuceneQueryCache::defaultMaxRamBytesUsed );
+		BeanHolder<? extends QueryCachingPolicy> cachingPolicyHolder =
+				QUERY_CACHE_CACHING_POLICY.getAndTransform( propertySource, buildContext.getBeanResolver()::resolve );
+		return new LuceneQueryCache( QUERY_CACHE_MAX_SIZE.get( propertySource ), maxRamBytesUsed, cachingPolicyHolder );
+	}
+
 	private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource propertySource) {
 		MultiTenancyStrategyName multiTenancyStrategyName = MULTI_TENANCY_STRATEGY.get( propertySource );
 
@@ -16,10 +16,13 @@
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.LuceneQueryCacheStatistics;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
@@ -46,6 +49,7 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
+	private final LuceneQueryCache queryCache;
 	private final LuceneReadWorkOrchestratorImplementor readOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
@@ -55,6 +59,8 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 	LuceneBackendImpl(String name,
 			BeanHolder<? extends DirectoryProvider> directoryProviderHolder,
 			ThreadPoolProvider threadPoolProvider,
+			int concurrentSearchThreads,
+			LuceneQueryCache queryCache,
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
@@ -64,8 +70,10 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
+		this.queryCache = queryCache;
 		this.readOrchestrator = new LuceneReadWorkOrchestratorImpl(
-				"Lucene read work orchestrator for backend " + name
+				"Lucene read work orchestrator for backend " + name,
+				threadPoolProvider, concurrentSearchThreads, queryCache
 		);
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
@@ -76,7 +84,8 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 				analysisDefinitionRegistry,
 				threadPoolProvider,
 				failureHandler,
-				readOrchestrator
+				readOrchestrator,
+				new SortedSetDocValuesReaderStateCache()
 		);
 	}
 
@@ -105,6 +114,7 @@ public CompletableFuture<?> preStop() {
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneReadWorkOrchestratorImplementor::stop, readOrchestrator );
+			closer.push( LuceneQueryCache::close, queryCache );
 			closer.push( holder -> holder.get().close(), directoryProviderHolder );
 			closer.push( BeanHolder::close, directoryProviderHolder );
 		}
@@ -121,6 +131,11 @@ public <T> T unwrap(Class<T> clazz) {
 		);
 	}
 
+	@Override
+	public LuceneQueryCacheStatistics getQueryCacheStatistics() {
+		return queryCache;
+	}
+
 	@Override
 	public Backend toAPI() {
 		return this;
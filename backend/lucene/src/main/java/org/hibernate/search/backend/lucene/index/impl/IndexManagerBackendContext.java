@@ -9,6 +9,7 @@
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -16,7 +17,11 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
+import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.reader.ReaderRefreshStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchingWriteWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
@@ -42,6 +47,8 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -54,6 +61,36 @@
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
 
+	private static final ConfigurationProperty<IOStrategyName> IO_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_STRATEGY )
+					.as( IOStrategyName.class, IOStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> IO_COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> IO_COMMIT_MAX_OPERATIONS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_MAX_OPERATIONS )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_MAX_OPERATIONS )
+					.build();
+
+	private static final ConfigurationProperty<ReaderRefreshStrategyName> READER_REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.READER_REFRESH_STRATEGY )
+					.as( ReaderRefreshStrategyName.class, ReaderRefreshStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.READER_REFRESH_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> READER_REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.READER_REFRESH_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.READER_REFRESH_INTERVAL )
+					.build();
+
 	private final EventContext eventContext;
 
 	private final DirectoryProvider directoryProvider;
@@ -63,6 +100,7 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
 	private final LuceneReadWorkOrchestrator readOrchestrator;
+	private final SortedSetDocValuesReaderStateCache docValuesReaderStateCache;
 
 	public IndexManagerBackendContext(EventContext eventContext,
 			DirectoryProvider directoryProvider,
@@ -71,7 +109,8 @@ public IndexManagerBackendContext(EventContext eventContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler,
-			LuceneReadWorkOrchestrator readOrchestrator) {
+			LuceneReadWorkOrchestrator readOrchestrator,
+			SortedSetDocValuesReaderStateCache docValuesReaderStateCache) {
 		this.eventContext = eventContext;
 		this.directoryProvider = directoryProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
@@ -80,6 +119,7 @@ public IndexManagerBackendContext(EventContext eventContext,
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.docValuesReaderStateCache = docValuesReaderStateCache;
 	}
 
 	@Override
@@ -133,7 +173,7 @@ public IndexWorkspace createWorkspace(WorkExecutionIndexManagerContext indexMana
 	public LuceneSearchContext createSearchContext(BackendMappingContext mappingContext,
 			LuceneScopeModel scopeModel) {
 		return new LuceneSearchContext(
-				mappingContext, analysisDefinitionRegistry, multiTenancyStrategy, scopeModel
+				mappingContext, analysisDefinitionRegistry, multiTenancyStrategy, docValuesReaderStateCache, scopeModel
 		);
 	}
 
@@ -167,15 +207,17 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(String indexName, FacetsCo
 		return new LuceneIndexEntryFactory( multiTenancyStrategy, indexName, facetsConfig );
 	}
 
-	Shard createShard(LuceneIndexModel model, Optional<String> shardId) {
+	Shard createShard(LuceneIndexModel model, Optional<String> shardId,
+			ConfigurationPropertySource propertySource) {
 		LuceneWriteWorkOrchestratorImplementor writeOrchestrator = null;
 		IndexAccessor indexAccessor = null;
 
 		try {
+			IOStrategyName ioStrategy = IO_STRATEGY.get( propertySource );
 			indexAccessor = createIndexAccessor(
-					model.getIndexName(), shardId, model.getScopedAnalyzer()
+					model.getIndexName(), shardId, model.getScopedAnalyzer(), ioStrategy, propertySource
 			);
-			writeOrchestrator = createWriteOrchestrator( indexAccessor );
+			writeOrchestrator = createWriteOrchestrator( indexAccessor, ioStrategy, propertySource );
 
 			return new Shard( workFactory, indexAccessor, writeOrchestrator );
 		}
@@ -187,18 +229,24 @@ Shard createShard(LuceneIndexModel model, Optional<String> shardId) {
 		}
 	}
 
-	private IndexAccessor createIndexAccessor(String indexName, Optional<String> shardId, Analyzer analyzer) {
+	private IndexAccessor createIndexAccessor(String indexName, Optional<String> shardId, Analyzer analyzer,
+			IOStrategyName ioStrategy, ConfigurationPropertySource propertySource) {
 		DirectoryHolder directoryHolder;
 		DirectoryCreationContext context = new DirectoryCreationContextImpl(
 				shardId.isPresent() ? EventContexts.fromShardId( shardId.get() ) : null,
 				indexName,
 				shardId
 		);
+		EventContext indexEventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
+		IndexWriterSettings writerSettings = IndexWriterSettings.extract( propertySource, indexEventContext );
 		directoryHolder = directoryProvider.createDirectoryHolder( context );
 		try {
 			return new IndexAccessor(
-					indexName, EventContexts.fromIndexNameAndShardId( indexName, shardId ),
+					indexName, indexEventContext,
 					directoryHolder, analyzer,
+					writerSettings, ioStrategy,
+					READER_REFRESH_STRATEGY.get( propertySource ),
+					READER_REFRESH_INTERVAL.get( propertySource ),
 					threadPoolProvider.getThreadProvider(),
 					failureHandler
 			);
@@ -209,17 +257,24 @@ private IndexAccessor createIndexAccessor(String indexName, Optional<String> sha
 		}
 	}
 
-	private LuceneWriteWorkOrchestratorImplementor createWriteOrchestrator(IndexAccessor indexAccessor) {
+	private LuceneWriteWorkOrchestratorImplementor createWriteOrchestrator(IndexAccessor indexAccessor,
+			IOStrategyName ioStrategy, ConfigurationPropertySource propertySource) {
 		EventContext indexEventContext = indexAccessor.getIndexEventContext();
+		int commitInterval = IO_COMMIT_INTERVAL.get( propertySource );
 		return new LuceneBatchingWriteWorkOrchestrator(
 				"Lucene write work orchestrator for " + indexEventContext.render(),
 				new LuceneWriteWorkProcessor(
 						indexAccessor.getIndexName(),
 						indexEventContext,
 						indexAccessor.getIndexWriterDelegator(),
+						indexAccessor.getIndexReaderProvider(),
+						ioStrategy,
+						commitInterval,
+						IO_COMMIT_MAX_OPERATIONS.get( propertySource ),
 						failureHandler
 				),
 				threadPoolProvider,
+				commitInterval,
 				failureHandler
 		);
 	}
@@ -66,7 +66,7 @@ void stop() throws IOException {
 	}
 
 	IndexReaderHolder openReader() throws IOException {
-		return IndexReaderHolder.of( indexAccessor.openDirectoryIndexReader() );
+		return indexAccessor.getIndexReaderProvider().getOrCreate();
 	}
 
 	LuceneWriteWorkOrchestrator getWriteOrchestrator() {
@@ -110,7 +110,9 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 
 	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
 		try {
-			Shard shard = backendContext.createShard( model, shardId );
+			Shard shard = backendContext.createShard(
+					model, shardId, startContext.getConfigurationPropertySource()
+			);
 			shardCollector.put( shardId.orElse( null ), shard );
 		}
 		catch (RuntimeException e) {
@@ -14,6 +14,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.Version;
@@ -35,6 +36,7 @@
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.search.util.common.logging.impl.MessageConstants;
 import org.hibernate.search.util.common.logging.impl.ClassFormatter;
 import org.hibernate.search.util.common.logging.impl.EventContextFormatter;
@@ -595,4 +597,20 @@ SearchException conflictingObjectFieldModel(String absoluteFieldPath,
 			value = "Multiple conflicting models for field '%1$s': '%2$s' vs. '%3$s'.")
 	SearchException conflictingFieldModel(String absoluteFieldPath,
 			LuceneIndexSchemaObjectNode objectNode, LuceneIndexSchemaFieldNode fieldNode, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 107,
+			value = "Invalid reader refresh strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidReaderRefreshStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 108,
+			value = "Invalid I/O strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIOStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 109,
+			value = "Invalid index writer settings: %1$s")
+	SearchException invalidIndexWriterSettings(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 110,
+			value = "Query exceeded the timeout of %1$s %2$s: '%3$s'.")
+	SearchTimeoutException timedOut(long timeout, TimeUnit timeUnit, Query luceneQuery, @Cause Exception cause);
 }
@@ -0,0 +1,95 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+
+/**
+ * A {@link SortedSetDocValuesReaderState} for a given top-level reader,
+ * relying on {@link SortedSetDocValuesReaderStateData data} shared with other top-level readers
+ * wrapping the same index readers.
+ */
+final class CachedSortedSetDocValuesReaderState extends SortedSetDocValuesReaderState {
+
+	private final IndexReader reader;
+	private final String field;
+	private final SortedSetDocValuesReaderStateData data;
+
+	CachedSortedSetDocValuesReaderState(IndexReader reader, String field, SortedSetDocValuesReaderStateData data) {
+		this.reader = reader;
+		this.field = field;
+		this.data = data;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[field=" + field + ", reader=" + reader + "]";
+	}
+
+	@Override
+	public SortedSetDocValues getDocValues() throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		int size = leaves.size();
+		if ( data.ordinalMap == null ) {
+			// Single segment: segment ordinals are global ordinals
+			return DocValues.getSortedSet( leaves.get( 0 ).reader(), field );
+		}
+
+		// Same as MultiDocValues.getSortedSetValues, but without rebuilding the ordinal map
+		SortedSetDocValues[] values = new SortedSetDocValues[size];
+		int[] starts = new int[size + 1];
+		long totalCost = 0;
+		for ( int i = 0; i < size; i++ ) {
+			LeafReaderContext context = leaves.get( i );
+			SortedSetDocValues leafValues = DocValues.getSortedSet( context.reader(), field );
+			values[i] = leafValues;
+			starts[i] = context.docBase;
+			totalCost += leafValues.cost();
+		}
+		starts[size] = reader.maxDoc();
+		return new MultiDocValues.MultiSortedSetDocValues( values, starts, data.ordinalMap, totalCost );
+	}
+
+	@Override
+	public String getField() {
+		return field;
+	}
+
+	@Override
+	public OrdRange getOrdRange(String dim) {
+		return data.prefixToOrdRange.get( dim );
+	}
+
+	@Override
+	public Map<String, OrdRange> getPrefixToOrdRange() {
+		return data.prefixToOrdRange;
+	}
+
+	@Override
+	public IndexReader getReader() {
+		return reader;
+	}
+
+	@Override
+	public int getSize() {
+		return data.valueCount;
+	}
+
+	@Override
+	public long ramBytesUsed() {
+		return data.ramBytesUsed();
+	}
+}
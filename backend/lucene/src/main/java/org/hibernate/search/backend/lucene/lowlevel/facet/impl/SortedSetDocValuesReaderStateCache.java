@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+
+/**
+ * A cache for the data backing {@link SortedSetDocValuesReaderState}s,
+ * so that global ordinals are not rebuilt for every single query.
+ * <p>
+ * Cached data is shared by all queries running against the same index readers,
+ * and evicted as soon as one of these index readers is closed,
+ * e.g. after a refresh when it is no longer used by any query.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class SortedSetDocValuesReaderStateCache {
+
+	private final ConcurrentMap<Key, SortedSetDocValuesReaderStateData> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * @param reader The top-level index reader of the query.
+	 * @param field The name of the sorted set doc values field holding facets.
+	 * @return A state for the given reader and field.
+	 * @throws IOException If reading from the index fails.
+	 * @throws IllegalArgumentException If the field was not indexed with sorted set doc values.
+	 */
+	public SortedSetDocValuesReaderState get(IndexReader reader, String field) throws IOException {
+		List<IndexReader.CacheHelper> cacheHelpers = getCacheHelpers( reader );
+		if ( cacheHelpers == null ) {
+			// Some readers cannot be cached on: just build the state for this query
+			return new DefaultSortedSetDocValuesReaderState( reader, field );
+		}
+
+		Key key = new Key( cacheHelpers, field );
+		SortedSetDocValuesReaderStateData data;
+		try {
+			data = cache.computeIfAbsent( key, ignored -> build( reader, field, cacheHelpers ) );
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		return new CachedSortedSetDocValuesReaderState( reader, field, data );
+	}
+
+	int size() {
+		return cache.size();
+	}
+
+	private SortedSetDocValuesReaderStateData build(IndexReader reader, String field,
+			List<IndexReader.CacheHelper> cacheHelpers) {
+		SortedSetDocValuesReaderStateData data;
+		try {
+			data = SortedSetDocValuesReaderStateData.build( reader, field );
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException( e );
+		}
+		for ( IndexReader.CacheHelper cacheHelper : cacheHelpers ) {
+			cacheHelper.addClosedListener( this::evict );
+		}
+		return data;
+	}
+
+	private void evict(IndexReader.CacheKey closedReaderKey) {
+		cache.keySet().removeIf( key -> key.readerKeys.contains( closedReaderKey ) );
+	}
+
+	/**
+	 * @return The cache helpers of the given top-level reader if it can be cached on,
+	 * otherwise the cache helpers of the readers it wraps (typically one directory reader per index),
+	 * or {@code null} if one of them cannot be cached on.
+	 */
+	private static List<IndexReader.CacheHelper> getCacheHelpers(IndexReader reader) {
+		IndexReader.CacheHelper topCacheHelper = reader.getReaderCacheHelper();
+		if ( topCacheHelper != null ) {
+			return Collections.singletonList( topCacheHelper );
+		}
+		List<IndexReaderContext> children = reader.getContext().children();
+		if ( children == null ) {
+			return null;
+		}
+		List<IndexReader.CacheHelper> cacheHelpers = new ArrayList<>( children.size() );
+		for ( IndexReaderContext child : children ) {
+			IndexReader.CacheHelper cacheHelper = child.reader().getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				return null;
+			}
+			cacheHelpers.add( cacheHelper );
+		}
+		return cacheHelpers;
+	}
+
+	private static final class Key {
+		private final List<IndexReader.CacheKey> readerKeys;
+		private final String field;
+
+		private Key(List<IndexReader.CacheHelper> cacheHelpers, String field) {
+			this.readerKeys = new ArrayList<>( cacheHelpers.size() );
+			for ( IndexReader.CacheHelper cacheHelper : cacheHelpers ) {
+				readerKeys.add( cacheHelper.getKey() );
+			}
+			this.field = field;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return readerKeys.equals( other.readerKeys ) && field.equals( other.field );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( readerKeys, field );
+		}
+	}
+}
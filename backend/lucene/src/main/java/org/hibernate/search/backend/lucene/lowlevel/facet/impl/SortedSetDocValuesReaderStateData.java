@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState.OrdRange;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * The data backing a {@link CachedSortedSetDocValuesReaderState},
+ * which only depends on the index segments and can thus be shared between top-level readers.
+ * <p>
+ * Mostly copied from {@link org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState}.
+ */
+final class SortedSetDocValuesReaderStateData {
+
+	static SortedSetDocValuesReaderStateData build(IndexReader reader, String field) throws IOException {
+		SortedSetDocValues docValues = MultiDocValues.getSortedSetValues( reader, field );
+		if ( docValues == null ) {
+			throw new IllegalArgumentException( "field \"" + field + "\" was not indexed with SortedSetDocValues" );
+		}
+		if ( docValues.getValueCount() > Integer.MAX_VALUE ) {
+			throw new IllegalArgumentException( "can only handle valueCount < Integer.MAX_VALUE; got "
+					+ docValues.getValueCount() );
+		}
+		int valueCount = (int) docValues.getValueCount();
+
+		// Only set when there are multiple segments
+		OrdinalMap ordinalMap = docValues instanceof MultiDocValues.MultiSortedSetDocValues
+				? ( (MultiDocValues.MultiSortedSetDocValues) docValues ).mapping
+				: null;
+
+		// Ordinals are sorted, and each term is prefixed with its dimension:
+		// terms of a given dimension are thus contiguous.
+		Map<String, OrdRange> prefixToOrdRange = new HashMap<>();
+		String lastDim = null;
+		int startOrd = -1;
+		for ( int ord = 0; ord < valueCount; ord++ ) {
+			BytesRef term = docValues.lookupOrd( ord );
+			String[] components = FacetsConfig.stringToPath( term.utf8ToString() );
+			if ( components.length != 2 ) {
+				throw new IllegalArgumentException( "this class can only handle 2 level hierarchy (dim/value); got: "
+						+ term.utf8ToString() );
+			}
+			if ( !components[0].equals( lastDim ) ) {
+				if ( lastDim != null ) {
+					prefixToOrdRange.put( lastDim, new OrdRange( startOrd, ord - 1 ) );
+				}
+				startOrd = ord;
+				lastDim = components[0];
+			}
+		}
+		if ( lastDim != null ) {
+			prefixToOrdRange.put( lastDim, new OrdRange( startOrd, valueCount - 1 ) );
+		}
+
+		return new SortedSetDocValuesReaderStateData( valueCount, ordinalMap,
+				Collections.unmodifiableMap( prefixToOrdRange ) );
+	}
+
+	final int valueCount;
+	final OrdinalMap ordinalMap;
+	final Map<String, OrdRange> prefixToOrdRange;
+
+	private SortedSetDocValuesReaderStateData(int valueCount, OrdinalMap ordinalMap,
+			Map<String, OrdRange> prefixToOrdRange) {
+		this.valueCount = valueCount;
+		this.ordinalMap = ordinalMap;
+		this.prefixToOrdRange = prefixToOrdRange;
+	}
+
+	long ramBytesUsed() {
+		return ordinalMap == null ? 0L : ordinalMap.ramBytesUsed();
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.index;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum IOStrategyName {
+
+	/**
+	 * Index readers are opened from the directory and only see committed changes:
+	 * making changes visible to searches requires a commit.
+	 */
+	DIRECTORY( "directory" ),
+	/**
+	 * Index readers are opened from the index writer and see uncommitted changes:
+	 * making changes visible to searches does not require a commit.
+	 */
+	NEAR_REAL_TIME( "near-real-time" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IOStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				IOStrategyName.values(),
+				IOStrategyName::getExternalRepresentation,
+				log::invalidIOStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IOStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
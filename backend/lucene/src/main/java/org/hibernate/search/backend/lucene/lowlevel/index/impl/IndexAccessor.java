@@ -9,15 +9,20 @@
 import java.io.IOException;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.ReaderRefreshStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryIndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
-import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.store.Directory;
 
@@ -29,9 +34,12 @@ public class IndexAccessor implements AutoCloseable {
 	private final EventContext indexEventContext;
 	private final DirectoryHolder directoryHolder;
 	private final IndexWriterDelegatorImpl indexWriterDelegator;
+	private final IndexReaderProvider indexReaderProvider;
 
 	public IndexAccessor(String indexName, EventContext indexEventContext,
 			DirectoryHolder directoryHolder, Analyzer analyzer,
+			IndexWriterSettings writerSettings, IOStrategyName ioStrategy,
+			ReaderRefreshStrategyName readerRefreshStrategy, int readerRefreshIntervalMs,
 			ThreadProvider threadProvider,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
@@ -39,8 +47,18 @@ public IndexAccessor(String indexName, EventContext indexEventContext,
 		this.directoryHolder = directoryHolder;
 		this.indexWriterDelegator = new IndexWriterDelegatorImpl(
 				indexName, indexEventContext,
-				directoryHolder, analyzer, threadProvider, failureHandler
+				directoryHolder, analyzer, writerSettings, threadProvider, failureHandler
 		);
+		if ( IOStrategyName.NEAR_REAL_TIME.equals( ioStrategy ) ) {
+			this.indexReaderProvider = new NearRealTimeIndexReaderProvider(
+					indexWriterDelegator, readerRefreshStrategy, readerRefreshIntervalMs
+			);
+		}
+		else {
+			this.indexReaderProvider = new DirectoryIndexReaderProvider(
+					directoryHolder, readerRefreshStrategy, readerRefreshIntervalMs
+			);
+		}
 	}
 
 	public String getIndexName() {
@@ -58,6 +76,7 @@ public void start() throws IOException {
 	@Override
 	public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( IndexReaderProvider::clear, indexReaderProvider );
 			closer.push( IndexWriterDelegatorImpl::close, indexWriterDelegator );
 			closer.push( DirectoryHolder::close, directoryHolder );
 		}
@@ -67,31 +86,15 @@ public IndexWriterDelegator getIndexWriterDelegator() {
 		return indexWriterDelegator;
 	}
 
-	/**
-	 * Opens an IndexReader having visibility on uncommitted writes from
-	 * the IndexWriter, if any writer is open, or null if no IndexWriter is open.
-	 * @param applyDeletes Applying deletes is expensive, say no if you can deal with stale hits during queries
-	 * @return a new NRT IndexReader if an IndexWriter is available, or <code>null</code> otherwise
-	 */
-	public DirectoryReader openNRTIndexReader(boolean applyDeletes) throws IOException {
-		final IndexWriter indexWriter = indexWriterDelegator.getIndexWriterOrNull();
-		if ( indexWriter != null ) {
-			// TODO HSEARCH-3117 should parameter writeAllDeletes take the same value as applyDeletes?
-			return DirectoryReader.open( indexWriter, applyDeletes, applyDeletes );
-		}
-		else {
-			return null;
-		}
-	}
-
-	/**
-	 * Opens an IndexReader from the Directory (not using the IndexWriter)
-	 */
-	public DirectoryReader openDirectoryIndexReader() throws IOException {
-		return DirectoryReader.open( directoryHolder.get() );
+	public IndexReaderProvider getIndexReaderProvider() {
+		return indexReaderProvider;
 	}
 
 	public Directory getDirectoryForTests() {
 		return directoryHolder.get();
 	}
+
+	public IndexWriter getIndexWriterForTests() throws IOException {
+		return indexWriterDelegator.getOrCreateIndexWriter();
+	}
 }
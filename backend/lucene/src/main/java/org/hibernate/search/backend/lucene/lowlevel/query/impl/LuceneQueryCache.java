@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import org.hibernate.search.backend.lucene.LuceneQueryCacheStatistics;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+
+/**
+ * A query cache shared by all the index searchers of a backend,
+ * so that it can be sized and observed independently of Lucene's static defaults.
+ * <p>
+ * Cache entries are attached to index segments, and evicted as soon as the segment is closed,
+ * so sharing the cache between indexes, or between successive readers of the same index, is safe.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class LuceneQueryCache extends LRUQueryCache implements LuceneQueryCacheStatistics, AutoCloseable {
+
+	/**
+	 * @return The maximum amount of memory used by a query cache by default, in bytes.
+	 * Same as Lucene's default query cache: 32MB, or 5% of the maximum heap size if lower.
+	 */
+	public static long defaultMaxRamBytesUsed() {
+		return Math.min( 1L << 25, Runtime.getRuntime().maxMemory() / 20 );
+	}
+
+	private final boolean enabled;
+	private final BeanHolder<? extends QueryCachingPolicy> cachingPolicyHolder;
+
+	/**
+	 * @param maxSize The maximum number of cached queries; {@code 0} to disable the cache.
+	 * @param maxRamBytesUsed The maximum amount of memory used by the cache, in bytes.
+	 * @param cachingPolicyHolder A holder for the policy deciding which queries should be cached.
+	 */
+	public LuceneQueryCache(int maxSize, long maxRamBytesUsed,
+			BeanHolder<? extends QueryCachingPolicy> cachingPolicyHolder) {
+		super( maxSize, maxRamBytesUsed );
+		this.enabled = maxSize > 0;
+		this.cachingPolicyHolder = cachingPolicyHolder;
+	}
+
+	@Override
+	public void close() {
+		clear();
+		cachingPolicyHolder.close();
+	}
+
+	/**
+	 * @param indexSearcher An index searcher that should use this cache.
+	 */
+	public void applyTo(IndexSearcher indexSearcher) {
+		if ( enabled ) {
+			indexSearcher.setQueryCache( this );
+			indexSearcher.setQueryCachingPolicy( cachingPolicyHolder.get() );
+		}
+		else {
+			// Do not fall back to Lucene's static, default cache
+			indexSearcher.setQueryCache( null );
+		}
+	}
+
+	@Override
+	public long getRamBytesUsed() {
+		return ramBytesUsed();
+	}
+}
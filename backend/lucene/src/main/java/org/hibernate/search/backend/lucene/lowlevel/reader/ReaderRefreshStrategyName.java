@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum ReaderRefreshStrategyName {
+
+	/**
+	 * Refresh the shared index reader on the first read following a commit.
+	 */
+	ON_COMMIT( "on-commit" ),
+	/**
+	 * Refresh the shared index reader on the first read following a commit,
+	 * but no more often than once per refresh interval,
+	 * unless a refresh was explicitly requested.
+	 */
+	PERIODIC( "periodic" ),
+	/**
+	 * Only refresh the shared index reader when a refresh was explicitly requested,
+	 * e.g. through {@link org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy#FORCE}.
+	 */
+	ON_DEMAND( "on-demand" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ReaderRefreshStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				ReaderRefreshStrategyName.values(),
+				ReaderRefreshStrategyName::getExternalRepresentation,
+				log::invalidReaderRefreshStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ReaderRefreshStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
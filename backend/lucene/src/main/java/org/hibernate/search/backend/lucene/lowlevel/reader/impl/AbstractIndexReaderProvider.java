@@ -0,0 +1,182 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.ReaderRefreshStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderHolder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+
+/**
+ * An {@link IndexReaderProvider} sharing a single {@link DirectoryReader} between searches,
+ * and refreshing it incrementally after changes were applied to the index.
+ * <p>
+ * Readers are reference-counted: a reader replaced by a refreshed one
+ * is only closed when the last holder using it gets closed.
+ * <p>
+ * Similar to Search 5's {@code org.hibernate.search.indexes.impl.SharingBufferReaderProvider}
+ * and {@code org.hibernate.search.indexes.impl.PeriodicRefreshingReaderProvider}.
+ */
+abstract class AbstractIndexReaderProvider implements IndexReaderProvider {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ReaderRefreshStrategyName refreshStrategy;
+	private final long refreshIntervalNanos;
+
+	/**
+	 * Protects from concurrent opening or refreshing of the current reader.
+	 */
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	/**
+	 * Incremented each time the index changes.
+	 */
+	private final AtomicLong changeGeneration = new AtomicLong( 0L );
+
+	/**
+	 * The change generation at which a refresh was last explicitly requested.
+	 */
+	private volatile long refreshRequestedGeneration = 0L;
+
+	/**
+	 * The current reader, or null when not open yet; guarded by refreshLock for writes.
+	 */
+	private volatile DirectoryReader currentReader;
+	/**
+	 * The change generation the current reader reflects; guarded by refreshLock for writes.
+	 */
+	private volatile long currentReaderGeneration;
+	/**
+	 * The time of the last refresh, as returned by {@link System#nanoTime()}; guarded by refreshLock for writes.
+	 */
+	private volatile long currentReaderRefreshNanoTime;
+
+	AbstractIndexReaderProvider(ReaderRefreshStrategyName refreshStrategy, int refreshIntervalMs) {
+		this.refreshStrategy = refreshStrategy;
+		this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos( refreshIntervalMs );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[refreshStrategy=" + refreshStrategy
+				+ ", currentReader=" + currentReader + "]";
+	}
+
+	@Override
+	public void clear() throws IOException {
+		refreshLock.lock();
+		try {
+			DirectoryReader toClose = currentReader;
+			currentReader = null;
+			if ( toClose != null ) {
+				// Release the reference held by this provider; holders may still hold their own.
+				toClose.decRef();
+			}
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	@Override
+	public void setOutdated(boolean refreshRequested) {
+		long generation = changeGeneration.incrementAndGet();
+		if ( refreshRequested ) {
+			refreshRequestedGeneration = generation;
+		}
+	}
+
+	@Override
+	public IndexReaderHolder getOrCreate() throws IOException {
+		// Fast path: the current reader is up-to-date and still open.
+		DirectoryReader reader = currentReader;
+		if ( reader != null && !needsRefresh() && reader.tryIncRef() ) {
+			return new RefCountedIndexReaderHolder( reader );
+		}
+
+		refreshLock.lock();
+		try {
+			reader = currentReader;
+			if ( reader == null ) {
+				long generation = changeGeneration.get();
+				reader = openReader();
+				updateCurrentReader( reader, generation );
+			}
+			else if ( needsRefresh() ) {
+				// Capture the generation before refreshing, so that changes happening concurrently are not missed.
+				long generation = changeGeneration.get();
+				DirectoryReader refreshedReader = openReaderIfChanged( reader );
+				if ( refreshedReader == null ) {
+					updateCurrentReader( reader, generation );
+				}
+				else {
+					log.tracef( "Refreshed index reader: %s", refreshedReader );
+					DirectoryReader outdatedReader = reader;
+					reader = refreshedReader;
+					updateCurrentReader( reader, generation );
+					// Release the reference held by this provider on the outdated reader.
+					outdatedReader.decRef();
+				}
+			}
+			reader.incRef();
+			return new RefCountedIndexReaderHolder( reader );
+		}
+		finally {
+			refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * @return A new reader.
+	 * @throws IOException If an error occurs while opening the reader.
+	 */
+	protected abstract DirectoryReader openReader() throws IOException;
+
+	/**
+	 * @param reader The current reader.
+	 * @return A new reader if changes were applied to the index since the current reader was opened,
+	 * or {@code null} otherwise.
+	 * @throws IOException If an error occurs while opening the reader.
+	 */
+	protected abstract DirectoryReader openReaderIfChanged(DirectoryReader reader) throws IOException;
+
+	private void updateCurrentReader(DirectoryReader reader, long generation) {
+		currentReader = reader;
+		currentReaderGeneration = generation;
+		currentReaderRefreshNanoTime = System.nanoTime();
+	}
+
+	private boolean needsRefresh() {
+		long readerGeneration = currentReaderGeneration;
+		if ( changeGeneration.get() == readerGeneration ) {
+			// No change since the last refresh
+			return false;
+		}
+		if ( refreshRequestedGeneration > readerGeneration ) {
+			// A refresh was explicitly requested since the last refresh
+			return true;
+		}
+		switch ( refreshStrategy ) {
+			case PERIODIC:
+				return System.nanoTime() - currentReaderRefreshNanoTime >= refreshIntervalNanos;
+			case ON_DEMAND:
+				return false;
+			case ON_COMMIT:
+			default:
+				return true;
+		}
+	}
+}
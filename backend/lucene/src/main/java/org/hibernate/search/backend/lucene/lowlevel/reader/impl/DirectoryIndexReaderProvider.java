@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.ReaderRefreshStrategyName;
+
+import org.apache.lucene.index.DirectoryReader;
+
+/**
+ * An {@link IndexReaderProvider} opening readers from the {@link org.apache.lucene.store.Directory},
+ * which only see changes once they have been committed to the index.
+ */
+public class DirectoryIndexReaderProvider extends AbstractIndexReaderProvider {
+
+	private final DirectoryHolder directoryHolder;
+
+	public DirectoryIndexReaderProvider(DirectoryHolder directoryHolder,
+			ReaderRefreshStrategyName refreshStrategy, int refreshIntervalMs) {
+		super( refreshStrategy, refreshIntervalMs );
+		this.directoryHolder = directoryHolder;
+	}
+
+	@Override
+	protected DirectoryReader openReader() throws IOException {
+		return DirectoryReader.open( directoryHolder.get() );
+	}
+
+	@Override
+	protected DirectoryReader openReaderIfChanged(DirectoryReader reader) throws IOException {
+		return DirectoryReader.openIfChanged( reader );
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderHolder;
+
+/**
+ * A provider of index readers for a single Lucene index,
+ * sharing readers between concurrent searches and refreshing them when necessary.
+ * <p>
+ * Implementations are thread-safe.
+ */
+public interface IndexReaderProvider {
+
+	/**
+	 * Closes the current reader, if any.
+	 * <p>
+	 * Readers that are still in use will only be closed when their holders are closed.
+	 *
+	 * @throws IOException If an error occurs while closing the reader.
+	 */
+	void clear() throws IOException;
+
+	/**
+	 * Marks the current reader as outdated, following a change in the index,
+	 * so that it gets refreshed according to the refresh strategy.
+	 *
+	 * @param refreshRequested {@code true} if the next call to {@link #getOrCreate()}
+	 * must return a refreshed reader regardless of the refresh strategy,
+	 * {@code false} otherwise.
+	 */
+	void setOutdated(boolean refreshRequested);
+
+	/**
+	 * @return A holder for the current reader, opening or refreshing it if necessary.
+	 * The holder must be closed after use, which may not close the reader itself.
+	 * @throws IOException If an error occurs while opening or refreshing the reader.
+	 */
+	IndexReaderHolder getOrCreate() throws IOException;
+
+}
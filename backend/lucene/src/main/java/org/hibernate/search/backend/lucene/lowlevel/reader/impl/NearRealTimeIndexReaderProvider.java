@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.ReaderRefreshStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * An {@link IndexReaderProvider} opening near-real-time readers from the {@link IndexWriter},
+ * which see changes as soon as they have been applied to the writer, even if they have not been committed yet.
+ * <p>
+ * Deletes are always applied when opening readers, so that searches never return stale documents.
+ */
+public class NearRealTimeIndexReaderProvider extends AbstractIndexReaderProvider {
+
+	private static final boolean APPLY_ALL_DELETES = true;
+	private static final boolean WRITE_ALL_DELETES = false;
+
+	private final IndexWriterDelegatorImpl indexWriterDelegator;
+
+	public NearRealTimeIndexReaderProvider(IndexWriterDelegatorImpl indexWriterDelegator,
+			ReaderRefreshStrategyName refreshStrategy, int refreshIntervalMs) {
+		super( refreshStrategy, refreshIntervalMs );
+		this.indexWriterDelegator = indexWriterDelegator;
+	}
+
+	@Override
+	protected DirectoryReader openReader() throws IOException {
+		return DirectoryReader.open( indexWriterDelegator.getOrCreateIndexWriter(), APPLY_ALL_DELETES, WRITE_ALL_DELETES );
+	}
+
+	@Override
+	protected DirectoryReader openReaderIfChanged(DirectoryReader reader) throws IOException {
+		/*
+		 * Passing the writer explicitly allows to open a reader from the new writer
+		 * if the writer the current reader was opened from has been closed in the meantime,
+		 * e.g. after a failure.
+		 */
+		return DirectoryReader.openIfChanged( reader, indexWriterDelegator.getOrCreateIndexWriter(), APPLY_ALL_DELETES );
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.spi.IndexReaderHolder;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * A holder for a shared reader, releasing one reference to the reader when closed.
+ * <p>
+ * The reference must have been acquired (through {@link IndexReader#incRef()}
+ * or {@link IndexReader#tryIncRef()}) before the holder is created.
+ */
+final class RefCountedIndexReaderHolder implements IndexReaderHolder {
+	private final IndexReader indexReader;
+
+	RefCountedIndexReaderHolder(IndexReader indexReader) {
+		this.indexReader = indexReader;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + indexReader + "]";
+	}
+
+	@Override
+	public IndexReader get() {
+		return indexReader;
+	}
+
+	@Override
+	public void close() throws IOException {
+		indexReader.decRef();
+	}
+}
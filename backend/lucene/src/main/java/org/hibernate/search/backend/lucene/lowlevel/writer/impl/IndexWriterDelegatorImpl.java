@@ -26,7 +26,6 @@
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.IndexableField;
-import org.apache.lucene.index.MergeScheduler;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
@@ -43,13 +42,12 @@ public class IndexWriterDelegatorImpl implements Closeable, IndexWriterDelegator
 	private final EventContext indexEventContext;
 	private final DirectoryHolder directoryHolder;
 	private final Analyzer analyzer;
+	private final IndexWriterSettings writerSettings;
 	private final ThreadProvider threadProvider;
 	private final FailureHandler failureHandler;
 
-	/* TODO HSEARCH-3117 re-allow to configure index writers
+	/* TODO HSEARCH-3117 re-allow to configure the similarity of index writers
 	private final Similarity similarity;
-	private final LuceneIndexingParameters luceneParameters;
-	private final ParameterSet indexParameters;
 	 */
 
 	/**
@@ -65,17 +63,17 @@ public class IndexWriterDelegatorImpl implements Closeable, IndexWriterDelegator
 	public IndexWriterDelegatorImpl(
 			String indexName, EventContext indexEventContext,
 			DirectoryHolder directoryHolder, Analyzer analyzer,
+			IndexWriterSettings writerSettings,
 			ThreadProvider threadProvider,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
 		this.indexEventContext = indexEventContext;
 		this.directoryHolder = directoryHolder;
 		this.analyzer = analyzer;
+		this.writerSettings = writerSettings;
 		this.threadProvider = threadProvider;
 		this.failureHandler = failureHandler;
-		/* TODO HSEARCH-3117 re-allow to configure index writers
-		this.luceneParameters = indexManager.getIndexingParameters();
-		this.indexParameters = luceneParameters.getIndexParameters();
+		/* TODO HSEARCH-3117 re-allow to configure the similarity of index writers
 		this.similarity = indexManager.getSimilarity();
 		 */
 	}
@@ -187,7 +185,7 @@ public IndexWriter getIndexWriterOrNull() {
 	 *
 	 * @return a new IndexWriter or one already open.
 	 */
-	private IndexWriter getOrCreateIndexWriter() throws IOException {
+	public IndexWriter getOrCreateIndexWriter() throws IOException {
 		IndexWriter indexWriter = writer.get();
 		if ( indexWriter == null ) {
 			writerInitializationLock.lock();
@@ -214,18 +212,17 @@ private IndexWriter createNewIndexWriter() throws IOException {
 
 	private IndexWriterConfig createWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
-		/* TODO HSEARCH-3117 re-allow to configure index writers
-		luceneParameters.applyToWriter( writerConfig );
+		writerSettings.applyTo( writerConfig );
+		/* TODO HSEARCH-3117 re-allow to configure the similarity of index writers
 		if ( similarity != null ) {
 			writerConfig.setSimilarity( similarity );
 		}
-		LogByteSizeMergePolicy newMergePolicy = indexParameters.getNewMergePolicy(); //TODO HSEARCH-3117 make it possible to configure a different policy?
-		writerConfig.setMergePolicy( newMergePolicy );
 		 */
-		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
+		HibernateSearchConcurrentMergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
 				indexName, indexEventContext.render(),
 				threadProvider, failureHandler
 		);
+		writerSettings.applyTo( mergeScheduler );
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
 		return writerConfig;
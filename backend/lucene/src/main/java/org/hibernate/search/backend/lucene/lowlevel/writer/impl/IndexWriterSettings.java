@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.TieredMergePolicy;
+
+/**
+ * The user-provided settings of index writers: buffering, merge policy and merge scheduler.
+ * <p>
+ * Settings that are not set explicitly keep Lucene's defaults.
+ */
+public final class IndexWriterSettings {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<Integer> RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MAX_BUFFERED_DOCS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_SEGMENTS_PER_TIER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SEGMENTS_PER_TIER )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MAX_MERGED_SEGMENT_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MAX_MERGED_SEGMENT_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_DELETES_PCT_ALLOWED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_DELETES_PCT_ALLOWED )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Double> MERGE_NO_CFS_RATIO =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_NO_CFS_RATIO )
+					.as( Double.class, Double::valueOf )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_SCHEDULER_MAX_THREAD_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_SCHEDULER_MAX_MERGE_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Boolean> MERGE_SCHEDULER_AUTO_IO_THROTTLE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_AUTO_IO_THROTTLE )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_SCHEDULER_AUTO_IO_THROTTLE )
+					.build();
+
+	/**
+	 * @param propertySource The index property source.
+	 * @param indexEventContext The event context of the index, for error reporting.
+	 * @return The index writer settings, validated.
+	 * @throws org.hibernate.search.util.common.SearchException If the settings are invalid.
+	 */
+	public static IndexWriterSettings extract(ConfigurationPropertySource propertySource,
+			EventContext indexEventContext) {
+		IndexWriterSettings settings = new IndexWriterSettings(
+				RAM_BUFFER_SIZE.get( propertySource ),
+				MAX_BUFFERED_DOCS.get( propertySource ),
+				MERGE_SEGMENTS_PER_TIER.get( propertySource ),
+				MERGE_MAX_MERGED_SEGMENT_SIZE.get( propertySource ),
+				MERGE_DELETES_PCT_ALLOWED.get( propertySource ),
+				MERGE_NO_CFS_RATIO.get( propertySource ),
+				MERGE_SCHEDULER_MAX_THREAD_COUNT.get( propertySource ),
+				MERGE_SCHEDULER_MAX_MERGE_COUNT.get( propertySource ),
+				MERGE_SCHEDULER_AUTO_IO_THROTTLE.get( propertySource )
+		);
+		try {
+			// Apply the settings to throwaway instances, so that Lucene validates them on startup
+			settings.applyTo( new IndexWriterConfig() );
+			settings.applyTo( new ConcurrentMergeScheduler() );
+		}
+		catch (IllegalArgumentException | IllegalStateException e) {
+			throw log.invalidIndexWriterSettings( e.getMessage(), indexEventContext, e );
+		}
+		return settings;
+	}
+
+	private final Optional<Integer> ramBufferSizeMb;
+	private final Optional<Integer> maxBufferedDocs;
+	private final Optional<Integer> mergeSegmentsPerTier;
+	private final Optional<Integer> mergeMaxMergedSegmentSizeMb;
+	private final Optional<Integer> mergeDeletesPctAllowed;
+	private final Optional<Double> mergeNoCfsRatio;
+	private final Optional<Integer> mergeSchedulerMaxThreadCount;
+	private final Optional<Integer> mergeSchedulerMaxMergeCount;
+	private final boolean mergeSchedulerAutoIOThrottle;
+
+	private IndexWriterSettings(Optional<Integer> ramBufferSizeMb, Optional<Integer> maxBufferedDocs,
+			Optional<Integer> mergeSegmentsPerTier, Optional<Integer> mergeMaxMergedSegmentSizeMb,
+			Optional<Integer> mergeDeletesPctAllowed, Optional<Double> mergeNoCfsRatio,
+			Optional<Integer> mergeSchedulerMaxThreadCount, Optional<Integer> mergeSchedulerMaxMergeCount,
+			boolean mergeSchedulerAutoIOThrottle) {
+		this.ramBufferSizeMb = ramBufferSizeMb;
+		this.maxBufferedDocs = maxBufferedDocs;
+		this.mergeSegmentsPerTier = mergeSegmentsPerTier;
+		this.mergeMaxMergedSegmentSizeMb = mergeMaxMergedSegmentSizeMb;
+		this.mergeDeletesPctAllowed = mergeDeletesPctAllowed;
+		this.mergeNoCfsRatio = mergeNoCfsRatio;
+		this.mergeSchedulerMaxThreadCount = mergeSchedulerMaxThreadCount;
+		this.mergeSchedulerMaxMergeCount = mergeSchedulerMaxMergeCount;
+		this.mergeSchedulerAutoIOThrottle = mergeSchedulerAutoIOThrottle;
+	}
+
+	void applyTo(IndexWriterConfig writerConfig) {
+		// If both are set, segments are flushed as soon as either limit is reached
+		ramBufferSizeMb.ifPresent( writerConfig::setRAMBufferSizeMB );
+		maxBufferedDocs.ifPresent( writerConfig::setMaxBufferedDocs );
+		writerConfig.setMergePolicy( createMergePolicy() );
+	}
+
+	void applyTo(ConcurrentMergeScheduler mergeScheduler) {
+		if ( mergeSchedulerMaxThreadCount.isPresent() || mergeSchedulerMaxMergeCount.isPresent() ) {
+			// Lucene requires both values to be set together
+			int maxThreadCount = mergeSchedulerMaxThreadCount.orElseGet(
+					() -> Math.min( mergeSchedulerMaxMergeCount.get(), defaultMaxThreadCount() )
+			);
+			// Same default as Lucene's auto-detection
+			int maxMergeCount = mergeSchedulerMaxMergeCount.orElse( maxThreadCount + 5 );
+			mergeScheduler.setMaxMergesAndThreads( maxMergeCount, maxThreadCount );
+		}
+		if ( mergeSchedulerAutoIOThrottle ) {
+			mergeScheduler.enableAutoIOThrottle();
+		}
+		else {
+			mergeScheduler.disableAutoIOThrottle();
+		}
+	}
+
+	private TieredMergePolicy createMergePolicy() {
+		TieredMergePolicy mergePolicy = new TieredMergePolicy();
+		mergeSegmentsPerTier.ifPresent( mergePolicy::setSegmentsPerTier );
+		mergeMaxMergedSegmentSizeMb.ifPresent( mergePolicy::setMaxMergedSegmentMB );
+		mergeDeletesPctAllowed.ifPresent( mergePolicy::setDeletesPctAllowed );
+		mergeNoCfsRatio.ifPresent( mergePolicy::setNoCFSRatio );
+		return mergePolicy;
+	}
+
+	private static int defaultMaxThreadCount() {
+		// Same default as Lucene's auto-detection for non-spinning disks
+		return Math.max( 1, Math.min( 4, Runtime.getRuntime().availableProcessors() / 2 ) );
+	}
+}
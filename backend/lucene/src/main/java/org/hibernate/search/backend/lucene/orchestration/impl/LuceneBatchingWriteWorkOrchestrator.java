@@ -7,11 +7,15 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.impl.Closer;
 
 /**
  * An orchestrator that batches together worksets sent from other threads.
@@ -20,6 +24,9 @@
  * in a separate thread.
  * This allows to process multiple worksets and only commit once,
  * potentially reducing the frequency of commits.
+ * <p>
+ * When a commit interval is set, commits are additionally delayed until the interval is elapsed,
+ * and a scheduler takes care of committing delayed changes once no more worksets are submitted.
  */
 public class LuceneBatchingWriteWorkOrchestrator
 		extends AbstractWorkOrchestrator<LuceneWriteWorkSet>
@@ -29,20 +36,30 @@
 	private static final int MAX_WORKSETS_PER_BATCH = 1000;
 
 	private final ThreadPoolProvider threadPoolProvider;
+	private final LuceneWriteWorkProcessor processor;
+	private final int commitIntervalMs;
+	private final FailureHandler failureHandler;
 	private final BatchingExecutor<LuceneWriteWorkSet, LuceneWriteWorkProcessor> executor;
 
+	private ScheduledExecutorService delayedCommitScheduler;
+
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
 	 * @param threadPoolProvider A provider of thread pools.
 	 * @param processor A processor to use in the background thread.
+	 * @param commitIntervalMs The interval between two checks for delayed commits, in milliseconds,
+	 * or {@code 0} if commits are never delayed.
 	 * @param failureHandler A failure handler to report failures of the background thread.
 	 */
 	public LuceneBatchingWriteWorkOrchestrator(
 			String name, LuceneWriteWorkProcessor processor,
-			ThreadPoolProvider threadPoolProvider,
+			ThreadPoolProvider threadPoolProvider, int commitIntervalMs,
 			FailureHandler failureHandler) {
 		super( name );
 		this.threadPoolProvider = threadPoolProvider;
+		this.processor = processor;
+		this.commitIntervalMs = commitIntervalMs;
+		this.failureHandler = failureHandler;
 		this.executor = new BatchingExecutor<>(
 				name,
 				processor,
@@ -62,6 +79,12 @@ public CompletableFuture<?> ensureIndexExists() {
 	@Override
 	protected void doStart() {
 		executor.start( threadPoolProvider );
+		if ( commitIntervalMs > 0 ) {
+			delayedCommitScheduler = threadPoolProvider.newScheduledThreadPool( getName() + " - delayed commits" );
+			delayedCommitScheduler.scheduleWithFixedDelay(
+					this::submitDelayedCommitIfNecessary, commitIntervalMs, commitIntervalMs, TimeUnit.MILLISECONDS
+			);
+		}
 	}
 
 	@Override
@@ -71,12 +94,45 @@ protected void doSubmit(LuceneWriteWorkSet workSet) throws InterruptedException
 
 	@Override
 	protected CompletableFuture<?> getCompletion() {
+		if ( delayedCommitScheduler != null ) {
+			/*
+			 * Make sure delayed changes are committed before we report completion, in particular before shutdown.
+			 * Submit the commit unconditionally: the batch currently being processed, if any, may delay its commit.
+			 */
+			submitDelayedCommit();
+		}
 		return executor.getCompletion();
 	}
 
 	@Override
 	protected void doStop() {
-		executor.stop();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( ScheduledExecutorService::shutdownNow, delayedCommitScheduler );
+			delayedCommitScheduler = null;
+			closer.push( BatchingExecutor::stop, executor );
+		}
+	}
+
+	private void submitDelayedCommitIfNecessary() {
+		if ( processor.hasDelayedCommit() ) {
+			submitDelayedCommit();
+		}
+	}
+
+	private void submitDelayedCommit() {
+		try {
+			// Bypass the orchestrator's submit() method: delayed commits must be executed even when pre-stopping.
+			executor.submit( new LuceneDelayedCommitWriteWorkSet() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException e) {
+			FailureContext.Builder contextBuilder = FailureContext.builder();
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( "Scheduling a delayed commit in orchestrator '" + getName() + "'" );
+			failureHandler.handle( contextBuilder.build() );
+		}
 	}
 
 }
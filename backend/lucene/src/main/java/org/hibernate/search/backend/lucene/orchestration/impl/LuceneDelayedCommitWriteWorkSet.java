@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+/**
+ * A special workset that commits changes whose commit was delayed
+ * because of the commit interval.
+ * <p>
+ * Failures are reported by the processor directly,
+ * along with the list of uncommitted operations.
+ */
+class LuceneDelayedCommitWriteWorkSet implements LuceneWriteWorkSet {
+
+	@Override
+	public void submitTo(LuceneWriteWorkProcessor processor) {
+		processor.commitDelayedChanges();
+	}
+
+	@Override
+	public void markAsFailed(Throwable t) {
+		// Nothing to do: failures to commit are reported by the processor.
+	}
+}
@@ -11,10 +11,24 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
 
+import org.apache.lucene.index.IndexReader;
 
 public interface LuceneReadWorkOrchestrator {
 
 	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, LuceneReadWork<T> work);
 
+	/**
+	 * Execute a work against an index reader that was opened beforehand, e.g. to scroll through results.
+	 * <p>
+	 * The caller remains responsible for closing the index reader.
+	 *
+	 * @param indexNames The names of the indexes targeted by the given reader.
+	 * @param indexReader The index reader to execute the work against.
+	 * @param work The work to execute.
+	 * @param <T> The type of the work's result.
+	 * @return The work's result.
+	 */
+	<T> T submit(Set<String> indexNames, IndexReader indexReader, LuceneReadWork<T> work);
+
 }
@@ -10,19 +10,24 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HolderMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 
 /**
  * An orchestrator that executes read works synchronously in the current thread.
@@ -30,6 +35,9 @@
  * For now this implementation is very simple,
  * but we might one day need to execute queries asynchronously,
  * in which case thing will get slightly more complex.
+ * <p>
+ * Optionally, the segments targeted by a single work can be searched concurrently
+ * using a dedicated thread pool: see {@link LuceneReadWorkExecutionContext#createIndexSearcher()}.
  */
 public class LuceneReadWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneReadWorkOrchestratorImpl.ReadTask<?>>
@@ -37,15 +45,33 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	public LuceneReadWorkOrchestratorImpl(String name) {
+	private final ThreadPoolProvider threadPoolProvider;
+	private final int concurrentSearchThreads;
+	private final LuceneQueryCache queryCache;
+
+	private ExecutorService searchExecutor;
+
+	/**
+	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
+	 * @param threadPoolProvider A provider of thread pools.
+	 * @param concurrentSearchThreads The number of threads to use to search segments concurrently,
+	 * or {@code 0} to search segments in the calling thread.
+	 * @param queryCache The query cache to attach to every index searcher.
+	 */
+	public LuceneReadWorkOrchestratorImpl(String name, ThreadPoolProvider threadPoolProvider,
+			int concurrentSearchThreads, LuceneQueryCache queryCache) {
 		super( name );
-		start(); // Nothing to start, just force the superclass to go to the right state.
+		this.threadPoolProvider = threadPoolProvider;
+		this.concurrentSearchThreads = concurrentSearchThreads;
+		this.queryCache = queryCache;
+		start(); // Works are executed in the calling thread, but we may need to start the concurrent search executor.
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, LuceneReadWork<T> work) {
-		ReadTask<T> task = new ReadTask<>( indexNames, indexManagerContexts, routingKeys, work );
+		HolderMultiReader indexReader = HolderMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+		ReadTask<T> task = new ReadTask<>( indexNames, indexReader, searchExecutor, queryCache, work );
 		Throwable throwable = null;
 		try {
 			submit( task );
@@ -69,9 +95,21 @@ public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContex
 		}
 	}
 
+	@Override
+	public <T> T submit(Set<String> indexNames, IndexReader indexReader, LuceneReadWork<T> work) {
+		// The reader is owned by the caller: do not close it
+		ReadTask<T> task = new ReadTask<>( indexNames, indexReader, searchExecutor, queryCache, work );
+		submit( task );
+		return task.getResult();
+	}
+
 	@Override
 	protected void doStart() {
-		// Nothing to do
+		if ( concurrentSearchThreads > 0 ) {
+			searchExecutor = threadPoolProvider.newFixedThreadPool(
+					concurrentSearchThreads, getName() + " - concurrent search"
+			);
+		}
 	}
 
 	@Override
@@ -87,20 +125,27 @@ protected CompletableFuture<?> getCompletion() {
 
 	@Override
 	protected void doStop() {
-		// Nothing to do
+		if ( searchExecutor != null ) {
+			searchExecutor.shutdownNow();
+			searchExecutor = null;
+		}
 	}
 
 	static class ReadTask<T> implements AutoCloseable, LuceneReadWorkExecutionContext {
 		private final Set<String> indexNames;
-		private final HolderMultiReader indexReader;
+		private final IndexReader indexReader;
+		private final Executor searchExecutor;
+		private final LuceneQueryCache queryCache;
 		private final LuceneReadWork<T> work;
 
 		private T result;
 
-		ReadTask(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, LuceneReadWork<T> work) {
+		ReadTask(Set<String> indexNames, IndexReader indexReader, Executor searchExecutor,
+				LuceneQueryCache queryCache, LuceneReadWork<T> work) {
 			this.indexNames = indexNames;
-			this.indexReader = HolderMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+			this.indexReader = indexReader;
+			this.searchExecutor = searchExecutor;
+			this.queryCache = queryCache;
 			this.work = work;
 		}
 
@@ -109,6 +154,14 @@ public IndexReader getIndexReader() {
 			return indexReader;
 		}
 
+		@Override
+		public IndexSearcher createIndexSearcher() {
+			// A null executor means segments will be searched sequentially in the calling thread
+			IndexSearcher indexSearcher = new IndexSearcher( indexReader, searchExecutor );
+			queryCache.applyTo( indexSearcher );
+			return indexSearcher;
+		}
+
 		@Override
 		public EventContext getEventContext() {
 			return EventContexts.fromIndexNames( indexNames );
@@ -11,8 +11,11 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
@@ -36,21 +39,36 @@ public class LuceneWriteWorkProcessor implements BatchingExecutor.WorkProcessor
 	private final String indexName;
 	private final EventContext indexEventContext;
 	private final IndexWriterDelegator indexWriterDelegator;
+	private final IndexReaderProvider indexReaderProvider;
+	private final boolean refreshRequiresCommit;
+	private final long commitIntervalNanos;
+	private final int commitMaxOperations;
 	private final LuceneWriteWorkExecutionContextImpl context;
 	private final FailureHandler failureHandler;
 
 	private List<LuceneWriteWork<?>> previousWorkSetsUncommittedWorks = new ArrayList<>();
+	private long lastCommitNanoTime;
+	private volatile boolean hasDelayedCommit = false;
 
 	private boolean workSetForcesCommit;
+	private boolean workSetForcesRefresh;
 	private List<LuceneWriteWork<?>> workSetUncommittedWorks = new ArrayList<>();
 	private boolean workSetHasFailure;
 
 	public LuceneWriteWorkProcessor(String indexName, EventContext indexEventContext,
 			IndexWriterDelegator indexWriterDelegator,
+			IndexReaderProvider indexReaderProvider, IOStrategyName ioStrategy,
+			int commitIntervalMs, int commitMaxOperations,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
 		this.indexEventContext = indexEventContext;
 		this.indexWriterDelegator = indexWriterDelegator;
+		this.indexReaderProvider = indexReaderProvider;
+		// Near-real-time readers see uncommitted changes
+		this.refreshRequiresCommit = !IOStrategyName.NEAR_REAL_TIME.equals( ioStrategy );
+		this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos( commitIntervalMs );
+		this.commitMaxOperations = commitMaxOperations;
+		this.lastCommitNanoTime = System.nanoTime();
 		this.context = new LuceneWriteWorkExecutionContextImpl( indexEventContext, indexWriterDelegator );
 		this.failureHandler = failureHandler;
 	}
@@ -62,28 +80,40 @@ public void beginBatch() {
 
 	@Override
 	public CompletableFuture<?> endBatch() {
-		if ( !previousWorkSetsUncommittedWorks.isEmpty() ) {
-			try {
-				commit();
-			}
-			catch (RuntimeException e) {
-				cleanUpAfterFailure( e, "Commit after a batch of index works" );
-				// The exception was reported to the failure handler, no need to propagate it.
-			}
-			finally {
-				// Only clear the lists after the commit succeeds or failures are reported.
-				previousWorkSetsUncommittedWorks.clear();
-			}
+		if ( !previousWorkSetsUncommittedWorks.isEmpty() && isCommitDue() ) {
+			commitPreviousWorkSets( "Commit after a batch of index works" );
 		}
+		// If we didn't commit, the scheduler will trigger a call to commitDelayedChanges() later.
+		hasDelayedCommit = !previousWorkSetsUncommittedWorks.isEmpty();
 		// Everything was already executed, so just return a completed future.
 		return CompletableFuture.completedFuture( null );
 	}
 
+	/**
+	 * @return {@code true} if some changes were not committed at the end of the last batch,
+	 * because the commit interval was not elapsed yet.
+	 * Thread-safe.
+	 */
+	public boolean hasDelayedCommit() {
+		return hasDelayedCommit;
+	}
+
+	/**
+	 * Commit the changes whose commit was delayed, if any,
+	 * regardless of the commit interval.
+	 */
+	void commitDelayedChanges() {
+		if ( !previousWorkSetsUncommittedWorks.isEmpty() ) {
+			commitPreviousWorkSets( "Delayed commit of index works" );
+		}
+		hasDelayedCommit = false;
+	}
+
 	public void beforeWorkSet(DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		workSetForcesRefresh = DocumentRefreshStrategy.FORCE.equals( refreshStrategy );
 		workSetForcesCommit = DocumentCommitStrategy.FORCE.equals( commitStrategy )
-				// We need to commit in order to make the changes visible
-				// TODO HSEARCH-3117 this may not be true with the NRT implementation from Search 5
-				|| DocumentRefreshStrategy.FORCE.equals( refreshStrategy );
+				// Unless readers are near-real-time, we need to commit in order to make the changes visible
+				|| workSetForcesRefresh && refreshRequiresCommit;
 		workSetUncommittedWorks.clear();
 		workSetHasFailure = false;
 	}
@@ -125,7 +155,7 @@ public <T> T submit(LuceneWriteWork<T> work) {
 	public void afterSuccessfulWorkSet() {
 		if ( workSetForcesCommit ) {
 			try {
-				commit();
+				commit( workSetForcesRefresh );
 			}
 			catch (RuntimeException e) {
 				cleanUpAfterFailure( e, "Commit after a set of index works" );
@@ -140,17 +170,46 @@ public void afterSuccessfulWorkSet() {
 		else {
 			previousWorkSetsUncommittedWorks.addAll( workSetUncommittedWorks );
 			workSetUncommittedWorks.clear();
+			if ( commitIntervalNanos != 0L && previousWorkSetsUncommittedWorks.size() >= commitMaxOperations ) {
+				// Too many uncommitted operations: don't wait for the commit interval to elapse
+				commitPreviousWorkSets( "Commit after reaching the maximum number of uncommitted index works" );
+			}
+			if ( workSetForcesRefresh ) {
+				// Near-real-time readers will see the changes as soon as they are refreshed: no need to commit
+				indexReaderProvider.setOutdated( true );
+			}
+		}
+	}
+
+	private boolean isCommitDue() {
+		return commitIntervalNanos == 0L
+				|| System.nanoTime() - lastCommitNanoTime >= commitIntervalNanos;
+	}
+
+	private void commitPreviousWorkSets(String operation) {
+		try {
+			commit( false );
+		}
+		catch (RuntimeException e) {
+			cleanUpAfterFailure( e, operation );
+			// The exception was reported to the failure handler, no need to propagate it.
+		}
+		finally {
+			// Only clear the lists after the commit succeeds or failures are reported.
+			previousWorkSetsUncommittedWorks.clear();
 		}
 	}
 
-	private void commit() {
+	private void commit(boolean refreshRequested) {
 		try {
-			// TODO HSEARCH-3117 restore the commit policy feature to allow scheduled commits?
 			indexWriterDelegator.commit();
 		}
 		catch (RuntimeException | IOException e) {
 			throw log.unableToCommitIndex( indexEventContext, e );
 		}
+		lastCommitNanoTime = System.nanoTime();
+		// The committed changes are now visible to new index readers
+		indexReaderProvider.setOutdated( refreshRequested );
 	}
 
 	private void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
@@ -164,6 +223,8 @@ private void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
 		catch (RuntimeException | IOException e) {
 			throwable.addSuppressed( log.unableToCleanUpAfterError( indexEventContext, e ) );
 		}
+		// Closing the index writer may have committed some changes
+		indexReaderProvider.setOutdated( false );
 
 		if ( previousWorkSetsUncommittedWorks.isEmpty() ) {
 			// The failure will be reported elsewhere with all the necessary context.
@@ -67,6 +67,15 @@ public Double getDistance(final int docId, LuceneCollectorExtractContext context
 		return null;
 	}
 
+	/**
+	 * @param other Another collector for the same field and center,
+	 * whose collected entries should be added to this collector.
+	 * Used to merge the results of collectors applied to different slices of the same index.
+	 */
+	public void addAll(DistanceCollector other) {
+		distances.orderedEntries.addAll( other.distances.orderedEntries );
+	}
+
 	@Override
 	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
 		return new DistanceLeafCollector( context );
@@ -20,14 +20,14 @@ public static void contributeCollectors(LuceneCollectorsBuilder luceneCollectorB
 	}
 
 	public static void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		builder.add( LuceneFields.indexFieldName() );
-		builder.add( LuceneFields.idFieldName() );
+		builder.addStringDocValues( LuceneFields.indexFieldName() );
+		builder.addStringDocValues( LuceneFields.idFieldName() );
 	}
 
 	public static DocumentReference extractDocumentReference(LuceneResult documentResult) {
 		return new LuceneDocumentReference(
-				documentResult.getStringValue( LuceneFields.indexFieldName() ),
-				documentResult.getStringValue( LuceneFields.idFieldName() )
+				(String) documentResult.getDocValue( LuceneFields.indexFieldName() ),
+				(String) documentResult.getDocValue( LuceneFields.idFieldName() )
 		);
 	}
 }
@@ -6,17 +6,38 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
 import org.apache.lucene.search.Collector;
 
 public interface LuceneCollectorFactory<C extends Collector> extends LuceneCollectorKey<C> {
 
 	C createCollector(int maxDocs);
 
+	/**
+	 * @param collectors Collectors created by this factory and applied to different slices of the same index,
+	 * in the order of slices.
+	 * @return A single collector holding all the data collected by the given collectors.
+	 */
+	C reduce(List<C> collectors) throws IOException;
+
 	default boolean applyToNestedDocuments() {
 		return false;
 	}
 
-	LuceneCollectorFactory<FacetsCollector> FACETS = maxDocs -> new FacetsCollector();
+	LuceneCollectorFactory<FacetsCollector> FACETS = new LuceneCollectorFactory<FacetsCollector>() {
+		@Override
+		public FacetsCollector createCollector(int maxDocs) {
+			return new FacetsCollector();
+		}
+
+		@Override
+		public FacetsCollector reduce(List<FacetsCollector> collectors) throws IOException {
+			return new FacetsCollectorManager().reduce( collectors );
+		}
+	};
 
 }
@@ -7,66 +7,184 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
 
+/**
+ * Collectors for a single search query.
+ * <p>
+ * When the index searcher has an executor, index slices are searched concurrently:
+ * each slice gets its own set of collectors, and the results are merged once all slices have been searched.
+ */
 public class LuceneCollectors {
 
-	private final TopDocsCollector<?> topDocsCollector;
+	private final Sort sort;
+	private final int maxDocs;
+	private final ScoreDoc after;
+	private final int totalHitCountThreshold;
 
-	private final TotalHitCountCollector totalHitCountCollector;
+	private final boolean collectTopDocs;
+	// False if hits are counted by the top docs collector
+	private final boolean countTotalHitsSeparately;
 
-	private final Collector compositeCollector;
-	private final Collection<Collector> collectorsForNestedDocuments;
-
-	private final Map<LuceneCollectorKey<?>, Collector> collectors;
+	private final Map<LuceneCollectorKey<?>, LuceneCollectorFactory<?>> collectorFactories;
 
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
+	private final boolean requireConstantScoreFilling;
 
 	private TopDocs topDocs = null;
+	private long totalHits = 0L;
+	private final Map<LuceneCollectorKey<?>, Collector> collectors = new LinkedHashMap<>();
+	private final List<Collector> collectorsForNestedDocuments = new ArrayList<>();
+	private boolean timedOut = false;
 
-	LuceneCollectors(TopDocsCollector<?> topDocsCollector, TotalHitCountCollector totalHitCountCollector,
-			Collector compositeCollector, Collection<Collector> collectorsForNestedDocuments,
-			Map<LuceneCollectorKey<?>, Collector> collectors,
-			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring) {
-		this.topDocsCollector = topDocsCollector;
-		this.totalHitCountCollector = totalHitCountCollector;
-		this.compositeCollector = compositeCollector;
-		this.collectorsForNestedDocuments = collectorsForNestedDocuments;
-		this.collectors = collectors;
+	LuceneCollectors(Sort sort, int maxDocs, ScoreDoc after, int totalHitCountThreshold,
+			boolean collectTopDocs, boolean countTotalHitsSeparately,
+			Map<LuceneCollectorKey<?>, LuceneCollectorFactory<?>> collectorFactories,
+			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
+			boolean requireConstantScoreFilling) {
+		this.sort = sort;
+		this.maxDocs = maxDocs;
+		this.after = after;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.collectTopDocs = collectTopDocs;
+		this.countTotalHitsSeparately = countTotalHitsSeparately;
+		this.collectorFactories = collectorFactories;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
+		this.requireConstantScoreFilling = requireConstantScoreFilling;
 	}
 
-	public void collect(IndexSearcher indexSearcher, Query luceneQuery, int offset, Integer limit) throws IOException {
-		indexSearcher.search( luceneQuery, compositeCollector );
+	public void collect(IndexSearcher indexSearcher, Query luceneQuery, int offset, Integer limit,
+			TimeoutManager timeoutManager) throws IOException {
+		List<CollectorSet> collectorSets;
+		if ( indexSearcher.getExecutor() == null || timeoutManager.hasTimeout() ) {
+			// Timeouts are implemented by throwing an exception from the collector,
+			// which would discard the results of all slices when searching concurrently:
+			// search sequentially so that partial results are preserved.
+			CollectorSet collectorSet = new CollectorSet();
+			collectorSets = Collections.singletonList( collectorSet );
+			try {
+				indexSearcher.search( luceneQuery, timeoutManager.decorateCollector( collectorSet ) );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				timeoutManager.onTimedOut( e, luceneQuery );
+				// Partial results are acceptable: extract whatever was collected before the timeout
+				timedOut = true;
+			}
+		}
+		else {
+			collectorSets = indexSearcher.search( luceneQuery, new CollectorSetManager() );
+		}
 
-		if ( topDocsCollector == null ) {
+		reduceCollectors( collectorSets );
+		reduceTotalHits( collectorSets );
+
+		if ( !collectTopDocs ) {
 			return;
 		}
-		extractTopDocs( offset, limit );
+		reduceTopDocs( collectorSets, offset, limit );
+		if ( !countTotalHitsSeparately ) {
+			totalHits = topDocs.totalHits.value;
+		}
 		if ( requireFieldDocRescoring ) {
 			handleRescoring( indexSearcher, luceneQuery );
 		}
+		else if ( requireConstantScoreFilling ) {
+			// The query is not scored: no need to re-execute it, we already know every hit has a score of 0
+			for ( ScoreDoc scoreDoc : topDocs.scoreDocs ) {
+				scoreDoc.score = 0.0f;
+			}
+		}
+	}
+
+	private void reduceCollectors(List<CollectorSet> collectorSets) throws IOException {
+		for ( LuceneCollectorFactory<?> factory : collectorFactories.values() ) {
+			Collector collector = reduce( factory, collectorSets );
+			collectors.put( factory, collector );
+			if ( factory.applyToNestedDocuments() ) {
+				collectorsForNestedDocuments.add( collector );
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked") // Collectors are stored in a map along with the factory that created them
+	private static <C extends Collector> C reduce(LuceneCollectorFactory<C> factory, List<CollectorSet> collectorSets)
+			throws IOException {
+		if ( collectorSets.size() == 1 ) {
+			return (C) collectorSets.get( 0 ).collectors.get( factory );
+		}
+		List<C> collectorsToReduce = new ArrayList<>( collectorSets.size() );
+		for ( CollectorSet collectorSet : collectorSets ) {
+			collectorsToReduce.add( (C) collectorSet.collectors.get( factory ) );
+		}
+		return factory.reduce( collectorsToReduce );
 	}
 
-	private void extractTopDocs(int offset, Integer limit) {
-		if ( limit == null ) {
-			topDocs = topDocsCollector.topDocs( offset );
+	private void reduceTotalHits(List<CollectorSet> collectorSets) {
+		if ( !countTotalHitsSeparately ) {
+			return;
+		}
+		long sum = 0L;
+		for ( CollectorSet collectorSet : collectorSets ) {
+			sum += collectorSet.totalHitCountCollector.getTotalHits();
+		}
+		totalHits = sum;
+	}
+
+	private void reduceTopDocs(List<CollectorSet> collectorSets, int offset, Integer limit) {
+		if ( collectorSets.size() == 1 ) {
+			TopDocsCollector<?> topDocsCollector = collectorSets.get( 0 ).topDocsCollector;
+			if ( limit == null ) {
+				topDocs = topDocsCollector.topDocs( offset );
+			}
+			else {
+				topDocs = topDocsCollector.topDocs( offset, limit );
+			}
+			return;
+		}
+
+		int topN = limit == null ? Math.max( 0, maxDocs - offset ) : limit;
+		if ( sort == null ) {
+			TopDocs[] shardTopDocs = new TopDocs[collectorSets.size()];
+			for ( int i = 0; i < shardTopDocs.length; i++ ) {
+				shardTopDocs[i] = collectorSets.get( i ).topDocsCollector.topDocs();
+			}
+			topDocs = TopDocs.merge( offset, topN, shardTopDocs, true );
 		}
 		else {
-			topDocs = topDocsCollector.topDocs( offset, limit );
+			TopFieldDocs[] shardTopDocs = new TopFieldDocs[collectorSets.size()];
+			for ( int i = 0; i < shardTopDocs.length; i++ ) {
+				shardTopDocs[i] = (TopFieldDocs) collectorSets.get( i ).topDocsCollector.topDocs();
+			}
+			topDocs = TopDocs.merge( sort, offset, topN, shardTopDocs, true );
 		}
 	}
 
@@ -94,10 +212,101 @@ public Map<LuceneCollectorKey<?>, Collector> getCollectors() {
 	}
 
 	public long getTotalHits() {
-		return totalHitCountCollector.getTotalHits();
+		return totalHits;
+	}
+
+	/**
+	 * @return {@code true} if {@link #getTotalHits()} is exact,
+	 * {@code false} if it is a lower bound because the total hit count threshold was reached.
+	 */
+	public boolean isTotalHitsExact() {
+		return countTotalHitsSeparately
+				|| TotalHits.Relation.EQUAL_TO.equals( topDocs.totalHits.relation );
 	}
 
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
+
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
+	private TopDocsCollector<?> createTopDocsCollector() {
+		if ( sort == null ) {
+			return TopScoreDocCollector.create(
+					maxDocs,
+					after,
+					// Note the threshold only allows skipping hits if the top docs collector is the only collector,
+					// as MultiCollector explicitly ignores the total hit count optimization
+					totalHitCountThreshold
+			);
+		}
+		else {
+			return TopFieldCollector.create(
+					sort,
+					maxDocs,
+					// When sorting, top documents returned by previous pages are always field docs
+					(FieldDoc) after,
+					totalHitCountThreshold
+			);
+		}
+	}
+
+	/**
+	 * The collectors applied to a single slice of the index,
+	 * or to the whole index when searching sequentially.
+	 */
+	private final class CollectorSet implements Collector {
+		private final TopDocsCollector<?> topDocsCollector;
+		private final TotalHitCountCollector totalHitCountCollector;
+		private final Map<LuceneCollectorKey<?>, Collector> collectors = new LinkedHashMap<>();
+		private final Collector compositeCollector;
+
+		private CollectorSet() {
+			List<Collector> all = new ArrayList<>();
+			if ( collectTopDocs ) {
+				topDocsCollector = createTopDocsCollector();
+				all.add( topDocsCollector );
+			}
+			else {
+				topDocsCollector = null;
+			}
+			if ( countTotalHitsSeparately ) {
+				totalHitCountCollector = new TotalHitCountCollector();
+				all.add( totalHitCountCollector );
+			}
+			else {
+				totalHitCountCollector = null;
+			}
+			for ( LuceneCollectorFactory<?> factory : collectorFactories.values() ) {
+				Collector collector = factory.createCollector( maxDocs );
+				collectors.put( factory, collector );
+				all.add( collector );
+			}
+			compositeCollector = MultiCollector.wrap( all );
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			return compositeCollector.getLeafCollector( context );
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return compositeCollector.scoreMode();
+		}
+	}
+
+	private final class CollectorSetManager implements CollectorManager<CollectorSet, List<CollectorSet>> {
+		@Override
+		public CollectorSet newCollector() {
+			return new CollectorSet();
+		}
+
+		@Override
+		public List<CollectorSet> reduce(Collection<CollectorSet> collectorSets) {
+			return new ArrayList<>( collectorSets );
+		}
+	}
 }
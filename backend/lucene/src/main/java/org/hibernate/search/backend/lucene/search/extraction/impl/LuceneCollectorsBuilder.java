@@ -6,19 +6,13 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.apache.lucene.search.Collector;
-import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
-import org.apache.lucene.search.TopDocsCollector;
-import org.apache.lucene.search.TopFieldCollector;
-import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 public class LuceneCollectorsBuilder {
 
@@ -26,21 +20,39 @@ public class LuceneCollectorsBuilder {
 
 	private final int maxDocs;
 
-	private final TotalHitCountCollector totalHitCountCollector;
+	private final ScoreDoc after;
+
+	private int totalHitCountThreshold = Integer.MAX_VALUE;
 
 	private boolean requireTopDocs;
 	private boolean requireScore;
+	private boolean constantScore;
 
-	private final Map<LuceneCollectorKey<?>, Collector> luceneCollectors = new LinkedHashMap<>();
-	private final List<Collector> luceneCollectorsForNestedDocuments = new ArrayList<>();
+	private final Map<LuceneCollectorKey<?>, LuceneCollectorFactory<?>> collectorFactories = new LinkedHashMap<>();
 
 	public LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+		this( sort, maxDocs, null );
+	}
+
+	/**
+	 * @param sort The sort, or {@code null} to sort by score.
+	 * @param maxDocs The maximum number of top documents to collect.
+	 * @param after The last top document of the previous page when scrolling, or {@code null}.
+	 * Only documents sorted strictly after this one will be collected as top documents.
+	 */
+	public LuceneCollectorsBuilder(Sort sort, int maxDocs, ScoreDoc after) {
 		this.sort = sort;
 
 		this.maxDocs = maxDocs;
+		this.after = after;
+	}
 
-		this.totalHitCountCollector = new TotalHitCountCollector();
-		this.luceneCollectors.put( LuceneCollectorKey.TOTAL_HIT_COUNT, this.totalHitCountCollector );
+	/**
+	 * @param totalHitCountThreshold The number of hits to count exactly;
+	 * past this threshold, the total hit count may only be a lower bound.
+	 */
+	public void totalHitCountThreshold(int totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
 	public void requireScore() {
@@ -48,74 +60,59 @@ public void requireScore() {
 		this.requireScore = true;
 	}
 
+	/**
+	 * Indicates that the query is not scored: every hit has a score of 0,
+	 * so there is no need to compute scores after the fact when sorting by field.
+	 */
+	public void constantScore() {
+		this.constantScore = true;
+	}
+
 	public void requireTopDocsCollector() {
 		this.requireTopDocs = true;
 	}
 
 	public <C extends Collector> void addCollector(LuceneCollectorFactory<C> collectorFactory) {
 		this.requireTopDocs = true; // We can't collect anything if we don't know from which documents it should be collected
-		if ( luceneCollectors.containsKey( collectorFactory ) ) {
-			return;
-		}
-
-		Collector collector = collectorFactory.createCollector( maxDocs );
-		luceneCollectors.put( collectorFactory, collector );
-		if ( collectorFactory.applyToNestedDocuments() ) {
-			luceneCollectorsForNestedDocuments.add( collector );
-		}
+		collectorFactories.putIfAbsent( collectorFactory, collectorFactory );
 	}
 
 	public LuceneCollectors build() {
-		TopDocsCollector<?> topDocsCollector = null;
+		boolean collectTopDocs = requireTopDocs && maxDocs > 0;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
+		boolean requireConstantScoreFilling = false;
 
-		if ( requireTopDocs && maxDocs > 0 ) {
-			if ( sort == null ) {
-				topDocsCollector = TopScoreDocCollector.create(
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
-			}
-			else {
-				if ( requireScore ) {
-					// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
-					// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
-					// Thus we will have to set the scores ourselves.
-					requireFieldDocRescoring = true;
-
-					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
-					SortField[] sortFields = sort.getSort();
-					for ( int i = 0; i < sortFields.length; i++ ) {
-						SortField sortField = sortFields[i];
-						if ( sortField.getType() == SortField.Type.SCORE ) {
-							scoreSortFieldIndexForRescoring = i;
-							break;
-						}
-					}
+		if ( collectTopDocs && sort != null && requireScore && constantScore ) {
+			// TopFieldCollector does not set scores (see below), but we know they are all 0: just fill them in.
+			requireConstantScoreFilling = true;
+		}
+		else if ( collectTopDocs && sort != null && requireScore ) {
+			// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
+			// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
+			// Thus we will have to set the scores ourselves.
+			requireFieldDocRescoring = true;
+
+			// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
+			SortField[] sortFields = sort.getSort();
+			for ( int i = 0; i < sortFields.length; i++ ) {
+				SortField sortField = sortFields[i];
+				if ( sortField.getType() == SortField.Type.SCORE ) {
+					scoreSortFieldIndexForRescoring = i;
+					break;
 				}
-				topDocsCollector = TopFieldCollector.create(
-						sort,
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
 			}
-			luceneCollectors.put( LuceneCollectorKey.TOP_DOCS, topDocsCollector );
 		}
 
-		Collector compositeCollector = MultiCollector.wrap( luceneCollectors.values() );
+		// No threshold, or no top docs collector to count hits: count all hits exactly
+		boolean countTotalHitsSeparately = !collectTopDocs || totalHitCountThreshold == Integer.MAX_VALUE;
 
 		return new LuceneCollectors(
-				topDocsCollector, totalHitCountCollector,
-				compositeCollector, luceneCollectorsForNestedDocuments,
-				luceneCollectors,
-				requireFieldDocRescoring, scoreSortFieldIndexForRescoring
+				sort, maxDocs, after, totalHitCountThreshold,
+				collectTopDocs, countTotalHitsSeparately,
+				collectorFactories,
+				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
+				requireConstantScoreFilling
 		);
 	}
 }
@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 public class LuceneDocumentStoredFieldVisitorBuilder {
@@ -15,6 +17,7 @@ public class LuceneDocumentStoredFieldVisitorBuilder {
 
 	private final Set<String> explicitlyRequired = new HashSet<>();
 	private final Set<String> nestedDocumentPaths = new HashSet<>();
+	private final Map<String, TopDocsDocValuesLoader.ValueType> docValuesFields = new HashMap<>();
 
 	public void addEntireDocument() {
 		entireDocumentRequired = true;
@@ -33,12 +36,32 @@ public void addNestedDocumentPath(String nestedDocumentPath) {
 		}
 	}
 
+	/**
+	 * Require the string value of the given field to be loaded from doc values
+	 * (or from stored fields in segments where the field has no doc values).
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 */
+	public void addStringDocValues(String absoluteFieldPath) {
+		docValuesFields.put( absoluteFieldPath, TopDocsDocValuesLoader.ValueType.STRING );
+	}
+
+	/**
+	 * Require the raw long value of the given field to be loaded from numeric doc values.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 */
+	public void addNumericDocValues(String absoluteFieldPath) {
+		docValuesFields.put( absoluteFieldPath, TopDocsDocValuesLoader.ValueType.NUMERIC );
+	}
+
 	public ReusableDocumentStoredFieldVisitor build() {
+		TopDocsDocValuesLoader docValuesLoader = new TopDocsDocValuesLoader( docValuesFields );
 		if ( entireDocumentRequired ) {
-			return new ReusableDocumentStoredFieldVisitor();
+			return new ReusableDocumentStoredFieldVisitor( docValuesLoader );
 		}
 		else {
-			return new ReusableDocumentStoredFieldVisitor( explicitlyRequired, nestedDocumentPaths );
+			return new ReusableDocumentStoredFieldVisitor( explicitlyRequired, nestedDocumentPaths, docValuesLoader );
 		}
 	}
 
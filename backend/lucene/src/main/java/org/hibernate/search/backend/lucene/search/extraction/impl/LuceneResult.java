@@ -6,18 +6,23 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.util.Map;
+
 import org.apache.lucene.document.Document;
 
 public class LuceneResult {
 
 	private final Document document;
 
+	private final Map<String, Object> docValues;
+
 	private final int docId;
 
 	private final float score;
 
-	public LuceneResult(Document document, int docId, float score) {
+	public LuceneResult(Document document, Map<String, Object> docValues, int docId, float score) {
 		this.document = document;
+		this.docValues = docValues;
 		this.docId = docId;
 		this.score = score;
 	}
@@ -26,6 +31,10 @@ public String getStringValue(String fieldName) {
 		return document.get( fieldName );
 	}
 
+	public Object getDocValue(String fieldName) {
+		return docValues.get( fieldName );
+	}
+
 	public Document getDocument() {
 		return document;
 	}
@@ -37,6 +37,7 @@ public final class ReusableDocumentStoredFieldVisitor extends StoredFieldVisitor
 	private final FieldAcceptor rootAcceptor;
 	private final int totalFields;
 	private final Set<String> nestedDocumentPaths;
+	private final TopDocsDocValuesLoader docValuesLoader;
 
 	//The Lucene Document which will be returned. Lazily initialized.
 	private Document doc = null;
@@ -48,17 +49,19 @@ public final class ReusableDocumentStoredFieldVisitor extends StoredFieldVisitor
 	/**
 	 * Create a visitor that collects all fields.
 	 */
-	public ReusableDocumentStoredFieldVisitor() {
+	public ReusableDocumentStoredFieldVisitor(TopDocsDocValuesLoader docValuesLoader) {
 		this.rootAcceptor = null;
 		this.totalFields = 0; // Shouldn't be used
 		this.missingFields = totalFields;
 		this.nestedDocumentPaths = new HashSet<>();
+		this.docValuesLoader = docValuesLoader;
 	}
 
 	/**
 	 * Create a visitor that collects only some specified fields.
 	 */
-	public ReusableDocumentStoredFieldVisitor(Set<String> fieldsToLoad, Set<String> nestedDocumentPaths) {
+	public ReusableDocumentStoredFieldVisitor(Set<String> fieldsToLoad, Set<String> nestedDocumentPaths,
+			TopDocsDocValuesLoader docValuesLoader) {
 		FieldAcceptor previous = NOT_ACCEPT;
 		for ( String fieldName : fieldsToLoad ) {
 			previous = new ChainedFieldAcceptor( previous, fieldName );
@@ -67,6 +70,7 @@ public ReusableDocumentStoredFieldVisitor(Set<String> fieldsToLoad, Set<String>
 		this.totalFields = fieldsToLoad.size();
 		this.missingFields = totalFields;
 		this.nestedDocumentPaths = nestedDocumentPaths;
+		this.docValuesLoader = docValuesLoader;
 	}
 
 	@Override
@@ -151,6 +155,19 @@ public Set<String> getNestedDocumentPaths() {
 		return nestedDocumentPaths;
 	}
 
+	/**
+	 * @return {@code true} if at least one stored field must be loaded,
+	 * {@code false} if all the necessary data can be retrieved from doc values,
+	 * in which case stored fields do not need to be visited at all.
+	 */
+	public boolean requiresStoredFields() {
+		return rootAcceptor == null || totalFields > 0;
+	}
+
+	public TopDocsDocValuesLoader getDocValuesLoader() {
+		return docValuesLoader;
+	}
+
 	/* The structure below shapes a chain of accepted field names:
 	 * you could think of it as a linked list. */
 
@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * Loads the doc values of top documents, so that projections can avoid loading stored fields.
+ * <p>
+ * Top documents are visited in doc ID order, one segment at a time,
+ * so that doc values iterators are created once per segment and only ever move forward.
+ */
+public final class TopDocsDocValuesLoader {
+
+	enum ValueType {
+		/**
+		 * A string, from sorted or binary doc values.
+		 * For segments where the field has no doc values, the value is loaded from stored fields,
+		 * so that documents indexed before doc values were introduced for this field can still be read.
+		 */
+		STRING,
+		/**
+		 * The raw long value of numeric doc values.
+		 */
+		NUMERIC
+	}
+
+	private final Map<String, ValueType> fields;
+
+	TopDocsDocValuesLoader(Map<String, ValueType> fields) {
+		this.fields = fields;
+	}
+
+	public boolean isEmpty() {
+		return fields.isEmpty();
+	}
+
+	/**
+	 * @param reader The top-level index reader.
+	 * @param scoreDocs The top documents.
+	 * @return The loaded values for each top document, in the same order as {@code scoreDocs},
+	 * as a map from field name to value. Values are {@code null} for documents without a value.
+	 * @throws IOException If reading from the index fails.
+	 */
+	public List<Map<String, Object>> load(IndexReader reader, ScoreDoc[] scoreDocs) throws IOException {
+		if ( fields.isEmpty() ) {
+			return Collections.nCopies( scoreDocs.length, Collections.emptyMap() );
+		}
+
+		List<Map<String, Object>> result = new ArrayList<>( scoreDocs.length );
+		for ( int i = 0; i < scoreDocs.length; i++ ) {
+			result.add( new HashMap<>( fields.size() * 2 ) );
+		}
+
+		Integer[] indexesInDocIdOrder = new Integer[scoreDocs.length];
+		for ( int i = 0; i < scoreDocs.length; i++ ) {
+			indexesInDocIdOrder[i] = i;
+		}
+		Arrays.sort( indexesInDocIdOrder, Comparator.comparingInt( i -> scoreDocs[i].doc ) );
+
+		List<LeafReaderContext> leaves = reader.leaves();
+		LeafReaderContext currentLeaf = null;
+		int currentLeafEnd = -1;
+		Map<String, LeafValues> currentLeafValues = new HashMap<>( fields.size() * 2 );
+
+		for ( int index : indexesInDocIdOrder ) {
+			int docId = scoreDocs[index].doc;
+			if ( currentLeaf == null || docId >= currentLeafEnd ) {
+				currentLeaf = leaves.get( ReaderUtil.subIndex( docId, leaves ) );
+				currentLeafEnd = currentLeaf.docBase + currentLeaf.reader().maxDoc();
+				currentLeafValues.clear();
+				for ( Map.Entry<String, ValueType> entry : fields.entrySet() ) {
+					currentLeafValues.put( entry.getKey(), createLeafValues( currentLeaf.reader(), entry.getKey(), entry.getValue() ) );
+				}
+			}
+
+			int leafDocId = docId - currentLeaf.docBase;
+			Map<String, Object> values = result.get( index );
+			for ( Map.Entry<String, LeafValues> entry : currentLeafValues.entrySet() ) {
+				values.put( entry.getKey(), entry.getValue().get( leafDocId ) );
+			}
+		}
+
+		return result;
+	}
+
+	private static LeafValues createLeafValues(LeafReader reader, String field, ValueType valueType)
+			throws IOException {
+		FieldInfo fieldInfo = reader.getFieldInfos().fieldInfo( field );
+		if ( fieldInfo == null ) {
+			// No document in this segment has a value for this field
+			return docId -> null;
+		}
+
+		switch ( valueType ) {
+			case STRING:
+				return createStringLeafValues( reader, fieldInfo );
+			case NUMERIC:
+				return createNumericLeafValues( reader, fieldInfo );
+			default:
+				throw new IllegalStateException( "Unexpected value type: " + valueType );
+		}
+	}
+
+	private static LeafValues createStringLeafValues(LeafReader reader, FieldInfo fieldInfo) throws IOException {
+		String field = fieldInfo.name;
+		switch ( fieldInfo.getDocValuesType() ) {
+			case SORTED:
+				SortedDocValues sortedDocValues = reader.getSortedDocValues( field );
+				return docId -> sortedDocValues.advanceExact( docId )
+						? sortedDocValues.binaryValue().utf8ToString()
+						: null;
+			case BINARY:
+				BinaryDocValues binaryDocValues = reader.getBinaryDocValues( field );
+				return docId -> binaryDocValues.advanceExact( docId )
+						? binaryDocValues.binaryValue().utf8ToString()
+						: null;
+			default:
+				Set<String> fieldsToLoad = Collections.singleton( field );
+				return docId -> reader.document( docId, fieldsToLoad ).get( field );
+		}
+	}
+
+	private static LeafValues createNumericLeafValues(LeafReader reader, FieldInfo fieldInfo) throws IOException {
+		String field = fieldInfo.name;
+		switch ( fieldInfo.getDocValuesType() ) {
+			case NUMERIC:
+				NumericDocValues numericDocValues = reader.getNumericDocValues( field );
+				return docId -> numericDocValues.advanceExact( docId ) ? numericDocValues.longValue() : null;
+			case SORTED_NUMERIC:
+				SortedNumericDocValues sortedNumericDocValues = reader.getSortedNumericDocValues( field );
+				return docId -> sortedNumericDocValues.advanceExact( docId ) ? sortedNumericDocValues.nextValue() : null;
+			default:
+				return docId -> null;
+		}
+	}
+
+	@FunctionalInterface
+	private interface LeafValues {
+		Object get(int docId) throws IOException;
+	}
+}
@@ -9,6 +9,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeModel;
@@ -29,6 +30,7 @@ public final class LuceneSearchContext {
 	// Backend context
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final SortedSetDocValuesReaderStateCache docValuesReaderStateCache;
 
 	// Targeted indexes
 	private final LuceneScopeModel scopeModel;
@@ -36,11 +38,13 @@ public final class LuceneSearchContext {
 	public LuceneSearchContext(BackendMappingContext mappingContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
+			SortedSetDocValuesReaderStateCache docValuesReaderStateCache,
 			LuceneScopeModel scopeModel) {
 		this.toDocumentIdentifierValueConvertContext = new ToDocumentIdentifierValueConvertContextImpl( mappingContext );
 		this.toDocumentFieldValueConvertContext = new ToDocumentFieldValueConvertContextImpl( mappingContext );
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.docValuesReaderStateCache = docValuesReaderStateCache;
 		this.scopeModel = scopeModel;
 	}
 
@@ -56,6 +60,10 @@ public LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry() {
 		return analysisDefinitionRegistry;
 	}
 
+	public SortedSetDocValuesReaderStateCache getDocValuesReaderStateCache() {
+		return docValuesReaderStateCache;
+	}
+
 	public Set<String> getIndexNames() {
 		return scopeModel.getIndexNames();
 	}
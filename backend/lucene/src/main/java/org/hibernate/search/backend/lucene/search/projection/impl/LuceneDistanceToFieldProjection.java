@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -105,6 +106,15 @@ public DistanceCollector createCollector(int maxDocs) {
 		return new DistanceCollector( absoluteFieldPath, center, maxDocs );
 	}
 
+	@Override
+	public DistanceCollector reduce(List<DistanceCollector> collectors) {
+		DistanceCollector reduced = new DistanceCollector( absoluteFieldPath, center, 0 );
+		for ( DistanceCollector collector : collectors ) {
+			reduced.addAll( collector );
+		}
+		return reduced;
+	}
+
 	@Override
 	public boolean applyToNestedDocuments() {
 		return true;
@@ -27,6 +27,8 @@
 
 	private final ProjectionConverter<? super F, V> converter;
 
+	private final boolean fromDocValues;
+
 	LuceneFieldProjection(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
 			LuceneFieldCodec<F> codec, ProjectionConverter<? super F, V> converter) {
 		this.indexNames = indexNames;
@@ -34,6 +36,8 @@
 		this.nestedDocumentPath = nestedDocumentPath;
 		this.codec = codec;
 		this.converter = converter;
+		// Values of fields in nested documents are only available in child documents: use stored fields
+		this.fromDocValues = nestedDocumentPath == null && codec.isDecodableFromDocValues();
 	}
 
 	@Override
@@ -43,14 +47,24 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 
 	@Override
 	public void contributeFields(LuceneDocumentStoredFieldVisitorBuilder builder) {
-		codec.contributeStoredFields( absoluteFieldPath, builder::add );
-		builder.addNestedDocumentPath( nestedDocumentPath );
+		if ( fromDocValues ) {
+			builder.addNumericDocValues( absoluteFieldPath );
+		}
+		else {
+			codec.contributeStoredFields( absoluteFieldPath, builder::add );
+			builder.addNestedDocumentPath( nestedDocumentPath );
+		}
 	}
 
 	@Override
 	public F extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
-		return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		if ( fromDocValues ) {
+			return codec.decodeFromDocValue( (Long) documentResult.getDocValue( absoluteFieldPath ) );
+		}
+		else {
+			return codec.decode( documentResult.getDocument(), absoluteFieldPath );
+		}
 	}
 
 	@Override
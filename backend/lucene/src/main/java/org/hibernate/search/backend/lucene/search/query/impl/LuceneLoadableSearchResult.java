@@ -17,6 +17,11 @@
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -34,21 +39,52 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private List<Object> extractedData;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
+	private final boolean timedOut;
 
 	LuceneLoadableSearchResult(LuceneSearchQueryExtractContext extractContext,
 			LuceneSearchProjection<?, H> rootProjection,
-			long hitCount, List<Object> extractedData,
-			Map<AggregationKey<?>, ?> extractedAggregations) {
+			long hitCount, boolean hitCountExact, List<Object> extractedData,
+			Map<AggregationKey<?>, ?> extractedAggregations,
+			boolean timedOut) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.extractedData = extractedData;
 		this.extractedAggregations = extractedAggregations;
+		this.timedOut = timedOut;
+	}
+
+	/**
+	 * @return The last top document of this result, to start the next chunk from when scrolling,
+	 * or {@code null} if there are no hits.
+	 */
+	ScoreDoc getLastScoreDoc() {
+		TopDocs topDocs = extractContext.getTopDocs();
+		if ( topDocs == null || topDocs.scoreDocs.length == 0 ) {
+			return null;
+		}
+		return topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
 	}
 
 	LuceneSearchResult<H> loadBlocking() {
+		List<H> loadedHits = loadHitsBlocking();
+		return new LuceneSearchResultImpl<>(
+				hitCount, hitCountExact, loadedHits, extractedAggregations, timedOut
+		);
+	}
+
+	SearchScrollResult<H> loadScrollChunkBlocking() {
+		// Check this before loading: some hits may be skipped if their entity cannot be loaded
+		boolean hasHits = !extractedData.isEmpty();
+		List<H> loadedHits = loadHitsBlocking();
+		return new SimpleSearchScrollResult<>( hasHits, loadedHits, hitCount, timedOut );
+	}
+
+	private List<H> loadHitsBlocking() {
 		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
@@ -82,6 +118,6 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( hitCount, loadedHits, extractedAggregations );
+		return loadedHits;
 	}
 }
@@ -0,0 +1,134 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HolderMultiReader;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryExecutor;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryItem;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * Executes multiple queries targeting the same indexes and routing keys against a single index reader,
+ * so that the reader is opened only once and all results are consistent with each other.
+ */
+class LuceneSearchMultiQueryExecutor implements SearchMultiQueryExecutor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneReadWorkOrchestrator queryOrchestrator;
+	private final Set<String> indexNames;
+	private final Set<? extends ReadIndexManagerContext> indexManagerContexts;
+	private final Set<String> routingKeys;
+
+	LuceneSearchMultiQueryExecutor(LuceneReadWorkOrchestrator queryOrchestrator,
+			Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.indexManagerContexts = indexManagerContexts;
+		this.routingKeys = routingKeys;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || !getClass().equals( obj.getClass() ) ) {
+			return false;
+		}
+		LuceneSearchMultiQueryExecutor other = (LuceneSearchMultiQueryExecutor) obj;
+		return queryOrchestrator.equals( other.queryOrchestrator )
+				&& indexNames.equals( other.indexNames )
+				&& routingKeys.equals( other.routingKeys );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( queryOrchestrator, indexNames, routingKeys );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[indexNames=" + indexNames + ", routingKeys=" + routingKeys + "]";
+	}
+
+	@Override
+	public List<CompletableFuture<SearchResult<?>>> execute(List<SearchMultiQueryItem<?>> items) {
+		List<CompletableFuture<SearchResult<?>>> results = new ArrayList<>( items.size() );
+		List<LuceneLoadableSearchResult<?>> loadableResults = new ArrayList<>( items.size() );
+		// Open the reader once for all queries
+		HolderMultiReader indexReader = HolderMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+		try {
+			for ( SearchMultiQueryItem<?> item : items ) {
+				CompletableFuture<SearchResult<?>> result = new CompletableFuture<>();
+				results.add( result );
+				try {
+					loadableResults.add( search( indexReader, item ) );
+				}
+				catch (RuntimeException e) {
+					result.completeExceptionally( e );
+					loadableResults.add( null );
+				}
+			}
+		}
+		finally {
+			close( indexReader );
+		}
+
+		for ( int i = 0; i < items.size(); i++ ) {
+			LuceneLoadableSearchResult<?> loadableResult = loadableResults.get( i );
+			if ( loadableResult == null ) {
+				// The search failed
+				continue;
+			}
+			CompletableFuture<SearchResult<?>> result = results.get( i );
+			try {
+				/*
+				 * WARNING: the following call must run in the user thread.
+				 * See LuceneSearchQueryImpl#fetch.
+				 */
+				result.complete( loadableResult.loadBlocking() );
+			}
+			catch (RuntimeException e) {
+				result.completeExceptionally( e );
+			}
+		}
+		return results;
+	}
+
+	private <H> LuceneLoadableSearchResult<H> search(IndexReader indexReader, SearchMultiQueryItem<H> item) {
+		LuceneSearchQueryImpl<H> query = (LuceneSearchQueryImpl<H>) item.getQuery();
+		LuceneReadWork<LuceneLoadableSearchResult<H>> work = query.createSearchWork( item.getOffset(), item.getLimit() );
+		return queryOrchestrator.submit( indexNames, indexReader, work );
+	}
+
+	private void close(IndexReader indexReader) {
+		try {
+			indexReader.close();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIndexReader( EventContexts.fromIndexNames( indexNames ), e );
+		}
+	}
+}
@@ -14,6 +14,7 @@
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
@@ -30,6 +31,7 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -60,6 +62,9 @@
 	private Query luceneQuery;
 	private List<SortField> sortFields;
 	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
+	private TimeoutManager timeoutManager = TimeoutManager.noTimeout();
+	private Integer totalHitCountThreshold;
+	private boolean constantScore = false;
 
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
@@ -91,6 +96,27 @@ public void addRoutingKey(String routingKey) {
 		this.routingKeys.add( routingKey );
 	}
 
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutManager = TimeoutManager.hardTimeout( timeout, timeUnit );
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		this.timeoutManager = TimeoutManager.softTimeout( timeout, timeUnit );
+	}
+
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		// Lucene cannot collect more than Integer.MAX_VALUE hits anyway
+		this.totalHitCountThreshold = (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE );
+	}
+
+	@Override
+	public void constantScore() {
+		this.constantScore = true;
+	}
+
 	@Override
 	public void collectPredicate(Query luceneQuery) {
 		this.luceneQuery = luceneQuery;
@@ -145,7 +171,8 @@ public LuceneSearchQuery<H> build() {
 		LoadingContext<?, ?> loadingContext = loadingContextBuilder.build();
 
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
-		luceneQueryBuilder.add( luceneQuery, Occur.MUST );
+		// FILTER clauses are not scored: every hit gets a score of 0
+		luceneQueryBuilder.add( luceneQuery, constantScore ? Occur.FILTER : Occur.MUST );
 		luceneQueryBuilder.add( LuceneQueries.mainDocumentQuery(), Occur.FILTER );
 
 		Sort luceneSort = null;
@@ -171,7 +198,10 @@ public LuceneSearchQuery<H> build() {
 				requestContext,
 				storedFieldVisitor,
 				rootProjection,
-				aggregations == null ? Collections.emptyMap() : aggregations
+				aggregations == null ? Collections.emptyMap() : aggregations,
+				timeoutManager,
+				totalHitCountThreshold,
+				constantScore
 		);
 
 		return new LuceneSearchQueryImpl<>(
@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HolderMultiReader;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
@@ -22,7 +23,9 @@
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryExecutor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -88,14 +91,12 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
-		LuceneReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit );
-		return doSubmit( work )
+		return doSubmit( createSearchWork( offset, limit ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
 				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * relying on ProjectionHitMapper.loadAsync.
+				 * For now, fetchAsync simply executes the query synchronously.
 				 */
 				.loadBlocking();
 	}
@@ -106,6 +107,28 @@ public long fetchTotalHitCount() {
 		return doSubmit( work );
 	}
 
+	@Override
+	public SearchMultiQueryExecutor getMultiQueryExecutor() {
+		return new LuceneSearchMultiQueryExecutor(
+				queryOrchestrator,
+				searchContext.getIndexNames(), searchContext.getIndexManagerContexts(), routingKeys
+		);
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+
+		Set<String> indexNames = searchContext.getIndexNames();
+		// Keep the same reader open for the whole scroll, so that chunks are consistent with each other
+		HolderMultiReader indexReader = HolderMultiReader.open(
+				indexNames, searchContext.getIndexManagerContexts(), routingKeys
+		);
+		return new LuceneSearchScrollImpl<>(
+				queryOrchestrator, workFactory, indexNames, indexReader, searcher, chunkSize
+		);
+	}
+
 	@Override
 	public Explanation explain(String id) {
 		Contracts.assertNotNull( id, "id" );
@@ -131,6 +154,10 @@ public Explanation explain(String indexName, String id) {
 		return doExplain( indexName, id );
 	}
 
+	LuceneReadWork<LuceneLoadableSearchResult<H>> createSearchWork(Integer offset, Integer limit) {
+		return workFactory.search( searcher, offset, limit );
+	}
+
 	private <T> T doSubmit(LuceneReadWork<T> work) {
 		return queryOrchestrator.submit(
 				searchContext.getIndexNames(),
@@ -15,7 +15,8 @@
 
 class LuceneSearchResultImpl<H> extends SimpleSearchResult<H>
 		implements LuceneSearchResult<H> {
-	LuceneSearchResultImpl(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults) {
-		super( hitCount, hits, aggregationResults );
+	LuceneSearchResultImpl(long hitCount, boolean hitCountExact, List<H> hits,
+			Map<AggregationKey<?>, ?> aggregationResults, boolean timedOut) {
+		super( hitCount, hitCountExact, hits, aggregationResults, timedOut );
 	}
 }
@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * A scroll executing each chunk as a "search after" the last hit of the previous chunk.
+ * <p>
+ * The same index reader is used for all chunks,
+ * so that the scroll is not affected by changes to the indexes while it is open.
+ *
+ * @param <H> The type of query hits.
+ */
+class LuceneSearchScrollImpl<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneReadWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final Set<String> indexNames;
+	private final IndexReader indexReader;
+	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final int chunkSize;
+
+	private ScoreDoc after;
+
+	LuceneSearchScrollImpl(LuceneReadWorkOrchestrator queryOrchestrator,
+			LuceneWorkFactory workFactory, Set<String> indexNames, IndexReader indexReader,
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher, int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.indexNames = indexNames;
+		this.indexReader = indexReader;
+		this.searcher = searcher;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[searcher=" + searcher + ", chunkSize=" + chunkSize + "]";
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		LuceneReadWork<LuceneLoadableSearchResult<H>> work = workFactory.scroll( searcher, after, chunkSize );
+		LuceneLoadableSearchResult<H> loadableResult = queryOrchestrator.submit( indexNames, indexReader, work );
+
+		ScoreDoc lastScoreDoc = loadableResult.getLastScoreDoc();
+		if ( lastScoreDoc != null ) {
+			after = lastScoreDoc;
+		}
+
+		/*
+		 * WARNING: the following call must run in the user thread.
+		 * See LuceneSearchQueryImpl#fetch.
+		 */
+		return loadableResult.loadScrollChunkBlocking();
+	}
+
+	@Override
+	public void close() {
+		try {
+			indexReader.close();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIndexReader( EventContexts.fromIndexNames( indexNames ), e );
+		}
+	}
+}
@@ -27,6 +27,7 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneNestedQueries;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
@@ -43,7 +44,9 @@
 import org.apache.lucene.search.MultiCollector;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>> {
 
@@ -57,15 +60,24 @@
 	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
+	private final TimeoutManager timeoutManager;
+	private final Integer totalHitCountThreshold;
+	private final boolean constantScore;
 
 	LuceneSearcherImpl(LuceneSearchQueryRequestContext requestContext,
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
 			LuceneSearchProjection<?, H> rootProjection,
-			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations) {
+			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
+			TimeoutManager timeoutManager,
+			Integer totalHitCountThreshold,
+			boolean constantScore) {
 		this.requestContext = requestContext;
 		this.storedFieldVisitor = storedFieldVisitor;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
+		this.timeoutManager = timeoutManager;
+		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.constantScore = constantScore;
 	}
 
 	@Override
@@ -74,6 +86,9 @@ public String toString() {
 				.append( "[" )
 				.append( "luceneQuery=" ).append( requestContext.getLuceneQuery() )
 				.append( ", luceneSort=" ).append( requestContext.getLuceneSort() )
+				.append( ", timeoutManager=" ).append( timeoutManager )
+				.append( ", totalHitCountThreshold=" ).append( totalHitCountThreshold )
+				.append( ", constantScore=" ).append( constantScore )
 				.append( "]" );
 		return sb.toString();
 	}
@@ -85,7 +100,7 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher, int off
 
 		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, offset, limit );
 
-		luceneCollectors.collect( indexSearcher, requestContext.getLuceneQuery(), offset, limit );
+		luceneCollectors.collect( indexSearcher, requestContext.getLuceneQuery(), offset, limit, timeoutManager );
 
 		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
 				indexSearcher, luceneCollectors
@@ -99,8 +114,50 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher, int off
 		return new LuceneLoadableSearchResult<>(
 				extractContext, rootProjection,
 				luceneCollectors.getTotalHits(),
+				luceneCollectors.isTotalHitsExact(),
 				extractedData,
-				extractedAggregations
+				extractedAggregations,
+				luceneCollectors.isTimedOut()
+		);
+	}
+
+	@Override
+	public LuceneLoadableSearchResult<H> scroll(IndexSearcher indexSearcher, ScoreDoc after, int chunkSize)
+			throws IOException {
+		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
+
+		int maxDocs = Math.min( chunkSize, indexSearcher.getIndexReader().maxDoc() );
+		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder(
+				requestContext.getLuceneSort(), maxDocs, after
+		);
+		// We need the top docs to know where the next chunk starts, even if the projection does not.
+		luceneCollectorsBuilder.requireTopDocsCollector();
+		if ( constantScore ) {
+			luceneCollectorsBuilder.constantScore();
+		}
+		rootProjection.contributeCollectors( luceneCollectorsBuilder );
+		// Aggregations are ignored when scrolling
+		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
+
+		// The next chunk starts after the last hit of this chunk,
+		// so a partial chunk would lead to silently skipping hits from segments that were not visited:
+		// never return partial results, even when the query was configured to truncate results on timeout.
+		luceneCollectors.collect( indexSearcher, requestContext.getLuceneQuery(), 0, chunkSize,
+				timeoutManager.withExceptionOnTimeout() );
+
+		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
+				indexSearcher, luceneCollectors
+		);
+
+		List<Object> extractedData = extractHits( extractContext );
+
+		return new LuceneLoadableSearchResult<>(
+				extractContext, rootProjection,
+				luceneCollectors.getTotalHits(),
+				luceneCollectors.isTotalHitsExact(),
+				extractedData,
+				Collections.emptyMap(),
+				luceneCollectors.isTimedOut()
 		);
 	}
 
@@ -108,9 +165,22 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher, int off
 	public int count(IndexSearcher indexSearcher) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
-		// TODO HSEARCH-3352 implement timeout handling... somehow?
-		//  We may have to use search() instead of count() with a TotalHitCountCollector wrapped with the timeout limiting one
-		return indexSearcher.count( requestContext.getLuceneQuery() );
+		Query luceneQuery = requestContext.getLuceneQuery();
+		if ( !timeoutManager.hasTimeout() ) {
+			return indexSearcher.count( luceneQuery );
+		}
+
+		// The count is returned as a bare number, so callers could not tell a partial count from an exact one:
+		// never return partial results, even when the query was configured to truncate results on timeout.
+		TimeoutManager countTimeoutManager = timeoutManager.withExceptionOnTimeout();
+		TotalHitCountCollector collector = new TotalHitCountCollector();
+		try {
+			indexSearcher.search( luceneQuery, countTimeoutManager.decorateCollector( collector ) );
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			countTimeoutManager.onTimedOut( e, luceneQuery );
+		}
+		return collector.getTotalHits();
 	}
 
 	@Override
@@ -129,8 +199,13 @@ private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, int offset
 		//  Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
 
-		// TODO HSEARCH-3352 implement timeout handling by wrapping the collector with the timeout limiting one
 		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( requestContext.getLuceneSort(), maxDocs );
+		if ( totalHitCountThreshold != null ) {
+			luceneCollectorsBuilder.totalHitCountThreshold( totalHitCountThreshold );
+		}
+		if ( constantScore ) {
+			luceneCollectorsBuilder.constantScore();
+		}
 		rootProjection.contributeCollectors( luceneCollectorsBuilder );
 		for ( LuceneSearchAggregation<?> aggregation : aggregations.values() ) {
 			aggregation.contributeCollectors( luceneCollectorsBuilder );
@@ -164,17 +239,25 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 
 		SearchProjectionExtractContext projectionExtractContext = extractContext.createProjectionExtractContext( nestedDocs );
 
-		for ( ScoreDoc hit : topDocs.scoreDocs ) {
-			// add root object contribution
-			indexSearcher.doc( hit.doc, storedFieldVisitor );
-			if ( nestedDocs.containsKey( hit.doc ) ) {
-				for ( Integer child : nestedDocs.get( hit.doc ) ) {
-					indexSearcher.doc( child, storedFieldVisitor );
+		// Load doc values for all hits at once, segment by segment, in doc ID order
+		List<Map<String, Object>> docValues = storedFieldVisitor.getDocValuesLoader()
+				.load( indexSearcher.getIndexReader(), topDocs.scoreDocs );
+		boolean requiresStoredFields = storedFieldVisitor.requiresStoredFields();
+
+		for ( int i = 0; i < topDocs.scoreDocs.length; i++ ) {
+			ScoreDoc hit = topDocs.scoreDocs[i];
+			if ( requiresStoredFields ) {
+				// add root object contribution
+				indexSearcher.doc( hit.doc, storedFieldVisitor );
+				if ( nestedDocs.containsKey( hit.doc ) ) {
+					for ( Integer child : nestedDocs.get( hit.doc ) ) {
+						indexSearcher.doc( child, storedFieldVisitor );
+					}
 				}
 			}
 
 			Document document = storedFieldVisitor.getDocumentAndReset();
-			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score );
+			LuceneResult luceneResult = new LuceneResult( document, docValues.get( i ), hit.doc, hit.score );
 
 			extractedData.add( rootProjection.extract( projectionHitMapper, luceneResult, projectionExtractContext ) );
 		}
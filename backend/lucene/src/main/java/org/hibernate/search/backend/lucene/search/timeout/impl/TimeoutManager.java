@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.timeout.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TimeLimitingCollector;
+import org.apache.lucene.util.Counter;
+
+/**
+ * Limits the time spent collecting the results of a query.
+ * <p>
+ * Instances are immutable and can be shared between executions of the same query:
+ * the timeout starts counting each time a collector is {@link #decorateCollector(Collector) decorated}.
+ */
+public final class TimeoutManager {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final TimeoutManager NO_TIMEOUT = new TimeoutManager( null, null, false );
+
+	public static TimeoutManager noTimeout() {
+		return NO_TIMEOUT;
+	}
+
+	/**
+	 * @param timeout The timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 * @return A timeout manager that will stop collection and return partial results when the timeout is reached.
+	 */
+	public static TimeoutManager softTimeout(long timeout, TimeUnit timeUnit) {
+		return new TimeoutManager( timeout, timeUnit, false );
+	}
+
+	/**
+	 * @param timeout The timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 * @return A timeout manager that will stop collection and throw an exception when the timeout is reached.
+	 */
+	public static TimeoutManager hardTimeout(long timeout, TimeUnit timeUnit) {
+		return new TimeoutManager( timeout, timeUnit, true );
+	}
+
+	private final Long timeout;
+	private final TimeUnit timeUnit;
+	private final boolean exceptionOnTimeout;
+
+	private TimeoutManager(Long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		this.timeout = timeout;
+		this.timeUnit = timeUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "timeout=" + timeout
+				+ ", timeUnit=" + timeUnit
+				+ ", exceptionOnTimeout=" + exceptionOnTimeout
+				+ "]";
+	}
+
+	/**
+	 * @return A timeout manager with the same timeout, but that will throw an exception when the timeout is reached.
+	 * To be used when partial results would be indistinguishable from complete results.
+	 */
+	public TimeoutManager withExceptionOnTimeout() {
+		if ( timeout == null || exceptionOnTimeout ) {
+			return this;
+		}
+		return new TimeoutManager( timeout, timeUnit, true );
+	}
+
+	public boolean hasTimeout() {
+		return timeout != null;
+	}
+
+	/**
+	 * @param collector A collector.
+	 * @return A collector that will throw a {@link TimeLimitingCollector.TimeExceededException}
+	 * when the timeout is reached, counting from now, or the given collector if there is no timeout.
+	 */
+	public Collector decorateCollector(Collector collector) {
+		if ( timeout == null ) {
+			return collector;
+		}
+		TimeLimitingCollector timeLimitingCollector = new TimeLimitingCollector(
+				collector, NanoTimeCounter.INSTANCE, timeUnit.toNanos( timeout )
+		);
+		timeLimitingCollector.setBaseline();
+		return timeLimitingCollector;
+	}
+
+	/**
+	 * To be called when a {@link TimeLimitingCollector.TimeExceededException} is caught.
+	 *
+	 * @param e The exception.
+	 * @param luceneQuery The query that timed out.
+	 * @throws org.hibernate.search.util.common.SearchTimeoutException If partial results are not acceptable.
+	 */
+	public void onTimedOut(TimeLimitingCollector.TimeExceededException e, Query luceneQuery) {
+		if ( exceptionOnTimeout ) {
+			throw log.timedOut( timeout, timeUnit, luceneQuery, e );
+		}
+		// Otherwise, just return what was collected so far
+	}
+
+	/**
+	 * A counter returning {@link System#nanoTime()},
+	 * so that we don't need the global timer thread used by default in {@link TimeLimitingCollector}.
+	 */
+	private static final class NanoTimeCounter extends Counter {
+		private static final NanoTimeCounter INSTANCE = new NanoTimeCounter();
+
+		@Override
+		public long addAndGet(long delta) {
+			// The counter is not incremented: it always returns the current time
+			return get();
+		}
+
+		@Override
+		public long get() {
+			return System.nanoTime();
+		}
+	}
+}
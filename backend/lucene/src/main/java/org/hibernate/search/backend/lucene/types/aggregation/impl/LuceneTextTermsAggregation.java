@@ -11,13 +11,13 @@
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 
 import org.apache.lucene.facet.FacetResult;
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.facet.FacetsConfig;
-import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState.OrdRange;
@@ -33,15 +33,18 @@
 
 	private static final Comparator<String> STRING_COMPARATOR = Comparator.naturalOrder();
 
+	private final SortedSetDocValuesReaderStateCache docValuesReaderStateCache;
+
 	private LuceneTextTermsAggregation(Builder<K> builder) {
 		super( builder );
+		this.docValuesReaderStateCache = builder.searchContext.getDocValuesReaderStateCache();
 	}
 
 	@Override
 	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector, int limit)
 			throws IOException {
 		// May throw IllegalArgumentException
-		SortedSetDocValuesReaderState docValuesReaderState = new DefaultSortedSetDocValuesReaderState( reader );
+		SortedSetDocValuesReaderState docValuesReaderState = getDocValuesReaderState( reader );
 
 		SortedSetDocValuesFacetCounts facetCounts = new SortedSetDocValuesFacetCounts(
 				docValuesReaderState, facetsCollector
@@ -56,7 +59,7 @@ Set<String> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			throws IOException {
 		Set<String> collectedTerms = new LinkedHashSet<>();
 
-		SortedSetDocValuesReaderState docValuesReaderState = new DefaultSortedSetDocValuesReaderState( reader );
+		SortedSetDocValuesReaderState docValuesReaderState = getDocValuesReaderState( reader );
 		OrdRange ordRange = docValuesReaderState.getOrdRange( absoluteFieldPath );
 		SortedSetDocValues docValues = docValuesReaderState.getDocValues();
 
@@ -77,6 +80,11 @@ Set<String> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 		return collectedTerms;
 	}
 
+	private SortedSetDocValuesReaderState getDocValuesReaderState(IndexReader reader) throws IOException {
+		// Building the state is costly: reuse it across queries as long as the index readers did not change
+		return docValuesReaderStateCache.get( reader, FacetsConfig.DEFAULT_INDEX_FIELD_NAME );
+	}
+
 	private String lookupOrd(SortedSetDocValues docValues, int ord) throws IOException {
 		String pathAsString = docValues.lookupOrd( ord ).utf8ToString();
 		// FacetsConfig does not store the term directly: it prepends the field name
@@ -89,10 +89,31 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 				&& ( sortable == other.sortable ) && ( aggregable == other.aggregable );
 	}
 
+	@Override
+	public boolean isDecodableFromDocValues() {
+		return ( sortable || aggregable ) && isEncodingLossless();
+	}
+
+	@Override
+	public F decodeFromDocValue(Long docValue) {
+		if ( docValue == null ) {
+			return null;
+		}
+		return decode( getDomain().fromDocValue( docValue ) );
+	}
+
 	public abstract F decode(E encoded);
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Number)} returns exactly the value that was passed
+	 * to {@link #encode(Object)}, i.e. if projections can rely on doc values instead of stored fields.
+	 */
+	boolean isEncodingLossless() {
+		return false;
+	}
+
 	abstract void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
@@ -54,4 +54,9 @@ public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 }
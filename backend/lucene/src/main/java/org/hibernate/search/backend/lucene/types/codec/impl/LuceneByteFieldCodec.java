@@ -53,4 +53,9 @@ public Byte decode(Integer encoded) {
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
 	}
+
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
 }
@@ -52,4 +52,9 @@ public Double decode(Double encoded) {
 	public LuceneNumericDomain<Double> getDomain() {
 		return LuceneDoubleDomain.get();
 	}
+
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
 }
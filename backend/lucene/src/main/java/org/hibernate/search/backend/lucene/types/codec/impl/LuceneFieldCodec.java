@@ -9,6 +9,7 @@
 import java.util.function.Consumer;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.search.Query;
@@ -56,6 +57,30 @@ default void contributeNestedDocumentPath(String nestedDocumentPath, Consumer<St
 	 */
 	F decode(Document document, String absoluteFieldPath);
 
+	/**
+	 * Determine whether the value can be decoded from numeric doc values,
+	 * which is much cheaper than loading stored fields.
+	 *
+	 * @return {@code true} if {@link #decodeFromDocValue(Long)} is supported, {@code false} otherwise.
+	 */
+	default boolean isDecodableFromDocValues() {
+		return false;
+	}
+
+	/**
+	 * Extract the value from numeric doc values, typically used in projections.
+	 * <p>
+	 * Only called if {@link #isDecodableFromDocValues()} returns {@code true}.
+	 *
+	 * @param docValue The raw numeric doc value, or {@code null} if the document has no value for this field.
+	 * @return The decoded value.
+	 */
+	default F decodeFromDocValue(Long docValue) {
+		throw new AssertionFailure(
+				"This method should not be called, as this codec does not support decoding from doc values."
+		);
+	}
+
 	/**
 	 * Create a {@link Query} that will match every document in which the field with the given path appears.
 	 *
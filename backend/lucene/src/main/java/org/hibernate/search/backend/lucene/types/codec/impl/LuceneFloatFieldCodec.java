@@ -52,4 +52,9 @@ public Float decode(Float encoded) {
 	public LuceneNumericDomain<Float> getDomain() {
 		return LuceneFloatDomain.get();
 	}
+
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
 }
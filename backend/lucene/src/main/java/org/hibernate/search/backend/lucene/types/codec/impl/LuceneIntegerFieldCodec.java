@@ -51,4 +51,9 @@ public Integer decode(Integer encoded) {
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
 	}
+
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
 }
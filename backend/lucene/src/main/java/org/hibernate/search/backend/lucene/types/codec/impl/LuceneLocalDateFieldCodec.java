@@ -72,4 +72,9 @@ public LocalDate decode(Long encoded) {
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
 	}
+
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
 }
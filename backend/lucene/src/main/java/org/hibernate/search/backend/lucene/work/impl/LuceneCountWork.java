@@ -28,7 +28,7 @@ public class LuceneCountWork implements LuceneReadWork<Integer> {
 	@Override
 	public Integer execute(LuceneReadWorkExecutionContext context) {
 		try {
-			IndexSearcher indexSearcher = new IndexSearcher( context.getIndexReader() );
+			IndexSearcher indexSearcher = context.createIndexSearcher();
 
 			return searcher.count( indexSearcher );
 		}
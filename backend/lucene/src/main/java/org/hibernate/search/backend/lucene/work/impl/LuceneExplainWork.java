@@ -38,7 +38,7 @@ class LuceneExplainWork implements LuceneReadWork<Explanation> {
 	@Override
 	public Explanation execute(LuceneReadWorkExecutionContext context) {
 		try {
-			IndexSearcher indexSearcher = new IndexSearcher( context.getIndexReader() );
+			IndexSearcher indexSearcher = context.createIndexSearcher();
 
 			int luceneDocId = getLuceneDocId( indexSearcher );
 
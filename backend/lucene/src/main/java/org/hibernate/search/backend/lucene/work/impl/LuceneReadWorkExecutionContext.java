@@ -9,12 +9,19 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 
 
 public interface LuceneReadWorkExecutionContext {
 
 	IndexReader getIndexReader();
 
+	/**
+	 * @return A new index searcher for {@link #getIndexReader() the index reader},
+	 * configured to search segments concurrently if enabled in the backend.
+	 */
+	IndexSearcher createIndexSearcher();
+
 	EventContext getEventContext();
 
 }
@@ -35,7 +35,7 @@
 	@Override
 	public R execute(LuceneReadWorkExecutionContext context) {
 		try {
-			IndexSearcher indexSearcher = new IndexSearcher( context.getIndexReader() );
+			IndexSearcher indexSearcher = context.createIndexSearcher();
 
 			return searcher.search(
 					indexSearcher, offset, limit
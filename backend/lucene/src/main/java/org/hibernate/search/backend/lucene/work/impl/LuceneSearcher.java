@@ -11,11 +11,14 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R> {
 
 	R search(IndexSearcher indexSearcher, int offset, Integer limit) throws IOException;
 
+	R scroll(IndexSearcher indexSearcher, ScoreDoc after, int chunkSize) throws IOException;
+
 	int count(IndexSearcher indexSearcher) throws IOException;
 
 	Explanation explain(IndexSearcher indexSearcher, int luceneDocId) throws IOException;
@@ -10,6 +10,7 @@
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public interface LuceneWorkFactory {
@@ -28,6 +29,8 @@ public interface LuceneWorkFactory {
 
 	<R> LuceneReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit);
 
+	<R> LuceneReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int chunkSize);
+
 	LuceneReadWork<Integer> count(LuceneSearcher<?> searcher);
 
 	LuceneReadWork<Explanation> explain(LuceneSearcher<?> searcher,
@@ -11,6 +11,7 @@
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public class LuceneWorkFactoryImpl implements LuceneWorkFactory {
 
@@ -57,6 +58,11 @@ public <R> LuceneReadWork<R> search(LuceneSearcher<R> searcher, Integer offset,
 		return new LuceneSearchWork<>( searcher, offset, limit );
 	}
 
+	@Override
+	public <R> LuceneReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int chunkSize) {
+		return new LuceneScrollWork<>( searcher, after, chunkSize );
+	}
+
 	@Override
 	public LuceneReadWork<Integer> count(LuceneSearcher<?> searcher) {
 		return new LuceneCountWork( searcher );
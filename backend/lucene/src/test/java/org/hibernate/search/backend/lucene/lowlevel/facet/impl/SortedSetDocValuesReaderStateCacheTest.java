@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SortedSetDocValuesReaderStateCacheTest {
+
+	private static final String FIELD = FacetsConfig.DEFAULT_INDEX_FIELD_NAME;
+
+	private final FacetsConfig facetsConfig = new FacetsConfig();
+	private final SortedSetDocValuesReaderStateCache cache = new SortedSetDocValuesReaderStateCache();
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void reuseAcrossTopLevelReaders() throws IOException {
+		// Commit after each document to get multiple segments
+		index( "dim1", "a" );
+		index( "dim1", "b" );
+		index( "dim2", "c" );
+
+		DirectoryReader firstIndexReader = DirectoryReader.open( directory );
+		DirectoryReader secondIndexReader = DirectoryReader.open( directory );
+		assertThat( firstIndexReader.leaves() ).hasSize( 3 );
+
+		// Each query wraps the same directory readers in a new top-level reader
+		try ( IndexReader firstQueryReader = new MultiReader( firstIndexReader, secondIndexReader );
+				IndexReader secondQueryReader = new MultiReader(
+						new IndexReader[] { firstIndexReader, secondIndexReader }, false ) ) {
+
+			SortedSetDocValuesReaderState firstState = cache.get( firstQueryReader, FIELD );
+			assertThat( cache.size() ).isEqualTo( 1 );
+			SortedSetDocValuesReaderState secondState = cache.get( secondQueryReader, FIELD );
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			assertThat( firstState.getReader() ).isSameAs( firstQueryReader );
+			assertThat( secondState.getReader() ).isSameAs( secondQueryReader );
+			assertThat( secondState.getPrefixToOrdRange() ).isSameAs( firstState.getPrefixToOrdRange() );
+
+			SortedSetDocValuesReaderState expectedState =
+					new DefaultSortedSetDocValuesReaderState( secondQueryReader, FIELD );
+			assertThat( secondState.getSize() ).isEqualTo( expectedState.getSize() );
+			assertThat( secondState.getPrefixToOrdRange().keySet() )
+					.containsExactlyInAnyOrderElementsOf( expectedState.getPrefixToOrdRange().keySet() );
+			assertThat( countFacets( firstState, "dim1" ).toString() )
+					.isEqualTo( countFacets( expectedState, "dim1" ).toString() );
+			assertThat( countFacets( secondState, "dim2" ).toString() )
+					.isEqualTo( countFacets( expectedState, "dim2" ).toString() );
+		}
+
+		// Closing the index readers evicts the cached data
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void refresh() throws IOException {
+		index( "dim1", "a" );
+
+		DirectoryReader directoryReader = DirectoryReader.open( directory );
+		try {
+			SortedSetDocValuesReaderState state = cache.get( directoryReader, FIELD );
+			assertThat( state.getSize() ).isEqualTo( 1 );
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			index( "dim1", "b" );
+
+			DirectoryReader refreshedReader = DirectoryReader.openIfChanged( directoryReader );
+			assertThat( refreshedReader ).isNotNull();
+			directoryReader.close();
+			directoryReader = refreshedReader;
+
+			// The data for the old reader was evicted, and new data is built for the refreshed reader
+			assertThat( cache.size() ).isEqualTo( 0 );
+			state = cache.get( directoryReader, FIELD );
+			assertThat( state.getSize() ).isEqualTo( 2 );
+			assertThat( cache.size() ).isEqualTo( 1 );
+		}
+		finally {
+			directoryReader.close();
+		}
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	private void index(String dimension, String value) throws IOException {
+		Document document = new Document();
+		document.add( new SortedSetDocValuesFacetField( dimension, value ) );
+		indexWriter.addDocument( facetsConfig.build( document ) );
+		indexWriter.commit();
+	}
+
+	private static FacetResult countFacets(SortedSetDocValuesReaderState state, String dimension) throws IOException {
+		FacetsCollector facetsCollector = new FacetsCollector();
+		new IndexSearcher( state.getReader() ).search( new MatchAllDocsQuery(), facetsCollector );
+		return new SortedSetDocValuesFacetCounts( state, facetsCollector ).getTopChildren( 10, dimension );
+	}
+}
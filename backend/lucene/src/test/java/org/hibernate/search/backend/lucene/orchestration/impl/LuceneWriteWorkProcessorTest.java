@@ -15,6 +15,8 @@
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWorkExecutionContext;
@@ -40,12 +42,10 @@ public class LuceneWriteWorkProcessorTest extends EasyMockSupport {
 
 	private EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
 	private IndexWriterDelegator indexWriterDelegatorMock = createStrictMock( IndexWriterDelegator.class );
+	private IndexReaderProvider indexReaderProviderMock = createStrictMock( IndexReaderProvider.class );
 	private FailureHandler failureHandlerMock = createStrictMock( FailureHandler.class );
 
-	private LuceneWriteWorkProcessor processor = new LuceneWriteWorkProcessor(
-			INDEX_NAME, indexEventContext, indexWriterDelegatorMock,
-			failureHandlerMock
-	);
+	private LuceneWriteWorkProcessor processor = createProcessor( IOStrategyName.DIRECTORY );
 
 	private List<LuceneWriteWork<?>> workMocks = new ArrayList<>();
 
@@ -67,6 +67,7 @@ public void simple() throws IOException {
 		resetAll();
 		// There was no commit in the last workset, there must be one here
 		indexWriterDelegatorMock.commit();
+		indexReaderProviderMock.setOutdated( false );
 		replayAll();
 		processor.endBatch();
 		verifyAll();
@@ -90,6 +91,169 @@ public void simple() throws IOException {
 		verifyAll();
 	}
 
+	@Test
+	public void nearRealTime() throws IOException {
+		processor = createProcessor( IOStrategyName.NEAR_REAL_TIME );
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 3, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+		// Near-real-time readers see uncommitted changes: forced refreshes don't require a commit
+		testSuccessfulWorkSet( 5, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE, false );
+		testSuccessfulWorkSet( 4, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE, true );
+		testSuccessfulWorkSet( 2, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE, false );
+		testSuccessfulWorkSet( 3, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.FORCE, true );
+		testSuccessfulWorkSet( 1, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE, false );
+
+		resetAll();
+		// There was no commit in the last workset, there must be one here
+		indexWriterDelegatorMock.commit();
+		indexReaderProviderMock.setOutdated( false );
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+	}
+
+	@Test
+	public void delayedCommit() throws IOException {
+		// Long enough for the interval to never elapse during the test
+		processor = createProcessor( IOStrategyName.DIRECTORY, 3_600_000, 10 );
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 3, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+		testSuccessfulWorkSet( 4, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+
+		resetAll();
+		// The commit interval is not elapsed and there are fewer uncommitted operations than the maximum
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+		assertThat( processor.hasDelayedCommit() ).isTrue();
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		// Forced commits are still executed immediately
+		testSuccessfulWorkSet( 1, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE, true );
+		testSuccessfulWorkSet( 5, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+		// The maximum number of uncommitted operations is reached: commit without waiting for the end of the batch
+		testSuccessfulWorkSet( 6, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, true );
+
+		resetAll();
+		// Everything was committed: no need for a commit here
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+		assertThat( processor.hasDelayedCommit() ).isFalse();
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 2, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+
+		resetAll();
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+		assertThat( processor.hasDelayedCommit() ).isTrue();
+
+		// The scheduler requests the delayed commit
+		resetAll();
+		indexWriterDelegatorMock.commit();
+		indexReaderProviderMock.setOutdated( false );
+		replayAll();
+		processor.beginBatch();
+		processor.commitDelayedChanges();
+		processor.endBatch();
+		verifyAll();
+		assertThat( processor.hasDelayedCommit() ).isFalse();
+
+		// Nothing to commit: the delayed commit is a no-op
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		processor.commitDelayedChanges();
+		processor.endBatch();
+		verifyAll();
+	}
+
+	@Test
+	public void error_delayedCommit() throws IOException {
+		RuntimeException commitException = new RuntimeException( "Some message" );
+
+		processor = createProcessor( IOStrategyName.DIRECTORY, 3_600_000, 1000 );
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 2, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+
+		resetAll();
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 3, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false );
+
+		resetAll();
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		// Fail upon delayed commit
+
+		Capture<IndexFailureContext> failureContextCapture = Capture.newInstance();
+		resetAll();
+		indexWriterDelegatorMock.commit();
+		expectLastCall().andThrow( commitException );
+		indexWriterDelegatorMock.forceLockRelease();
+		indexReaderProviderMock.setOutdated( false );
+		expectWorkGetInfo( 0, 1, 2, 3, 4 );
+		failureHandlerMock.handle( capture( failureContextCapture ) );
+		replayAll();
+		processor.beginBatch();
+		processor.commitDelayedChanges();
+		processor.endBatch();
+		verifyAll();
+		assertThat( processor.hasDelayedCommit() ).isFalse();
+
+		IndexFailureContext failureContext = failureContextCapture.getValue();
+		assertThat( failureContext.getIndexName() ).isEqualTo( INDEX_NAME );
+		assertThat( failureContext.getThrowable() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to commit" )
+				.hasMessageContaining( INDEX_NAME )
+				.hasCause( commitException );
+		assertThat( failureContext.getFailingOperation() ).asString()
+				.contains( "Delayed commit of index works" );
+		// Uncommitted operations must include works from all batches since the last commit
+		Assertions.<Object>assertThat( failureContext.getUncommittedOperations() )
+				.containsExactly(
+						// First batch
+						workInfo( 0 ), workInfo( 1 ),
+						// Second batch
+						workInfo( 2 ), workInfo( 3 ), workInfo( 4 )
+				);
+	}
+
 	@Test
 	public void error_workExecute_commitNone() throws IOException {
 		resetAll();
@@ -121,6 +285,7 @@ public void error_workExecute_commitNone() throws IOException {
 		resetAll();
 		expect( failingWork.execute( EasyMock.anyObject() ) ).andThrow( workException );
 		indexWriterDelegatorMock.forceLockRelease();
+		indexReaderProviderMock.setOutdated( false );
 		expectWorkGetInfo( 2, 3, 7 );
 		failureHandlerMock.handle( capture( failureContextCapture ) );
 		replayAll();
@@ -152,6 +317,7 @@ public void error_workExecute_commitNone() throws IOException {
 		// A work may have failed, but there were still successful changes after the failure: these must be committed
 		resetAll();
 		indexWriterDelegatorMock.commit();
+		indexReaderProviderMock.setOutdated( false );
 		replayAll();
 		processor.endBatch();
 		verifyAll();
@@ -191,6 +357,7 @@ public void error_workExecute_commitForce() throws IOException {
 		resetAll();
 		expect( failingWork.execute( EasyMock.anyObject() ) ).andThrow( workException );
 		indexWriterDelegatorMock.forceLockRelease();
+		indexReaderProviderMock.setOutdated( false );
 		expectWorkGetInfo( 2, 3, 7 );
 		failureHandlerMock.handle( capture( failureContextCapture ) );
 		replayAll();
@@ -222,6 +389,7 @@ public void error_workExecute_commitForce() throws IOException {
 		// A work may have failed, but there still were successful changes after the failure: these must be committed
 		resetAll();
 		indexWriterDelegatorMock.commit();
+		indexReaderProviderMock.setOutdated( false );
 		replayAll();
 		processor.endBatch();
 		verifyAll();
@@ -261,6 +429,7 @@ public void error_workExecuteAndForceLockRelease() throws IOException {
 		// ... and forceLockRelease fails too
 		indexWriterDelegatorMock.forceLockRelease();
 		expectLastCall().andThrow( forceLockReleaseException );
+		indexReaderProviderMock.setOutdated( false );
 		expectWorkGetInfo( 2, 3, 6 );
 		failureHandlerMock.handle( capture( failureContextCapture ) );
 		replayAll();
@@ -301,6 +470,7 @@ public void error_workExecuteAndForceLockRelease() throws IOException {
 		// A work may have failed, but there were still successful changes, before and after the failure: these must be committed
 		resetAll();
 		indexWriterDelegatorMock.commit();
+		indexReaderProviderMock.setOutdated( false );
 		replayAll();
 		processor.endBatch();
 		verifyAll();
@@ -340,6 +510,7 @@ public void error_workSetCommit() throws IOException {
 		indexWriterDelegatorMock.commit();
 		expectLastCall().andThrow( commitException );
 		indexWriterDelegatorMock.forceLockRelease();
+		indexReaderProviderMock.setOutdated( false );
 		expectWorkGetInfo( 2, 3, 4, 5, 6, 7, 8, 9 );
 		failureHandlerMock.handle( capture( failureContextCapture ) );
 		replayAll();
@@ -410,6 +581,7 @@ public void error_workSetCommitAndForceLockRelease() throws IOException {
 		// ... and forceLockRelease fails too
 		indexWriterDelegatorMock.forceLockRelease();
 		expectLastCall().andThrow( forceLockReleaseException );
+		indexReaderProviderMock.setOutdated( false );
 		expectWorkGetInfo( 2, 3, 4, 5, 6, 7, 8, 9 );
 		failureHandlerMock.handle( capture( failureContextCapture ) );
 		// We don't expect any commit when a workset fails
@@ -486,6 +658,7 @@ public void error_batchCommit() throws IOException {
 		indexWriterDelegatorMock.commit();
 		expectLastCall().andThrow( commitException );
 		indexWriterDelegatorMock.forceLockRelease();
+		indexReaderProviderMock.setOutdated( false );
 		expectWorkGetInfo( 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 );
 		failureHandlerMock.handle( capture( failureContextCapture ) );
 		replayAll();
@@ -547,6 +720,7 @@ public void error_batchCommitAndForceLockRelease() throws IOException {
 		expectLastCall().andThrow( commitException );
 		indexWriterDelegatorMock.forceLockRelease();
 		expectLastCall().andThrow( forceLockReleaseException );
+		indexReaderProviderMock.setOutdated( false );
 		failureHandlerMock.handle( capture( failureContextCapture ) );
 		expectWorkGetInfo( 2, 3, 4, 5, 6, 7, 8, 9, 10, 11 );
 		replayAll();
@@ -593,12 +767,29 @@ private void testSuccessfulWorkSet(int workCount,
 		resetAll();
 		if ( expectCommit ) {
 			indexWriterDelegatorMock.commit();
+			indexReaderProviderMock.setOutdated( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) );
+		}
+		else if ( DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ) {
+			indexReaderProviderMock.setOutdated( true );
 		}
 		replayAll();
 		processor.afterSuccessfulWorkSet();
 		verifyAll();
 	}
 
+	private LuceneWriteWorkProcessor createProcessor(IOStrategyName ioStrategy) {
+		return createProcessor( ioStrategy, 0, 1000 );
+	}
+
+	private LuceneWriteWorkProcessor createProcessor(IOStrategyName ioStrategy,
+			int commitIntervalMs, int commitMaxOperations) {
+		return new LuceneWriteWorkProcessor(
+				INDEX_NAME, indexEventContext, indexWriterDelegatorMock, indexReaderProviderMock, ioStrategy,
+				commitIntervalMs, commitMaxOperations,
+				failureHandlerMock
+		);
+	}
+
 	private void testWorkSetBeginning(int workCount,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) throws IOException {
 		Capture<LuceneWriteWorkExecutionContext> contextCapture = Capture.newInstance();
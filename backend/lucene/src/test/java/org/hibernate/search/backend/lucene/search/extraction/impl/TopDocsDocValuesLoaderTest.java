@@ -0,0 +1,105 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.BinaryDocValuesField;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TopDocsDocValuesLoaderTest {
+
+	private static final String STRING_FIELD = "string";
+	private static final String NUMERIC_FIELD = "numeric";
+
+	private Directory directory;
+	private IndexWriter indexWriter;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void multipleSegments_unorderedHits() throws IOException {
+		// Commit after each document to get multiple segments
+		index( "a", 1L );
+		index( "b", null );
+		index( "c", 3L );
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			assertThat( reader.leaves() ).hasSize( 3 );
+
+			List<Map<String, Object>> values = loader().load( reader, new ScoreDoc[] {
+					new ScoreDoc( 2, 1.0f ), new ScoreDoc( 0, 1.0f ), new ScoreDoc( 1, 1.0f )
+			} );
+
+			assertThat( values ).hasSize( 3 );
+			assertThat( values.get( 0 ) ).containsEntry( STRING_FIELD, "c" ).containsEntry( NUMERIC_FIELD, 3L );
+			assertThat( values.get( 1 ) ).containsEntry( STRING_FIELD, "a" ).containsEntry( NUMERIC_FIELD, 1L );
+			assertThat( values.get( 2 ) ).containsEntry( STRING_FIELD, "b" ).containsEntry( NUMERIC_FIELD, null );
+		}
+	}
+
+	@Test
+	public void stringWithoutDocValues_fallbackToStoredField() throws IOException {
+		// Simulates a document indexed before doc values were added for this field
+		Document document = new Document();
+		document.add( new StringField( STRING_FIELD, "a", Field.Store.YES ) );
+		indexWriter.addDocument( document );
+		indexWriter.commit();
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			List<Map<String, Object>> values = loader().load( reader, new ScoreDoc[] { new ScoreDoc( 0, 1.0f ) } );
+
+			assertThat( values.get( 0 ) ).containsEntry( STRING_FIELD, "a" ).containsEntry( NUMERIC_FIELD, null );
+		}
+	}
+
+	private TopDocsDocValuesLoader loader() {
+		Map<String, TopDocsDocValuesLoader.ValueType> fields = new HashMap<>();
+		fields.put( STRING_FIELD, TopDocsDocValuesLoader.ValueType.STRING );
+		fields.put( NUMERIC_FIELD, TopDocsDocValuesLoader.ValueType.NUMERIC );
+		return new TopDocsDocValuesLoader( fields );
+	}
+
+	private void index(String string, Long numeric) throws IOException {
+		Document document = new Document();
+		document.add( new BinaryDocValuesField( STRING_FIELD, new BytesRef( string ) ) );
+		if ( numeric != null ) {
+			document.add( new NumericDocValuesField( NUMERIC_FIELD, numeric ) );
+		}
+		indexWriter.addDocument( document );
+		indexWriter.commit();
+	}
+}
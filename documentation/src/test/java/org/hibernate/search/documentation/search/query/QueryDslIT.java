@@ -9,10 +9,13 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.SharedCacheMode;
@@ -27,13 +30,17 @@
 import org.hibernate.search.documentation.testsupport.BackendConfigurations;
 import org.hibernate.search.documentation.testsupport.ElasticsearchBackendConfiguration;
 import org.hibernate.search.documentation.testsupport.LuceneBackendConfiguration;
+import org.hibernate.search.engine.search.query.SearchMultiResult;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingSynchronizationStrategyName;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.search.util.impl.integrationtest.common.rule.BackendConfiguration;
 import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
@@ -225,6 +232,79 @@ public void pagination() {
 		} );
 	}
 
+	@Test
+	public void scrolling() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			List<Integer> bookIds = new ArrayList<>();
+			// tag::scrolling[]
+			try ( SearchScroll<Book> scroll = searchSession.search( Book.class )
+					.predicate( f -> f.matchAll() )
+					.toQuery()
+					.scroll( 20 ) ) { // <1>
+				for ( SearchScrollResult<Book> chunk = scroll.next(); // <2>
+						chunk.hasHits(); chunk = scroll.next() ) { // <3>
+					for ( Book hit : chunk.getHits() ) { // <4>
+						// ... do something with the hits ...
+						bookIds.add( hit.getId() );
+					}
+
+					entityManager.flush(); // <5>
+					entityManager.clear(); // <5>
+				}
+			}
+			// end::scrolling[]
+
+			assertThat( bookIds ).containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+	}
+
+	@Test
+	public void fetchAsync() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetchAsync[]
+			CompletionStage<List<String>> hitsFuture = searchSession.search( Book.class )
+					.asProjection( f -> f.field( "title", String.class ) ) // <1>
+					.predicate( f -> f.matchAll() )
+					.fetchHitsAsync( 20 ); // <2>
+			hitsFuture.thenAccept( hits -> { // <3>
+				// ... do something with the hits ...
+			} );
+			// end::fetchAsync[]
+
+			assertThat( hitsFuture.toCompletableFuture().join() ).hasSize( 4 );
+		} );
+	}
+
+	@Test
+	public void multiSearch() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::multiSearch[]
+			SearchQuery<Book> robotQuery = searchSession.search( Book.class ) // <1>
+					.predicate( f -> f.match().field( "title" )
+							.matching( "robot" ) )
+					.toQuery();
+			SearchQuery<Book> allQuery = searchSession.search( Book.class )
+					.predicate( f -> f.matchAll() )
+					.toQuery();
+
+			SearchMultiResult multiResult = searchSession.multiSearch() // <2>
+					.add( robotQuery, 20 ) // <3>
+					.add( allQuery, 0, 5 )
+					.fetch(); // <4>
+
+			SearchResult<Book> robotResult = multiResult.get( robotQuery ); // <5>
+			SearchResult<Book> allResult = multiResult.get( allQuery );
+			// end::multiSearch[]
+
+			assertThat( robotResult.getHits() ).extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK3_ID );
+			assertThat( allResult.getTotalHitCount() ).isEqualTo( 4L );
+		} );
+	}
+
 	@Test
 	public void searchQuery() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
@@ -337,6 +417,84 @@ public void tookAndTimedOut_elasticsearch() {
 		} );
 	}
 
+	@Test
+	public void failAfter() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::failAfter[]
+			try {
+				SearchResult<Book> result = searchSession.search( Book.class ) // <1>
+						.predicate( f -> f.match()
+								.field( "title" )
+								.matching( "robot" ) )
+						.failAfter( 500, TimeUnit.MILLISECONDS ) // <2>
+						.fetch( 20 ); // <3>
+			}
+			catch (SearchTimeoutException e) { // <4>
+				// ...
+			}
+			// end::failAfter[]
+		} );
+	}
+
+	@Test
+	public void truncateAfter() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::truncateAfter[]
+			SearchResult<Book> result = searchSession.search( Book.class ) // <1>
+					.predicate( f -> f.match()
+							.field( "title" )
+							.matching( "robot" ) )
+					.truncateAfter( 500, TimeUnit.MILLISECONDS ) // <2>
+					.fetch( 20 ); // <3>
+
+			boolean timedOut = result.isTimedOut(); // <4>
+			// end::truncateAfter[]
+
+			assertThat( timedOut ).isFalse();
+		} );
+	}
+
+	@Test
+	public void totalHitCountThreshold() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::totalHitCountThreshold[]
+			SearchResult<Book> result = searchSession.search( Book.class ) // <1>
+					.predicate( f -> f.match()
+							.field( "title" )
+							.matching( "robot" ) )
+					.totalHitCountThreshold( 1000 ) // <2>
+					.fetch( 20 ); // <3>
+
+			long totalHitCount = result.getTotalHitCount(); // <4>
+			boolean exact = result.isTotalHitCountExact();
+			// end::totalHitCountThreshold[]
+
+			assertThat( totalHitCount ).isEqualTo( 2 );
+			assertThat( exact ).isTrue();
+		} );
+	}
+
+	@Test
+	public void constantScore() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::constantScore[]
+			List<Book> hits = searchSession.search( Book.class ) // <1>
+					.predicate( f -> f.match()
+							.field( "title" )
+							.matching( "robot" ) )
+					.constantScore() // <2>
+					.fetchHits( 20 ); // <3>
+			// end::constantScore[]
+
+			assertThat( hits ).extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK3_ID );
+		} );
+	}
+
 	@Test
 	public void cacheLookupStrategy() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
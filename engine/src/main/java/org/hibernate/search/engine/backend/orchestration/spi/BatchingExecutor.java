@@ -9,10 +9,13 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.hibernate.search.engine.logging.impl.Log;
@@ -21,6 +24,7 @@
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -30,6 +34,11 @@
  * <p>
  * Useful when works can be merged together for optimization purposes (bulking in Elasticsearch),
  * or when they should never be executed in parallel (writes to a Lucene index).
+ * <p>
+ * By default, the executor waits for a batch to complete before it starts processing the next one.
+ * It can optionally be allowed to start the next batches while previous ones are still executing,
+ * up to a given number of concurrent batches: the queue remains bounded,
+ * so submitting threads will still block when the executor cannot keep up.
  */
 public final class BatchingExecutor<W extends BatchingExecutor.WorkSet<? super P>, P extends BatchingExecutor.WorkProcessor> {
 
@@ -44,6 +53,8 @@
 	private final BlockingQueue<W> workQueue;
 	private final List<W> workBuffer;
 	private final AtomicBoolean processingInProgress;
+	private final Semaphore concurrentBatchesPermits;
+	private final Set<CompletableFuture<?>> inFlightBatches;
 
 	private ExecutorService executorService;
 	private volatile CompletableFuture<?> completionFuture;
@@ -61,6 +72,28 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, fair, 1, failureHandler );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param maxConcurrentBatches The maximum number of batches that may be executing at the same time.
+	 * With {@code 1}, a batch is only started after the previous one completed,
+	 * which preserves the relative execution order of tasks across batches.
+	 * Higher values allow the processor to start a batch while previous batches are still executing,
+	 * so the processor must not rely on previous batches being complete in {@link WorkProcessor#beginBatch()}.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair, int maxConcurrentBatches,
+			FailureHandler failureHandler) {
+		Contracts.assertStrictlyPositive( maxConcurrentBatches, "maxConcurrentBatches" );
 		this.name = name;
 		this.processor = processor;
 		this.failureHandler = failureHandler;
@@ -68,6 +101,8 @@ public BatchingExecutor(String name,
 		workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
 		workBuffer = new ArrayList<>( maxTasksPerBatch );
 		processingInProgress = new AtomicBoolean( false );
+		concurrentBatchesPermits = new Semaphore( maxConcurrentBatches );
+		inFlightBatches = ConcurrentHashMap.newKeySet();
 	}
 
 	/**
@@ -128,8 +163,8 @@ public void submit(W workset) throws InterruptedException {
 	public CompletableFuture<?> getCompletion() {
 		CompletableFuture<?> future = completionFuture;
 		if ( future == null ) {
-			// No processing in progress or scheduled.
-			return CompletableFuture.completedFuture( null );
+			// No processing in progress or scheduled, but some batches may still be executing.
+			return CompletableFuture.allOf( inFlightBatches.toArray( new CompletableFuture<?>[0] ) );
 		}
 		else {
 			// Processing in progress or scheduled; the future will be completed when the queue becomes empty.
@@ -179,48 +214,74 @@ private void ensureProcessingScheduled() {
 	 */
 	private void processBatch() {
 		try {
+			concurrentBatchesPermits.acquire();
+
 			CompletableFuture<?> batchFuture;
-			synchronized (processor) {
-				processor.beginBatch();
-				workBuffer.clear();
+			try {
+				synchronized (processor) {
+					processor.beginBatch();
+					workBuffer.clear();
 
-				workQueue.drainTo( workBuffer, maxTasksPerBatch );
+					workQueue.drainTo( workBuffer, maxTasksPerBatch );
 
-				for ( W workset : workBuffer ) {
-					try {
-						workset.submitTo( processor );
+					for ( W workset : workBuffer ) {
+						try {
+							workset.submitTo( processor );
+						}
+						catch (Throwable e) {
+							workset.markAsFailed( e );
+						}
 					}
-					catch (Throwable e) {
-						workset.markAsFailed( e );
-					}
-				}
 
-				// Nothing more to do, end the batch and terminate
-				batchFuture = processor.endBatch();
+					// Nothing more to do, end the batch and terminate
+					batchFuture = processor.endBatch();
+				}
+			}
+			catch (Throwable e) {
+				concurrentBatchesPermits.release();
+				throw e;
 			}
 
+			inFlightBatches.add( batchFuture );
+			batchFuture.whenComplete( Futures.handler( (ignoredResult, throwable) -> {
+				inFlightBatches.remove( batchFuture );
+				concurrentBatchesPermits.release();
+				if ( throwable != null ) {
+					// This will only happen if there is a bug in the processor
+					handleBatchProcessingFailure( throwable );
+				}
+			} ) );
+
 			/*
-			 * Wait for works to complete before trying to handle the next batch.
+			 * Wait until we are allowed to start another batch before trying to handle the next batch.
+			 * With a single concurrent batch, this means waiting for works to complete.
 			 * Note: timeout is expected to be handled by the processor
 			 * (the Elasticsearch client adds per-request timeouts, in particular),
-			 * so this "join" will not last forever
+			 * so this wait will not last forever.
+			 * While we wait, the queue keeps filling up until submitting threads block,
+			 * which is how backpressure is applied.
 			 */
-			Futures.unwrappedExceptionJoin( batchFuture );
+			concurrentBatchesPermits.acquire();
+			concurrentBatchesPermits.release();
+		}
+		catch (InterruptedException e) {
+			// The executor is being stopped.
+			Thread.currentThread().interrupt();
 		}
 		catch (Throwable e) {
 			// This will only happen if there is a bug in the processor
-			FailureContext.Builder contextBuilder = FailureContext.builder();
-			contextBuilder.throwable( e );
-			contextBuilder.failingOperation( "Work processing in executor '" + name + "'" );
-			failureHandler.handle( contextBuilder.build() );
+			handleBatchProcessingFailure( e );
 		}
 		finally {
-			// We're done executing this batch.
+			// We're done submitting this batch.
 			if ( workQueue.isEmpty() ) {
-				// We're done executing the whole queue: handle getCompletion().
+				// We're done submitting the whole queue: handle getCompletion() once in-flight batches complete.
 				CompletableFuture<?> justFinishedQueueFuture = this.completionFuture;
 				completionFuture = null;
-				justFinishedQueueFuture.complete( null );
+				if ( justFinishedQueueFuture != null ) {
+					CompletableFuture.allOf( inFlightBatches.toArray( new CompletableFuture<?>[0] ) )
+							.whenComplete( (ignoredResult, ignoredThrowable) -> justFinishedQueueFuture.complete( null ) );
+				}
 			}
 			// Allow this thread (or others) to schedule processing again.
 			processingInProgress.set( false );
@@ -245,6 +306,13 @@ private void processBatch() {
 		}
 	}
 
+	private void handleBatchProcessingFailure(Throwable throwable) {
+		FailureContext.Builder contextBuilder = FailureContext.builder();
+		contextBuilder.throwable( throwable );
+		contextBuilder.failingOperation( "Work processing in executor '" + name + "'" );
+		failureHandler.handle( contextBuilder.build() );
+	}
+
 	public interface WorkProcessor {
 
 		void beginBatch();
@@ -314,4 +314,8 @@ void configurationPropertyTrackingUnusedProperties(Set<String> propertyKeys, Str
 			value = "The background failure handler threw an exception while handling a previous failure."
 					+ " The failure may not have been reported.")
 	void failureInFailureHandler(@Cause Throwable t);
+
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "Query '%1$s' was not added to the multi-query, so its result is not available.")
+	SearchException queryNotPartOfMultiQuery(Object query);
 }
@@ -19,4 +19,17 @@
 
 	ProjectionHitMapper<R, E> getProjectionHitMapper();
 
+	/**
+	 * Checks that entities can be loaded without blocking the current thread,
+	 * i.e. through {@link ProjectionHitMapper#loadAsync()}.
+	 * <p>
+	 * Backends call this method before executing a query that loads entities asynchronously,
+	 * so that such queries fail before any request is sent.
+	 *
+	 * @throws RuntimeException If entities cannot be loaded without blocking.
+	 */
+	default void checkAsyncLoadingSupported() {
+		// Supported by default
+	}
+
 }
@@ -7,7 +7,10 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
@@ -18,7 +21,7 @@
 	private final DocumentReferenceConverter<R> documentReferenceConverter;
 	private final EntityLoader<R, ? extends E> objectLoader;
 
-	private final List<R> referencesToLoad = new ArrayList<>();
+	private List<R> referencesToLoad = new ArrayList<>();
 
 	public DefaultProjectionHitMapper(DocumentReferenceConverter<R> documentReferenceConverter,
 			EntityLoader<R, ? extends E> objectLoader) {
@@ -39,7 +42,24 @@ public Object planLoading(DocumentReference reference) {
 
 	@Override
 	public LoadingResult<E> loadBlocking() {
-		return new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		LoadingResult<E> loadingResult = new DefaultLoadingResult<>( objectLoader.loadBlocking( referencesToLoad ) );
+		// Start afresh for the next loading, e.g. for the next chunk when scrolling.
+		// Do not clear the list: the loaded objects may be backed by the list of references.
+		referencesToLoad = new ArrayList<>();
+		return loadingResult;
+	}
+
+	@Override
+	public CompletionStage<LoadingResult<E>> loadAsync() {
+		List<R> references = referencesToLoad;
+		// Start afresh for the next loading, e.g. for the next chunk when scrolling.
+		referencesToLoad = new ArrayList<>();
+		if ( references.isEmpty() ) {
+			// Nothing to load, e.g. a query projecting on fields only:
+			// don't involve the entity loader, which may not support asynchronous loading.
+			return CompletableFuture.completedFuture( new DefaultLoadingResult<>( Collections.emptyList() ) );
+		}
+		return objectLoader.loadAsync( references ).thenApply( DefaultLoadingResult::new );
 	}
 
 	private static class DefaultLoadingResult<E> implements LoadingResult<E> {
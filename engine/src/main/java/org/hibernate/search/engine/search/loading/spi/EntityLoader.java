@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Loads objects into memory using a reference and implementation-specific context.
@@ -25,6 +26,21 @@
 	 */
 	List<E> loadBlocking(List<R> references);
 
+	/**
+	 * Loads the entities corresponding to the given references, without blocking the current thread.
+	 * <p>
+	 * This may be called from a backend thread, e.g. a thread handling HTTP responses,
+	 * so implementations that cannot load entities without blocking
+	 * should throw an exception instead.
+	 *
+	 * @param references A non-empty list of references to the objects to load.
+	 * @return A {@link CompletionStage} that will be completed with a list of entities,
+	 * in the same order the references were given.
+	 * {@code null} is inserted when an object is not found.
+	 * @throws RuntimeException If entities cannot be loaded without blocking.
+	 */
+	CompletionStage<List<E>> loadAsync(List<R> references);
+
 	static <T> EntityLoader<T, T> identity() {
 		return IdentityEntityLoader.get();
 	}
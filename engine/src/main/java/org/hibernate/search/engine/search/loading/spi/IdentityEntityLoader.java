@@ -7,6 +7,8 @@
 package org.hibernate.search.engine.search.loading.spi;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 @SuppressWarnings({ "unchecked", "rawtypes" }) // This implementation works for any E
 class IdentityEntityLoader<E> implements EntityLoader<E, E> {
@@ -21,4 +23,9 @@ public static <E> IdentityEntityLoader<E> get() {
 	public List<E> loadBlocking(List<E> references) {
 		return references;
 	}
+
+	@Override
+	public CompletionStage<List<E>> loadAsync(List<E> references) {
+		return CompletableFuture.completedFuture( references );
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.loading.spi;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.backend.common.DocumentReference;
 
 /**
@@ -39,4 +41,15 @@
 	 */
 	LoadingResult<E> loadBlocking();
 
+	/**
+	 * Loads the entities planned for loading in one go, without blocking the current thread.
+	 * <p>
+	 * This may be called from a backend thread, e.g. a thread handling HTTP responses,
+	 * so implementations must never block.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the loaded entities.
+	 * @throws RuntimeException If entities cannot be loaded without blocking.
+	 */
+	CompletionStage<LoadingResult<E>> loadAsync();
+
 }
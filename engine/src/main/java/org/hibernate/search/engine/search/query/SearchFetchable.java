@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.util.common.SearchException;
 
@@ -114,4 +115,68 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the {@link SearchResult}, limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the {@link SearchResult}, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * Backends that support it (e.g. the Elasticsearch backend) will not block the calling thread
+	 * while the query is being executed.
+	 * Other backends will execute the query synchronously and return an already completed {@link CompletionStage}.
+	 * <p>
+	 * Loading entities asynchronously is only possible with mappers that support it;
+	 * other mappers will only accept asynchronous execution of queries that do not load entities,
+	 * e.g. queries projecting on fields or on entity references.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally if something goes wrong while executing the query or loading entities.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the hits as a {@link List}, limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the hits as a {@link List}, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the total hit count.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the total number of matching entities,
+	 * ignoring pagination settings.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 }
@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+/**
+ * A set of search queries to be executed together.
+ * <p>
+ * Depending on the backend, executing queries together can be more efficient than executing them one by one,
+ * e.g. because a single request is sent to the Elasticsearch cluster,
+ * or because the same index readers are used for all Lucene queries.
+ */
+public interface SearchMultiQuery {
+
+	/**
+	 * Add a query to execute, limiting to {@code limit} hits.
+	 *
+	 * @param query The query to execute.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchMultiQuery add(SearchQuery<?> query, Integer limit);
+
+	/**
+	 * Add a query to execute, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * If the same query is added multiple times, only the last offset and limit are taken into account.
+	 *
+	 * @param query The query to execute.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchMultiQuery add(SearchQuery<?> query, Integer offset, Integer limit);
+
+	/**
+	 * Execute all the added queries and return their results.
+	 * <p>
+	 * Queries succeed or fail independently of each other:
+	 * the failure of a query is only reported when retrieving its result through {@link SearchMultiResult},
+	 * and does not prevent retrieving the results of other queries.
+	 *
+	 * @return The results of all queries.
+	 */
+	SearchMultiResult fetch();
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import org.hibernate.search.util.common.SearchException;
+
+/**
+ * The results of a {@link SearchMultiQuery}.
+ */
+public interface SearchMultiResult {
+
+	/**
+	 * @param query A query that was added to the {@link SearchMultiQuery}.
+	 * @param <H> The type of query hits.
+	 * @return The result of the given query.
+	 * @throws SearchException If the given query was not part of the {@link SearchMultiQuery},
+	 * or if something went wrong while executing that query.
+	 * @throws RuntimeException If something went wrong while loading entities for that query.
+	 * The exact type depends on the mapper, e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	<H> SearchResult<H> get(SearchQuery<H> query);
+
+	/**
+	 * @param query A query that was added to the {@link SearchMultiQuery}.
+	 * @param <H> The type of query hits.
+	 * @param <R> The result type.
+	 * @return The result of the given query, with a more detailed type.
+	 * @throws SearchException If the given query was not part of the {@link SearchMultiQuery},
+	 * or if something went wrong while executing that query.
+	 * @throws RuntimeException If something went wrong while loading entities for that query.
+	 * The exact type depends on the mapper, e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	<H, R extends SearchResult<H>> R get(ExtendedSearchQuery<H, R> query);
+
+}
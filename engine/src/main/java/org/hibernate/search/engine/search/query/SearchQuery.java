@@ -31,4 +31,17 @@
 	 */
 	<Q> Q extension(SearchQueryExtension<Q, H> extension);
 
+	/**
+	 * Start a scroll through the hits of this query, fetching hits in chunks of the given size.
+	 * <p>
+	 * Useful to process a very large number of hits while keeping memory usage constant.
+	 * Aggregations are ignored when scrolling.
+	 * <p>
+	 * The returned scroll must be {@link SearchScroll#close() closed} once it is no longer needed.
+	 *
+	 * @param chunkSize The maximum number of hits to return for each call to {@link SearchScroll#next()}.
+	 * @return The scroll.
+	 */
+	SearchScroll<H> scroll(int chunkSize);
+
 }
@@ -20,6 +20,13 @@
 	 */
 	long getTotalHitCount();
 
+	/**
+	 * @return {@code true} if {@link #getTotalHitCount()} is exact,
+	 * {@code false} if it is only a lower bound because counting stopped after reaching the threshold set with
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long)}.
+	 */
+	boolean isTotalHitCountExact();
+
 	/**
 	 * @return The hits as a {@link List} containing one element for each matched entity.
 	 */
@@ -34,4 +41,11 @@
 	 */
 	<A> A getAggregation(AggregationKey<A> key);
 
+	/**
+	 * @return {@code true} if the query was stopped early because it reached the timeout set with
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#truncateAfter(long, java.util.concurrent.TimeUnit)},
+	 * in which case this result is partial; {@code false} otherwise.
+	 */
+	boolean isTimedOut();
+
 }
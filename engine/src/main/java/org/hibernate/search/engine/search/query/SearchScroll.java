@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+/**
+ * An ongoing scroll through the hits of a search query, fetching hits in chunks.
+ * <p>
+ * Only one chunk of hits is held in memory at any given time,
+ * which makes scrolls suitable for going through a very large number of hits.
+ * <p>
+ * Scrolls hold resources (index readers, server-side contexts, ...)
+ * until they are {@link #close() closed}: make sure to always close them.
+ *
+ * @param <H> The type of query hits.
+ */
+public interface SearchScroll<H> extends AutoCloseable {
+
+	/**
+	 * Releases the resources held by this scroll.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Fetches the next chunk of hits.
+	 *
+	 * @return The next chunk of hits.
+	 * Once all hits have been returned, the chunk will be empty: see {@link SearchScrollResult#hasHits()}.
+	 */
+	SearchScrollResult<H> next();
+
+}
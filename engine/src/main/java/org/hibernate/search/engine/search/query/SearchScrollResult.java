@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.List;
+
+/**
+ * A chunk of hits returned by a {@link SearchScroll}.
+ *
+ * @param <H> The type of hits.
+ */
+public interface SearchScrollResult<H> {
+
+	/**
+	 * @return {@code true} if this chunk contains hits, {@code false} if the end of the scroll was reached.
+	 * Note that {@link #getHits()} may be empty even if this method returns {@code true},
+	 * when all the hits in this chunk refer to entities that could not be loaded.
+	 */
+	boolean hasHits();
+
+	/**
+	 * @return The hits in this chunk, as a {@link List} containing one element for each matched entity.
+	 */
+	List<H> getHits();
+
+	/**
+	 * @return The total number of matching entities, ignoring chunking.
+	 */
+	long getTotalHitCount();
+
+	/**
+	 * @return {@code true} if fetching this chunk was stopped early because it reached the timeout set with
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#truncateAfter(long, java.util.concurrent.TimeUnit)},
+	 * in which case this chunk is partial; {@code false} otherwise.
+	 */
+	boolean isTimedOut();
+
+}
@@ -8,6 +8,7 @@
 
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.aggregation.dsl.AggregationFinalStep;
@@ -101,4 +102,75 @@
 	 */
 	<T> S aggregation(AggregationKey<T> key, Function<? super AF, ? extends AggregationFinalStep<T>> aggregationContributor);
 
+	/**
+	 * Stop the query and throw an exception if it takes longer than the given timeout.
+	 * <p>
+	 * Overrides any previous call to {@link #failAfter(long, TimeUnit)}
+	 * or {@link #truncateAfter(long, TimeUnit)}.
+	 *
+	 * @param timeout The timeout. Must be positive.
+	 * @param timeUnit The unit of {@code timeout}.
+	 * @return {@code this}, for method chaining.
+	 * @see org.hibernate.search.util.common.SearchTimeoutException
+	 */
+	S failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Stop the query and return partial results if it takes longer than the given timeout.
+	 * <p>
+	 * When the timeout is reached, {@link SearchResult#isTimedOut()} will return {@code true}
+	 * and the hits, total hit count and aggregations will only take into account
+	 * the documents that were matched before the timeout.
+	 * <p>
+	 * {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchTotalHitCount()} cannot report partial results,
+	 * so it will throw an exception when the timeout is reached, as if {@link #failAfter(long, TimeUnit)} had been called.
+	 * The same goes for each chunk of a {@link org.hibernate.search.engine.search.query.SearchScroll scroll}
+	 * with the Lucene backend, since a partial chunk would lead to skipping hits in the next chunks.
+	 * <p>
+	 * Overrides any previous call to {@link #failAfter(long, TimeUnit)}
+	 * or {@link #truncateAfter(long, TimeUnit)}.
+	 *
+	 * @param timeout The timeout. Must be positive.
+	 * @param timeUnit The unit of {@code timeout}.
+	 * @return {@code this}, for method chaining.
+	 */
+	S truncateAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Only count hits exactly up to the given threshold.
+	 * <p>
+	 * Once the threshold is reached, the backend may stop counting hits,
+	 * in which case {@link SearchResult#getTotalHitCount()} will only be a lower bound
+	 * and {@link SearchResult#isTotalHitCountExact()} will return {@code false}.
+	 * This allows the backend to skip non-competitive hits, which can make queries much faster
+	 * when the exact total hit count is not needed, e.g. when only displaying "10,000+ results".
+	 * <p>
+	 * By default, hits are always counted exactly.
+	 * <p>
+	 * This has no effect on {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchTotalHitCount()},
+	 * which always returns an exact count.
+	 *
+	 * @param totalHitCountThreshold The number of hits to count exactly. Must be positive.
+	 * @return {@code this}, for method chaining.
+	 */
+	S totalHitCountThreshold(long totalHitCountThreshold);
+
+	/**
+	 * Do not compute relevance scores: all hits will be given the same score.
+	 * <p>
+	 * The predicate is then evaluated as a filter, which is usually faster:
+	 * the backend does not need to compute the score of each hit,
+	 * can skip hits that cannot make it to the top hits,
+	 * and can cache the documents matched by the predicate for later queries.
+	 * <p>
+	 * Useful when relevance does not matter, e.g. when hits are sorted by field or only counted.
+	 * When hits are not explicitly sorted, they are returned in an unspecified, but stable, order.
+	 * <p>
+	 * By default, scores are computed.
+	 *
+	 * @return {@code this}, for method chaining.
+	 * @see org.hibernate.search.engine.search.predicate.dsl.PredicateScoreStep#constantScore()
+	 */
+	S constantScore();
+
 }
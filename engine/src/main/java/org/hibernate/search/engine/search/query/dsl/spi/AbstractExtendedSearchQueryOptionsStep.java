@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.query.dsl.spi;
 
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.search.engine.search.aggregation.dsl.SearchAggregationFactory;
 import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
@@ -49,4 +51,14 @@ public R fetch(Integer offset, Integer limit) {
 		return toQuery().fetch( offset, limit );
 	}
 
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
 }
@@ -9,6 +9,8 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
@@ -35,6 +37,7 @@
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
 import org.hibernate.search.engine.search.sort.spi.SearchSortBuilderFactory;
+import org.hibernate.search.util.common.impl.Contracts;
 
 public abstract class AbstractSearchQueryOptionsStep<
 				S extends SearchQueryOptionsStep<S, H, SF, AF>,
@@ -119,6 +122,35 @@ public <A> S aggregation(AggregationKey<A> key, Function<? super AF, ? extends A
 		return thisAsS();
 	}
 
+	@Override
+	public S failAfter(long timeout, TimeUnit timeUnit) {
+		Contracts.assertStrictlyPositive( timeout, "timeout" );
+		Contracts.assertNotNull( timeUnit, "timeUnit" );
+		searchQueryBuilder.failAfter( timeout, timeUnit );
+		return thisAsS();
+	}
+
+	@Override
+	public S truncateAfter(long timeout, TimeUnit timeUnit) {
+		Contracts.assertStrictlyPositive( timeout, "timeout" );
+		Contracts.assertNotNull( timeUnit, "timeUnit" );
+		searchQueryBuilder.truncateAfter( timeout, timeUnit );
+		return thisAsS();
+	}
+
+	@Override
+	public S totalHitCountThreshold(long totalHitCountThreshold) {
+		Contracts.assertStrictlyPositive( totalHitCountThreshold, "totalHitCountThreshold" );
+		searchQueryBuilder.totalHitCountThreshold( totalHitCountThreshold );
+		return thisAsS();
+	}
+
+	@Override
+	public S constantScore() {
+		searchQueryBuilder.constantScore();
+		return thisAsS();
+	}
+
 	@Override
 	public SearchQuery<H> toQuery() {
 		return searchQueryBuilder.build();
@@ -164,6 +196,31 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return toQuery().fetchHitsAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return toQuery().fetchHitsAsync( offset, limit );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
 	private <B> void contribute(SearchPredicateBuilderFactory<? super C, B> factory, SearchPredicate predicate) {
 		factory.contribute( searchQueryBuilder.toQueryElementCollector(), factory.toImplementation( predicate ) );
 	}
@@ -9,10 +9,13 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -75,4 +78,57 @@ else if ( fetchedHitCount > 1 ) {
 		}
 	}
 
+	/**
+	 * @return An executor able to execute this query together with other queries,
+	 * or {@code null} if this query can only be executed on its own.
+	 * See {@link SearchMultiQueryExecutor}.
+	 */
+	public SearchMultiQueryExecutor getMultiQueryExecutor() {
+		// Not supported by default
+		return null;
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit) {
+		return fetchAsync( null, limit );
+	}
+
+	/**
+	 * Execute the query asynchronously.
+	 * <p>
+	 * This default implementation executes the query synchronously in the calling thread;
+	 * backends able to execute queries without blocking should override it.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to fetch. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the result.
+	 */
+	@Override
+	public CompletionStage<R> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetch( offset, limit ) ) );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return fetchHitsAsync( null, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return fetchAsync( offset, limit ).thenApply( SearchResult::getHits );
+	}
+
+	/**
+	 * Execute the count query asynchronously.
+	 * <p>
+	 * This default implementation executes the query synchronously in the calling thread;
+	 * backends able to execute queries without blocking should override it.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the total hit count.
+	 */
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
 }
@@ -0,0 +1,156 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
+import org.hibernate.search.engine.search.query.SearchMultiResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The default implementation of {@link SearchMultiQuery}.
+ * <p>
+ * Queries are grouped by {@link AbstractSearchQuery#getMultiQueryExecutor() executor},
+ * and each group is executed in one go.
+ * Queries that cannot be executed together with other queries are simply executed one by one.
+ * <p>
+ * Failures are kept per query, so that a failing query does not discard the results of other queries.
+ */
+public final class DefaultSearchMultiQuery implements SearchMultiQuery {
+
+	private final Map<SearchQuery<?>, Paging> pagingByQuery = new IdentityHashMap<>();
+	private final List<SearchQuery<?>> queries = new ArrayList<>();
+
+	@Override
+	public SearchMultiQuery add(SearchQuery<?> query, Integer limit) {
+		return add( query, null, limit );
+	}
+
+	@Override
+	public SearchMultiQuery add(SearchQuery<?> query, Integer offset, Integer limit) {
+		Contracts.assertNotNull( query, "query" );
+		if ( pagingByQuery.put( query, new Paging( offset, limit ) ) == null ) {
+			queries.add( query );
+		}
+		return this;
+	}
+
+	@Override
+	public SearchMultiResult fetch() {
+		Map<SearchQuery<?>, CompletableFuture<SearchResult<?>>> resultsByQuery = new IdentityHashMap<>();
+		Map<SearchMultiQueryExecutor, List<SearchMultiQueryItem<?>>> itemsByExecutor = new LinkedHashMap<>();
+
+		for ( SearchQuery<?> query : queries ) {
+			Paging paging = pagingByQuery.get( query );
+			SearchMultiQueryExecutor executor = query instanceof AbstractSearchQuery
+					? ( (AbstractSearchQuery<?, ?>) query ).getMultiQueryExecutor() : null;
+			if ( executor == null ) {
+				resultsByQuery.put( query, fetchIndividually( query, paging.offset, paging.limit ) );
+			}
+			else {
+				itemsByExecutor.computeIfAbsent( executor, ignored -> new ArrayList<>() )
+						.add( createItem( (AbstractSearchQuery<?, ?>) query, paging ) );
+			}
+		}
+
+		for ( Map.Entry<SearchMultiQueryExecutor, List<SearchMultiQueryItem<?>>> entry : itemsByExecutor.entrySet() ) {
+			List<SearchMultiQueryItem<?>> items = entry.getValue();
+			if ( items.size() == 1 ) {
+				// Nothing to gain from executing a single query through the executor
+				SearchMultiQueryItem<?> item = items.get( 0 );
+				resultsByQuery.put( item.getQuery(),
+						fetchIndividually( item.getQuery(), item.getOffset(), item.getLimit() ) );
+				continue;
+			}
+			List<CompletableFuture<SearchResult<?>>> results;
+			try {
+				results = entry.getKey().execute( items );
+			}
+			catch (RuntimeException e) {
+				// None of the queries could be executed: they all failed
+				CompletableFuture<SearchResult<?>> failure = new CompletableFuture<>();
+				failure.completeExceptionally( e );
+				for ( SearchMultiQueryItem<?> item : items ) {
+					resultsByQuery.put( item.getQuery(), failure );
+				}
+				continue;
+			}
+			for ( int i = 0; i < items.size(); i++ ) {
+				resultsByQuery.put( items.get( i ).getQuery(), results.get( i ) );
+			}
+		}
+
+		return new SearchMultiResultImpl( resultsByQuery );
+	}
+
+	private static CompletableFuture<SearchResult<?>> fetchIndividually(SearchQuery<?> query,
+			Integer offset, Integer limit) {
+		CompletableFuture<SearchResult<?>> future = new CompletableFuture<>();
+		try {
+			future.complete( query.fetch( offset, limit ) );
+		}
+		catch (RuntimeException e) {
+			future.completeExceptionally( e );
+		}
+		return future;
+	}
+
+	private static <H> SearchMultiQueryItem<H> createItem(AbstractSearchQuery<H, ?> query, Paging paging) {
+		return new SearchMultiQueryItem<>( query, paging.offset, paging.limit );
+	}
+
+	private static final class Paging {
+		private final Integer offset;
+		private final Integer limit;
+
+		private Paging(Integer offset, Integer limit) {
+			this.offset = offset;
+			this.limit = limit;
+		}
+	}
+
+	private static final class SearchMultiResultImpl implements SearchMultiResult {
+
+		private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+		private final Map<SearchQuery<?>, CompletableFuture<SearchResult<?>>> resultsByQuery;
+
+		private SearchMultiResultImpl(Map<SearchQuery<?>, CompletableFuture<SearchResult<?>>> resultsByQuery) {
+			this.resultsByQuery = resultsByQuery;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // The result was produced by the query, so it has the right type
+		public <H> SearchResult<H> get(SearchQuery<H> query) {
+			CompletableFuture<SearchResult<?>> result = resultsByQuery.get( query );
+			if ( result == null ) {
+				throw log.queryNotPartOfMultiQuery( query );
+			}
+			// The future is already complete: this throws the failure of this query, if any
+			return (SearchResult<H>) Futures.unwrappedExceptionJoin( result );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // The result was produced by the query, so it has the right type
+		public <H, R extends SearchResult<H>> R get(ExtendedSearchQuery<H, R> query) {
+			return (R) get( (SearchQuery<H>) query );
+		}
+	}
+}
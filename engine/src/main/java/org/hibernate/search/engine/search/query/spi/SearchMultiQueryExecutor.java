@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.search.query.SearchResult;
+
+/**
+ * An executor able to execute multiple search queries together,
+ * e.g. in a single request to a remote cluster.
+ * <p>
+ * Queries whose {@link AbstractSearchQuery#getMultiQueryExecutor()} returns
+ * equal executors may be passed to the same call to {@link #execute(List)}.
+ */
+public interface SearchMultiQueryExecutor {
+
+	/**
+	 * @param items The queries to execute, along with their paging.
+	 * All queries returned an executor equal to this one from {@link AbstractSearchQuery#getMultiQueryExecutor()}.
+	 * @return The outcome of each query, in the same order as {@code items}:
+	 * a future completed with the result of the query, or completed exceptionally if that query failed.
+	 * Queries fail independently of each other, and all futures are complete when this method returns.
+	 * @throws RuntimeException If the queries could not be executed at all.
+	 */
+	List<CompletableFuture<SearchResult<?>>> execute(List<SearchMultiQueryItem<?>> items);
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+/**
+ * A query to execute as part of a multi-query, along with its paging.
+ *
+ * @param <H> The type of query hits.
+ */
+public final class SearchMultiQueryItem<H> {
+
+	private final AbstractSearchQuery<H, ?> query;
+	private final Integer offset;
+	private final Integer limit;
+
+	SearchMultiQueryItem(AbstractSearchQuery<H, ?> query, Integer offset, Integer limit) {
+		this.query = query;
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + query + ", offset=" + offset + ", limit=" + limit + "]";
+	}
+
+	public AbstractSearchQuery<H, ?> getQuery() {
+		return query;
+	}
+
+	public Integer getOffset() {
+		return offset;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.query.spi;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.engine.search.query.SearchQuery;
 
 /**
@@ -20,6 +22,14 @@
 
 	void addRoutingKey(String routingKey);
 
+	void failAfter(long timeout, TimeUnit timeUnit);
+
+	void truncateAfter(long timeout, TimeUnit timeUnit);
+
+	void totalHitCountThreshold(long totalHitCountThreshold);
+
+	void constantScore();
+
 	SearchQuery<H> build();
 
 }
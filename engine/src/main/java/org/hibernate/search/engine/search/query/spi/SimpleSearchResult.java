@@ -20,13 +20,27 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private final List<H> hits;
 	private final Map<AggregationKey<?>, ?> aggregationResults;
+	private final boolean timedOut;
 
 	public SimpleSearchResult(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults) {
+		this( hitCount, hits, aggregationResults, false );
+	}
+
+	public SimpleSearchResult(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			boolean timedOut) {
+		this( hitCount, true, hits, aggregationResults, timedOut );
+	}
+
+	public SimpleSearchResult(long hitCount, boolean hitCountExact, List<H> hits,
+			Map<AggregationKey<?>, ?> aggregationResults, boolean timedOut) {
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.hits = hits;
 		this.aggregationResults = aggregationResults;
+		this.timedOut = timedOut;
 	}
 
 	@Override
@@ -34,6 +48,11 @@ public long getTotalHitCount() {
 		return hitCount;
 	}
 
+	@Override
+	public boolean isTotalHitCountExact() {
+		return hitCountExact;
+	}
+
 	@Override
 	public List<H> getHits() {
 		return hits;
@@ -49,12 +68,19 @@ public <T> T getAggregation(AggregationKey<T> key) {
 		return (T) aggregationResult;
 	}
 
+	@Override
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "hitCount=" + hitCount
+				+ ", hitCountExact=" + hitCountExact
 				+ ", hits=" + hits
 				+ ", aggregations=" + aggregationResults
+				+ ", timedOut=" + timedOut
 				+ "]";
 	}
 }
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+
+public class SimpleSearchScrollResult<H> implements SearchScrollResult<H> {
+
+	private final boolean hasHits;
+	private final List<H> hits;
+	private final long hitCount;
+	private final boolean timedOut;
+
+	public SimpleSearchScrollResult(boolean hasHits, List<H> hits, long hitCount, boolean timedOut) {
+		this.hasHits = hasHits;
+		this.hits = hits;
+		this.hitCount = hitCount;
+		this.timedOut = timedOut;
+	}
+
+	@Override
+	public boolean hasHits() {
+		return hasHits;
+	}
+
+	@Override
+	public List<H> getHits() {
+		return hits;
+	}
+
+	@Override
+	public long getTotalHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "hasHits=" + hasHits
+				+ ", hitCount=" + hitCount
+				+ ", hits=" + hits
+				+ ", timedOut=" + timedOut
+				+ "]";
+	}
+}
@@ -109,6 +109,61 @@ public void simple_batchCompletesLater() throws InterruptedException {
 		verifyAllAsynchronously();
 	}
 
+	@Test
+	public void concurrentBatches() throws InterruptedException {
+		createAndStartExecutor( 2, true, 2 );
+
+		StubWorkSet workSet1Mock = createMock( StubWorkSet.class );
+		CompletableFuture<Object> batch1Future = new CompletableFuture<>();
+		resetAll();
+		processorMock.beginBatch();
+		workSet1Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		replayAll();
+		executor.submit( workSet1Mock );
+		verifyAllAsynchronously();
+
+		// The first batch is still executing, but we allow two concurrent batches: the second batch should start
+		StubWorkSet workSet2Mock = createMock( StubWorkSet.class );
+		CompletableFuture<Object> batch2Future = new CompletableFuture<>();
+		resetAll();
+		processorMock.beginBatch();
+		workSet2Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch2Future );
+		replayAll();
+		executor.submit( workSet2Mock );
+		verifyAllAsynchronously();
+
+		// Two batches are executing: the third batch should only start when one of them completes
+		StubWorkSet workSet3Mock = createMock( StubWorkSet.class );
+		CompletableFuture<Object> batch3Future = new CompletableFuture<>();
+		resetAll();
+		replayAll();
+		executor.submit( workSet3Mock );
+		CompletableFuture<?> completion = executor.getCompletion();
+		// Give the executor a chance to (wrongly) start the third batch
+		Thread.sleep( 100 );
+		verifyAll();
+		FutureAssert.assertThat( completion ).isPending();
+
+		resetAll();
+		processorMock.beginBatch();
+		workSet3Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch3Future );
+		replayAll();
+		batch2Future.complete( null );
+		verifyAllAsynchronously();
+
+		// Completion should only happen once all in-flight batches completed
+		resetAll();
+		replayAll();
+		batch3Future.complete( null );
+		FutureAssert.assertThat( completion ).isPending();
+		batch1Future.complete( null );
+		await().untilAsserted( () -> FutureAssert.assertThat( completion ).isSuccessful() );
+		verifyAll();
+	}
+
 	@Test
 	public void beginBatchFailure() throws InterruptedException {
 		createAndStartExecutor( 4, true );
@@ -237,6 +292,48 @@ public void endBatchFailure() throws InterruptedException {
 		verifyAllAsynchronously();
 	}
 
+	@Test
+	public void endBatchFutureFailure() throws InterruptedException {
+		createAndStartExecutor( 4, true );
+
+		SimulatedFailure simulatedFailure = new SimulatedFailure();
+
+		StubWorkSet workSet1Mock = createMock( StubWorkSet.class );
+		CompletableFuture<Object> batch1Future = new CompletableFuture<>();
+		resetAll();
+		processorMock.beginBatch();
+		workSet1Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch1Future );
+		replayAll();
+		executor.submit( workSet1Mock );
+		verifyAllAsynchronously();
+
+		// The batch fails after endBatch() returned: the failure should be reported
+		Capture<FailureContext> failureContextCapture = Capture.newInstance();
+		resetAll();
+		failureHandlerMock.handle( capture( failureContextCapture ) );
+		replayAll();
+		batch1Future.completeExceptionally( simulatedFailure );
+		verifyAllAsynchronously();
+
+		FailureContext failureContext = failureContextCapture.getValue();
+		assertThat( failureContext.getThrowable() )
+				.isSameAs( simulatedFailure );
+		assertThat( failureContext.getFailingOperation() ).asString()
+				.contains( "Work processing in executor '" + NAME + "'" );
+
+		// The executor should still try to process submitted worksets, even after a failure
+		StubWorkSet workSet2Mock = createMock( StubWorkSet.class );
+		CompletableFuture<Object> batch2Future = new CompletableFuture<>();
+		resetAll();
+		processorMock.beginBatch();
+		workSet2Mock.submitTo( processorMock );
+		expect( processorMock.endBatch() ).andReturn( (CompletableFuture) batch2Future );
+		replayAll();
+		executor.submit( workSet2Mock );
+		verifyAllAsynchronously();
+	}
+
 	@Test
 	public void completion() throws InterruptedException {
 		createAndStartExecutor( 2, true );
@@ -339,8 +436,12 @@ private Runnable blockExecutor()
 	}
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
+		createAndStartExecutor( maxTasksPerBatch, fair, 1 );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, int maxConcurrentBatches) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock
+				NAME, processorMock, maxTasksPerBatch, fair, maxConcurrentBatches, failureHandlerMock
 		);
 
 		resetAll();
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -14,6 +16,7 @@
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
 import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
@@ -106,6 +109,92 @@ public void routing() {
 		query.fetchAll();
 	}
 
+	@Test
+	public void scroll() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<?> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "size", 42 )
+						.param( "scroll", "60s" )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._SEARCH )
+						.pathComponent( Paths.SCROLL )
+						.body( new Gson().fromJson( "{'scroll':'60s'}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		clientSpy.expectNext(
+				ElasticsearchRequest.delete()
+						.pathComponent( Paths._SEARCH )
+						.pathComponent( Paths.SCROLL )
+						.body( new JsonObject() ) // We don't care about the scroll ID
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		try ( SearchScroll<?> scroll = query.scroll( 42 ) ) {
+			scroll.next();
+			scroll.next();
+		}
+	}
+
+	@Test
+	public void truncateAfter() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<?> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.truncateAfter( 2, TimeUnit.SECONDS )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.param( "timeout", "2000ms" )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+	}
+
+	@Test
+	public void failAfter() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<?> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.failAfter( 500, TimeUnit.MICROSECONDS )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( URLEncodedString.fromString( INDEX_NAME ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						// Sub-millisecond timeouts are rounded up
+						.param( "timeout", "1ms" )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+	}
+
 	@SuppressWarnings("unused")
 	private static class IndexMapping {
 		final IndexFieldReference<Integer> integer;
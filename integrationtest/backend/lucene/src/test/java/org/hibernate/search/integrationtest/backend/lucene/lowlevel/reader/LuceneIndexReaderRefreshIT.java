@@ -0,0 +1,169 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the visibility of changes to searches for each reader refresh strategy and I/O strategy.
+ */
+public class LuceneIndexReaderRefreshIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void onCommit() {
+		setup( "on-commit" );
+
+		// Open the shared reader
+		assertThat( query() ).hasNoHits();
+
+		index( DOCUMENT_1, DocumentRefreshStrategy.NONE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1 );
+
+		index( DOCUMENT_2, DocumentRefreshStrategy.FORCE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+	}
+
+	@Test
+	public void periodic() {
+		setup( "periodic" );
+
+		// Open the shared reader
+		assertThat( query() ).hasNoHits();
+
+		// The refresh interval is not elapsed: changes are not visible yet
+		index( DOCUMENT_1, DocumentRefreshStrategy.NONE );
+		assertThat( query() ).hasNoHits();
+
+		// Forced refreshes are applied regardless of the refresh interval
+		index( DOCUMENT_2, DocumentRefreshStrategy.FORCE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+
+		index( DOCUMENT_3, DocumentRefreshStrategy.NONE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+	}
+
+	@Test
+	public void onDemand() {
+		setup( "on-demand" );
+
+		// Open the shared reader
+		assertThat( query() ).hasNoHits();
+
+		index( DOCUMENT_1, DocumentRefreshStrategy.NONE );
+		assertThat( query() ).hasNoHits();
+
+		index( DOCUMENT_2, DocumentRefreshStrategy.FORCE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+
+		index( DOCUMENT_3, DocumentRefreshStrategy.NONE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+	}
+
+	@Test
+	public void nearRealTime() {
+		setup( "near-real-time", "on-demand" );
+
+		// Open the shared reader
+		assertThat( query() ).hasNoHits();
+
+		// Forced refreshes make changes visible without requiring a commit
+		index( DOCUMENT_1, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1 );
+
+		index( DOCUMENT_2, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1 );
+
+		index( DOCUMENT_3, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	private void index(String id, DocumentRefreshStrategy refreshStrategy) {
+		index( id, DocumentCommitStrategy.FORCE, refreshStrategy );
+	}
+
+	private void index(String id, DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(), commitStrategy, refreshStrategy
+		);
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( indexMapping.string, "text " + id );
+		} );
+		plan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> query() {
+		return indexManager.createScope().query()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private void setup(String refreshStrategy) {
+		setup( "directory", refreshStrategy );
+	}
+
+	private void setup(String ioStrategy, String refreshStrategy) {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.IO_STRATEGY, ioStrategy
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.READER_REFRESH_STRATEGY, refreshStrategy
+				)
+				.withIndexDefaultsProperty(
+						// Long enough for the interval to never elapse during the test
+						BACKEND_NAME, LuceneIndexSettings.READER_REFRESH_INTERVAL, 3_600_000
+				)
+				.setup();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field(
+					"string",
+					f -> f.asString()
+			)
+					.toReference();
+		}
+	}
+}
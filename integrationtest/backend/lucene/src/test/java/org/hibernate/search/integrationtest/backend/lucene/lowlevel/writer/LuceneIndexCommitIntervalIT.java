@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test that changes are committed according to the commit interval and maximum uncommitted operations.
+ * <p>
+ * The "on-commit" reader refresh strategy is used, so that committed changes are immediately visible to searches.
+ */
+public class LuceneIndexCommitIntervalIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String DOCUMENT_4 = "4";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void maxOperations() {
+		// Long enough for the interval to never elapse during the test
+		setup( 3_600_000, 2 );
+
+		// Open the shared reader
+		assertThat( query() ).hasNoHits();
+
+		// The commit is delayed
+		index( DOCUMENT_1, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		assertThat( query() ).hasNoHits();
+
+		// The maximum number of uncommitted operations is reached: commit
+		index( DOCUMENT_2, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+
+		// Forced commits are executed immediately
+		index( DOCUMENT_3, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+
+		// Forced refreshes require a commit, so they are executed immediately too
+		index( DOCUMENT_4, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE );
+		assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3, DOCUMENT_4 );
+	}
+
+	@Test
+	public void interval() {
+		setup( 100, 1000 );
+
+		// Open the shared reader
+		assertThat( query() ).hasNoHits();
+
+		index( DOCUMENT_1, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		index( DOCUMENT_2, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+
+		// Delayed changes are eventually committed in the background
+		Awaitility.await().untilAsserted(
+				() -> assertThat( query() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 )
+		);
+	}
+
+	private void index(String id, DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(), commitStrategy, refreshStrategy
+		);
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( indexMapping.string, "text " + id );
+		} );
+		plan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> query() {
+		return indexManager.createScope().query()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private void setup(int commitInterval, int commitMaxOperations) {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.IO_COMMIT_MAX_OPERATIONS, commitMaxOperations
+				)
+				.withIndexDefaultsProperty(
+						BACKEND_NAME, LuceneIndexSettings.READER_REFRESH_STRATEGY, "on-commit"
+				)
+				.setup();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field(
+					"string",
+					f -> f.asString()
+			)
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.index.TieredMergePolicy;
+
+/**
+ * Test that index writer settings are applied to index writers.
+ */
+public class LuceneIndexWriterSettingsIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void defaults() throws IOException {
+		setup( c -> c );
+
+		LiveIndexWriterConfig writerConfig = getWriterConfig();
+		assertThat( writerConfig.getRAMBufferSizeMB() ).isEqualTo( IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+		assertThat( writerConfig.getMaxBufferedDocs() ).isEqualTo( IndexWriterConfig.DEFAULT_MAX_BUFFERED_DOCS );
+
+		TieredMergePolicy defaultMergePolicy = new TieredMergePolicy();
+		assertThat( writerConfig.getMergePolicy() ).isInstanceOfSatisfying( TieredMergePolicy.class, mergePolicy -> {
+			assertThat( mergePolicy.getSegmentsPerTier() ).isEqualTo( defaultMergePolicy.getSegmentsPerTier() );
+			assertThat( mergePolicy.getMaxMergedSegmentMB() ).isEqualTo( defaultMergePolicy.getMaxMergedSegmentMB() );
+			assertThat( mergePolicy.getDeletesPctAllowed() ).isEqualTo( defaultMergePolicy.getDeletesPctAllowed() );
+			assertThat( mergePolicy.getNoCFSRatio() ).isEqualTo( defaultMergePolicy.getNoCFSRatio() );
+		} );
+
+		assertThat( writerConfig.getMergeScheduler() ).isInstanceOfSatisfying( ConcurrentMergeScheduler.class,
+				mergeScheduler -> {
+					assertThat( mergeScheduler.getMaxThreadCount() )
+							.isEqualTo( ConcurrentMergeScheduler.AUTO_DETECT_MERGES_AND_THREADS );
+					assertThat( mergeScheduler.getAutoIOThrottle() ).isTrue();
+				} );
+	}
+
+	@Test
+	public void custom() throws IOException {
+		setup( c -> c
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE, 64 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, "10000" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SEGMENTS_PER_TIER, 5 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_MAX_MERGED_SEGMENT_SIZE, 1024 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_DELETES_PCT_ALLOWED, 25 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_NO_CFS_RATIO, "0.5" )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 2 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT, 4 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SCHEDULER_AUTO_IO_THROTTLE, false )
+		);
+
+		LiveIndexWriterConfig writerConfig = getWriterConfig();
+		assertThat( writerConfig.getRAMBufferSizeMB() ).isEqualTo( 64.0 );
+		assertThat( writerConfig.getMaxBufferedDocs() ).isEqualTo( 10000 );
+
+		assertThat( writerConfig.getMergePolicy() ).isInstanceOfSatisfying( TieredMergePolicy.class, mergePolicy -> {
+			assertThat( mergePolicy.getSegmentsPerTier() ).isEqualTo( 5.0 );
+			assertThat( mergePolicy.getMaxMergedSegmentMB() ).isEqualTo( 1024.0 );
+			assertThat( mergePolicy.getDeletesPctAllowed() ).isEqualTo( 25.0 );
+			assertThat( mergePolicy.getNoCFSRatio() ).isEqualTo( 0.5 );
+		} );
+
+		assertThat( writerConfig.getMergeScheduler() ).isInstanceOfSatisfying( ConcurrentMergeScheduler.class,
+				mergeScheduler -> {
+					assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( 2 );
+					assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( 4 );
+					assertThat( mergeScheduler.getAutoIOThrottle() ).isFalse();
+				} );
+	}
+
+	@Test
+	public void mergeSchedulerMaxThreadCountOnly() throws IOException {
+		setup( c -> c
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 3 )
+		);
+
+		assertThat( getWriterConfig().getMergeScheduler() ).isInstanceOfSatisfying( ConcurrentMergeScheduler.class,
+				mergeScheduler -> {
+					assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( 3 );
+					assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( 8 );
+				} );
+	}
+
+	@Test
+	public void invalid() {
+		SubTest.expectException( () -> setup( c -> c
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 4 )
+				.withIndexDefaultsProperty( BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT, 2 )
+		) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildFailureReportPattern()
+						.indexContext( INDEX_NAME )
+						.failure( "Invalid index writer settings" )
+						.build()
+				);
+	}
+
+	private LiveIndexWriterConfig getWriterConfig() throws IOException {
+		LuceneIndexManagerImpl luceneIndexManager = indexManager.unwrapForTests( LuceneIndexManagerImpl.class );
+		Shard shard = luceneIndexManager.getShardsForTests().get( 0 );
+		return shard.getIndexAccessorForTests().getIndexWriterForTests().getConfig();
+	}
+
+	private void setup(Function<SearchSetupHelper.SetupContext, SearchSetupHelper.SetupContext> additionalConfiguration) {
+		additionalConfiguration.apply(
+				setupHelper.start( BACKEND_NAME )
+						.withIndex(
+								INDEX_NAME,
+								ctx -> ctx.getSchemaElement()
+										.field( "string", f -> f.asString() )
+										.toReference(),
+								indexManager -> this.indexManager = indexManager
+						)
+		)
+				.setup();
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that results are correctly merged when index segments are searched concurrently.
+ */
+public class LuceneConcurrentSearchIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	// Lucene puts at most 5 segments in each slice: make sure we have more than one slice
+	private static final int SEGMENT_COUNT = 12;
+	private static final int DOCUMENTS_PER_SEGMENT = 10;
+	private static final int DOCUMENT_COUNT = SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT;
+
+	private static final String AGGREGATION_NAME = "aggregationName";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withBackendProperty(
+						BACKEND_NAME, LuceneBackendSettings.CONCURRENT_SEARCH_THREADS, 4
+				)
+				.withIndexDefaultsProperty(
+						// Avoid merges, so that the index is made of many segments
+						BACKEND_NAME, LuceneIndexSettings.IO_MERGE_SEGMENTS_PER_TIER, SEGMENT_COUNT * 2
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void sortedPage() {
+		SearchResultAssert.assertThat(
+				indexManager.createScope().query()
+						.predicate( f -> f.matchAll() )
+						.sort( f -> f.field( "integer" ).desc() )
+						.toQuery()
+						.fetch( 10, 5 )
+		)
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder(
+						INDEX_NAME,
+						id( DOCUMENT_COUNT - 11 ), id( DOCUMENT_COUNT - 12 ), id( DOCUMENT_COUNT - 13 ),
+						id( DOCUMENT_COUNT - 14 ), id( DOCUMENT_COUNT - 15 )
+				);
+	}
+
+	@Test
+	public void aggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( AGGREGATION_NAME );
+
+		SearchResultAssert.assertThat(
+				indexManager.createScope().query()
+						.predicate( f -> f.matchAll() )
+						.aggregation( aggregationKey, f -> f.terms()
+								.field( "group", String.class ) )
+						.toQuery()
+						.fetch( 0 )
+		)
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.aggregation(
+						aggregationKey,
+						a -> assertThat( a ).containsOnly(
+								entry( "even", (long) DOCUMENT_COUNT / 2 ),
+								entry( "odd", (long) DOCUMENT_COUNT / 2 )
+						)
+				);
+	}
+
+	@Test
+	public void count() {
+		assertThat(
+				indexManager.createScope().query()
+						.predicate( f -> f.match().field( "group" ).matching( "odd" ) )
+						.toQuery()
+						.fetchTotalHitCount()
+		)
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	private void initData() {
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			// Each commit creates a new segment
+			IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan(
+					new StubBackendSessionContext(), DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE
+			);
+			for ( int i = 0; i < DOCUMENTS_PER_SEGMENT; i++ ) {
+				int value = segment * DOCUMENTS_PER_SEGMENT + i;
+				plan.add( referenceProvider( id( value ) ), document -> {
+					document.addValue( indexMapping.integer, value );
+					document.addValue( indexMapping.group, value % 2 == 0 ? "even" : "odd" );
+				} );
+			}
+			plan.execute().join();
+		}
+
+		// Check that all documents are searchable
+		SearchResultAssert.assertThat(
+				indexManager.createScope().query()
+						.predicate( f -> f.matchAll() )
+						.toQuery()
+		)
+				.hasTotalHitCount( DOCUMENT_COUNT );
+	}
+
+	private static String id(int value) {
+		return "doc" + value;
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> group;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			group = root.field( "group", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.LuceneQueryCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+
+/**
+ * Test the query cache shared by all indexes of a Lucene backend.
+ */
+public class LuceneQueryCacheIT {
+
+	private static final String BACKEND_NAME = "BackendName";
+	private static final String INDEX_NAME = "IndexName";
+
+	// By default, Lucene does not cache queries on segments with less than 10,000 documents
+	private static final int DOCUMENT_COUNT = 10_000;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private SearchIntegration integration;
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void enabled() {
+		setup( LuceneBackendSettings.Defaults.QUERY_CACHE_MAX_SIZE );
+
+		LuceneQueryCacheStatistics statistics = getStatistics();
+		assertThat( statistics.getCacheSize() ).isZero();
+
+		assertThat( countBelow( DOCUMENT_COUNT / 2 ) ).isEqualTo( DOCUMENT_COUNT / 2 );
+		assertThat( statistics.getMissCount() ).isPositive();
+		assertThat( statistics.getCacheSize() ).isPositive();
+		assertThat( statistics.getRamBytesUsed() ).isPositive();
+		long hitCountBefore = statistics.getHitCount();
+
+		// The same query again: results should be retrieved from the cache
+		assertThat( countBelow( DOCUMENT_COUNT / 2 ) ).isEqualTo( DOCUMENT_COUNT / 2 );
+		assertThat( statistics.getHitCount() ).isGreaterThan( hitCountBefore );
+	}
+
+	@Test
+	public void disabled() {
+		setup( 0 );
+
+		LuceneQueryCacheStatistics statistics = getStatistics();
+
+		assertThat( countBelow( DOCUMENT_COUNT / 2 ) ).isEqualTo( DOCUMENT_COUNT / 2 );
+		assertThat( countBelow( DOCUMENT_COUNT / 2 ) ).isEqualTo( DOCUMENT_COUNT / 2 );
+
+		assertThat( statistics.getMissCount() ).isZero();
+		assertThat( statistics.getHitCount() ).isZero();
+		assertThat( statistics.getCacheSize() ).isZero();
+	}
+
+	private long countBelow(int upperBound) {
+		return indexManager.createScope().query()
+				.predicate( f -> f.range().field( "integer" ).lessThan( upperBound ) )
+				.toQuery()
+				.fetchTotalHitCount();
+	}
+
+	private LuceneQueryCacheStatistics getStatistics() {
+		return integration.getBackend( BACKEND_NAME ).unwrap( LuceneBackend.class ).getQueryCacheStatistics();
+	}
+
+	private void setup(int maxSize) {
+		this.integration = setupHelper.start( BACKEND_NAME )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withBackendProperty(
+						BACKEND_NAME, LuceneBackendSettings.QUERY_CACHE_MAX_SIZE, maxSize
+				)
+				.withBackendProperty(
+						// The default policy only caches queries after they have been used a few times
+						BACKEND_NAME, LuceneBackendSettings.QUERY_CACHE_CACHING_POLICY,
+						BeanReference.ofInstance( new AlwaysCacheQueryCachingPolicy() )
+				)
+				.setup();
+
+		initData();
+	}
+
+	private void initData() {
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( value ) ), document -> {
+				document.addValue( indexMapping.integer, value );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger() )
+					.toReference();
+		}
+	}
+
+	private static class AlwaysCacheQueryCachingPolicy implements QueryCachingPolicy {
+		@Override
+		public void onUse(Query query) {
+			// Nothing to do
+		}
+
+		@Override
+		public boolean shouldCache(Query query) {
+			return true;
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.search.query.dsl.LuceneSearchQueryOptionsStep;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test timeouts set with {@code failAfter}/{@code truncateAfter}, using a query that is artificially slow.
+ */
+public class LuceneSearchTimeoutIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 5;
+
+	/**
+	 * The time spent on each document by the slow query.
+	 */
+	private static final long DELAY_PER_DOCUMENT_MS = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void noTimeout() {
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.predicate( f -> f.matchAll() )
+				.truncateAfter( 1, TimeUnit.MINUTES )
+				.fetchAll();
+
+		assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.getHits() ).hasSize( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void truncateAfter() {
+		SearchResult<DocumentReference> result = slowQuery()
+				.truncateAfter( DELAY_PER_DOCUMENT_MS / 2, TimeUnit.MILLISECONDS )
+				.fetchAll();
+
+		assertThat( result.isTimedOut() ).isTrue();
+		assertThat( result.getTotalHitCount() ).isLessThan( DOCUMENT_COUNT );
+		assertThat( result.getHits() ).hasSizeLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void truncateAfter_totalHitCount() {
+		SearchQuery<DocumentReference> query = slowQuery()
+				.truncateAfter( DELAY_PER_DOCUMENT_MS / 2, TimeUnit.MILLISECONDS )
+				.toQuery();
+
+		// A partial count would be indistinguishable from an exact count: expect a failure instead
+		SubTest.expectException( query::fetchTotalHitCount )
+				.assertThrown()
+				.isInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( "Query exceeded the timeout of 50 MILLISECONDS" );
+	}
+
+	@Test
+	public void truncateAfter_scroll() {
+		SearchQuery<DocumentReference> query = slowQuery()
+				.truncateAfter( DELAY_PER_DOCUMENT_MS / 2, TimeUnit.MILLISECONDS )
+				.toQuery();
+
+		// A partial chunk would lead to skipping hits in the next chunks: expect a failure instead
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( DOCUMENT_COUNT ) ) {
+			SubTest.expectException( scroll::next )
+					.assertThrown()
+					.isInstanceOf( SearchTimeoutException.class )
+					.hasMessageContaining( "Query exceeded the timeout of 50 MILLISECONDS" );
+		}
+	}
+
+	@Test
+	public void failAfter() {
+		SearchQuery<DocumentReference> query = slowQuery()
+				.failAfter( DELAY_PER_DOCUMENT_MS / 2, TimeUnit.MILLISECONDS )
+				.toQuery();
+
+		SubTest.expectException( query::fetchAll )
+				.assertThrown()
+				.isInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( "Query exceeded the timeout of 50 MILLISECONDS" );
+	}
+
+	@Test
+	public void failAfter_totalHitCount() {
+		SearchQuery<DocumentReference> query = slowQuery()
+				.failAfter( DELAY_PER_DOCUMENT_MS / 2, TimeUnit.MILLISECONDS )
+				.toQuery();
+
+		SubTest.expectException( query::fetchTotalHitCount )
+				.assertThrown()
+				.isInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( "Query exceeded the timeout of 50 MILLISECONDS" );
+	}
+
+	private LuceneSearchQueryOptionsStep<DocumentReference> slowQuery() {
+		return indexManager.createScope().query()
+				.extension( LuceneExtension.get() )
+				.predicate( f -> f.fromLuceneQuery( new SlowQuery( DELAY_PER_DOCUMENT_MS ) ) );
+	}
+
+	private void initData() {
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			plan.add( referenceProvider( id ), document -> {
+				document.addValue( indexMapping.string, "text " + id );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+
+	/**
+	 * A query matching all documents, but waiting for a given time before returning each document.
+	 */
+	private static class SlowQuery extends Query {
+		private final long delayPerDocumentMs;
+
+		SlowQuery(long delayPerDocumentMs) {
+			this.delayPerDocumentMs = delayPerDocumentMs;
+		}
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+			return new ConstantScoreWeight( this, boost ) {
+				@Override
+				public Scorer scorer(LeafReaderContext context) {
+					DocIdSetIterator iterator = new SlowDocIdSetIterator(
+							DocIdSetIterator.all( context.reader().maxDoc() ), delayPerDocumentMs
+					);
+					return new ConstantScoreScorer( this, score(), scoreMode, iterator );
+				}
+
+				@Override
+				public boolean isCacheable(LeafReaderContext ctx) {
+					return false;
+				}
+			};
+		}
+
+		@Override
+		public String toString(String field) {
+			return getClass().getSimpleName() + "[" + delayPerDocumentMs + "]";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return sameClassAs( obj ) && delayPerDocumentMs == ( (SlowQuery) obj ).delayPerDocumentMs;
+		}
+
+		@Override
+		public int hashCode() {
+			return classHash() + Long.hashCode( delayPerDocumentMs );
+		}
+	}
+
+	private static class SlowDocIdSetIterator extends DocIdSetIterator {
+		private final DocIdSetIterator delegate;
+		private final long delayMs;
+
+		SlowDocIdSetIterator(DocIdSetIterator delegate, long delayMs) {
+			this.delegate = delegate;
+			this.delayMs = delayMs;
+		}
+
+		@Override
+		public int docID() {
+			return delegate.docID();
+		}
+
+		@Override
+		public int nextDoc() throws IOException {
+			sleep();
+			return delegate.nextDoc();
+		}
+
+		@Override
+		public int advance(int target) throws IOException {
+			sleep();
+			return delegate.advance( target );
+		}
+
+		@Override
+		public long cost() {
+			return delegate.cost();
+		}
+
+		private void sleep() {
+			try {
+				Thread.sleep( delayMs );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
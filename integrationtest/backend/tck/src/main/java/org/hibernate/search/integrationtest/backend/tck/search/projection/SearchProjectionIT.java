@@ -276,6 +276,43 @@ public void score_noScoreSort() {
 		Assertions.assertThat( score2 ).isNotNull().isNotNaN();
 	}
 
+	/**
+	 * Test projection on the score when scores are not computed.
+	 */
+	@Test
+	public void score_constantScore() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<Float> query = scope.query()
+				.asProjection( f -> f.score() )
+				.predicate( f -> f.match().field( indexMapping.scoreField.relativeFieldName ).matching( "scorepattern" ) )
+				.constantScore()
+				.toQuery();
+
+		SearchResult<Float> result = query.fetchAll();
+		assertThat( result ).hasTotalHitCount( 2 );
+		Assertions.assertThat( result.getHits() ).containsExactly( 0.0f, 0.0f );
+	}
+
+	/**
+	 * Test projection on the score when scores are not computed and we do not sort by score.
+	 */
+	@Test
+	public void score_constantScore_noScoreSort() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<Float> query = scope.query()
+				.asProjection( f -> f.score() )
+				.predicate( f -> f.match().field( indexMapping.scoreField.relativeFieldName ).matching( "scorepattern" ) )
+				.sort( f -> f.indexOrder() )
+				.constantScore()
+				.toQuery();
+
+		SearchResult<Float> result = query.fetchAll();
+		assertThat( result ).hasTotalHitCount( 2 );
+		Assertions.assertThat( result.getHits() ).containsExactly( 0.0f, 0.0f );
+	}
+
 	/**
 	 * Test mixing multiple projection types (field projections, special projections, ...),
 	 * and also multiple field projections.
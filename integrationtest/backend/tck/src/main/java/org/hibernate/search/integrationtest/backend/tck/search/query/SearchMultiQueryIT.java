@@ -0,0 +1,251 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.search.loading.spi.DefaultProjectionHitMapper;
+import org.hibernate.search.engine.search.loading.spi.EntityLoader;
+import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.SearchMultiResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.spi.DefaultSearchMultiQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.GenericStubMappingScope;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SearchMultiQueryIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final String OTHER_INDEX_NAME = "OtherIndexName";
+	private static final int DOCUMENT_COUNT = 20;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+	private IndexMapping otherIndexMapping;
+	private StubMappingIndexManager otherIndexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndex(
+						OTHER_INDEX_NAME,
+						ctx -> this.otherIndexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.otherIndexManager = indexManager
+				)
+				.setup();
+
+		initData( indexManager, indexMapping );
+		initData( otherIndexManager, otherIndexMapping );
+	}
+
+	@Test
+	public void fetch() {
+		SearchQuery<DocumentReference> matchAllQuery = matchAllQuery( indexManager );
+		SearchQuery<DocumentReference> matchFirstHalfQuery = matchFirstHalfQuery( indexManager );
+		SearchQuery<DocumentReference> otherIndexQuery = matchAllQuery( otherIndexManager );
+
+		SearchMultiResult result = new DefaultSearchMultiQuery()
+				.add( matchAllQuery, 2 )
+				.add( matchFirstHalfQuery, 1, 2 )
+				.add( otherIndexQuery, DOCUMENT_COUNT - 1, null )
+				.fetch();
+
+		assertThat( result.get( matchAllQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+		assertThat( result.get( matchFirstHalfQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ), docId( 2 ) );
+		assertThat( result.get( otherIndexQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( OTHER_INDEX_NAME, docId( DOCUMENT_COUNT - 1 ) );
+	}
+
+	@Test
+	public void fetch_singleQuery() {
+		SearchQuery<DocumentReference> query = matchAllQuery( indexManager );
+
+		SearchMultiResult result = new DefaultSearchMultiQuery()
+				.add( query, 1 )
+				.fetch();
+
+		assertThat( result.get( query ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ) );
+	}
+
+	@Test
+	public void fetch_sameQueryTwice() {
+		SearchQuery<DocumentReference> query = matchAllQuery( indexManager );
+		SearchQuery<DocumentReference> otherQuery = matchFirstHalfQuery( indexManager );
+
+		SearchMultiResult result = new DefaultSearchMultiQuery()
+				.add( query, 1 )
+				.add( otherQuery, 1 )
+				// The last paging wins
+				.add( query, 1, 1 )
+				.fetch();
+
+		assertThat( result.get( query ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ) );
+		assertThat( result.get( otherQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ) );
+	}
+
+	@Test
+	public void fetch_failingQuery() {
+		SearchQuery<DocumentReference> matchAllQuery = matchAllQuery( indexManager );
+		SearchQuery<DocumentReference> failingQuery = failingLoadingQuery( indexManager );
+		SearchQuery<DocumentReference> matchFirstHalfQuery = matchFirstHalfQuery( indexManager );
+
+		SearchMultiResult result = new DefaultSearchMultiQuery()
+				.add( matchAllQuery, 2 )
+				.add( failingQuery, 2 )
+				.add( matchFirstHalfQuery, 1, 2 )
+				.fetch();
+
+		// The failure is reported for the failing query only
+		SubTest.expectException( () -> result.get( failingQuery ) )
+				.assertThrown()
+				.isInstanceOf( SimulatedFailure.class )
+				.hasMessage( "Simulated loading failure" );
+		// The results of other queries are not affected
+		assertThat( result.get( matchAllQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+		assertThat( result.get( matchFirstHalfQuery ) )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ), docId( 2 ) );
+	}
+
+	@Test
+	public void get_queryNotAdded() {
+		SearchQuery<DocumentReference> query = matchAllQuery( indexManager );
+		SearchQuery<DocumentReference> notAddedQuery = matchAllQuery( indexManager );
+
+		SearchMultiResult result = new DefaultSearchMultiQuery()
+				.add( query, 1 )
+				.fetch();
+
+		SubTest.expectException( () -> result.get( notAddedQuery ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "was not added to the multi-query" );
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery(StubMappingIndexManager indexManager) {
+		StubMappingScope scope = indexManager.createScope();
+		return scope.query()
+				.predicate( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private SearchQuery<DocumentReference> failingLoadingQuery(StubMappingIndexManager indexManager) {
+		EntityLoader<DocumentReference, DocumentReference> failingLoader =
+				new EntityLoader<DocumentReference, DocumentReference>() {
+					@Override
+					public List<DocumentReference> loadBlocking(List<DocumentReference> references) {
+						throw new SimulatedFailure( "Simulated loading failure" );
+					}
+
+					@Override
+					public CompletionStage<List<DocumentReference>> loadAsync(List<DocumentReference> references) {
+						throw new SimulatedFailure( "Simulated loading failure" );
+					}
+				};
+		ProjectionHitMapper<DocumentReference, DocumentReference> hitMapper =
+				new DefaultProjectionHitMapper<>( reference -> reference, failingLoader );
+		GenericStubMappingScope<DocumentReference, DocumentReference> scope = indexManager.createGenericScope();
+		return scope.query( () -> hitMapper )
+				.asEntity()
+				.predicate( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private SearchQuery<DocumentReference> matchFirstHalfQuery(StubMappingIndexManager indexManager) {
+		StubMappingScope scope = indexManager.createScope();
+		return scope.query()
+				.predicate( f -> f.range().field( "integer" ).lessThan( DOCUMENT_COUNT / 2 ) )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private static void initData(StubMappingIndexManager indexManager, IndexMapping indexMapping) {
+		IndexIndexer<? extends DocumentElement> executor =
+				indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int intValue = i;
+			futures.add( executor.add( referenceProvider( docId( i ) ), document -> {
+				document.addValue( indexMapping.integer, intValue );
+			} ) );
+		}
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		indexManager.createWorkspace().flush().join();
+
+		// Check that all documents are searchable
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasTotalHitCount( DOCUMENT_COUNT );
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+}
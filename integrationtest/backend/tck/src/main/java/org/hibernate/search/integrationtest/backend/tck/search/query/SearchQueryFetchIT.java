@@ -16,6 +16,7 @@
 import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -26,6 +27,7 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
@@ -200,6 +202,35 @@ public void fetchTotalHitCount() {
 		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	public void fetchAsync_offset_limit() {
+		assertThat( matchAllQuery().fetchAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ) );
+
+		assertThat( matchAllQuery().toQuery().fetchAsync( 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+	}
+
+	@Test
+	public void fetchHitsAsync_offset_limit() {
+		assertThat( matchAllQuery().fetchHitsAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ) );
+
+		assertThat( matchAllQuery().fetchHitsAsync( 2 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		Assertions.assertThat( matchAllQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+
+		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
@@ -261,6 +292,116 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void truncateAfter_notReached() {
+		SearchResult<DocumentReference> result = matchAllQuery()
+				.truncateAfter( 1, TimeUnit.MINUTES )
+				.fetchAll();
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+
+		Assertions.assertThat( matchAllQuery().truncateAfter( 1, TimeUnit.MINUTES ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void failAfter_notReached() {
+		SearchResult<DocumentReference> result = matchAllQuery()
+				.failAfter( 1, TimeUnit.MINUTES )
+				.fetchAll();
+		Assertions.assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+
+		Assertions.assertThat( matchAllQuery().failAfter( 1, TimeUnit.MINUTES ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void totalHitCountThreshold_notReached() {
+		SearchResult<DocumentReference> result = matchAllQuery()
+				.totalHitCountThreshold( DOCUMENT_COUNT + 1 )
+				.fetch( 5 );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < 5; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void totalHitCountThreshold_reached() {
+		int threshold = DOCUMENT_COUNT / 4;
+
+		SearchResult<DocumentReference> result = matchAllQuery()
+				.totalHitCountThreshold( threshold )
+				.fetch( 5 );
+		assertThat( result )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < 5; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+		assertTotalHitCountWithThreshold( result, threshold );
+
+		// Without a sort, backends can skip non-competitive hits
+		result = indexManager.createScope().query()
+				.predicate( f -> f.matchAll() )
+				.totalHitCountThreshold( threshold )
+				.fetch( 5 );
+		Assertions.assertThat( result.getHits() ).hasSize( 5 );
+		assertTotalHitCountWithThreshold( result, threshold );
+
+		// The threshold does not affect the count when only fetching the total hit count
+		Assertions.assertThat( matchAllQuery().totalHitCountThreshold( threshold ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void totalHitCountThreshold_invalid() {
+		SubTest.expectException( () -> matchAllQuery().totalHitCountThreshold( 0 ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'totalHitCountThreshold' must be strictly positive" );
+	}
+
+	@Test
+	public void timeout_invalid() {
+		SubTest.expectException( () -> matchAllQuery().truncateAfter( 0, TimeUnit.SECONDS ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'timeout' must be strictly positive" );
+
+		SubTest.expectException( () -> matchAllQuery().failAfter( -1, TimeUnit.SECONDS ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'timeout' must be strictly positive" );
+	}
+
+	private static void assertTotalHitCountWithThreshold(SearchResult<?> result, int threshold) {
+		if ( result.isTotalHitCountExact() ) {
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		}
+		else {
+			// Hits are counted exactly up to the threshold, so the count must be at least the threshold
+			Assertions.assertThat( result.getTotalHitCount() ).isBetween( (long) threshold, (long) DOCUMENT_COUNT );
+		}
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?, ?> matchAllQuery() {
 		StubMappingScope scope = indexManager.createScope();
 		return scope.query()
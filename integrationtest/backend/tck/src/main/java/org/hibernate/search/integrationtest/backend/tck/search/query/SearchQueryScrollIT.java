@@ -0,0 +1,171 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMappingScope;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SearchQueryScrollIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int CHUNK_SIZE = 30;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void sorted() {
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( CHUNK_SIZE ) ) {
+			int index = 0;
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				assertThat( chunk.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+				assertThat( chunk.getHits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+				for ( DocumentReference hit : chunk.getHits() ) {
+					assertThat( hit.getId() ).isEqualTo( docId( index ) );
+					++index;
+				}
+			}
+			assertThat( index ).isEqualTo( DOCUMENT_COUNT );
+
+			// The end of the scroll was reached: subsequent calls should not return any hit
+			assertThat( scroll.next().hasHits() ).isFalse();
+		}
+	}
+
+	@Test
+	public void unsorted() {
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.predicate( f -> f.matchAll() )
+				.toQuery();
+
+		List<String> ids = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				for ( DocumentReference hit : chunk.getHits() ) {
+					ids.add( hit.getId() );
+				}
+			}
+		}
+
+		assertThat( ids ).hasSize( DOCUMENT_COUNT ).doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void chunkSizeLargerThanHitCount() {
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( DOCUMENT_COUNT * 2 ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			assertThat( chunk.hasHits() ).isTrue();
+			assertThat( chunk.getHits() ).hasSize( DOCUMENT_COUNT );
+			assertThat( chunk.isTimedOut() ).isFalse();
+
+			assertThat( scroll.next().hasHits() ).isFalse();
+		}
+	}
+
+	@Test
+	public void noHits() {
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.predicate( f -> f.match().field( "integer" ).matching( DOCUMENT_COUNT + 2 ) )
+				.toQuery();
+
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( CHUNK_SIZE ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			assertThat( chunk.hasHits() ).isFalse();
+			assertThat( chunk.getHits() ).isEmpty();
+			assertThat( chunk.getTotalHitCount() ).isEqualTo( 0 );
+		}
+	}
+
+	@Test
+	public void invalidChunkSize() {
+		SearchQuery<DocumentReference> query = matchAllQuery();
+
+		SubTest.expectException( () -> query.scroll( 0 ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'chunkSize' must be strictly positive" );
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery() {
+		StubMappingScope scope = indexManager.createScope();
+		return scope.query()
+				.predicate( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+	}
+
+	private void initData() {
+		IndexIndexer<? extends DocumentElement> executor =
+				indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int intValue = i;
+			futures.add( executor.add( referenceProvider( docId( i ) ), document -> {
+				document.addValue( indexMapping.integer, intValue );
+			} ) );
+		}
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		indexManager.createWorkspace().flush().join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
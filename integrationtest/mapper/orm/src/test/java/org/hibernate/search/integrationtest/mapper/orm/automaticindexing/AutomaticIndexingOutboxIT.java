@@ -0,0 +1,516 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinSession;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubFailureHandler;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.test.SubTest;
+import org.hibernate.search.util.impl.test.rule.StaticCounters;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test automatic indexing through an outbox table,
+ * i.e. with entity change events written to the database in the same transaction as entity changes,
+ * and processed asynchronously.
+ */
+public class AutomaticIndexingOutboxIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Rule
+	public StaticCounters staticCounters = new StaticCounters();
+
+	@Test
+	public void persistUpdateDelete() {
+		String outboxTable = "OUTBOX_PROCESSING";
+		SessionFactory sessionFactory = setup( outboxTable, true, "create-drop" );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "text", "initialValue" ) )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity( 1, "initialValue" );
+			session.persist( entity1 );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "text", "updatedValue" ) )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setText( "updatedValue" );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.delete( "1" )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			session.delete( entity1 );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		// Processed events are removed from the outbox table
+		Awaitility.await().untilAsserted(
+				() -> assertThat( countOutboxEvents( sessionFactory, outboxTable ) ).isEqualTo( 0L )
+		);
+	}
+
+	@Test
+	public void coalescing() {
+		String outboxTable = "OUTBOX_COALESCING";
+		// Don't drop the schema on shutdown: we will restart
+		SessionFactory sessionFactory = setup( outboxTable, false, "create" );
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity( 1, "initialValue" );
+			session.persist( entity1 );
+			session.flush();
+			entity1.setText( "updatedValue" );
+		} );
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setText( "updatedAgainValue" );
+		} );
+
+		// No indexing happened synchronously, but events were stored
+		backendMock.verifyExpectationsMet();
+		assertThat( countOutboxEvents( sessionFactory, outboxTable ) ).isEqualTo( 3L );
+
+		sessionFactory.close();
+
+		// Simulate a restart, this time with processing enabled:
+		// stored events are processed, and coalesced into a single reindexing.
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "text", "updatedAgainValue" ) )
+				.processedThenExecuted();
+		SessionFactory restartedSessionFactory = setup( outboxTable, true, "none" );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+		Awaitility.await().untilAsserted(
+				() -> assertThat( countOutboxEvents( restartedSessionFactory, outboxTable ) ).isEqualTo( 0L )
+		);
+	}
+
+	@Test
+	public void embeddedId() {
+		String outboxTable = "OUTBOX_EMBEDDED_ID";
+		SessionFactory sessionFactory = setup( outboxTable, true, "create-drop" );
+		ContainedEntityId containedId = new ContainedEntityId( "category", 1 );
+
+		backendMock.expectWorks( ContainingEntity.INDEX )
+				.update( "1", b -> b.objectField( "contained", b2 -> b2.field( "text", "initialValue" ) ) )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			ContainedEntity contained = new ContainedEntity( containedId, "initialValue" );
+			ContainingEntity containing = new ContainingEntity( 1 );
+			containing.setContained( contained );
+			contained.getContaining().add( containing );
+			session.persist( contained );
+			session.persist( containing );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		// The event only mentions the contained entity: its identifier must be read back from the outbox table
+		backendMock.expectWorks( ContainingEntity.INDEX )
+				.update( "1", b -> b.objectField( "contained", b2 -> b2.field( "text", "updatedValue" ) ) )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			ContainedEntity contained = session.get( ContainedEntity.class, containedId );
+			contained.setText( "updatedValue" );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		Awaitility.await().untilAsserted(
+				() -> assertThat( countOutboxEvents( sessionFactory, outboxTable ) ).isEqualTo( 0L )
+		);
+	}
+
+	@Test
+	public void deleteContained() {
+		String outboxTable = "OUTBOX_DELETE_CONTAINED";
+		SessionFactory sessionFactory = setup( outboxTable, true, "create-drop" );
+		ContainedEntityId containedId = new ContainedEntityId( "category", 1 );
+
+		backendMock.expectWorks( ContainingEntity.INDEX )
+				.update( "1", b -> b.objectField( "contained", b2 -> b2.field( "text", "initialValue" ) ) )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			ContainedEntity contained = new ContainedEntity( containedId, "initialValue" );
+			ContainingEntity containing = new ContainingEntity( 1 );
+			containing.setContained( contained );
+			contained.getContaining().add( containing );
+			session.persist( contained );
+			session.persist( containing );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		// The contained entity no longer exists when events are processed,
+		// but the containing entity must still be reindexed
+		backendMock.expectWorks( ContainingEntity.INDEX )
+				.update( "1", b -> { } )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			ContainedEntity contained = session.get( ContainedEntity.class, containedId );
+			for ( ContainingEntity containing : contained.getContaining() ) {
+				containing.setContained( null );
+			}
+			session.delete( contained );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		Awaitility.await().untilAsserted(
+				() -> assertThat( countOutboxEvents( sessionFactory, outboxTable ) ).isEqualTo( 0L )
+		);
+	}
+
+	@Test
+	public void deleteWithDocumentIdProperty() {
+		String outboxTable = "OUTBOX_DELETE_DOCUMENT_ID";
+		SessionFactory sessionFactory = setup( outboxTable, true, "create-drop" );
+
+		backendMock.expectWorks( IndexedEntityWithDocumentId.INDEX )
+				.update( "code1", b -> b.field( "text", "initialValue" ) )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntityWithDocumentId( 1, "code1", "initialValue" ) );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		// The document identifier cannot be derived from the entity identifier stored in the event
+		backendMock.expectWorks( IndexedEntityWithDocumentId.INDEX )
+				.delete( "code1" )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			session.delete( session.get( IndexedEntityWithDocumentId.class, 1 ) );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		Awaitility.await().untilAsserted(
+				() -> assertThat( countOutboxEvents( sessionFactory, outboxTable ) ).isEqualTo( 0L )
+		);
+	}
+
+	@Test
+	public void failingEvent() {
+		String outboxTable = "OUTBOX_FAILING_EVENT";
+		SessionFactory sessionFactory = setup( outboxTable, true, "create-drop", context -> context
+				.withPropertyRadical( EngineSettings.Radicals.BACKGROUND_FAILURE_HANDLER,
+						StubFailureHandler.class.getName() )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS, 2 )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY, 0 )
+		);
+
+		// Both entities are processed together first, then separately after the failure.
+		// The failing entity is indexed in its own index, so that the order of separate attempts does not matter.
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "text", "value1" ) )
+				.processedThenExecuted();
+		backendMock.expectWorks( IndexedEntityWithDocumentId.INDEX )
+				.update( "code2", b -> b.field( "text", "value2" ) )
+				.processedThenExecuted( failedFuture() );
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.update( "1", b -> b.field( "text", "value1" ) )
+				.processedThenExecuted();
+		backendMock.expectWorks( IndexedEntityWithDocumentId.INDEX )
+				.update( "code2", b -> b.field( "text", "value2" ) )
+				.processedThenExecuted( failedFuture() );
+		// Second and last attempt for the failing entity
+		backendMock.expectWorks( IndexedEntityWithDocumentId.INDEX )
+				.update( "code2", b -> b.field( "text", "value2" ) )
+				.processedThenExecuted( failedFuture() );
+		withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "value1" ) );
+			session.persist( new IndexedEntityWithDocumentId( 2, "code2", "value2" ) );
+		} );
+		Awaitility.await().untilAsserted( () -> backendMock.verifyExpectationsMet() );
+
+		// Each failed attempt was reported, and the event of the failing entity was left in the table
+		Awaitility.await().untilAsserted(
+				() -> assertThat( staticCounters.get( StubFailureHandler.HANDLE_ENTITY_INDEXING_CONTEXT ) )
+						.isEqualTo( 2 )
+		);
+		assertThat( countOutboxEvents( sessionFactory, outboxTable ) ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void rollback() {
+		String outboxTable = "OUTBOX_ROLLBACK";
+		SessionFactory sessionFactory = setup( outboxTable, false, "create-drop" );
+
+		withinSession( sessionFactory, session -> {
+			Transaction transaction = session.beginTransaction();
+			IndexedEntity entity1 = new IndexedEntity( 1, "initialValue" );
+			session.persist( entity1 );
+			session.flush();
+			transaction.rollback();
+		} );
+
+		// Events are rolled back along with entity changes
+		assertThat( countOutboxEvents( sessionFactory, outboxTable ) ).isEqualTo( 0L );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void multiTenancy() {
+		SubTest.expectException( () -> setup( "OUTBOX_MULTI_TENANCY", true, "none", context -> context
+				.withProperty( AvailableSettings.MULTI_TENANT, MultiTenancyStrategy.SCHEMA.name() ) ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "The outbox automatic indexing strategy does not support multi-tenancy" )
+				.hasMessageContaining( "'SCHEMA'" );
+	}
+
+	private SessionFactory setup(String outboxTable, boolean processingEnabled, String schemaManagement) {
+		return setup( outboxTable, processingEnabled, schemaManagement, context -> { } );
+	}
+
+	private SessionFactory setup(String outboxTable, boolean processingEnabled, String schemaManagement,
+			Consumer<OrmSetupHelper.SetupContext> additionalConfiguration) {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+		backendMock.expectAnySchema( ContainingEntity.INDEX );
+		backendMock.expectAnySchema( IndexedEntityWithDocumentId.INDEX );
+		OrmSetupHelper.SetupContext setupContext = ormSetupHelper.start()
+				.withProperty( AvailableSettings.HBM2DDL_AUTO, schemaManagement )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY,
+						AutomaticIndexingStrategyName.OUTBOX )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_TABLE,
+						outboxTable )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL,
+						10 )
+				// Process all events in a single plan, so that each entity is reindexed exactly once
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT,
+						1 )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED,
+						processingEnabled );
+		additionalConfiguration.accept( setupContext );
+		SessionFactory sessionFactory = setupContext.setup( IndexedEntity.class, IndexedEntityWithDocumentId.class,
+				ContainingEntity.class, ContainedEntity.class );
+		// Don't verify expectations here: events may already be processed in the background
+		return sessionFactory;
+	}
+
+	private static CompletableFuture<?> failedFuture() {
+		CompletableFuture<?> future = new CompletableFuture<>();
+		future.completeExceptionally( new SimulatedFailure( "Indexing failure" ) );
+		return future;
+	}
+
+	private static long countOutboxEvents(SessionFactory sessionFactory, String outboxTable) {
+		long[] result = new long[1];
+		withinSession( sessionFactory, session -> {
+			result[0] = ( (Number) session.createNativeQuery( "select count(*) from " + outboxTable )
+					.getSingleResult() ).longValue();
+		} );
+		return result[0];
+	}
+
+	@Entity(name = "IndexedEntity")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+		@GenericField
+		private String text;
+
+		protected IndexedEntity() {
+		}
+
+		IndexedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "IndexedEntityWithDocumentId")
+	@Indexed(index = IndexedEntityWithDocumentId.INDEX)
+	public static class IndexedEntityWithDocumentId {
+		static final String INDEX = "IndexedEntityWithDocumentId";
+
+		@Id
+		private Integer id;
+		@DocumentId
+		private String code;
+		@GenericField
+		private String text;
+
+		protected IndexedEntityWithDocumentId() {
+		}
+
+		IndexedEntityWithDocumentId(int id, String code, String text) {
+			this.id = id;
+			this.code = code;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+
+	@Entity(name = "ContainingEntity")
+	@Indexed(index = ContainingEntity.INDEX)
+	public static class ContainingEntity {
+		static final String INDEX = "ContainingEntity";
+
+		@Id
+		private Integer id;
+		@ManyToOne
+		@IndexedEmbedded
+		private ContainedEntity contained;
+
+		protected ContainingEntity() {
+		}
+
+		ContainingEntity(int id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public ContainedEntity getContained() {
+			return contained;
+		}
+
+		public void setContained(ContainedEntity contained) {
+			this.contained = contained;
+		}
+	}
+
+	@Entity(name = "ContainedEntity")
+	public static class ContainedEntity {
+
+		@EmbeddedId
+		private ContainedEntityId id;
+		@GenericField
+		private String text;
+		@OneToMany(mappedBy = "contained")
+		private List<ContainingEntity> containing = new ArrayList<>();
+
+		protected ContainedEntity() {
+		}
+
+		ContainedEntity(ContainedEntityId id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public ContainedEntityId getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+
+		public List<ContainingEntity> getContaining() {
+			return containing;
+		}
+	}
+
+	@Embeddable
+	public static class ContainedEntityId implements Serializable {
+
+		private String category;
+		private Integer number;
+
+		protected ContainedEntityId() {
+		}
+
+		ContainedEntityId(String category, Integer number) {
+			this.category = category;
+			this.number = number;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( !( obj instanceof ContainedEntityId ) ) {
+				return false;
+			}
+			ContainedEntityId other = (ContainedEntityId) obj;
+			return Objects.equals( category, other.category ) && Objects.equals( number, other.number );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( category, number );
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+}
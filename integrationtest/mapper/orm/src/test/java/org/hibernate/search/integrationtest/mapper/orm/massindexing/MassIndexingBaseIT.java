@@ -154,6 +154,89 @@ public void fromMappingWithoutSession() throws Exception {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void partitionedIdentifierLoading() throws Exception {
+		SearchMapping searchMapping = Search.mapping( sessionFactory );
+		MassIndexer indexer = searchMapping.scope( Object.class ).massIndexer()
+				// More threads than entities: some ranges will be empty
+				.threadsToLoadIdentifiers( 4 )
+				.countBeforeLoading( false );
+
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "author", AUTHOR_1 )
+				)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.processedThenExecuted();
+
+		backendMock.expectIndexScopeWorks( Book.INDEX )
+				.purge()
+				.optimize()
+				.optimize()
+				.flush();
+
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void keysetLoading() throws Exception {
+		SearchMapping searchMapping = Search.mapping( sessionFactory );
+		MassIndexer indexer = searchMapping.scope( Object.class ).massIndexer()
+				.keysetLoading( true )
+				.threadsToLoadObjects( 2 )
+				// Smaller than the number of entities: multiple pages will be necessary
+				.batchSizeToLoadObjects( 1 );
+
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "author", AUTHOR_1 )
+				)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "author", AUTHOR_2 )
+				)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "author", AUTHOR_3 )
+				)
+				.processedThenExecuted();
+
+		backendMock.expectIndexScopeWorks( Book.INDEX )
+				.purge()
+				.optimize()
+				.optimize()
+				.flush();
+
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void reuseSearchSessionAfterOrmSessionIsClosed_createMassIndexer() {
 		Session session = sessionFactory.openSession();
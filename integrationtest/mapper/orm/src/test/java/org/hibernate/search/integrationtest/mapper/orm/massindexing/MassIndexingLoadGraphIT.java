@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Fail.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.OrderColumn;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test mass indexing with a load graph that fetches a collection,
+ * i.e. with queries returning multiple rows per entity.
+ */
+public class MassIndexingLoadGraphIT {
+
+	private static final String TITLE_1 = "Oliver Twist";
+	private static final String TITLE_2 = "Ulysses";
+	private static final String TITLE_3 = "Frankenstein";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+	}
+
+	@Test
+	public void keysetLoading() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.keysetLoading( true )
+				.loadGraph( Book.GRAPH_WITH_TAGS )
+				.threadsToLoadObjects( 1 )
+				// Smaller than the number of rows returned for a single entity when fetching tags
+				.batchSizeToLoadObjects( 1 );
+
+		expectEachBookIndexedOnce();
+
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void identifierLoading() {
+		MassIndexer indexer = Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.loadGraph( Book.GRAPH_WITH_TAGS )
+				.threadsToLoadObjects( 1 )
+				.batchSizeToLoadObjects( 2 );
+
+		expectEachBookIndexedOnce();
+
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			fail( "Unexpected InterruptedException: " + e.getMessage() );
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void expectEachBookIndexedOnce() {
+		backendMock.expectWorksAnyOrder(
+				Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		)
+				.add( "1", b -> b
+						.field( "title", TITLE_1 )
+						.field( "tags", "classic", "orphan", "london" )
+				)
+				.add( "2", b -> b
+						.field( "title", TITLE_2 )
+						.field( "tags", "modernist", "dublin" )
+				)
+				.add( "3", b -> b
+						.field( "title", TITLE_3 )
+						.field( "tags", "gothic", "science-fiction", "monster" )
+				)
+				.processedThenExecuted();
+
+		backendMock.expectIndexScopeWorks( Book.INDEX )
+				.purge()
+				.optimize()
+				.optimize()
+				.flush();
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, TITLE_1, "classic", "orphan", "london" ) );
+			session.persist( new Book( 2, TITLE_2, "modernist", "dublin" ) );
+			session.persist( new Book( 3, TITLE_3, "gothic", "science-fiction", "monster" ) );
+		} );
+	}
+
+	@Entity
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	@NamedEntityGraph(name = Book.GRAPH_WITH_TAGS, attributeNodes = @NamedAttributeNode("tags"))
+	public static class Book {
+
+		public static final String INDEX = "Book";
+		public static final String GRAPH_WITH_TAGS = "Book.withTags";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@ElementCollection
+		@OrderColumn
+		@GenericField
+		private List<String> tags = new ArrayList<>();
+
+		protected Book() {
+		}
+
+		Book(int id, String title, String... tags) {
+			this.id = id;
+			this.title = title;
+			this.tags.addAll( Arrays.asList( tags ) );
+		}
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mixed workload: queries executed while the same index is being updated concurrently.
+ * <p>
+ * Reader and writer throughputs are reported separately, as well as for the group as a whole.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConcurrentReadWriteBenchmarks {
+
+	@Benchmark
+	@Group("readWrite")
+	@GroupThreads(2)
+	public void writer(MappingHolder mappingHolder, IndexingState indexingState) {
+		IndexingBenchmarks.update( mappingHolder, indexingState );
+	}
+
+	@Benchmark
+	@Group("readWrite")
+	@GroupThreads(6)
+	public void reader(MappingHolder mappingHolder, QueryState queryState, Blackhole blackhole) {
+		try ( SearchSession session = mappingHolder.getMapping().createSession() ) {
+			blackhole.consume( QueryBenchmarks.match( session, queryState ) );
+		}
+	}
+
+}
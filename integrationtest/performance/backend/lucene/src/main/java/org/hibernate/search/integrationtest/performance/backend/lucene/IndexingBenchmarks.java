@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.javabean.work.SearchIndexingPlan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Indexing throughput, from the POJO indexing plan down to the Lucene write orchestrator.
+ * <p>
+ * Each benchmark invocation opens a session, adds works to its indexing plan,
+ * then closes the session, which executes the plan and waits for the works to complete.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IndexingBenchmarks {
+
+	@Benchmark
+	@Threads(1)
+	public void update_singleThread(MappingHolder mappingHolder, IndexingState indexingState) {
+		update( mappingHolder, indexingState );
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void update_concurrent(MappingHolder mappingHolder, IndexingState indexingState) {
+		update( mappingHolder, indexingState );
+	}
+
+	static void update(MappingHolder mappingHolder, IndexingState indexingState) {
+		try ( SearchSession session = mappingHolder.getMapping().createSessionWithOptions()
+				.commitStrategy( indexingState.getCommitStrategy() )
+				.refreshStrategy( DocumentRefreshStrategy.NONE )
+				.build() ) {
+			SearchIndexingPlan indexingPlan = session.indexingPlan();
+			for ( int i = 0; i < indexingState.getWorksPerSession(); i++ ) {
+				indexingPlan.addOrUpdate( indexingState.nextBookToUpdate() );
+			}
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.util.SplittableRandom;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.integrationtest.performance.backend.lucene.model.Book;
+import org.hibernate.search.integrationtest.performance.backend.lucene.model.BookDataset;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Per-thread state for indexing benchmarks: picks the books to update.
+ * <p>
+ * Books are updated rather than added, so that the index size remains stable during the benchmark
+ * and results stay comparable from one iteration to the next.
+ */
+@State(Scope.Thread)
+public class IndexingState {
+
+	@Param({ "1", "100" })
+	private int worksPerSession;
+
+	@Param({ "NONE", "FORCE" })
+	private DocumentCommitStrategy commitStrategy;
+
+	private SplittableRandom random;
+
+	private int initialIndexSize;
+
+	@Setup(Level.Trial)
+	public void init(MappingHolder mappingHolder, ThreadParams threadParams) {
+		// Seed with the thread index, so that runs are reproducible
+		random = new SplittableRandom( threadParams.getThreadIndex() );
+		initialIndexSize = mappingHolder.getInitialIndexSize();
+	}
+
+	public int getWorksPerSession() {
+		return worksPerSession;
+	}
+
+	public DocumentCommitStrategy getCommitStrategy() {
+		return commitStrategy;
+	}
+
+	public Book nextBookToUpdate() {
+		Book book = BookDataset.book( random.nextInt( initialIndexSize ) );
+		// Change a few fields, as an actual update would
+		book.setPageCount( book.getPageCount() + 1 );
+		book.setRating( random.nextInt( 51 ) / 10.0f );
+		return book;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Launches all the JMH benchmarks within this project.
+ * <p>
+ * Typically you'll want to run this from a commandline; this Launcher is not meant
+ * to take measurements but rather to simplify debugging and developing.
+ * <p>
+ * Refer to the <a href="http://openjdk.java.net/projects/code-tools/jmh/">JMH documentation</a> to learn more about the
+ * Java Micro-benchmark Harness in general.
+ */
+public class Launcher {
+
+	public static void main(String... args) throws Exception {
+		Options opts = new OptionsBuilder()
+				.include( ".*" )
+				.warmupIterations( 1 )
+				.measurementIterations( 1 )
+				.param( "directoryType", "local-heap" )
+				.param( "initialIndexSize", "1000" )
+				.resultFormat( ResultFormatType.JSON )
+				.result( "target/jmh-results.json" )
+				.forks( 0 ) //To simplify debugging; Remember this implies JVM parameters via @Fork won't be applied.
+				.build();
+
+		new Runner( opts ).run();
+	}
+
+	private Launcher() {
+		//Do not construct
+	}
+
+}
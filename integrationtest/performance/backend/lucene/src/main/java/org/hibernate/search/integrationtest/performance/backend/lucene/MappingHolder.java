@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.backend.lucene.model.BenchmarkAnalysisConfigurer;
+import org.hibernate.search.integrationtest.performance.backend.lucene.model.Book;
+import org.hibernate.search.integrationtest.performance.backend.lucene.model.BookDataset;
+import org.hibernate.search.mapper.javabean.mapping.CloseableSearchMapping;
+import org.hibernate.search.mapper.javabean.mapping.SearchMapping;
+import org.hibernate.search.mapper.javabean.mapping.SearchMappingBuilder;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Holds a Search mapping with a Lucene backend, with an index pre-populated with
+ * {@link #getInitialIndexSize() a given number} of {@link BookDataset reproducible} books.
+ */
+@State(Scope.Benchmark)
+public class MappingHolder {
+
+	private static final String BACKEND_NAME = "benchmarkBackend";
+
+	private static final int INITIAL_INDEXING_BATCH_SIZE = 1000;
+
+	@Param({ "local-heap", "local-filesystem" })
+	private String directoryType;
+
+	@Param({ "directory", "near-real-time" })
+	private String ioStrategy;
+
+	@Param({ "10000" })
+	private int initialIndexSize;
+
+	private Path indexRoot;
+
+	private CloseableSearchMapping mapping;
+
+	@Setup(Level.Trial)
+	public void startMapping() throws IOException {
+		indexRoot = Files.createTempDirectory( "hsearch-benchmark-" );
+
+		SearchMappingBuilder builder = SearchMapping.builder()
+				.setProperty( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME )
+				.setProperty( backendProperty( BackendSettings.TYPE ), LuceneBackendSettings.TYPE_NAME )
+				.setProperty( backendProperty( LuceneBackendSettings.DIRECTORY_TYPE ), directoryType )
+				.setProperty( backendProperty( LuceneBackendSettings.DIRECTORY_ROOT ), indexRoot.toString() )
+				.setProperty( backendProperty( LuceneBackendSettings.ANALYSIS_CONFIGURER ),
+						BenchmarkAnalysisConfigurer.class.getName() )
+				.setProperty( backendProperty( BackendSettings.INDEX_DEFAULTS + "." + LuceneIndexSettings.IO_STRATEGY ),
+						ioStrategy );
+		builder.addEntityType( Book.class );
+		mapping = builder.build();
+
+		initData();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopMapping() throws IOException {
+		if ( mapping != null ) {
+			mapping.close();
+		}
+		if ( indexRoot != null ) {
+			try ( Stream<Path> paths = Files.walk( indexRoot ) ) {
+				for ( Path path : (Iterable<Path>) paths.sorted( Comparator.reverseOrder() )::iterator ) {
+					Files.delete( path );
+				}
+			}
+		}
+	}
+
+	public SearchMapping getMapping() {
+		return mapping;
+	}
+
+	public int getInitialIndexSize() {
+		return initialIndexSize;
+	}
+
+	private void initData() {
+		for ( int batchStart = 0; batchStart < initialIndexSize; batchStart += INITIAL_INDEXING_BATCH_SIZE ) {
+			int batchEnd = Math.min( batchStart + INITIAL_INDEXING_BATCH_SIZE, initialIndexSize );
+			boolean lastBatch = batchEnd == initialIndexSize;
+			try ( SearchSession session = mapping.createSessionWithOptions()
+					.commitStrategy( lastBatch ? DocumentCommitStrategy.FORCE : DocumentCommitStrategy.NONE )
+					.refreshStrategy( lastBatch ? DocumentRefreshStrategy.FORCE : DocumentRefreshStrategy.NONE )
+					.build() ) {
+				for ( long id = batchStart; id < batchEnd; id++ ) {
+					session.indexingPlan().add( BookDataset.book( id ) );
+				}
+			}
+		}
+	}
+
+	private static String backendProperty(String radical) {
+		return EngineSettings.BACKENDS + "." + BACKEND_NAME + "." + radical;
+	}
+}
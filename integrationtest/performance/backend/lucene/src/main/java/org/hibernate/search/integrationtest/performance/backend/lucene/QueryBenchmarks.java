@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.lucene.model.Book;
+import org.hibernate.search.mapper.javabean.common.EntityReference;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.util.common.data.Range;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Query latency for the most common kinds of predicates, sorts, projections and aggregations.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(1)
+public class QueryBenchmarks {
+
+	private static final AggregationKey<Map<String, Long>> COUNT_BY_GENRE = AggregationKey.of( "countByGenre" );
+	private static final AggregationKey<Map<Range<Integer>, Long>> COUNT_BY_PAGE_COUNT =
+			AggregationKey.of( "countByPageCount" );
+
+	@Benchmark
+	public void match(MappingHolder mappingHolder, QueryState queryState, Blackhole blackhole) {
+		try ( SearchSession session = mappingHolder.getMapping().createSession() ) {
+			blackhole.consume( match( session, queryState ) );
+		}
+	}
+
+	@Benchmark
+	public void range(MappingHolder mappingHolder, QueryState queryState, Blackhole blackhole) {
+		try ( SearchSession session = mappingHolder.getMapping().createSession() ) {
+			int lowerBound = queryState.nextPageCountLowerBound();
+			SearchResult<EntityReference> result = session.search( Book.class )
+					.asEntityReference()
+					.predicate( f -> f.range().field( "pageCount" ).between( lowerBound, lowerBound + 100 ) )
+					.fetch( queryState.getMaxResults() );
+			blackhole.consume( result );
+		}
+	}
+
+	@Benchmark
+	public void bool(MappingHolder mappingHolder, QueryState queryState, Blackhole blackhole) {
+		try ( SearchSession session = mappingHolder.getMapping().createSession() ) {
+			String word = queryState.nextWord();
+			String otherWord = queryState.nextWord();
+			String genre = queryState.nextGenre();
+			SearchResult<EntityReference> result = session.search( Book.class )
+					.asEntityReference()
+					.predicate( f -> f.bool()
+							.must( f.match().field( "summary" ).matching( word ) )
+							.should( f.match().field( "title" ).matching( otherWord ) )
+							.filter( f.match().field( "genre" ).matching( genre ) ) )
+					.fetch( queryState.getMaxResults() );
+			blackhole.consume( result );
+		}
+	}
+
+	@Benchmark
+	public void sort(MappingHolder mappingHolder, QueryState queryState, Blackhole blackhole) {
+		try ( SearchSession session = mappingHolder.getMapping().createSession() ) {
+			String genre = queryState.nextGenre();
+			SearchResult<EntityReference> result = session.search( Book.class )
+					.asEntityReference()
+					.predicate( f -> f.match().field( "genre" ).matching( genre ) )
+					.sort( f -> f.field( "rating" ).desc().then().field( "publicationDate" ) )
+					.fetch( queryState.getMaxResults() );
+			blackhole.consume( result );
+		}
+	}
+
+	@Benchmark
+	public void projection(MappingHolder mappingHolder, QueryState queryState, Blackhole blackhole) {
+		try ( SearchSession session = mappingHolder.getMapping().createSession() ) {
+			String word = queryState.nextWord();
+			SearchResult<List<?>> result = session.search( Book.class )
+					.asProjection( f -> f.composite(
+							f.field( "title", String.class ),
+							f.field( "genre", String.class ),
+							f.field( "pageCount", Integer.class ),
+							f.field( "rating", Float.class )
+					) )
+					.predicate( f -> f.match().field( "summary" ).matching( word ) )
+					.fetch( queryState.getMaxResults() );
+			blackhole.consume( result );
+		}
+	}
+
+	@Benchmark
+	public void termsAggregation(MappingHolder mappingHolder, QueryState queryState, Blackhole blackhole) {
+		try ( SearchSession session = mappingHolder.getMapping().createSession() ) {
+			String word = queryState.nextWord();
+			SearchResult<EntityReference> result = session.search( Book.class )
+					.asEntityReference()
+					.predicate( f -> f.match().field( "summary" ).matching( word ) )
+					.aggregation( COUNT_BY_GENRE, f -> f.terms().field( "genre", String.class ) )
+					.fetch( queryState.getMaxResults() );
+			blackhole.consume( result.getAggregation( COUNT_BY_GENRE ) );
+		}
+	}
+
+	@Benchmark
+	public void rangeAggregation(MappingHolder mappingHolder, QueryState queryState, Blackhole blackhole) {
+		try ( SearchSession session = mappingHolder.getMapping().createSession() ) {
+			String word = queryState.nextWord();
+			SearchResult<EntityReference> result = session.search( Book.class )
+					.asEntityReference()
+					.predicate( f -> f.match().field( "summary" ).matching( word ) )
+					.aggregation( COUNT_BY_PAGE_COUNT, f -> f.range().field( "pageCount", Integer.class )
+							.range( null, 100 )
+							.range( 100, 500 )
+							.range( 500, null ) )
+					.fetch( queryState.getMaxResults() );
+			blackhole.consume( result.getAggregation( COUNT_BY_PAGE_COUNT ) );
+		}
+	}
+
+	static SearchResult<EntityReference> match(SearchSession session, QueryState queryState) {
+		String word = queryState.nextWord();
+		return session.search( Book.class )
+				.asEntityReference()
+				.predicate( f -> f.match().field( "summary" ).matching( word ) )
+				.fetch( queryState.getMaxResults() );
+	}
+
+}
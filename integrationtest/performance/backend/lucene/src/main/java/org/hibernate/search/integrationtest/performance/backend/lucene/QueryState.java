@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.util.SplittableRandom;
+
+import org.hibernate.search.integrationtest.performance.backend.lucene.model.BookDataset;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Per-thread state for query benchmarks: picks the parameters of each query.
+ */
+@State(Scope.Thread)
+public class QueryState {
+
+	@Param({ "20" })
+	private int maxResults;
+
+	private SplittableRandom random;
+
+	@Setup(Level.Trial)
+	public void init(ThreadParams threadParams) {
+		// Seed with the thread index, so that runs are reproducible
+		random = new SplittableRandom( threadParams.getThreadIndex() );
+	}
+
+	public int getMaxResults() {
+		return maxResults;
+	}
+
+	public String nextWord() {
+		return BookDataset.WORDS[random.nextInt( BookDataset.WORDS.length )];
+	}
+
+	public String nextGenre() {
+		return BookDataset.GENRES[random.nextInt( BookDataset.GENRES.length )];
+	}
+
+	public int nextPageCountLowerBound() {
+		return 20 + random.nextInt( 900 );
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.model;
+
+import java.time.LocalDate;
+
+/**
+ * Generates books deterministically from their identifier,
+ * so that the indexed data is identical from one run (and one commit) to the next.
+ */
+public final class BookDataset {
+
+	public static final String[] GENRES = {
+			"fantasy", "science-fiction", "crime", "romance", "history",
+			"biography", "poetry", "travel", "cooking", "science"
+	};
+
+	public static final String[] WORDS = {
+			"adventure", "ancient", "art", "autumn", "battle", "bridge", "castle", "city", "code", "dark",
+			"dawn", "desert", "dream", "empire", "engine", "forest", "garden", "ghost", "glass", "gold",
+			"harbor", "heart", "hidden", "island", "journey", "king", "lake", "legend", "light", "machine",
+			"map", "memory", "moon", "mountain", "night", "ocean", "paper", "queen", "river", "road",
+			"secret", "shadow", "silver", "sky", "song", "star", "storm", "stone", "summer", "winter"
+	};
+
+	private static final int TITLE_WORD_COUNT = 3;
+	private static final int SUMMARY_WORD_COUNT = 40;
+	private static final long FIRST_PUBLICATION_EPOCH_DAY = LocalDate.of( 1900, 1, 1 ).toEpochDay();
+	private static final int PUBLICATION_DAY_RANGE = 365 * 120;
+
+	private BookDataset() {
+	}
+
+	public static Book book(long id) {
+		Book book = new Book();
+		book.setId( id );
+		book.setTitle( text( id, TITLE_WORD_COUNT ) );
+		book.setSummary( text( id * 31, SUMMARY_WORD_COUNT ) );
+		book.setGenre( GENRES[(int) ( mix( id ) % GENRES.length )] );
+		book.setPageCount( 20 + (int) ( mix( id + 1 ) % 980 ) );
+		book.setRating( ( mix( id + 2 ) % 51 ) / 10.0f );
+		book.setPublicationDate( LocalDate.ofEpochDay(
+				FIRST_PUBLICATION_EPOCH_DAY + mix( id + 3 ) % PUBLICATION_DAY_RANGE
+		) );
+		return book;
+	}
+
+	private static String text(long seed, int wordCount) {
+		StringBuilder builder = new StringBuilder();
+		for ( int i = 0; i < wordCount; i++ ) {
+			if ( i > 0 ) {
+				builder.append( ' ' );
+			}
+			builder.append( WORDS[(int) ( mix( seed + i ) % WORDS.length )] );
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * @return A non-negative pseudo-random value derived from the given seed (SplitMix64 finalizer).
+	 */
+	private static long mix(long seed) {
+		long z = seed * 0x9E3779B97F4A7C15L;
+		z = ( z ^ ( z >>> 30 ) ) * 0xBF58476D1CE4E5B9L;
+		z = ( z ^ ( z >>> 27 ) ) * 0x94D049BB133111EBL;
+		z = z ^ ( z >>> 31 );
+		return z & Long.MAX_VALUE;
+	}
+}
@@ -6,10 +6,11 @@
  */
 package org.hibernate.search.mapper.javabean.impl;
 
-import org.hibernate.search.mapper.javabean.model.impl.JavaBeanSimpleStringSetPojoPathFilterFactory;
+import org.hibernate.search.mapper.javabean.model.impl.JavaBeanSimplePojoPathFilterFactory;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi.PojoAdditionalMetadataCollectorTypeNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 
 class JavaBeanEntityTypeContributor implements PojoTypeMetadataContributor {
@@ -29,7 +30,8 @@ public void contributeAdditionalMetadata(PojoAdditionalMetadataCollectorTypeNode
 				// Entity metadata is not inherited; only contribute it to the exact type.
 				return;
 			}
-			collector.markAsEntity( entityName, new JavaBeanSimpleStringSetPojoPathFilterFactory() );
+			PojoPathOrdinals pathOrdinals = new PojoPathOrdinals();
+			collector.markAsEntity( entityName, new JavaBeanSimplePojoPathFilterFactory( pathOrdinals ), pathOrdinals );
 		}
 		catch (RuntimeException e) {
 			collector.getFailureCollector().add( e );
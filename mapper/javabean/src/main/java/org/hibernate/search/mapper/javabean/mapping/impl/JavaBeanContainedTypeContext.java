@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.javabean.mapping.impl;
 
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoContainedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 /*
  * There's nothing here at the moment, just a placeholder.
@@ -19,5 +20,10 @@ private JavaBeanContainedTypeContext() {
 	static class Builder<E> implements PojoContainedTypeExtendedMappingCollector {
 		Builder() {
 		}
+
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals) {
+			// Nothing to do: dirty paths are passed as strings by users
+		}
 	}
 }
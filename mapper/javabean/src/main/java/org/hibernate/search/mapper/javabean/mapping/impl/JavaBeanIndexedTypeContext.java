@@ -9,6 +9,7 @@
 import org.hibernate.search.mapper.javabean.session.impl.JavaBeanSessionIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.bridge.mapping.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 
 class JavaBeanIndexedTypeContext<E> implements JavaBeanSessionIndexedTypeContext<E> {
@@ -65,6 +66,11 @@ public void identifierMapping(IdentifierMapping identifierMapping) {
 			this.identifierMapping = identifierMapping;
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals) {
+			// Nothing to do: dirty paths are passed as strings by users
+		}
+
 		JavaBeanIndexedTypeContext<E> build() {
 			return new JavaBeanIndexedTypeContext<>( this );
 		}
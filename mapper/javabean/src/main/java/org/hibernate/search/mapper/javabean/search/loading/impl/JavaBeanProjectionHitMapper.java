@@ -7,6 +7,8 @@
 package org.hibernate.search.mapper.javabean.search.loading.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
@@ -42,6 +44,12 @@ public LoadingResult<Void> loadBlocking() {
 		return JavaBeanUnusuableLoadingResult.INSTANCE;
 	}
 
+	@Override
+	public CompletionStage<LoadingResult<Void>> loadAsync() {
+		// Nothing to load: entity loading is not supported
+		return CompletableFuture.completedFuture( JavaBeanUnusuableLoadingResult.INSTANCE );
+	}
+
 	private static class JavaBeanUnusuableLoadingResult implements LoadingResult<Void> {
 
 		private static final JavaBeanUnusuableLoadingResult INSTANCE = new JavaBeanUnusuableLoadingResult();
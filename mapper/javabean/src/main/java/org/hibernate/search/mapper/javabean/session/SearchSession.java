@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.Collections;
 
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryHitTypeStep;
 import org.hibernate.search.mapper.javabean.common.EntityReference;
 import org.hibernate.search.mapper.javabean.scope.SearchScope;
@@ -58,6 +59,15 @@ public interface SearchSession extends AutoCloseable {
 	 */
 	SearchQueryHitTypeStep<?, EntityReference, ?, ?, ?> search(SearchScope scope);
 
+	/**
+	 * Initiate the building of a multi-query,
+	 * i.e. a set of search queries executed together, e.g. in a single round-trip to the backend.
+	 *
+	 * @return A {@link SearchMultiQuery}, to which queries can be added before fetching all results at once.
+	 * @see SearchMultiQuery
+	 */
+	SearchMultiQuery multiSearch();
+
 	/**
 	 * Create a {@link SearchScope} limited to the given type.
 	 *
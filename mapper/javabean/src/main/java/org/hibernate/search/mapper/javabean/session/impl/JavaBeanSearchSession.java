@@ -14,6 +14,8 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryHitTypeStep;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
+import org.hibernate.search.engine.search.query.spi.DefaultSearchMultiQuery;
 import org.hibernate.search.mapper.javabean.common.EntityReference;
 import org.hibernate.search.mapper.javabean.scope.SearchScope;
 import org.hibernate.search.mapper.javabean.scope.impl.SearchScopeImpl;
@@ -66,6 +68,11 @@ public void close() {
 		return search( (SearchScopeImpl) scope );
 	}
 
+	@Override
+	public SearchMultiQuery multiSearch() {
+		return new DefaultSearchMultiQuery();
+	}
+
 	@Override
 	public SearchScopeImpl scope(Collection<? extends Class<?>> types) {
 		return mappingContext.createScope( types );
@@ -30,7 +30,20 @@ public enum AutomaticIndexingStrategyName {
 	 * Indexing is triggered automatically when entities are modified in the Hibernate ORM session:
 	 * entity insertion, update etc.
 	 */
-	SESSION("session");
+	SESSION("session"),
+
+	/**
+	 * Indexing is triggered automatically when entities are modified in the Hibernate ORM session,
+	 * but asynchronously and durably:
+	 * entity change events are written to an outbox table in the same database transaction as the entity changes,
+	 * and a background processor reindexes the corresponding entities later.
+	 * <p>
+	 * Committing a transaction thus never waits for indexing,
+	 * and changes committed before a crash are still indexed after a restart.
+	 *
+	 * @see org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#AUTOMATIC_INDEXING_OUTBOX_TABLE
+	 */
+	OUTBOX("outbox");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
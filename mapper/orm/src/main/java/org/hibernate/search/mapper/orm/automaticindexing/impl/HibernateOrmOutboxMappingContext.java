@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.impl;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+
+public interface HibernateOrmOutboxMappingContext {
+
+	SessionFactoryImplementor getSessionFactory();
+
+	ThreadPoolProvider getThreadPoolProvider();
+
+	FailureHandler getFailureHandler();
+
+	<E> HibernateOrmOutboxTypeContext getTypeContext(Class<E> type);
+
+	/**
+	 * @param session A Hibernate ORM session.
+	 * @return A new indexing plan that indexes entities directly, without going through the outbox,
+	 * and commits the index before reporting success.
+	 */
+	PojoIndexingPlan createOutboxProcessingIndexingPlan(SessionImplementor session);
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.impl;
+
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+import org.hibernate.type.Type;
+
+public interface HibernateOrmOutboxTypeContext {
+
+	Object toIndexingPlanProvidedId(Object entityId);
+
+	/**
+	 * @return The ordinals assigned to dirty paths of this type.
+	 */
+	PojoPathOrdinals getDirtyPathOrdinals();
+
+	/**
+	 * @return The Hibernate ORM type of the value document identifiers are derived from,
+	 * or {@code null} if this type is not indexed.
+	 */
+	Type getDocumentIdSourceType();
+
+	/**
+	 * @param entityId The identifier of an entity of this type.
+	 * @param entity An entity of this type.
+	 * @return The value the document identifier of that entity is derived from,
+	 * to be passed to {@link org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan#purge(Class, Object)}.
+	 */
+	Object toDocumentIdSourceValue(Object entityId, Object entity);
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.type.Type;
+
+/**
+ * An entity change event, as stored in the {@link OutboxTable outbox table}.
+ * <p>
+ * Events only carry the type and identifier of the changed entity, and optionally the dirty paths:
+ * the entity itself is reloaded from the database when the event is processed.
+ * Events about deleted entities of indexed types also carry the value their document identifier is derived from,
+ * since the entity cannot be reloaded to delete its document.
+ */
+final class OutboxEvent {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String DIRTY_PATHS_SEPARATOR = ",";
+
+	/**
+	 * @param persister The persister of the changed entity.
+	 * @param entityId The identifier of the changed entity.
+	 * @param dirtyPaths The dirty paths, or {@code null} if the whole entity must be reindexed.
+	 * @param documentIdSourceType The Hibernate ORM type of {@code documentIdSource}.
+	 * @param documentIdSource The value the document identifier of the entity is derived from,
+	 * if the entity was deleted and its document must be deleted, {@code null} otherwise.
+	 * @return An event.
+	 */
+	static OutboxEvent create(EntityPersister persister, Object entityId, Set<String> dirtyPaths,
+			Type documentIdSourceType, Object documentIdSource) {
+		String entityName = persister.getEntityName();
+		String serializedEntityId = serializeEntityId( persister, entityId );
+		if ( serializedEntityId.length() > OutboxTable.ENTITY_ID_MAX_LENGTH ) {
+			throw log.outboxEntityIdTooLong( entityName, entityId, serializedEntityId.length(),
+					OutboxTable.ENTITY_ID_MAX_LENGTH );
+		}
+		String serializedDirtyPaths = dirtyPaths == null ? null : String.join( DIRTY_PATHS_SEPARATOR, dirtyPaths );
+		if ( serializedDirtyPaths != null && serializedDirtyPaths.length() > OutboxTable.DIRTY_PATHS_MAX_LENGTH ) {
+			// Too many dirty paths to store: simply reindex the whole entity
+			serializedDirtyPaths = null;
+		}
+		String serializedDocumentIdSource = null;
+		if ( documentIdSource != null ) {
+			serializedDocumentIdSource = serializeDocumentIdSource( entityName, documentIdSourceType, documentIdSource );
+			if ( serializedDocumentIdSource.length() > OutboxTable.DOCUMENT_ID_SOURCE_MAX_LENGTH ) {
+				throw log.outboxDocumentIdSourceTooLong( entityName, documentIdSource,
+						serializedDocumentIdSource.length(), OutboxTable.DOCUMENT_ID_SOURCE_MAX_LENGTH );
+			}
+		}
+		return new OutboxEvent( UUID.randomUUID().toString(), entityName, serializedEntityId,
+				serializedDirtyPaths, serializedDocumentIdSource, System.currentTimeMillis(), 0 );
+	}
+
+	private final String id;
+	private final String entityName;
+	private final String serializedEntityId;
+	private final String serializedDirtyPaths;
+	private final String serializedDocumentIdSource;
+	private final long created;
+	private final int attempts;
+
+	OutboxEvent(String id, String entityName, String serializedEntityId, String serializedDirtyPaths,
+			String serializedDocumentIdSource, long created, int attempts) {
+		this.id = id;
+		this.entityName = entityName;
+		this.serializedEntityId = serializedEntityId;
+		this.serializedDirtyPaths = serializedDirtyPaths;
+		this.serializedDocumentIdSource = serializedDocumentIdSource;
+		this.created = created;
+		this.attempts = attempts;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "id=" + id
+				+ ", entityName=" + entityName
+				+ ", serializedEntityId=" + serializedEntityId
+				+ ", dirtyPaths=" + serializedDirtyPaths
+				+ ", documentIdSource=" + serializedDocumentIdSource
+				+ ", attempts=" + attempts
+				+ "]";
+	}
+
+	String getId() {
+		return id;
+	}
+
+	String getEntityName() {
+		return entityName;
+	}
+
+	String getSerializedEntityId() {
+		return serializedEntityId;
+	}
+
+	String getSerializedDirtyPaths() {
+		return serializedDirtyPaths;
+	}
+
+	String getSerializedDocumentIdSource() {
+		return serializedDocumentIdSource;
+	}
+
+	long getCreated() {
+		return created;
+	}
+
+	/**
+	 * @return The number of failed processing attempts so far.
+	 */
+	int getAttempts() {
+		return attempts;
+	}
+
+	/**
+	 * @return The dirty paths, or {@code null} if the whole entity must be reindexed.
+	 */
+	Collection<String> getDirtyPaths() {
+		if ( serializedDirtyPaths == null ) {
+			return null;
+		}
+		else if ( serializedDirtyPaths.isEmpty() ) {
+			return Collections.emptySet();
+		}
+		return new LinkedHashSet<>( Arrays.asList( serializedDirtyPaths.split( DIRTY_PATHS_SEPARATOR ) ) );
+	}
+
+	Object getEntityId(EntityPersister persister) {
+		try {
+			return OutboxIdentifierSerializer.deserialize( persister.getIdentifierType(), serializedEntityId );
+		}
+		catch (RuntimeException e) {
+			throw log.unableToDeserializeOutboxEntityId( entityName, e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * @param documentIdSourceType The Hibernate ORM type of the value the document identifier is derived from.
+	 * @return The value the document identifier of the deleted entity is derived from,
+	 * or {@code null} if this event is not about a deleted entity of an indexed type.
+	 */
+	Object getDocumentIdSource(Type documentIdSourceType) {
+		if ( serializedDocumentIdSource == null ) {
+			return null;
+		}
+		try {
+			return OutboxIdentifierSerializer.deserialize( documentIdSourceType, serializedDocumentIdSource );
+		}
+		catch (RuntimeException e) {
+			throw log.unableToDeserializeOutboxDocumentIdSource( entityName, e.getMessage(), e );
+		}
+	}
+
+	private static String serializeEntityId(EntityPersister persister, Object entityId) {
+		try {
+			return OutboxIdentifierSerializer.serialize( persister.getIdentifierType(), entityId );
+		}
+		catch (RuntimeException e) {
+			throw log.unableToSerializeOutboxEntityId( persister.getEntityName(), entityId, e.getMessage(), e );
+		}
+	}
+
+	private static String serializeDocumentIdSource(String entityName, Type type, Object value) {
+		try {
+			return OutboxIdentifierSerializer.serialize( type, value );
+		}
+		catch (RuntimeException e) {
+			throw log.unableToSerializeOutboxDocumentIdSource( entityName, value, e.getMessage(), e );
+		}
+	}
+}
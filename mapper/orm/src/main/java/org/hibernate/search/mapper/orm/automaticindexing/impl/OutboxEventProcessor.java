@@ -0,0 +1,462 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Processes entity change events written to the {@link OutboxTable outbox table}
+ * by {@link OutboxIndexingPlan}.
+ * <p>
+ * The table is polled periodically from a single thread.
+ * Each batch of events is coalesced into one change per entity,
+ * then changes are partitioned by entity and reindexed in parallel by multiple workers,
+ * each in its own Hibernate ORM session.
+ * Events are only deleted from the table once the corresponding entities were successfully reindexed.
+ * On failure, processing is attempted again after a delay that doubles on each attempt;
+ * once the maximum number of attempts is reached, events are left in the table but ignored.
+ * Failing changes are retried one by one before they are considered failed,
+ * so that they do not prevent other changes from being processed.
+ */
+public final class OutboxEventProcessor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final HibernateOrmOutboxMappingContext mappingContext;
+	private final OutboxTable table;
+	private final long pollingInterval;
+	private final int batchSize;
+	private final int threadCount;
+	private final int maxAttempts;
+	private final long retryDelay;
+
+	private ScheduledExecutorService pollingExecutor;
+	private ExecutorService workerExecutor;
+	private volatile boolean closed = false;
+
+	public OutboxEventProcessor(HibernateOrmOutboxMappingContext mappingContext, OutboxTable table,
+			long pollingInterval, int batchSize, int threadCount, int maxAttempts, long retryDelay) {
+		this.mappingContext = mappingContext;
+		this.table = table;
+		this.pollingInterval = pollingInterval;
+		this.batchSize = batchSize;
+		this.threadCount = threadCount;
+		this.maxAttempts = maxAttempts;
+		this.retryDelay = retryDelay;
+	}
+
+	/**
+	 * Create the outbox table if it doesn't exist yet.
+	 * <p>
+	 * Uses a JDBC connection directly rather than a Hibernate ORM session,
+	 * since this is called while Hibernate Search is still booting.
+	 */
+	public void createTableIfMissing() {
+		JdbcConnectionAccess connectionAccess = mappingContext.getSessionFactory().getServiceRegistry()
+				.getService( JdbcServices.class ).getBootstrapJdbcConnectionAccess();
+		try {
+			Connection connection = connectionAccess.obtainConnection();
+			try {
+				table.createIfMissing( connection );
+				if ( !connection.getAutoCommit() ) {
+					connection.commit();
+				}
+			}
+			finally {
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException | RuntimeException e) {
+			throw log.unableToCreateOutboxTable( table.getTableName(), e.getMessage(), e );
+		}
+	}
+
+	public void start() {
+		workerExecutor = mappingContext.getThreadPoolProvider()
+				.newFixedThreadPool( threadCount, "Outbox event processing - " + table.getTableName() );
+		pollingExecutor = mappingContext.getThreadPoolProvider()
+				.newScheduledThreadPool( "Outbox event polling - " + table.getTableName() );
+		pollingExecutor.scheduleWithFixedDelay( this::poll, pollingInterval, pollingInterval, TimeUnit.MILLISECONDS );
+	}
+
+	public void close() {
+		closed = true;
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			// Events being processed will simply be processed again on the next start
+			closer.push( ScheduledExecutorService::shutdownNow, pollingExecutor );
+			closer.push( ExecutorService::shutdownNow, workerExecutor );
+		}
+	}
+
+	private void poll() {
+		try {
+			List<OutboxEvent> events;
+			boolean success;
+			do {
+				events = readEvents();
+				if ( events.isEmpty() ) {
+					return;
+				}
+				success = process( events );
+			}
+			// If the batch was full, there are probably more events waiting: don't wait before processing them.
+			// On failure, wait for the next poll to avoid retrying in a tight loop.
+			while ( success && events.size() >= batchSize && !closed );
+		}
+		catch (RuntimeException e) {
+			if ( closed ) {
+				// Most likely a consequence of closing: ignore.
+				return;
+			}
+			FailureContext.Builder contextBuilder = FailureContext.builder();
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.outboxEventProcessing() );
+			mappingContext.getFailureHandler().handle( contextBuilder.build() );
+		}
+	}
+
+	private List<OutboxEvent> readEvents() {
+		try ( Session session = mappingContext.getSessionFactory().openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				List<OutboxEvent> events = session.doReturningWork( connection -> table.poll( connection, batchSize, maxAttempts, System.currentTimeMillis() ) );
+				transaction.commit();
+				return events;
+			}
+			catch (RuntimeException e) {
+				rollbackIfActive( transaction, e );
+				throw log.unableToReadOutboxEvents( table.getTableName(), e.getMessage(), e );
+			}
+		}
+	}
+
+	/**
+	 * @param events The events to process.
+	 * @return {@code true} if all events were processed successfully, {@code false} otherwise.
+	 */
+	private boolean process(List<OutboxEvent> events) {
+		// Coalesce events: only reindex each entity once
+		Map<ChangeKey, PendingChange> changes = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			ChangeKey key = new ChangeKey( event.getEntityName(), event.getSerializedEntityId() );
+			changes.computeIfAbsent( key, ignored -> new PendingChange( event ) ).add( event );
+		}
+
+		// Partition by entity, so that concurrent workers never reindex the same entity
+		List<List<PendingChange>> partitions = new ArrayList<>( threadCount );
+		for ( int i = 0; i < threadCount; i++ ) {
+			partitions.add( new ArrayList<>() );
+		}
+		for ( Map.Entry<ChangeKey, PendingChange> entry : changes.entrySet() ) {
+			partitions.get( Math.floorMod( entry.getKey().hashCode(), threadCount ) ).add( entry.getValue() );
+		}
+
+		List<CompletableFuture<Boolean>> futures = new ArrayList<>( threadCount );
+		for ( List<PendingChange> partition : partitions ) {
+			if ( !partition.isEmpty() ) {
+				futures.add( CompletableFuture.supplyAsync( () -> processPartition( partition ), workerExecutor ) );
+			}
+		}
+		boolean success = true;
+		for ( CompletableFuture<Boolean> future : futures ) {
+			success = future.join() && success;
+		}
+		return success;
+	}
+
+	private boolean processPartition(List<PendingChange> changes) {
+		Throwable failure = tryProcess( changes );
+		if ( failure == null ) {
+			return true;
+		}
+		if ( changes.size() == 1 || closed ) {
+			handleFailure( failure, changes );
+			return false;
+		}
+		// Process each change on its own, so that a failing change does not prevent the others from being processed
+		boolean success = true;
+		for ( PendingChange change : changes ) {
+			List<PendingChange> singleChange = Collections.singletonList( change );
+			Throwable changeFailure = tryProcess( singleChange );
+			if ( changeFailure != null ) {
+				handleFailure( changeFailure, singleChange );
+				success = false;
+			}
+		}
+		return success;
+	}
+
+	/**
+	 * @param changes The changes to process.
+	 * @return {@code null} if the changes were processed and their events deleted,
+	 * or the failure if they could not be processed, in which case the transaction was rolled back.
+	 */
+	private Throwable tryProcess(List<PendingChange> changes) {
+		SessionFactoryImplementor sessionFactory = mappingContext.getSessionFactory();
+		try ( Session session = sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				PojoIndexingPlan plan = mappingContext.createOutboxProcessingIndexingPlan( (SessionImplementor) session );
+				List<String> processedEventIds = new ArrayList<>();
+				for ( PendingChange change : changes ) {
+					if ( change.resolve( sessionFactory ) ) {
+						change.addTo( session, plan );
+					}
+					// Else the change is no longer relevant or can never be processed (which was reported): drop it.
+					processedEventIds.addAll( change.eventIds );
+				}
+
+				plan.process();
+				IndexIndexingPlanExecutionReport report = plan.executeAndReport().join();
+				Optional<Throwable> throwable = report.getThrowable();
+				if ( throwable.isPresent() ) {
+					rollbackIfActive( transaction, throwable.get() );
+					return throwable.get();
+				}
+
+				session.doWork( connection -> table.delete( connection, processedEventIds ) );
+				transaction.commit();
+				return null;
+			}
+			catch (RuntimeException e) {
+				rollbackIfActive( transaction, e );
+				return e;
+			}
+		}
+	}
+
+	private void handleFailure(Throwable throwable, List<PendingChange> changes) {
+		if ( closed ) {
+			// Most likely a consequence of closing: events will be processed again on the next start.
+			return;
+		}
+		List<PendingChange> retriedChanges = new ArrayList<>();
+		List<PendingChange> abandonedChanges = new ArrayList<>();
+		for ( PendingChange change : changes ) {
+			if ( change.attempts + 1 < maxAttempts ) {
+				retriedChanges.add( change );
+			}
+			else {
+				abandonedChanges.add( change );
+			}
+		}
+		try {
+			recordFailedAttempt( changes );
+		}
+		catch (RuntimeException e) {
+			// The events will simply be attempted again on the next poll
+			throwable.addSuppressed( e );
+		}
+		if ( !retriedChanges.isEmpty() ) {
+			reportFailure( throwable, log.outboxEventProcessing(), retriedChanges );
+		}
+		if ( !abandonedChanges.isEmpty() ) {
+			reportFailure( throwable, log.outboxEventProcessingAbandoned( maxAttempts ), abandonedChanges );
+		}
+	}
+
+	private void recordFailedAttempt(List<PendingChange> changes) {
+		long now = System.currentTimeMillis();
+		try ( Session session = mappingContext.getSessionFactory().openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				for ( PendingChange change : changes ) {
+					int attempts = change.attempts + 1;
+					// Double the delay on each attempt, without overflowing
+					long processAfter = now + ( retryDelay << Math.min( attempts - 1, 30 ) );
+					session.doWork( connection -> table.updateFailed( connection, change.eventIds, attempts, processAfter ) );
+				}
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				rollbackIfActive( transaction, e );
+				throw e;
+			}
+		}
+	}
+
+	private void reportFailure(Throwable throwable, Object failingOperation, Collection<PendingChange> changes) {
+		EntityIndexingFailureContext.Builder contextBuilder = EntityIndexingFailureContext.builder();
+		contextBuilder.throwable( throwable );
+		contextBuilder.failingOperation( failingOperation );
+		for ( PendingChange change : changes ) {
+			if ( change.javaClass != null ) {
+				contextBuilder.entityReference(
+						new EntityReferenceImpl( change.javaClass, change.entityName, change.entityId ) );
+			}
+		}
+		mappingContext.getFailureHandler().handle( contextBuilder.build() );
+	}
+
+	private static void rollbackIfActive(Transaction transaction, Throwable cause) {
+		try {
+			if ( transaction.isActive() ) {
+				transaction.rollback();
+			}
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	private static final class ChangeKey {
+		private final String entityName;
+		private final String serializedEntityId;
+
+		private ChangeKey(String entityName, String serializedEntityId) {
+			this.entityName = entityName;
+			this.serializedEntityId = serializedEntityId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( !( obj instanceof ChangeKey ) ) {
+				return false;
+			}
+			ChangeKey other = (ChangeKey) obj;
+			return entityName.equals( other.entityName ) && serializedEntityId.equals( other.serializedEntityId );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * entityName.hashCode() + serializedEntityId.hashCode();
+		}
+	}
+
+	private final class PendingChange {
+		private final String entityName;
+		private final OutboxEvent firstEvent;
+		private final List<String> eventIds = new ArrayList<>();
+		/*
+		 * The number of failed processing attempts so far.
+		 */
+		private int attempts = 0;
+		/*
+		 * Null means the whole entity must be reindexed.
+		 */
+		private Set<String> dirtyPaths = new LinkedHashSet<>();
+		/*
+		 * Only set if the entity was deleted and its document must be deleted.
+		 */
+		private OutboxEvent lastDeletionEvent;
+
+		private Class<?> javaClass;
+		private HibernateOrmOutboxTypeContext typeContext;
+		private Object entityId;
+		private Object documentIdSource;
+		/*
+		 * Null until resolution is attempted: changes may be processed multiple times after a failure,
+		 * but resolution failures must only be reported once.
+		 */
+		private Boolean resolved;
+
+		private PendingChange(OutboxEvent firstEvent) {
+			this.entityName = firstEvent.getEntityName();
+			this.firstEvent = firstEvent;
+		}
+
+		void add(OutboxEvent event) {
+			eventIds.add( event.getId() );
+			attempts = Math.max( attempts, event.getAttempts() );
+			if ( event.getSerializedDocumentIdSource() != null ) {
+				lastDeletionEvent = event;
+			}
+			if ( dirtyPaths == null ) {
+				return;
+			}
+			Collection<String> eventDirtyPaths = event.getDirtyPaths();
+			if ( eventDirtyPaths == null ) {
+				dirtyPaths = null;
+			}
+			else {
+				dirtyPaths.addAll( eventDirtyPaths );
+			}
+		}
+
+		/**
+		 * @return {@code true} if the entity type and identifier could be resolved,
+		 * {@code false} if the change is no longer relevant or can never be processed, which was reported.
+		 */
+		boolean resolve(SessionFactoryImplementor sessionFactory) {
+			if ( resolved == null ) {
+				resolved = doResolve( sessionFactory );
+			}
+			return resolved;
+		}
+
+		private boolean doResolve(SessionFactoryImplementor sessionFactory) {
+			try {
+				EntityPersister persister = sessionFactory.getMetamodel().entityPersister( entityName );
+				javaClass = persister.getMappedClass();
+				typeContext = mappingContext.getTypeContext( javaClass );
+				if ( typeContext == null ) {
+					// The entity type is no longer indexed nor contained in an indexed type
+					return false;
+				}
+				entityId = firstEvent.getEntityId( persister );
+				if ( lastDeletionEvent != null && typeContext.getDocumentIdSourceType() != null ) {
+					documentIdSource = lastDeletionEvent.getDocumentIdSource( typeContext.getDocumentIdSourceType() );
+				}
+				return true;
+			}
+			catch (RuntimeException e) {
+				reportFailure( e, log.outboxEventProcessing(), Collections.singletonList( this ) );
+				return false;
+			}
+		}
+
+		void addTo(Session session, PojoIndexingPlan plan) {
+			Object entity = session.get( entityName, (Serializable) entityId );
+			if ( entity != null ) {
+				Object providedId = typeContext.toIndexingPlanProvidedId( entityId );
+				if ( dirtyPaths == null ) {
+					plan.addOrUpdate( providedId, entity );
+				}
+				else {
+					plan.addOrUpdate( providedId, entity, dirtyPaths.toArray( new String[0] ) );
+				}
+			}
+			else if ( documentIdSource != null ) {
+				// Entities containing the deleted entity have events of their own: only delete the document
+				plan.purge( javaClass, documentIdSource );
+			}
+			// Else the entity was deleted, but it is not indexed: nothing to do.
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.EntityMode;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.StringRepresentableType;
+import org.hibernate.type.Type;
+
+/**
+ * Converts identifiers to and from the string form stored in the {@link OutboxTable outbox table},
+ * based on their Hibernate ORM type.
+ * <p>
+ * Basic types are converted using their own string representation.
+ * Embeddable types, e.g. for embedded identifiers, are converted property by property,
+ * each property value being prefixed with its length, or replaced with a marker if null.
+ */
+final class OutboxIdentifierSerializer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final char NULL_MARKER = '~';
+	private static final char LENGTH_SEPARATOR = ':';
+
+	private OutboxIdentifierSerializer() {
+	}
+
+	/**
+	 * @param type The Hibernate ORM type of the identifier.
+	 * @throws org.hibernate.search.util.common.SearchException If identifiers of this type cannot be serialized.
+	 */
+	static void checkSupported(Type type) {
+		if ( type instanceof StringRepresentableType ) {
+			return;
+		}
+		if ( type instanceof ComponentType && !( (ComponentType) type ).isEmbedded() ) {
+			for ( Type subtype : ( (ComponentType) type ).getSubtypes() ) {
+				checkSupported( subtype );
+			}
+			return;
+		}
+		throw log.unsupportedOutboxIdentifierType( type.getName() );
+	}
+
+	@SuppressWarnings("unchecked") // The type is expected to match the value
+	static String serialize(Type type, Object value) {
+		if ( type instanceof StringRepresentableType ) {
+			return ( (StringRepresentableType<Object>) type ).toString( value );
+		}
+		checkSupported( type );
+		ComponentType componentType = (ComponentType) type;
+		Type[] subtypes = componentType.getSubtypes();
+		Object[] propertyValues = componentType.getPropertyValues( value, EntityMode.POJO );
+		StringBuilder builder = new StringBuilder();
+		for ( int i = 0; i < subtypes.length; i++ ) {
+			if ( propertyValues[i] == null ) {
+				builder.append( NULL_MARKER );
+			}
+			else {
+				String serializedPropertyValue = serialize( subtypes[i], propertyValues[i] );
+				builder.append( serializedPropertyValue.length() ).append( LENGTH_SEPARATOR )
+						.append( serializedPropertyValue );
+			}
+		}
+		return builder.toString();
+	}
+
+	static Object deserialize(Type type, String serialized) {
+		if ( type instanceof StringRepresentableType ) {
+			return ( (StringRepresentableType<?>) type ).fromStringValue( serialized );
+		}
+		checkSupported( type );
+		ComponentType componentType = (ComponentType) type;
+		Type[] subtypes = componentType.getSubtypes();
+		Object[] propertyValues = new Object[subtypes.length];
+		int position = 0;
+		for ( int i = 0; i < subtypes.length; i++ ) {
+			if ( position >= serialized.length() ) {
+				throw log.invalidSerializedOutboxIdentifier( serialized );
+			}
+			if ( serialized.charAt( position ) == NULL_MARKER ) {
+				++position;
+				continue;
+			}
+			int separatorPosition = serialized.indexOf( LENGTH_SEPARATOR, position );
+			if ( separatorPosition < 0 ) {
+				throw log.invalidSerializedOutboxIdentifier( serialized );
+			}
+			int start = separatorPosition + 1;
+			int end;
+			try {
+				end = start + Integer.parseInt( serialized.substring( position, separatorPosition ) );
+			}
+			catch (NumberFormatException e) {
+				throw log.invalidSerializedOutboxIdentifier( serialized );
+			}
+			if ( end < start || end > serialized.length() ) {
+				throw log.invalidSerializedOutboxIdentifier( serialized );
+			}
+			propertyValues[i] = deserialize( subtypes[i], serialized.substring( start, end ) );
+			position = end;
+		}
+		if ( position != serialized.length() ) {
+			throw log.invalidSerializedOutboxIdentifier( serialized );
+		}
+		Object value = componentType.instantiate( EntityMode.POJO );
+		componentType.setPropertyValues( value, propertyValues, EntityMode.POJO );
+		return value;
+	}
+}
@@ -0,0 +1,293 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.type.Type;
+
+/**
+ * An indexing plan that, instead of indexing entities,
+ * writes entity change events to the {@link OutboxTable outbox table}
+ * using the connection of the Hibernate ORM session,
+ * so that events are committed or rolled back along with the entity changes.
+ * <p>
+ * Events are written when the plan is {@link #process() processed}, i.e. on flushes,
+ * and are reduced to one event per entity and per flush.
+ * <p>
+ * Deleted entities cannot be reloaded when events are processed,
+ * so everything needed to handle their deletion is resolved as soon as they are deleted:
+ * the value their document identifier is derived from is stored in their event,
+ * and entities that contain them get an event of their own.
+ * <p>
+ * Purges cannot go through the outbox, since they target a document identifier rather than an entity:
+ * they are delegated to a regular indexing plan.
+ */
+public final class OutboxIndexingPlan implements PojoIndexingPlan {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final HibernateOrmOutboxMappingContext mappingContext;
+	private final OutboxTable table;
+	private final SessionImplementor session;
+	private final Supplier<PojoIndexingPlan> delegatePlanFactory;
+
+	private final Map<EntityKey, EntityChange> changes = new LinkedHashMap<>();
+
+	private PojoIndexingPlan purgePlan;
+
+	public OutboxIndexingPlan(HibernateOrmOutboxMappingContext mappingContext, OutboxTable table,
+			SessionImplementor session, Supplier<PojoIndexingPlan> delegatePlanFactory) {
+		this.mappingContext = mappingContext;
+		this.table = table;
+		this.session = session;
+		this.delegatePlanFactory = delegatePlanFactory;
+	}
+
+	/**
+	 * @param persister The persister of an entity type whose changes may be written to the outbox table.
+	 * @throws org.hibernate.search.util.common.SearchException If changes to entities of this type
+	 * cannot be written to the outbox table.
+	 */
+	public static void checkSupported(EntityPersister persister, HibernateOrmOutboxTypeContext typeContext) {
+		try {
+			OutboxIdentifierSerializer.checkSupported( persister.getIdentifierType() );
+			Type documentIdSourceType = typeContext.getDocumentIdSourceType();
+			if ( documentIdSourceType != null ) {
+				OutboxIdentifierSerializer.checkSupported( documentIdSourceType );
+			}
+		}
+		catch (RuntimeException e) {
+			throw log.unsupportedEntityTypeForOutbox( persister.getEntityName(), e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public void add(Object entity) {
+		addChange( entity, null );
+	}
+
+	@Override
+	public void add(Object providedId, Object entity) {
+		addChange( entity, null );
+	}
+
+	@Override
+	public void addOrUpdate(Object entity) {
+		addChange( entity, null );
+	}
+
+	@Override
+	public void addOrUpdate(Object providedId, Object entity) {
+		addChange( entity, null );
+	}
+
+	@Override
+	public void addOrUpdate(Object entity, String... dirtyPaths) {
+		addChange( entity, dirtyPaths );
+	}
+
+	@Override
+	public void addOrUpdate(Object providedId, Object entity, String... dirtyPaths) {
+		addChange( entity, dirtyPaths );
+	}
+
+	@Override
+	public void addOrUpdate(Object providedId, Object entity, BitSet dirtyPaths) {
+		EntityKey key = toEntityKey( entity );
+		// Ordinals are only meaningful to this JVM: store the paths themselves in the event
+		PojoPathOrdinals pathOrdinals = getTypeContext( key ).getDirtyPathOrdinals();
+		List<String> dirtyPathList = new ArrayList<>( dirtyPaths.cardinality() );
+		for ( int i = dirtyPaths.nextSetBit( 0 ); i >= 0; i = dirtyPaths.nextSetBit( i + 1 ) ) {
+			dirtyPathList.add( pathOrdinals.toPath( i ) );
+		}
+		addChange( key, dirtyPathList );
+	}
+
+	@Override
+	public void delete(Object entity) {
+		delete( null, entity );
+	}
+
+	@Override
+	public void delete(Object providedId, Object entity) {
+		EntityKey key = toEntityKey( entity );
+		EntityChange change = getChange( key );
+		change.addDirtyPaths( null );
+		HibernateOrmOutboxTypeContext typeContext = getTypeContext( key );
+		if ( typeContext.getDocumentIdSourceType() != null ) {
+			change.documentIdSource = typeContext.toDocumentIdSourceValue( key.getIdentifier(), entity );
+		}
+
+		/*
+		 * The entity will no longer exist when the event is processed,
+		 * so entities that contain it must be resolved now, while the entity and its associations are still available.
+		 * The entity is passed to the resolution plan as if it was updated, so that all containing entities are resolved;
+		 * that plan is discarded right away, so the entity is never actually reindexed.
+		 */
+		PojoIndexingPlan resolutionPlan = delegatePlanFactory.get();
+		try {
+			resolutionPlan.addOrUpdate( providedId, entity );
+			resolutionPlan.resolveContainingEntities( containingEntity -> addChange( containingEntity, null ) );
+		}
+		finally {
+			resolutionPlan.discard();
+		}
+	}
+
+	@Override
+	public void purge(Class<?> clazz, Object providedId) {
+		if ( purgePlan == null ) {
+			purgePlan = delegatePlanFactory.get();
+		}
+		purgePlan.purge( clazz, providedId );
+	}
+
+	@Override
+	public void resolveContainingEntities(Consumer<Object> containingEntityConsumer) {
+		throw new AssertionFailure( "Containing entities are resolved when events are processed,"
+				+ " or as soon as entities are deleted; they cannot be resolved from an outbox indexing plan." );
+	}
+
+	@Override
+	public void process() {
+		writeEvents();
+		if ( purgePlan != null ) {
+			purgePlan.process();
+		}
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport> executeAndReport() {
+		writeEvents();
+		if ( purgePlan != null ) {
+			return purgePlan.executeAndReport();
+		}
+		// Events will be processed asynchronously: there is nothing to report at this point.
+		return CompletableFuture.completedFuture( IndexIndexingPlanExecutionReport.builder().build() );
+	}
+
+	@Override
+	public void discard() {
+		changes.clear();
+		if ( purgePlan != null ) {
+			purgePlan.discard();
+		}
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		changes.clear();
+		if ( purgePlan != null ) {
+			purgePlan.discardNotProcessed();
+		}
+	}
+
+	private void addChange(Object entity, String[] dirtyPaths) {
+		addChange( toEntityKey( entity ), dirtyPaths == null ? null : Arrays.asList( dirtyPaths ) );
+	}
+
+	private void addChange(EntityKey key, Collection<String> dirtyPaths) {
+		getChange( key ).addDirtyPaths( dirtyPaths );
+	}
+
+	private EntityChange getChange(EntityKey key) {
+		return changes.computeIfAbsent( key, ignored -> new EntityChange() );
+	}
+
+	private HibernateOrmOutboxTypeContext getTypeContext(EntityKey key) {
+		return mappingContext.getTypeContext( key.getPersister().getMappedClass() );
+	}
+
+	private EntityKey toEntityKey(Object entity) {
+		if ( entity instanceof HibernateProxy ) {
+			LazyInitializer lazyInitializer = ( (HibernateProxy) entity ).getHibernateLazyInitializer();
+			EntityPersister persister = session.getFactory().getMetamodel()
+					.entityPersister( lazyInitializer.getEntityName() );
+			return session.generateEntityKey( lazyInitializer.getIdentifier(), persister );
+		}
+		EntityPersister persister = session.getEntityPersister( null, entity );
+		return session.generateEntityKey( persister.getIdentifier( entity, session ), persister );
+	}
+
+	private void writeEvents() {
+		if ( changes.isEmpty() ) {
+			return;
+		}
+		List<OutboxEvent> events = new ArrayList<>( changes.size() );
+		for ( Map.Entry<EntityKey, EntityChange> entry : changes.entrySet() ) {
+			EntityChange change = entry.getValue();
+			if ( change.dirtyPaths != null && change.dirtyPaths.isEmpty() ) {
+				// Nothing changed as far as Hibernate ORM knows: skip the event
+				continue;
+			}
+			EntityKey key = entry.getKey();
+			Type documentIdSourceType = change.documentIdSource == null ? null
+					: getTypeContext( key ).getDocumentIdSourceType();
+			events.add( OutboxEvent.create( key.getPersister(), key.getIdentifier(), change.dirtyPaths,
+					documentIdSourceType, change.documentIdSource ) );
+		}
+		changes.clear();
+		if ( events.isEmpty() ) {
+			return;
+		}
+		try {
+			session.doWork( connection -> table.insert( connection, events ) );
+		}
+		catch (HibernateException e) {
+			throw log.unableToWriteOutboxEvents( table.getTableName(), e.getMessage(), e );
+		}
+	}
+
+	private static final class EntityChange {
+		/*
+		 * Null means the whole entity must be reindexed.
+		 */
+		private Set<String> dirtyPaths = new LinkedHashSet<>();
+		/*
+		 * The value the document ID is derived from, if the entity was deleted and is indexed.
+		 */
+		private Object documentIdSource;
+
+		void addDirtyPaths(Collection<String> otherDirtyPaths) {
+			if ( dirtyPaths == null ) {
+				// The whole entity will be reindexed anyway
+				return;
+			}
+			if ( otherDirtyPaths == null ) {
+				dirtyPaths = null;
+			}
+			else {
+				dirtyPaths.addAll( otherDirtyPaths );
+			}
+		}
+	}
+}
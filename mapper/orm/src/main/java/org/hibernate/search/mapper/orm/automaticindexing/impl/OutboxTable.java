@@ -0,0 +1,205 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The database table where entity change events are stored
+ * when using the {@link org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName#OUTBOX outbox}
+ * automatic indexing strategy.
+ * <p>
+ * All methods expect a connection to be provided by the caller,
+ * so that events are written in the same transaction as the entity changes they describe.
+ */
+public final class OutboxTable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static final int ENTITY_ID_MAX_LENGTH = 2000;
+	static final int DIRTY_PATHS_MAX_LENGTH = 4000;
+	static final int DOCUMENT_ID_SOURCE_MAX_LENGTH = 2000;
+
+	private static final int EVENT_ID_LENGTH = 36;
+	private static final int ENTITY_NAME_MAX_LENGTH = 255;
+
+	private final String tableName;
+
+	private final String createTableSql;
+	private final String insertSql;
+	private final String selectSql;
+	private final String deleteSql;
+	private final String updateFailedSql;
+
+	public OutboxTable(String tableName, Dialect dialect) {
+		this.tableName = tableName;
+		this.createTableSql = dialect.getCreateTableString() + " " + tableName + " ("
+				+ "ID " + varchar( dialect, EVENT_ID_LENGTH ) + " not null, "
+				+ "ENTITY_NAME " + varchar( dialect, ENTITY_NAME_MAX_LENGTH ) + " not null, "
+				+ "ENTITY_ID " + varchar( dialect, ENTITY_ID_MAX_LENGTH ) + " not null, "
+				+ "DIRTY_PATHS " + varchar( dialect, DIRTY_PATHS_MAX_LENGTH ) + ", "
+				+ "DOCUMENT_ID_SOURCE " + varchar( dialect, DOCUMENT_ID_SOURCE_MAX_LENGTH ) + ", "
+				+ "CREATED " + dialect.getTypeName( Types.BIGINT ) + " not null, "
+				+ "ATTEMPTS " + dialect.getTypeName( Types.INTEGER ) + " not null, "
+				+ "PROCESS_AFTER " + dialect.getTypeName( Types.BIGINT ) + " not null, "
+				+ "primary key (ID))";
+		this.insertSql = "insert into " + tableName
+				+ " (ID, ENTITY_NAME, ENTITY_ID, DIRTY_PATHS, DOCUMENT_ID_SOURCE, CREATED, ATTEMPTS, PROCESS_AFTER)"
+				+ " values (?, ?, ?, ?, ?, ?, 0, ?)";
+		this.selectSql = "select ID, ENTITY_NAME, ENTITY_ID, DIRTY_PATHS, DOCUMENT_ID_SOURCE, CREATED, ATTEMPTS"
+				+ " from " + tableName
+				+ " where ATTEMPTS < ? and PROCESS_AFTER <= ?"
+				+ " order by CREATED, ID";
+		this.deleteSql = "delete from " + tableName + " where ID = ?";
+		this.updateFailedSql = "update " + tableName + " set ATTEMPTS = ?, PROCESS_AFTER = ? where ID = ?";
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + tableName + "]";
+	}
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * Create the table if it doesn't exist yet.
+	 *
+	 * @param connection The connection to use.
+	 * @throws SQLException If the table could not be created.
+	 */
+	public void createIfMissing(Connection connection) throws SQLException {
+		if ( exists( connection ) ) {
+			return;
+		}
+		try ( Statement statement = connection.createStatement() ) {
+			statement.execute( createTableSql );
+		}
+		catch (SQLException e) {
+			// Another node may have created the table concurrently
+			if ( exists( connection ) ) {
+				return;
+			}
+			throw e;
+		}
+		log.createdOutboxTable( tableName );
+	}
+
+	void insert(Connection connection, Collection<OutboxEvent> events) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( insertSql ) ) {
+			for ( OutboxEvent event : events ) {
+				statement.setString( 1, event.getId() );
+				statement.setString( 2, event.getEntityName() );
+				statement.setString( 3, event.getSerializedEntityId() );
+				statement.setString( 4, event.getSerializedDirtyPaths() );
+				statement.setString( 5, event.getSerializedDocumentIdSource() );
+				statement.setLong( 6, event.getCreated() );
+				statement.setLong( 7, event.getCreated() );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	/**
+	 * @param connection The connection to use.
+	 * @param maxResults The maximum number of events to retrieve.
+	 * @param maxAttempts The maximum number of processing attempts:
+	 * events that were already attempted that many times are ignored.
+	 * @param now The current time, in milliseconds since the epoch:
+	 * events whose processing was postponed past that time are ignored.
+	 * @return The oldest events in the table that can be processed now.
+	 * @throws SQLException If the events could not be retrieved.
+	 */
+	List<OutboxEvent> poll(Connection connection, int maxResults, int maxAttempts, long now) throws SQLException {
+		List<OutboxEvent> events = new ArrayList<>();
+		try ( PreparedStatement statement = connection.prepareStatement( selectSql ) ) {
+			statement.setMaxRows( maxResults );
+			statement.setInt( 1, maxAttempts );
+			statement.setLong( 2, now );
+			try ( ResultSet resultSet = statement.executeQuery() ) {
+				while ( resultSet.next() ) {
+					events.add( new OutboxEvent(
+							resultSet.getString( 1 ),
+							resultSet.getString( 2 ),
+							resultSet.getString( 3 ),
+							resultSet.getString( 4 ),
+							resultSet.getString( 5 ),
+							resultSet.getLong( 6 ),
+							resultSet.getInt( 7 )
+					) );
+				}
+			}
+		}
+		return events;
+	}
+
+	void delete(Connection connection, Collection<String> eventIds) throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( deleteSql ) ) {
+			for ( String eventId : eventIds ) {
+				statement.setString( 1, eventId );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	/**
+	 * @param connection The connection to use.
+	 * @param eventIds The identifiers of events whose processing failed.
+	 * @param attempts The number of processing attempts so far for these events.
+	 * @param processAfter The time before which processing should not be attempted again,
+	 * in milliseconds since the epoch.
+	 * @throws SQLException If the events could not be updated.
+	 */
+	void updateFailed(Connection connection, Collection<String> eventIds, int attempts, long processAfter)
+			throws SQLException {
+		try ( PreparedStatement statement = connection.prepareStatement( updateFailedSql ) ) {
+			for ( String eventId : eventIds ) {
+				statement.setInt( 1, attempts );
+				statement.setLong( 2, processAfter );
+				statement.setString( 3, eventId );
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private boolean exists(Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		String normalizedTableName = tableName;
+		if ( metaData.storesUpperCaseIdentifiers() ) {
+			normalizedTableName = tableName.toUpperCase( Locale.ROOT );
+		}
+		else if ( metaData.storesLowerCaseIdentifiers() ) {
+			normalizedTableName = tableName.toLowerCase( Locale.ROOT );
+		}
+		try ( ResultSet tables = metaData.getTables( null, null, normalizedTableName, new String[] { "TABLE" } ) ) {
+			return tables.next();
+		}
+	}
+
+	private static String varchar(Dialect dialect, int length) {
+		return dialect.getTypeName( Types.VARCHAR, length, 0, 0 );
+	}
+}
@@ -283,6 +283,9 @@ private HibernateSearchContextProviderService doBootSecondPhase(
 				sessionFactoryImplementor.getServiceRegistry().getService( HibernateSearchContextProviderService.class );
 		contextService.initialize( integration, mapping );
 
+		// Only start background processing once the mapping is available to event listeners
+		mapping.start();
+
 		// TODO HSEARCH-3057 JMX
 //		this.jmx = new JMXHook( propertySource );
 //		this.jmx.registerIfEnabled( extendedIntegrator, factory );
@@ -97,7 +97,8 @@ public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactor
 		// Listen to Hibernate ORM events to index automatically
 		AutomaticIndexingStrategyName automaticIndexingStrategyName =
 				AUTOMATIC_INDEXING_STRATEGY.get( propertySource );
-		if ( AutomaticIndexingStrategyName.SESSION.equals( automaticIndexingStrategyName ) ) {
+		if ( AutomaticIndexingStrategyName.SESSION.equals( automaticIndexingStrategyName )
+				|| AutomaticIndexingStrategyName.OUTBOX.equals( automaticIndexingStrategyName ) ) {
 			log.debug( "Hibernate Search event listeners activated" );
 			HibernateSearchEventListener hibernateSearchEventListener = new HibernateSearchEventListener(
 					contextFuture.thenApply( Supplier::get ),
@@ -73,6 +73,94 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = PREFIX + Radicals.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK;
 
+	/**
+	 * The name of the database table where entity change events are stored
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX outbox} automatic indexing strategy.
+	 * <p>
+	 * The table is created on startup if it does not exist.
+	 * <p>
+	 * Expects a String, such as "HSEARCH_OUTBOX_EVENT".
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_TABLE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_TABLE;
+
+	/**
+	 * The interval between two polls of the outbox table, in milliseconds,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX outbox} automatic indexing strategy.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL;
+
+	/**
+	 * The maximum number of events to retrieve from the outbox table on each poll,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX outbox} automatic indexing strategy.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 500},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE;
+
+	/**
+	 * The number of threads reindexing entities in parallel after each poll of the outbox table,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX outbox} automatic indexing strategy.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT;
+
+	/**
+	 * The maximum number of times processing of an event from the outbox table is attempted,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX outbox} automatic indexing strategy.
+	 * <p>
+	 * Once processing failed that many times, the failure is reported to the failure handler
+	 * and the event is left in the outbox table, but no longer processed.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS;
+
+	/**
+	 * The delay before processing of an event from the outbox table is attempted again after a failure,
+	 * in milliseconds,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX outbox} automatic indexing strategy.
+	 * <p>
+	 * The delay doubles after each failed attempt.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY;
+
+	/**
+	 * Whether events written to the outbox table should be processed by this application instance,
+	 * when using the {@link AutomaticIndexingStrategyName#OUTBOX outbox} automatic indexing strategy.
+	 * <p>
+	 * When multiple application instances share the same database,
+	 * processing should only be enabled on one of them,
+	 * so that concurrent processors cannot reindex the same entity out of order.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED;
+
 	/**
 	 * The strategy to use when loading entities during the execution of a search query.
 	 * <p>
@@ -129,6 +217,13 @@ private Radicals() {
 		public static final String AUTOMATIC_INDEXING_STRATEGY = "automatic_indexing.strategy";
 		public static final String AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY = "automatic_indexing.synchronization.strategy";
 		public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = "automatic_indexing.enable_dirty_check";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE = "automatic_indexing.outbox.table";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = "automatic_indexing.outbox.polling_interval";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = "automatic_indexing.outbox.batch_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT = "automatic_indexing.outbox.thread_count";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = "automatic_indexing.outbox.max_attempts";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY = "automatic_indexing.outbox.retry_delay";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED = "automatic_indexing.outbox.processing.enabled";
 		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
@@ -149,6 +244,13 @@ private Defaults() {
 		public static final AutomaticIndexingSynchronizationStrategyName AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 				AutomaticIndexingSynchronizationStrategyName.COMMITTED;
 		public static final boolean AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = true;
+		public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE = "HSEARCH_OUTBOX_EVENT";
+		public static final int AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = 100;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = 500;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT = 2;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS = 10;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY = 1000;
+		public static final boolean AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED = true;
 		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
@@ -6,8 +6,23 @@
  */
 package org.hibernate.search.mapper.orm.event.impl;
 
+import java.util.BitSet;
+
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+
 public interface HibernateOrmListenerTypeContext {
 
 	Object toIndexingPlanProvidedId(Object entityId);
 
+	/**
+	 * @return The ordinals assigned to dirty paths of this type.
+	 */
+	PojoPathOrdinals getDirtyPathOrdinals();
+
+	/**
+	 * @param dirtyProperties The indices of dirty properties, as reported by Hibernate ORM.
+	 * @return The ordinals of the corresponding dirty paths, ignoring properties that no dirty path filter accepts.
+	 */
+	BitSet toDirtyPathOrdinals(int[] dirtyProperties);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.event.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.Hibernate;
@@ -55,8 +56,6 @@ public final class HibernateSearchEventListener implements PostDeleteEventListen
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final String[] EMPTY_STRING_ARRAY = new String[0];
-
 	private final boolean dirtyCheckingEnabled;
 
 	private volatile EventsHibernateSearchState state;
@@ -102,8 +101,9 @@ public void onPostUpdate(PostUpdateEvent event) {
 		if ( typeContext != null ) {
 			PojoIndexingPlan plan = getCurrentIndexingPlan( contextProvider, event.getSession() );
 			Object providedId = typeContext.toIndexingPlanProvidedId( event.getId() );
-			if ( dirtyCheckingEnabled ) {
-				plan.addOrUpdate( providedId, entity, getDirtyPropertyNames( event ) );
+			BitSet dirtyPaths = dirtyCheckingEnabled ? getDirtyPaths( typeContext, event ) : null;
+			if ( dirtyPaths != null ) {
+				plan.addOrUpdate( providedId, entity, dirtyPaths );
 			}
 			else {
 				plan.addOrUpdate( providedId, entity );
@@ -244,20 +244,17 @@ private void processCollectionEvent(AbstractCollectionEvent event) {
 		}
 	}
 
-	public String[] getDirtyPropertyNames(PostUpdateEvent event) {
-		EntityPersister persister = event.getPersister();
+	/**
+	 * @return The dirty paths, or {@code null} if Hibernate ORM did not report dirty properties,
+	 * e.g. when updating a detached entity, in which case the whole entity must be considered dirty.
+	 */
+	private BitSet getDirtyPaths(HibernateOrmListenerTypeContext typeContext, PostUpdateEvent event) {
 		final int[] dirtyProperties = event.getDirtyProperties();
 		if ( dirtyProperties != null && dirtyProperties.length > 0 ) {
-			String[] propertyNames = persister.getPropertyNames();
-			int length = dirtyProperties.length;
-			String[] dirtyPropertyNames = new String[length];
-			for ( int i = 0; i < length; i++ ) {
-				dirtyPropertyNames[i] = propertyNames[dirtyProperties[i]];
-			}
-			return dirtyPropertyNames;
+			return typeContext.toDirtyPathOrdinals( dirtyProperties );
 		}
 		else {
-			return EMPTY_STRING_ARRAY;
+			return null;
 		}
 	}
 
@@ -217,4 +217,77 @@ void skippingSecondLevelCacheLookupsForNonCachedEntityTypeEntityLoader(
 	SearchException massIndexingEntityFailures(long finalFailureCount,
 			EntityReference firstFailureEntity, String firstFailureMessage,
 			@Cause Throwable firstFailure);
+
+	@Message(value = "Processing of outbox events for automatic indexing")
+	String outboxEventProcessing();
+
+	@Message(value = "Processing of outbox events for automatic indexing, abandoned after %1$s failed attempts")
+	String outboxEventProcessingAbandoned(int attempts);
+
+	@Message(id = ID_OFFSET_2 + 27, value = "Unable to create the outbox table '%1$s': %2$s")
+	SearchException unableToCreateOutboxTable(String tableName, String causeMessage, @Cause Throwable cause);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 28, value = "Created the outbox table '%1$s' for automatic indexing.")
+	void createdOutboxTable(String tableName);
+
+	@Message(id = ID_OFFSET_2 + 29, value = "Unable to write entity change events to the outbox table '%1$s': %2$s")
+	SearchException unableToWriteOutboxEvents(String tableName, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 30, value = "Unable to read entity change events from the outbox table '%1$s': %2$s")
+	SearchException unableToReadOutboxEvents(String tableName, String causeMessage, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 31, value = "Unable to serialize the identifier '%2$s' of entity '%1$s'"
+			+ " to write it to the outbox table: %3$s")
+	SearchException unableToSerializeOutboxEntityId(String entityName, Object id, String causeMessage,
+			@Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 32, value = "The serialized form of the identifier '%2$s' of entity '%1$s'"
+			+ " is %3$s characters long, which exceeds the maximum length of %4$s characters"
+			+ " for identifiers in the outbox table.")
+	SearchException outboxEntityIdTooLong(String entityName, Object id, int length, int maxLength);
+
+	@Message(id = ID_OFFSET_2 + 33, value = "Unable to deserialize an identifier of entity '%1$s'"
+			+ " read from the outbox table: %2$s")
+	SearchException unableToDeserializeOutboxEntityId(String entityName, String causeMessage,
+			@Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 34, value = "Unable to serialize the value '%2$s' that the document identifier"
+			+ " of deleted entity '%1$s' is derived from, to write it to the outbox table: %3$s")
+	SearchException unableToSerializeOutboxDocumentIdSource(String entityName, Object value, String causeMessage,
+			@Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 35, value = "Cannot load entities asynchronously:"
+			+ " the Hibernate ORM mapper can only load entities while blocking the current thread."
+			+ " Either use a blocking fetch method, or do not load entities in this query,"
+			+ " e.g. by projecting on fields or on entity references instead.")
+	SearchException cannotLoadEntitiesAsynchronously();
+
+	@Message(id = ID_OFFSET_2 + 36, value = "Cannot store identifiers of type '%1$s' in the outbox table:"
+			+ " only basic types and embeddable types composed of basic types are supported.")
+	SearchException unsupportedOutboxIdentifierType(String typeName);
+
+	@Message(id = ID_OFFSET_2 + 37, value = "Invalid serialized identifier: '%1$s'.")
+	SearchException invalidSerializedOutboxIdentifier(String serialized);
+
+	@Message(id = ID_OFFSET_2 + 38, value = "Unable to write changes to entity '%1$s' to the outbox table: %2$s")
+	SearchException unsupportedEntityTypeForOutbox(String entityName, String causeMessage,
+			@Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 39, value = "The serialized form of the value '%2$s' that the document identifier"
+			+ " of deleted entity '%1$s' is derived from is %3$s characters long,"
+			+ " which exceeds the maximum length of %4$s characters for such values in the outbox table.")
+	SearchException outboxDocumentIdSourceTooLong(String entityName, Object value, int length, int maxLength);
+
+	@Message(id = ID_OFFSET_2 + 40, value = "Unable to deserialize the value that the document identifier"
+			+ " of deleted entity '%1$s' is derived from, read from the outbox table: %2$s")
+	SearchException unableToDeserializeOutboxDocumentIdSource(String entityName, String causeMessage,
+			@Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 41, value = "The outbox automatic indexing strategy does not support multi-tenancy,"
+			+ " but multi-tenancy strategy '%1$s' is enabled."
+			+ " Events would be written to the outbox table of each tenant,"
+			+ " and processing them would require knowing every tenant identifier in advance."
+			+ " Use a different automatic indexing strategy or disable multi-tenancy.")
+	SearchException outboxMultiTenancyNotSupported(Object multiTenancyStrategy);
 }
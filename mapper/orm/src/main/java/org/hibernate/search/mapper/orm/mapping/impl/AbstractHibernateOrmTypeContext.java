@@ -6,17 +6,36 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.util.BitSet;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.mapper.orm.automaticindexing.impl.HibernateOrmOutboxTypeContext;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContext;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 abstract class AbstractHibernateOrmTypeContext<E>
-		implements HibernateOrmScopeTypeContext<E>, HibernateOrmListenerTypeContext {
+		implements HibernateOrmScopeTypeContext<E>, HibernateOrmListenerTypeContext, HibernateOrmOutboxTypeContext {
 	private final Class<E> javaClass;
 	private final String entityName;
+	private final PojoPathOrdinals dirtyPathOrdinals;
+	/*
+	 * For each property of the entity persister, the ordinal of the corresponding dirty path,
+	 * or -1 if no dirty path filter accepts that property.
+	 */
+	private final int[] dirtyPathOrdinalByPropertyIndex;
 
-	AbstractHibernateOrmTypeContext(Class<E> javaClass, String entityName) {
+	AbstractHibernateOrmTypeContext(SessionFactoryImplementor sessionFactory, Class<E> javaClass, String entityName,
+			PojoPathOrdinals dirtyPathOrdinals) {
 		this.javaClass = javaClass;
 		this.entityName = entityName;
+		this.dirtyPathOrdinals = dirtyPathOrdinals;
+		String[] propertyNames = sessionFactory.getMetamodel().entityPersister( javaClass ).getPropertyNames();
+		this.dirtyPathOrdinalByPropertyIndex = new int[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			Integer ordinal = dirtyPathOrdinals.toExistingOrdinal( propertyNames[i] );
+			dirtyPathOrdinalByPropertyIndex[i] = ordinal == null ? -1 : ordinal;
+		}
 	}
 
 	@Override
@@ -27,4 +46,21 @@ public Class<E> getJavaClass() {
 	public String getEntityName() {
 		return entityName;
 	}
+
+	@Override
+	public PojoPathOrdinals getDirtyPathOrdinals() {
+		return dirtyPathOrdinals;
+	}
+
+	@Override
+	public BitSet toDirtyPathOrdinals(int[] dirtyProperties) {
+		BitSet result = new BitSet();
+		for ( int propertyIndex : dirtyProperties ) {
+			int ordinal = dirtyPathOrdinalByPropertyIndex[propertyIndex];
+			if ( ordinal >= 0 ) {
+				result.set( ordinal );
+			}
+		}
+		return result;
+	}
 }
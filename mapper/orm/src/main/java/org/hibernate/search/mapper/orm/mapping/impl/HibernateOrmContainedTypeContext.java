@@ -6,14 +6,18 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeContainedTypeContext;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoContainedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+import org.hibernate.type.Type;
 
 class HibernateOrmContainedTypeContext<E> extends AbstractHibernateOrmTypeContext<E>
 		implements HibernateOrmScopeContainedTypeContext<E> {
 
-	private HibernateOrmContainedTypeContext(HibernateOrmContainedTypeContext.Builder<E> builder) {
-		super( builder.javaClass, builder.entityName );
+	private HibernateOrmContainedTypeContext(HibernateOrmContainedTypeContext.Builder<E> builder,
+			SessionFactoryImplementor sessionFactory) {
+		super( sessionFactory, builder.javaClass, builder.entityName, builder.dirtyPathOrdinals );
 	}
 
 	@Override
@@ -23,17 +27,34 @@ public Object toIndexingPlanProvidedId(Object entityId) {
 		return entityId;
 	}
 
+	@Override
+	public Type getDocumentIdSourceType() {
+		// Contained types do not have documents
+		return null;
+	}
+
+	@Override
+	public Object toDocumentIdSourceValue(Object entityId, Object entity) {
+		return null;
+	}
+
 	static class Builder<E> implements PojoContainedTypeExtendedMappingCollector {
 		private final Class<E> javaClass;
 		private final String entityName;
+		private PojoPathOrdinals dirtyPathOrdinals;
 
 		Builder(Class<E> javaClass, String entityName) {
 			this.javaClass = javaClass;
 			this.entityName = entityName;
 		}
 
-		HibernateOrmContainedTypeContext<E> build() {
-			return new HibernateOrmContainedTypeContext<>( this );
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals) {
+			this.dirtyPathOrdinals = pathOrdinals;
+		}
+
+		HibernateOrmContainedTypeContext<E> build(SessionFactoryImplementor sessionFactory) {
+			return new HibernateOrmContainedTypeContext<>( this, sessionFactory );
 		}
 	}
 }
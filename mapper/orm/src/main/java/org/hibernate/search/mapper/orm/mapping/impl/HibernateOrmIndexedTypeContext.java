@@ -10,6 +10,7 @@
 import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeIndexedTypeContext;
 import org.hibernate.search.mapper.orm.search.loading.impl.EntityLoaderFactory;
 import org.hibernate.search.mapper.orm.search.loading.impl.HibernateOrmByIdEntityLoader;
@@ -17,26 +18,33 @@
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.bridge.mapping.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+import org.hibernate.type.Type;
 
 class HibernateOrmIndexedTypeContext<E> extends AbstractHibernateOrmTypeContext<E>
 		implements HibernateOrmSessionIndexedTypeContext<E>, HibernateOrmScopeIndexedTypeContext<E> {
 	private final String indexName;
 	private final boolean documentIdIsEntityId;
+	private final ValueReadHandle<?> documentIdSourcePropertyHandle;
+	private final Type documentIdSourceType;
 	private final EntityLoaderFactory loaderFactory;
 	private final IdentifierMapping identifierMapping;
 
 	private HibernateOrmIndexedTypeContext(Builder<E> builder, SessionFactoryImplementor sessionFactory) {
-		super( builder.javaClass, builder.entityName );
+		super( sessionFactory, builder.javaClass, builder.entityName, builder.dirtyPathOrdinals );
 
 		this.indexName = builder.indexName;
 
 		IdentifiableType<E> indexTypeModel = sessionFactory.getMetamodel().entity( getJavaClass() );
 		SingularAttribute<? super E, ?> documentIdSourceAttribute =
 				indexTypeModel.getSingularAttribute( builder.documentIdSourcePropertyName );
+		EntityPersister persister = sessionFactory.getMetamodel().entityPersister( getJavaClass() );
+		this.documentIdSourcePropertyHandle = builder.documentIdSourcePropertyHandle;
 		if ( documentIdSourceAttribute.isId() ) {
 			documentIdIsEntityId = true;
+			documentIdSourceType = persister.getIdentifierType();
 			loaderFactory = HibernateOrmByIdEntityLoader.factory(
 					sessionFactory, getJavaClass()
 			);
@@ -45,6 +53,7 @@ sessionFactory, getJavaClass()
 			// The entity ID is not the property used to generate the document ID
 			// We need to use a criteria query to load entities from the document IDs
 			documentIdIsEntityId = false;
+			documentIdSourceType = persister.getPropertyType( builder.documentIdSourcePropertyName );
 			loaderFactory = HibernateOrmCriteriaEntityLoader.factory(
 					getJavaClass(), documentIdSourceAttribute, builder.documentIdSourcePropertyHandle
 			);
@@ -69,6 +78,21 @@ public Object toIndexingPlanProvidedId(Object entityId) {
 		}
 	}
 
+	@Override
+	public Type getDocumentIdSourceType() {
+		return documentIdSourceType;
+	}
+
+	@Override
+	public Object toDocumentIdSourceValue(Object entityId, Object entity) {
+		if ( documentIdIsEntityId ) {
+			return entityId;
+		}
+		else {
+			return documentIdSourcePropertyHandle.get( entity );
+		}
+	}
+
 	@Override
 	public IdentifierMapping getIdentifierMapping() {
 		return identifierMapping;
@@ -87,6 +111,7 @@ public EntityLoaderFactory getLoaderFactory() {
 		private String documentIdSourcePropertyName;
 		private ValueReadHandle<?> documentIdSourcePropertyHandle;
 		private IdentifierMapping identifierMapping;
+		private PojoPathOrdinals dirtyPathOrdinals;
 
 		Builder(Class<E> javaClass, String entityName, String indexName) {
 			this.javaClass = javaClass;
@@ -105,6 +130,11 @@ public void identifierMapping(IdentifierMapping identifierMapping) {
 			this.identifierMapping = identifierMapping;
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals) {
+			this.dirtyPathOrdinals = pathOrdinals;
+		}
+
 		public HibernateOrmIndexedTypeContext<E> build(SessionFactoryImplementor sessionFactory) {
 			return new HibernateOrmIndexedTypeContext<>( this, sessionFactory );
 		}
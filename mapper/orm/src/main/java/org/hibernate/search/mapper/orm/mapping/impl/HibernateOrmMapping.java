@@ -12,6 +12,7 @@
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 
+import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.SessionFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -24,7 +25,12 @@
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
 import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingSynchronizationStrategyName;
+import org.hibernate.search.mapper.orm.automaticindexing.impl.HibernateOrmOutboxMappingContext;
+import org.hibernate.search.mapper.orm.automaticindexing.impl.OutboxEventProcessor;
+import org.hibernate.search.mapper.orm.automaticindexing.impl.OutboxIndexingPlan;
+import org.hibernate.search.mapper.orm.automaticindexing.impl.OutboxTable;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
@@ -53,11 +59,17 @@
 
 public class HibernateOrmMapping extends AbstractPojoMappingImplementor<HibernateOrmMapping>
 		implements SearchMapping,
-				HibernateOrmListenerContextProvider,
+				HibernateOrmListenerContextProvider, HibernateOrmOutboxMappingContext,
 				HibernateOrmScopeMappingContext, HibernateOrmSearchSessionMappingContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<AutomaticIndexingStrategyName> AUTOMATIC_INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY )
+					.as( AutomaticIndexingStrategyName.class, AutomaticIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_STRATEGY )
+					.build();
+
 	private static final ConfigurationProperty<AutomaticIndexingSynchronizationStrategyName> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY )
 					.as( AutomaticIndexingSynchronizationStrategyName.class, AutomaticIndexingSynchronizationStrategyName::of )
@@ -76,6 +88,48 @@ public class HibernateOrmMapping extends AbstractPojoMappingImplementor<Hibernat
 					.withDefault( HibernateOrmMapperSettings.Defaults.QUERY_LOADING_FETCH_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<String> AUTOMATIC_INDEXING_OUTBOX_TABLE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_TABLE )
+					.asString()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_TABLE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED )
+					.build();
+
 	public static MappingImplementor<HibernateOrmMapping> create(
 			PojoMappingDelegate mappingDelegate, HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory, ConfigurationPropertySource propertySource) {
@@ -105,11 +159,46 @@ public static MappingImplementor<HibernateOrmMapping> create(
 
 		int fetchSize = QUERY_LOADING_FETCH_SIZE.get( propertySource );
 
-		return new HibernateOrmMapping(
+		OutboxTable outboxTable = null;
+		if ( AutomaticIndexingStrategyName.OUTBOX.equals( AUTOMATIC_INDEXING_STRATEGY.get( propertySource ) ) ) {
+			MultiTenancyStrategy multiTenancyStrategy = sessionFactory.getSessionFactoryOptions().getMultiTenancyStrategy();
+			if ( !MultiTenancyStrategy.NONE.equals( multiTenancyStrategy ) ) {
+				throw log.outboxMultiTenancyNotSupported( multiTenancyStrategy );
+			}
+			for ( AbstractHibernateOrmTypeContext<?> typeContext : typeContextContainer.getAll() ) {
+				OutboxIndexingPlan.checkSupported(
+						sessionFactory.getMetamodel().entityPersister( typeContext.getJavaClass() ), typeContext );
+			}
+			outboxTable = new OutboxTable(
+					AUTOMATIC_INDEXING_OUTBOX_TABLE.get( propertySource ),
+					sessionFactory.getJdbcServices().getDialect()
+			);
+		}
+
+		HibernateOrmMapping mapping = new HibernateOrmMapping(
 				mappingDelegate, typeContextContainer, sessionFactory,
 				synchronizationStrategy,
-				cacheLookupStrategy, fetchSize
+				cacheLookupStrategy, fetchSize,
+				outboxTable
 		);
+
+		if ( outboxTable != null ) {
+			OutboxEventProcessor processor = new OutboxEventProcessor(
+					mapping, outboxTable,
+					AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL.get( propertySource ),
+					AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE.get( propertySource ),
+					AUTOMATIC_INDEXING_OUTBOX_THREAD_COUNT.get( propertySource ),
+					AUTOMATIC_INDEXING_OUTBOX_MAX_ATTEMPTS.get( propertySource ),
+					AUTOMATIC_INDEXING_OUTBOX_RETRY_DELAY.get( propertySource )
+			);
+			processor.createTableIfMissing();
+			if ( AUTOMATIC_INDEXING_OUTBOX_PROCESSING_ENABLED.get( propertySource ) ) {
+				mapping.outboxEventProcessor = processor;
+				mapping.onClose( processor::close );
+			}
+		}
+
+		return mapping;
 	}
 
 	private final HibernateOrmMappingContextImpl backendMappingContext;
@@ -117,19 +206,35 @@ public static MappingImplementor<HibernateOrmMapping> create(
 	private final AutomaticIndexingSynchronizationStrategy synchronizationStrategy;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
 	private final int fetchSize;
+	private final OutboxTable outboxTable;
+
+	private OutboxEventProcessor outboxEventProcessor;
 
 	private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory,
 			AutomaticIndexingSynchronizationStrategy synchronizationStrategy,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
-			int fetchSize) {
+			int fetchSize,
+			OutboxTable outboxTable) {
 		super( mappingDelegate );
 		this.typeContextContainer = typeContextContainer;
 		this.backendMappingContext = new HibernateOrmMappingContextImpl( sessionFactory );
 		this.synchronizationStrategy = synchronizationStrategy;
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
+		this.outboxTable = outboxTable;
+	}
+
+	/**
+	 * Start background processing.
+	 * <p>
+	 * Must be called once the mapping is fully booted and available to event listeners.
+	 */
+	public void start() {
+		if ( outboxEventProcessor != null ) {
+			outboxEventProcessor.start();
+		}
 	}
 
 	@Override
@@ -220,6 +325,11 @@ public <E> AbstractHibernateOrmTypeContext<E> getTypeContext(Class<E> type) {
 		return typeContextContainer.getByExactClass( type );
 	}
 
+	@Override
+	public PojoIndexingPlan createOutboxProcessingIndexingPlan(SessionImplementor session) {
+		return HibernateOrmSearchSession.get( this, session ).createOutboxProcessingIndexingPlan();
+	}
+
 	@Override
 	public HibernateOrmMappingContextImpl getBackendMappingContext() {
 		return backendMappingContext;
@@ -249,7 +359,8 @@ public HibernateOrmSearchSession.HibernateOrmSearchSessionBuilder createSessionB
 		return new HibernateOrmSearchSession.HibernateOrmSearchSessionBuilder(
 				getDelegate(), this, typeContextContainer,
 				sessionImplementor,
-				synchronizationStrategy
+				synchronizationStrategy,
+				this, outboxTable
 		);
 	}
 
@@ -30,7 +30,7 @@ private HibernateOrmTypeContextContainer(Builder builder, SessionFactoryImplemen
 			indexedTypeContextsByIndexName.put( indexedTypeContext.getIndexName(), indexedTypeContext );
 		}
 		for ( HibernateOrmContainedTypeContext.Builder<?> contextBuilder : builder.containedTypeContextBuilders ) {
-			HibernateOrmContainedTypeContext<?> containedTypeContext = contextBuilder.build();
+			HibernateOrmContainedTypeContext<?> containedTypeContext = contextBuilder.build( sessionFactory );
 			containedTypeContexts.put( containedTypeContext.getJavaClass(), containedTypeContext );
 		}
 	}
@@ -64,6 +64,14 @@ public <E> AbstractHibernateOrmTypeContext<E> getByExactClass(Class<E> clazz) {
 		return result;
 	}
 
+	List<AbstractHibernateOrmTypeContext<?>> getAll() {
+		List<AbstractHibernateOrmTypeContext<?>> result =
+				new ArrayList<>( indexedTypeContexts.size() + containedTypeContexts.size() );
+		result.addAll( indexedTypeContexts.values() );
+		result.addAll( containedTypeContexts.values() );
+		return result;
+	}
+
 	static class Builder {
 
 		private final List<HibernateOrmIndexedTypeContext.Builder<?>> indexedTypeContextBuilders = new ArrayList<>();
@@ -30,6 +30,21 @@ public interface MassIndexer {
 	 */
 	MassIndexer typesToIndexInParallel(int threadsToIndexObjects);
 
+	/**
+	 * Sets the number of threads to be used to load
+	 * the identifiers of entities, for each type indexed in parallel.
+	 * <p>
+	 * When greater than 1, the identifiers of each entity type are split into as many ranges,
+	 * each range being loaded in its own thread and its own transaction.
+	 * Only entity types with an integral identifier ({@code short}, {@code int}, {@code long}, {@code BigInteger})
+	 * can be split this way; identifiers of other entity types are always loaded in a single thread.
+	 * Also ignored if {@link #limitIndexedObjectsTo(long) a limit} is set.
+	 * Defaults to 1.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Set the number of threads to be used to load
 	 * the root entities.
@@ -105,6 +120,51 @@ public interface MassIndexer {
 	 */
 	void startAndWait() throws InterruptedException;
 
+	/**
+	 * Whether entities should be counted before their identifiers are loaded.
+	 * <p>
+	 * Counting allows the {@link MassIndexingMonitor monitor} to know upfront the total number of entities to index,
+	 * but requires an additional {@code count} query for each entity type, which may be slow on very large tables.
+	 * When disabled, the total count reported to the monitor grows as identifiers are loaded.
+	 * Defaults to {@code true}.
+	 * @param count {@code true} to count entities before loading their identifiers
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer countBeforeLoading(boolean count);
+
+	/**
+	 * Whether entities should be loaded directly, page by page, ordered by identifier
+	 * ({@code where id > :lastId order by id}, a.k.a. keyset pagination),
+	 * instead of loading identifiers first, then loading entities by batches of identifiers.
+	 * <p>
+	 * Keyset loading saves a database round trip per batch and avoids {@code IN} predicates,
+	 * but requires a basic, comparable identifier:
+	 * entity types with other identifiers are always loaded by batches of identifiers.
+	 * When enabled, {@link #batchSizeToLoadObjects(int)} sets the size of each page,
+	 * and each of the {@link #threadsToLoadObjects(int) threads to load objects}
+	 * processes its own range of identifiers (see {@link #threadsToLoadIdentifiers(int)} for restrictions);
+	 * {@link #threadsToLoadIdentifiers(int)} and {@link #idFetchSize(int)} are ignored.
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to load entities using keyset pagination
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer keysetLoading(boolean enable);
+
+	/**
+	 * Sets the name of an entity graph to apply as a load graph when loading entities,
+	 * e.g. to fetch associations required by {@code @IndexedEmbedded} in the same query
+	 * and avoid loading them one by one while building documents.
+	 * <p>
+	 * Only applies to entity types that define an entity graph with this name,
+	 * typically through {@link javax.persistence.NamedEntityGraph}.
+	 * When combined with {@link #keysetLoading(boolean) keyset loading},
+	 * each page of identifiers is retrieved first, then the corresponding entities are loaded with the graph,
+	 * so that fetching collections does not prevent the database from limiting the size of each page.
+	 * @param graphName the name of the entity graph
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer loadGraph(String graphName);
+
 	/**
 	 * Specifies the fetch size to be used when loading primary keys
 	 * if objects to be indexed. Some databases accept special values,
@@ -0,0 +1,255 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.EntityGraph;
+import javax.persistence.LockModeType;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.jpa.QueryHints;
+import org.hibernate.query.Query;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A {@code Runnable} loading entities in a dedicated session,
+ * and forwarding them to the indexing backend.
+ * <p>
+ * Subclasses decide how entities to load are determined.
+ *
+ * @param <E> The entity type
+ */
+abstract class AbstractDocumentProducer<E> implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final HibernateOrmMassIndexingMappingContext mappingContext;
+	private final String tenantId;
+	private final MassIndexingNotifier notifier;
+
+	private final CacheMode cacheMode;
+	protected final Class<E> type;
+	protected final String entityName;
+	private final EntityGraph<? super E> loadGraph;
+	private final Integer transactionTimeout;
+
+	/**
+	 * The JTA transaction manager or {@code null} if not in a JTA environment
+	 */
+	private final TransactionManager transactionManager;
+
+	AbstractDocumentProducer(
+			HibernateOrmMassIndexingMappingContext mappingContext, String tenantId,
+			MassIndexingNotifier notifier,
+			CacheMode cacheMode,
+			Class<E> indexedType, String entityName, EntityGraph<? super E> loadGraph,
+			Integer transactionTimeout) {
+		this.mappingContext = mappingContext;
+		this.tenantId = tenantId;
+		this.notifier = notifier;
+		this.cacheMode = cacheMode;
+		this.type = indexedType;
+		this.entityName = entityName;
+		this.loadGraph = loadGraph;
+		this.transactionTimeout = transactionTimeout;
+		this.transactionManager = mappingContext.getSessionFactory()
+				.getServiceRegistry()
+				.getService( JtaPlatform.class )
+				.retrieveTransactionManager();
+	}
+
+	@Override
+	public void run() {
+		log.trace( "started" );
+		try ( SessionImplementor session = (SessionImplementor) mappingContext.getSessionFactory()
+				.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession() ) {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setCacheMode( cacheMode );
+			session.setDefaultReadOnly( true );
+			// The search session will be closed automatically with the ORM session
+			PojoIndexer indexer = mappingContext.createIndexer(
+					session, DocumentCommitStrategy.NONE
+			);
+			loadAll( session, indexer );
+		}
+		catch (InterruptedException e) {
+			// just quit
+			Thread.currentThread().interrupt();
+		}
+		catch (Exception exception) {
+			notifier.notifyRunnableFailure( exception, log.massIndexingLoadingAndExtractingEntityData( entityName ) );
+		}
+		log.trace( "finished" );
+	}
+
+	/**
+	 * Loads all entities this producer is responsible for,
+	 * and forwards them to the indexer using {@link #indexAll(Session, PojoIndexer, List)}.
+	 *
+	 * @param session the session to be used
+	 * @param indexer the indexer to be used
+	 * @throws Exception if loading or indexing failed
+	 */
+	protected abstract void loadAll(SessionImplementor session, PojoIndexer indexer) throws Exception;
+
+	protected final MassIndexingNotifier getNotifier() {
+		return notifier;
+	}
+
+	/**
+	 * @return {@code true} if entities are loaded with a load graph,
+	 * which may fetch collections and thus return multiple rows per entity.
+	 */
+	protected final boolean hasLoadGraph() {
+		return loadGraph != null;
+	}
+
+	/**
+	 * @param session The session to use.
+	 * @param idAttribute The identifier attribute of the entity type.
+	 * @param ids The identifiers of entities to load.
+	 * @param <I> The identifier type.
+	 * @return The entities with the given identifiers, each entity appearing only once.
+	 */
+	protected final <I> List<E> loadByIds(SessionImplementor session, SingularAttribute<? super E, I> idAttribute,
+			List<I> ids) {
+		CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+		CriteriaQuery<E> criteriaQuery = criteriaBuilder.createQuery( type );
+		Root<E> root = criteriaQuery.from( type );
+		criteriaQuery.select( root );
+		criteriaQuery.where( root.get( idAttribute ).in( ids ) );
+		// Collections fetched by the load graph lead to one row per collection element: remove duplicates.
+		criteriaQuery.distinct( true );
+
+		return configure( session.createQuery( criteriaQuery ) )
+				// Remove duplicates in memory only: there is no need for a "distinct" in the SQL query.
+				.setHint( QueryHints.HINT_PASS_DISTINCT_THROUGH, false )
+				.setFetchSize( ids.size() )
+				.getResultList();
+	}
+
+	/**
+	 * @param query A query loading entities.
+	 * @return The given query, configured for mass indexing.
+	 */
+	protected final Query<E> configure(Query<E> query) {
+		query.setCacheMode( cacheMode )
+				.setLockMode( LockModeType.NONE )
+				.setCacheable( false )
+				.setHibernateFlushMode( FlushMode.MANUAL );
+		if ( loadGraph != null ) {
+			query.setHint( QueryHints.HINT_LOADGRAPH, loadGraph );
+		}
+		return query;
+	}
+
+	protected final void beginTransaction(Session session) throws Exception {
+		if ( transactionManager != null ) {
+			if ( transactionTimeout != null ) {
+				transactionManager.setTransactionTimeout( transactionTimeout );
+			}
+
+			transactionManager.begin();
+		}
+		else {
+			session.beginTransaction();
+		}
+	}
+
+	protected final void rollbackTransaction(SessionImplementor session) {
+		try {
+			if ( transactionManager != null ) {
+				transactionManager.rollback();
+			}
+			else {
+				session.accessTransaction().rollback();
+			}
+		}
+		catch (Exception e) {
+			log.errorRollingBackTransaction( e.getMessage(), e );
+		}
+	}
+
+	protected final void indexAll(Session session, PojoIndexer indexer, List<E> entities) throws InterruptedException {
+		if ( entities == null || entities.isEmpty() ) {
+			return;
+		}
+
+		notifier.notifyEntitiesLoaded( entities.size() );
+		CompletableFuture<?>[] indexingFutures = new CompletableFuture<?>[entities.size()];
+
+		for ( int i = 0; i < entities.size(); i++ ) {
+			final E entity = entities.get( i );
+			indexingFutures[i] = index( indexer, entity );
+		}
+
+		Futures.unwrappedExceptionGet(
+				CompletableFuture.allOf( indexingFutures )
+						// We handle exceptions on a per-entity basis below, so we ignore them here.
+						.exceptionally( exception -> null )
+		);
+
+		int successfulEntities = 0;
+		for ( int i = 0; i < entities.size(); i++ ) {
+			CompletableFuture<?> future = indexingFutures[i];
+
+			if ( future.isCompletedExceptionally() ) {
+				notifier.notifyEntityIndexingFailure(
+						type, entityName,
+						session, entities.get( i ),
+						Futures.getThrowableNow( future )
+				);
+			}
+			else {
+				++successfulEntities;
+			}
+		}
+
+		notifier.notifyDocumentsAdded( successfulEntities );
+	}
+
+	private CompletableFuture<?> index(PojoIndexer indexer, E entity) throws InterruptedException {
+		// abort if the thread has been interrupted while not in wait(), I/O or similar which themselves would have
+		// raised the InterruptedException
+		if ( Thread.currentThread().isInterrupted() ) {
+			throw new InterruptedException();
+		}
+
+		CompletableFuture<?> future;
+		try {
+			future = indexer.add( entity );
+		}
+		catch (RuntimeException e) {
+			future = new CompletableFuture<>();
+			future.completeExceptionally( e );
+			return future;
+		}
+
+		// Only if the above succeeded
+		notifier.notifyDocumentBuilt();
+
+		return future;
+	}
+
+}
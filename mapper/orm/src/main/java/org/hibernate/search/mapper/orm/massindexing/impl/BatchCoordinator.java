@@ -41,6 +41,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final PojoScopeWorkspace scopeWorkspace;
 
 	private final int typesToIndexInParallel;
+	private final int identifierLoadingThreads;
 	private final int documentBuilderThreads;
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
@@ -48,18 +49,22 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final boolean purgeAtStart;
 	private final boolean optimizeAfterPurge;
 	private final long objectsLimit;
+	private final boolean countBeforeLoading;
 	private final int idFetchSize;
 	private final Integer transactionTimeout;
+	private final boolean keysetLoading;
+	private final String loadGraphName;
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 
 	BatchCoordinator(HibernateOrmMassIndexingMappingContext mappingContext,
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			Set<Class<?>> rootEntities, PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
-			int objectLoadingBatchSize, long objectsLimit, boolean optimizeAtEnd,
+			int typesToIndexInParallel, int identifierLoadingThreads, int documentBuilderThreads, CacheMode cacheMode,
+			int objectLoadingBatchSize, long objectsLimit, boolean countBeforeLoading, boolean optimizeAtEnd,
 			boolean purgeAtStart, boolean optimizeAfterPurge,
-			int idFetchSize, Integer transactionTimeout) {
+			int idFetchSize, Integer transactionTimeout,
+			boolean keysetLoading, String loadGraphName) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -68,7 +73,10 @@ public class BatchCoordinator extends FailureHandledRunnable {
 
 		this.idFetchSize = idFetchSize;
 		this.transactionTimeout = transactionTimeout;
+		this.keysetLoading = keysetLoading;
+		this.loadGraphName = loadGraphName;
 		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = documentBuilderThreads;
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
@@ -76,6 +84,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.purgeAtStart = purgeAtStart;
 		this.optimizeAfterPurge = optimizeAfterPurge;
 		this.objectsLimit = objectsLimit;
+		this.countBeforeLoading = countBeforeLoading;
 	}
 
 	@Override
@@ -153,9 +162,10 @@ private void doBatchWork() throws InterruptedException {
 		return new BatchIndexingWorkspace<>(
 				mappingContext, sessionContext, getNotifier(),
 				indexedType, entityName, idAttributeOfIndexedType,
-				documentBuilderThreads, cacheMode,
+				identifierLoadingThreads, documentBuilderThreads, cacheMode,
 				objectLoadingBatchSize,
-				objectsLimit, idFetchSize, transactionTimeout
+				objectsLimit, countBeforeLoading, idFetchSize, transactionTimeout,
+				keysetLoading, loadGraphName
 		);
 	}
 
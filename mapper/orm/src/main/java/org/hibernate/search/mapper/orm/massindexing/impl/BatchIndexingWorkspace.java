@@ -8,11 +8,14 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import javax.persistence.EntityGraph;
+import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.CacheMode;
@@ -38,8 +41,7 @@
 	private final HibernateOrmMassIndexingMappingContext mappingContext;
 	private final DetachedBackendSessionContext sessionContext;
 
-	private final ProducerConsumerQueue<List<I>> primaryKeyStream;
-
+	private final int identifierProducerThreads;
 	private final int documentBuilderThreads;
 	private final Class<E> indexedType;
 	private final String entityName;
@@ -51,8 +53,11 @@
 
 	private final long objectsLimit;
 
+	private final boolean countBeforeLoading;
 	private final int idFetchSize;
 	private final Integer transactionTimeout;
+	private final boolean keysetLoading;
+	private final String loadGraphName;
 
 	private final List<CompletableFuture<?>> identifierProducingFutures = new ArrayList<>();
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
@@ -61,9 +66,10 @@
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			Class<E> type, String entityName, SingularAttribute<? super E, I> idAttributeOfIndexedType,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
-			long objectsLimit,
-			int idFetchSize, Integer transactionTimeout) {
+			int identifierLoadingThreads, int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			long objectsLimit, boolean countBeforeLoading,
+			int idFetchSize, Integer transactionTimeout,
+			boolean keysetLoading, String loadGraphName) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -75,16 +81,17 @@
 		this.transactionTimeout = transactionTimeout;
 
 		//thread pool sizing:
+		this.identifierProducerThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = objectLoadingThreads;
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 
-		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
-
 		this.objectsLimit = objectsLimit;
+		this.countBeforeLoading = countBeforeLoading;
+		this.keysetLoading = keysetLoading;
+		this.loadGraphName = loadGraphName;
 	}
 
 	@Override
@@ -93,11 +100,21 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchIndexingWorkspace instance not expected to be reused" );
 		}
 
-		final BatchTransactionalContext transactionalContext =
-				new BatchTransactionalContext( mappingContext.getSessionFactory() );
-		// First start the consumers, then the producers (reverse order):
-		startIndexing();
-		startProducingPrimaryKeys( transactionalContext );
+		EntityGraph<? super E> loadGraph = resolveLoadGraph();
+		if ( keysetLoading && isKeysetLoadingSupported() ) {
+			// Entities are loaded directly, without loading identifiers first
+			startKeysetIndexing( partitionIdentifiers( documentBuilderThreads ), loadGraph );
+		}
+		else {
+			final BatchTransactionalContext transactionalContext =
+					new BatchTransactionalContext( mappingContext.getSessionFactory() );
+			List<IdentifierRange<I>> idRanges = partitionIdentifiers( identifierProducerThreads );
+			//pipelining queues:
+			ProducerConsumerQueue<List<I>> primaryKeyStream = new ProducerConsumerQueue<>( idRanges.size() );
+			// First start the consumers, then the producers (reverse order):
+			startIndexing( primaryKeyStream, loadGraph );
+			startProducingPrimaryKeys( transactionalContext, primaryKeyStream, idRanges );
+		}
 		// Wait for indexing to finish.
 		Futures.unwrappedExceptionGet(
 				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
@@ -125,39 +142,110 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
-				transactionalContext,
-				getNotifier(),
-				new IdentifierProducer<>(
-						mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
-						getNotifier(),
-						primaryKeyStream,
-						objectLoadingBatchSize,
-						indexedType, entityName, idAttributeOfIndexedType,
-						objectsLimit,
-						idFetchSize
-				),
-				transactionTimeout, sessionContext.getTenantIdentifier()
-		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
+	private boolean isKeysetLoadingSupported() {
+		Class<I> idType = idAttributeOfIndexedType.getJavaType();
+		if ( idAttributeOfIndexedType.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+				&& ( idType.isPrimitive() || Comparable.class.isAssignableFrom( idType ) ) ) {
+			return true;
+		}
+		log.debugf( "Identifiers of type %s cannot be used for keyset pagination: loading %s by batches of identifiers instead",
+				idType, indexedType.getName() );
+		return false;
+	}
+
+	private EntityGraph<? super E> resolveLoadGraph() {
+		if ( loadGraphName == null ) {
+			return null;
+		}
+		for ( EntityGraph<? super E> graph : mappingContext.getSessionFactory().findEntityGraphsByType( indexedType ) ) {
+			if ( loadGraphName.equals( graph.getName() ) ) {
+				return graph;
+			}
+		}
+		log.debugf( "No entity graph named '%s' for %s: loading entities without a load graph",
+				loadGraphName, indexedType.getName() );
+		return null;
+	}
+
+	private List<IdentifierRange<I>> partitionIdentifiers(int maxPartitions) {
+		if ( maxPartitions <= 1 ) {
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		if ( objectsLimit != 0 ) {
+			// The limit applies to the entity type as a whole: it cannot be enforced across multiple producers
+			log.debugf( "Loading identifiers of %s in a single range, because the number of objects to index is limited",
+					indexedType.getName() );
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		return new IdentifierRangePartitioner<>(
+				mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
+				indexedType, idAttributeOfIndexedType
+		)
+				.partition( maxPartitions );
+	}
+
+	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext,
+			ProducerConsumerQueue<List<I>> primaryKeyStream, List<IdentifierRange<I>> idRanges) {
+		// Each range of identifiers is loaded by a single thread, in a single transaction:
+		// ensures the list is consistent as produced by one transaction
 		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.getThreadPoolProvider()
-				.newFixedThreadPool( 1, MassIndexerImpl.THREAD_NAME_PREFIX + entityName + " - ID loading" );
+				.newFixedThreadPool( idRanges.size(), MassIndexerImpl.THREAD_NAME_PREFIX + entityName + " - ID loading" );
 		try {
-			identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			for ( IdentifierRange<I> idRange : idRanges ) {
+				final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+						transactionalContext,
+						getNotifier(),
+						new IdentifierProducer<>(
+								mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
+								getNotifier(),
+								primaryKeyStream,
+								objectLoadingBatchSize,
+								indexedType, entityName, idAttributeOfIndexedType,
+								idRange, countBeforeLoading,
+								objectsLimit,
+								idFetchSize
+						),
+						transactionTimeout, sessionContext.getTenantIdentifier()
+				);
+				identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
 		}
 	}
 
-	private void startIndexing() {
+	private void startKeysetIndexing(List<IdentifierRange<I>> idRanges, EntityGraph<? super E> loadGraph) {
+		final ThreadPoolExecutor indexingExecutor = mappingContext.getThreadPoolProvider()
+				.newFixedThreadPool( idRanges.size(), MassIndexerImpl.THREAD_NAME_PREFIX + entityName + " - Entity loading" );
+		try {
+			for ( IdentifierRange<I> idRange : idRanges ) {
+				final Runnable documentOutputter = new KeysetDocumentProducer<>(
+						mappingContext, sessionContext.getTenantIdentifier(),
+						getNotifier(),
+						cacheMode,
+						indexedType, entityName, idAttributeOfIndexedType,
+						loadGraph,
+						idRange, objectLoadingBatchSize,
+						countBeforeLoading, objectsLimit,
+						transactionTimeout
+				);
+				indexingFutures.add( Futures.runAsync( documentOutputter, indexingExecutor ) );
+			}
+		}
+		finally {
+			indexingExecutor.shutdown();
+		}
+	}
+
+	private void startIndexing(ProducerConsumerQueue<List<I>> primaryKeyStream, EntityGraph<? super E> loadGraph) {
 		final Runnable documentOutputter = new IdentifierConsumerDocumentProducer<>(
 				mappingContext, sessionContext.getTenantIdentifier(),
 				getNotifier(),
 				primaryKeyStream,
 				cacheMode,
 				indexedType, entityName, idAttributeOfIndexedType,
+				loadGraph,
 				transactionTimeout
 		);
 		final ThreadPoolExecutor indexingExecutor = mappingContext.getThreadPoolProvider()
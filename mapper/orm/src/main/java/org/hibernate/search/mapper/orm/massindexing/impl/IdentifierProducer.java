@@ -12,6 +12,7 @@
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -29,8 +30,8 @@
  * This Runnable is going to feed the indexing queue
  * with the identifiers of all the entities going to be indexed.
  * This step in the indexing process is not parallel (should be
- * done by one thread per type) so that a single transaction is used
- * to define the group of entities to be indexed.
+ * done by one thread per type, or one thread per {@link IdentifierRange range of identifiers})
+ * so that a single transaction is used to define the group of entities to be indexed.
  * Produced identifiers are put in the destination queue grouped in List
  * instances: the reason for this is to load them in batches
  * in the next step and reduce contention on the queue.
@@ -53,6 +54,8 @@
 	private final Class<E> indexedType;
 	private final String entityName;
 	private final SingularAttribute<? super E, I> idAttributeOfIndexedType;
+	private final IdentifierRange<I> idRange;
+	private final boolean countBeforeLoading;
 	private final long objectsLimit;
 	private final int idFetchSize;
 
@@ -65,6 +68,8 @@
 	 * @param indexedType the entity type whose identifiers are to be loaded
 	 * @param entityName the name of the entity whose identifiers are to be loaded
 	 * @param idAttributeOfIndexedType the id attribute to be loaded
+	 * @param idRange the range of identifiers to be loaded
+	 * @param countBeforeLoading whether to count entities before loading their identifiers
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
 	 */
@@ -73,6 +78,7 @@
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			int objectLoadingBatchSize,
 			Class<E> indexedType, String entityName, SingularAttribute<? super E, I> idAttributeOfIndexedType,
+			IdentifierRange<I> idRange, boolean countBeforeLoading,
 			long objectsLimit, int idFetchSize) {
 		this.sessionFactory = sessionFactory;
 		this.tenantId = tenantId;
@@ -82,6 +88,8 @@
 		this.indexedType = indexedType;
 		this.entityName = entityName;
 		this.idAttributeOfIndexedType = idAttributeOfIndexedType;
+		this.idRange = idRange;
+		this.countBeforeLoading = countBeforeLoading;
 		this.objectsLimit = objectsLimit;
 		this.idFetchSize = idFetchSize;
 		log.trace( "created" );
@@ -142,14 +150,18 @@ private void inTransactionWrapper(StatelessSession upperSession) {
 	// See https://hibernate.atlassian.net/browse/HHH-13154.
 	@SuppressWarnings("deprecation")
 	private void loadAllIdentifiers(final StatelessSession session) throws InterruptedException {
-		long totalCount = createTotalCountQuery( session ).uniqueResult();
-		if ( objectsLimit != 0 && objectsLimit < totalCount ) {
-			totalCount = objectsLimit;
-		}
-		if ( log.isDebugEnabled() ) {
-			log.debugf( "going to fetch %d primary keys", (Long) totalCount );
+		// 0 means no limit
+		long totalCount = objectsLimit;
+		if ( countBeforeLoading ) {
+			totalCount = createTotalCountQuery( session ).uniqueResult();
+			if ( objectsLimit != 0 && objectsLimit < totalCount ) {
+				totalCount = objectsLimit;
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "going to fetch %d primary keys in range %s", (Long) totalCount, idRange );
+			}
+			notifier.notifyAddedTotalCount( totalCount );
 		}
-		notifier.notifyAddedTotalCount( totalCount );
 
 		ArrayList<I> destinationList = new ArrayList<>( batchSize );
 		long counter = 0;
@@ -178,12 +190,27 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 		enqueueList( destinationList );
 	}
 
+	private void enqueueList(final List<I> idsList) throws InterruptedException {
+		if ( ! idsList.isEmpty() ) {
+			if ( !countBeforeLoading ) {
+				// The total count was not computed upfront: report it as we go
+				notifier.notifyAddedTotalCount( idsList.size() );
+			}
+			destination.put( idsList );
+			log.tracef( "produced a list of ids %s", idsList );
+		}
+	}
+
 	private Query<Long> createTotalCountQuery(StatelessSession session) {
 		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
 		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
 
 		Root<E> root = criteriaQuery.from( indexedType );
 		criteriaQuery.select( criteriaBuilder.count( root ) );
+		Predicate rangePredicate = idRange.toPredicate( criteriaBuilder, root.get( idAttributeOfIndexedType ) );
+		if ( rangePredicate != null ) {
+			criteriaQuery.where( rangePredicate );
+		}
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false );
@@ -196,17 +223,14 @@ private Query<I> createIdentifiersQuery(StatelessSession session) {
 		Root<E> root = criteriaQuery.from( indexedType );
 		Path<I> idPath = root.get( idAttributeOfIndexedType );
 		criteriaQuery.select( idPath );
+		Predicate rangePredicate = idRange.toPredicate( criteriaBuilder, idPath );
+		if ( rangePredicate != null ) {
+			criteriaQuery.where( rangePredicate );
+		}
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false )
 				.setFetchSize( idFetchSize );
 	}
 
-	private void enqueueList(final List<I> idsList) throws InterruptedException {
-		if ( ! idsList.isEmpty() ) {
-			destination.put( idsList );
-			log.tracef( "produced a list of ids %s", idsList );
-		}
-	}
-
 }
@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+
+/**
+ * A range of entity identifiers, loaded by a single thread.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierRange<I> {
+
+	private static final IdentifierRange<?> ALL = new IdentifierRange<>( null, null );
+
+	@SuppressWarnings("unchecked")
+	static <I> IdentifierRange<I> all() {
+		return (IdentifierRange<I>) ALL;
+	}
+
+	private final I lowerBoundInclusive;
+	private final I upperBoundExclusive;
+
+	/**
+	 * @param lowerBoundInclusive The lower bound of the range, inclusive, or {@code null} for no lower bound.
+	 * @param upperBoundExclusive The upper bound of the range, exclusive, or {@code null} for no upper bound.
+	 */
+	IdentifierRange(I lowerBoundInclusive, I upperBoundExclusive) {
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBoundExclusive = upperBoundExclusive;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + ( lowerBoundInclusive == null ? "" : lowerBoundInclusive ) + ", "
+				+ ( upperBoundExclusive == null ? "" : upperBoundExclusive ) + ")";
+	}
+
+	I getLowerBoundInclusive() {
+		return lowerBoundInclusive;
+	}
+
+	I getUpperBoundExclusive() {
+		return upperBoundExclusive;
+	}
+
+	/**
+	 * @param criteriaBuilder The criteria builder.
+	 * @param idPath The path to the identifier of the entity.
+	 * @return A predicate matching identifiers within this range, or {@code null} if this range is unbounded.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Bounded ranges are only ever created for comparable identifiers
+	Predicate toPredicate(CriteriaBuilder criteriaBuilder, Expression<I> idPath) {
+		Expression<Comparable> comparableIdPath = (Expression<Comparable>) (Expression<?>) idPath;
+		Comparable lowerBound = (Comparable) lowerBoundInclusive;
+		Comparable upperBound = (Comparable) upperBoundExclusive;
+		if ( lowerBound != null && upperBound != null ) {
+			return criteriaBuilder.and(
+					criteriaBuilder.greaterThanOrEqualTo( comparableIdPath, lowerBound ),
+					criteriaBuilder.lessThan( comparableIdPath, upperBound )
+			);
+		}
+		else if ( lowerBound != null ) {
+			return criteriaBuilder.greaterThanOrEqualTo( comparableIdPath, lowerBound );
+		}
+		else if ( upperBound != null ) {
+			return criteriaBuilder.lessThan( comparableIdPath, upperBound );
+		}
+		else {
+			return null;
+		}
+	}
+}
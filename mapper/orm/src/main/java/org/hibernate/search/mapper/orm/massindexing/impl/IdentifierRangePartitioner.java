@@ -0,0 +1,176 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Splits the identifier space of an entity type into contiguous ranges,
+ * so that identifiers can be loaded by multiple {@link IdentifierProducer}s in parallel.
+ * <p>
+ * Only integral identifiers are supported:
+ * the bounds of the identifier space are retrieved with a single {@code min}/{@code max} query,
+ * then split into ranges of equal width.
+ * For other identifier types, a single range covering all identifiers is returned.
+ * <p>
+ * The first and last ranges are unbounded, so that entities persisted
+ * while the ranges are being computed are not ignored.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+class IdentifierRangePartitioner<E, I> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactory sessionFactory;
+	private final String tenantId;
+	private final Class<E> indexedType;
+	private final SingularAttribute<? super E, I> idAttributeOfIndexedType;
+
+	IdentifierRangePartitioner(SessionFactory sessionFactory, String tenantId,
+			Class<E> indexedType, SingularAttribute<? super E, I> idAttributeOfIndexedType) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.indexedType = indexedType;
+		this.idAttributeOfIndexedType = idAttributeOfIndexedType;
+	}
+
+	/**
+	 * @param maxPartitions The maximum number of ranges to return.
+	 * @return A list of contiguous, non-overlapping ranges covering the whole identifier space.
+	 * May contain fewer than {@code maxPartitions} elements, but never zero.
+	 */
+	List<IdentifierRange<I>> partition(int maxPartitions) {
+		if ( maxPartitions <= 1 ) {
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		Class<I> idType = idAttributeOfIndexedType.getJavaType();
+		if ( !isIntegral( idType ) ) {
+			log.debugf( "Identifiers of type %s cannot be partitioned: loading all identifiers of %s in a single thread",
+					idType, indexedType );
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+
+		Object[] minMax = loadMinMax();
+		if ( minMax[0] == null || minMax[1] == null ) {
+			// No entity at all
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		BigInteger min = toBigInteger( minMax[0] );
+		BigInteger max = toBigInteger( minMax[1] );
+		BigInteger width = max.subtract( min ).add( BigInteger.ONE );
+		int partitionCount = width.min( BigInteger.valueOf( maxPartitions ) ).intValue();
+
+		List<IdentifierRange<I>> ranges = new ArrayList<>( partitionCount );
+		I lowerBound = null;
+		for ( int i = 1; i < partitionCount; i++ ) {
+			BigInteger bound = min.add( width.multiply( BigInteger.valueOf( i ) )
+					.divide( BigInteger.valueOf( partitionCount ) ) );
+			I upperBound = fromBigInteger( bound, idType );
+			ranges.add( new IdentifierRange<>( lowerBound, upperBound ) );
+			lowerBound = upperBound;
+		}
+		ranges.add( new IdentifierRange<>( lowerBound, null ) );
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Identifiers of %s will be loaded in %d ranges: %s", indexedType, partitionCount, ranges );
+		}
+		return ranges;
+	}
+
+	// Criteria on a stateless session will be un-deprecated soon.
+	// See https://hibernate.atlassian.net/browse/HHH-13154.
+	@SuppressWarnings("deprecation")
+	private Object[] loadMinMax() {
+		StatelessSession session;
+		if ( tenantId == null ) {
+			session = sessionFactory.openStatelessSession();
+		}
+		else {
+			session = sessionFactory.withStatelessOptions().tenantIdentifier( tenantId ).openStatelessSession();
+		}
+		try {
+			Transaction transaction = ( (SharedSessionContractImplementor) session ).accessTransaction();
+			final boolean controlTransactions = !transaction.isActive();
+			if ( controlTransactions ) {
+				transaction.begin();
+			}
+			try {
+				return session.createQuery( createMinMaxQuery() )
+						.setCacheable( false )
+						.uniqueResult();
+			}
+			finally {
+				if ( controlTransactions ) {
+					transaction.commit();
+				}
+			}
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private CriteriaQuery<Object[]> createMinMaxQuery() {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery( Object[].class );
+
+		Root<E> root = criteriaQuery.from( indexedType );
+		// Safe: we checked that the identifier type is integral
+		Expression<Number> idPath = (Expression<Number>) (Expression<?>) root.get( idAttributeOfIndexedType );
+		criteriaQuery.multiselect( criteriaBuilder.min( idPath ), criteriaBuilder.max( idPath ) );
+		return criteriaQuery;
+	}
+
+	private static boolean isIntegral(Class<?> type) {
+		return Long.class.equals( type ) || long.class.equals( type )
+				|| Integer.class.equals( type ) || int.class.equals( type )
+				|| Short.class.equals( type ) || short.class.equals( type )
+				|| BigInteger.class.equals( type );
+	}
+
+	private static BigInteger toBigInteger(Object value) {
+		if ( value instanceof BigInteger ) {
+			return (BigInteger) value;
+		}
+		return BigInteger.valueOf( ( (Number) value ).longValue() );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <I> I fromBigInteger(BigInteger value, Class<I> type) {
+		if ( Long.class.equals( type ) || long.class.equals( type ) ) {
+			return (I) Long.valueOf( value.longValue() );
+		}
+		else if ( Integer.class.equals( type ) || int.class.equals( type ) ) {
+			return (I) Integer.valueOf( value.intValue() );
+		}
+		else if ( Short.class.equals( type ) || short.class.equals( type ) ) {
+			return (I) Short.valueOf( value.shortValue() );
+		}
+		else {
+			return (I) value;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.EntityGraph;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.CacheMode;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This {@code Runnable} loads entities directly, page by page, ordered by identifier,
+ * and forwards them to the indexing backend.
+ * <p>
+ * Each page is retrieved with a single query restricted to identifiers
+ * strictly greater than the last identifier of the previous page
+ * ({@code where id > :last order by id}, a.k.a. keyset pagination),
+ * so that identifiers do not need to be loaded upfront
+ * and no {@code IN} predicate is involved.
+ * <p>
+ * When a load graph is used, it may fetch collections,
+ * in which case a limit on the query would be applied in memory by Hibernate ORM
+ * after retrieving all matching rows.
+ * To avoid that, each page of identifiers is retrieved first,
+ * then the corresponding entities are loaded by identifier with the load graph.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+public class KeysetDocumentProducer<E, I> extends AbstractDocumentProducer<E> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SingularAttribute<? super E, I> idAttributeOfIndexedType;
+	private final IdentifierRange<I> idRange;
+	private final int pageSize;
+	private final boolean countBeforeLoading;
+	private final long objectsLimit;
+
+	KeysetDocumentProducer(
+			HibernateOrmMassIndexingMappingContext mappingContext, String tenantId,
+			MassIndexingNotifier notifier,
+			CacheMode cacheMode,
+			Class<E> indexedType, String entityName, SingularAttribute<? super E, I> idAttributeOfIndexedType,
+			EntityGraph<? super E> loadGraph,
+			IdentifierRange<I> idRange, int pageSize,
+			boolean countBeforeLoading, long objectsLimit,
+			Integer transactionTimeout) {
+		super( mappingContext, tenantId, notifier, cacheMode, indexedType, entityName, loadGraph, transactionTimeout );
+		this.idAttributeOfIndexedType = idAttributeOfIndexedType;
+		this.idRange = idRange;
+		this.pageSize = pageSize;
+		this.countBeforeLoading = countBeforeLoading;
+		this.objectsLimit = objectsLimit;
+
+		log.trace( "created" );
+	}
+
+	@Override
+	protected void loadAll(SessionImplementor session, PojoIndexer indexer) throws Exception {
+		if ( countBeforeLoading ) {
+			long totalCount = count( session );
+			if ( objectsLimit != 0 && objectsLimit < totalCount ) {
+				totalCount = objectsLimit;
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "going to load %d entities in range %s", (Long) totalCount, idRange );
+			}
+			getNotifier().notifyAddedTotalCount( totalCount );
+		}
+
+		I lastId = null;
+		long loadedCount = 0;
+		boolean lastPage = false;
+		while ( !lastPage ) {
+			int maxResults = pageSize;
+			if ( objectsLimit != 0 ) {
+				maxResults = (int) Math.min( maxResults, objectsLimit - loadedCount );
+			}
+			try {
+				beginTransaction( session );
+
+				List<E> entities;
+				int pageResultCount;
+				if ( hasLoadGraph() ) {
+					List<I> ids = createIdPageQuery( session, lastId )
+							.setMaxResults( maxResults )
+							.setFetchSize( maxResults )
+							.getResultList();
+					pageResultCount = ids.size();
+					if ( !ids.isEmpty() ) {
+						lastId = ids.get( ids.size() - 1 );
+					}
+					entities = ids.isEmpty() ? Collections.emptyList() : loadByIds( session, idAttributeOfIndexedType, ids );
+				}
+				else {
+					entities = createEntityPageQuery( session, lastId )
+							.setMaxResults( maxResults )
+							.setFetchSize( maxResults )
+							.getResultList();
+					pageResultCount = entities.size();
+					if ( !entities.isEmpty() ) {
+						lastId = getIdentifier( session, entities.get( entities.size() - 1 ) );
+					}
+				}
+				if ( !countBeforeLoading ) {
+					// The total count was not computed upfront: report it as we go
+					getNotifier().notifyAddedTotalCount( pageResultCount );
+				}
+				loadedCount += pageResultCount;
+				lastPage = pageResultCount < maxResults
+						|| objectsLimit != 0 && loadedCount >= objectsLimit;
+
+				indexAll( session, indexer, entities );
+				session.clear();
+			}
+			finally {
+				// it's read-only, so no need to commit
+				rollbackTransaction( session );
+			}
+		}
+	}
+
+	private long count(SessionImplementor session) throws Exception {
+		try {
+			beginTransaction( session );
+
+			CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+			CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
+			Root<E> root = criteriaQuery.from( type );
+			criteriaQuery.select( criteriaBuilder.count( root ) );
+			Predicate rangePredicate = idRange.toPredicate( criteriaBuilder, root.get( idAttributeOfIndexedType ) );
+			if ( rangePredicate != null ) {
+				criteriaQuery.where( rangePredicate );
+			}
+
+			return session.createQuery( criteriaQuery )
+					.setCacheable( false )
+					.getSingleResult();
+		}
+		finally {
+			rollbackTransaction( session );
+		}
+	}
+
+	private Query<E> createEntityPageQuery(SessionImplementor session, I lastId) {
+		CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+		CriteriaQuery<E> criteriaQuery = criteriaBuilder.createQuery( type );
+		Root<E> root = criteriaQuery.from( type );
+		criteriaQuery.select( root );
+		restrictToPage( criteriaBuilder, criteriaQuery, root.get( idAttributeOfIndexedType ), lastId );
+
+		return configure( session.createQuery( criteriaQuery ) );
+	}
+
+	private Query<I> createIdPageQuery(SessionImplementor session, I lastId) {
+		CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+		CriteriaQuery<I> criteriaQuery = criteriaBuilder.createQuery( idAttributeOfIndexedType.getJavaType() );
+		Root<E> root = criteriaQuery.from( type );
+		Path<I> idPath = root.get( idAttributeOfIndexedType );
+		criteriaQuery.select( idPath );
+		restrictToPage( criteriaBuilder, criteriaQuery, idPath, lastId );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Keyset loading is only ever used for comparable identifiers
+	private void restrictToPage(CriteriaBuilder criteriaBuilder, CriteriaQuery<?> criteriaQuery,
+			Path<I> idPath, I lastId) {
+		Predicate predicate = idRange.toPredicate( criteriaBuilder, idPath );
+		if ( lastId != null ) {
+			Predicate afterLastId = criteriaBuilder.greaterThan(
+					(Expression<Comparable>) (Expression<?>) idPath, (Comparable) lastId
+			);
+			predicate = predicate == null ? afterLastId : criteriaBuilder.and( predicate, afterLastId );
+		}
+		if ( predicate != null ) {
+			criteriaQuery.where( predicate );
+		}
+		criteriaQuery.orderBy( criteriaBuilder.asc( idPath ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private I getIdentifier(SessionImplementor session, E entity) {
+		return (I) session.getIdentifier( entity );
+	}
+
+}
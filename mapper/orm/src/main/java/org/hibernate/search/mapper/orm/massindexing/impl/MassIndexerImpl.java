@@ -45,9 +45,11 @@ public class MassIndexerImpl implements MassIndexer {
 
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
+	private int identifierLoadingThreads = 1;
 	private int documentBuilderThreads = 6; //loading the main entity, also responsible for loading of lazy @IndexedEmbedded collections
 	private int objectLoadingBatchSize = 10;
 	private long objectsLimit = 0; //means no limit at all
+	private boolean countBeforeLoading = true;
 	private CacheMode cacheMode = CacheMode.IGNORE;
 	private boolean optimizeAtEnd = true;
 	private boolean purgeAtStart = true;
@@ -55,6 +57,8 @@ public class MassIndexerImpl implements MassIndexer {
 	private MassIndexingMonitor monitor;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
 	private Integer idLoadingTransactionTimeout;
+	private boolean keysetLoading = false;
+	private String loadGraphName;
 
 	public MassIndexerImpl(HibernateOrmMassIndexingMappingContext mappingContext,
 			Set<? extends HibernateOrmMassIndexingIndexedTypeContext<?>> targetedIndexedTypes,
@@ -114,6 +118,15 @@ public MassIndexer cacheMode(CacheMode cacheMode) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.identifierLoadingThreads = numberOfThreads;
+		return this;
+	}
+
 	@Override
 	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		if ( numberOfThreads < 1 ) {
@@ -194,10 +207,11 @@ protected BatchCoordinator createCoordinator() {
 				mappingContext, sessionContext,
 				notifier,
 				rootEntities, scopeWorkspace,
-				typesToIndexInParallel, documentBuilderThreads,
-				cacheMode, objectLoadingBatchSize, objectsLimit,
+				typesToIndexInParallel, identifierLoadingThreads, documentBuilderThreads,
+				cacheMode, objectLoadingBatchSize, objectsLimit, countBeforeLoading,
 				optimizeAtEnd, purgeAtStart, optimizeAfterPurge,
-				idFetchSize, idLoadingTransactionTimeout
+				idFetchSize, idLoadingTransactionTimeout,
+				keysetLoading, loadGraphName
 		);
 	}
 
@@ -207,6 +221,24 @@ public MassIndexer limitIndexedObjectsTo(long maximum) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer countBeforeLoading(boolean count) {
+		this.countBeforeLoading = count;
+		return this;
+	}
+
+	@Override
+	public MassIndexer keysetLoading(boolean enable) {
+		this.keysetLoading = enable;
+		return this;
+	}
+
+	@Override
+	public MassIndexer loadGraph(String graphName) {
+		this.loadGraphName = graphName;
+		return this;
+	}
+
 	@Override
 	public MassIndexer idFetchSize(int idFetchSize) {
 		// don't check for positive/zero values as it's actually used by some databases
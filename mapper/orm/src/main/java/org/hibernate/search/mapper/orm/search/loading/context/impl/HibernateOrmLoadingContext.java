@@ -54,6 +54,11 @@ public ProjectionHitMapper<EntityReference, E> getProjectionHitMapper() {
 		return projectionHitMapper;
 	}
 
+	@Override
+	public void checkAsyncLoadingSupported() {
+		throw log.cannotLoadEntitiesAsynchronously();
+	}
+
 	public SessionImplementor getSessionImplementor() {
 		return sessionImplementor;
 	}
@@ -7,10 +7,12 @@
 package org.hibernate.search.mapper.orm.search.loading.impl;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import javax.persistence.metamodel.IdentifiableType;
 import javax.persistence.metamodel.Metamodel;
@@ -24,10 +26,14 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class HibernateOrmByIdEntityLoader<E> implements HibernateOrmComposableEntityLoader<E> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	public static <E> EntityLoaderFactory factory(SessionFactoryImplementor sessionFactory,
 			Class<E> entityType) {
 		return new Factory( toRootEntityClass( sessionFactory, entityType ) );
@@ -60,6 +66,12 @@ public List<E> loadBlocking(List<EntityReference> references) {
 		}
 	}
 
+	@Override
+	public CompletionStage<List<E>> loadAsync(List<EntityReference> references) {
+		// Loading entities requires the Hibernate ORM Session, which cannot be used without blocking
+		throw log.cannotLoadEntitiesAsynchronously();
+	}
+
 	@Override
 	public void loadBlocking(List<EntityReference> references, Map<? super EntityReference, ? super E> entitiesByReference) {
 		List<EntityReference> missingFromCacheReferences = loadBlockingFromCache( references, entitiesByReference );
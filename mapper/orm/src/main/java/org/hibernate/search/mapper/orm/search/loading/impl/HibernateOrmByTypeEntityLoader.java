@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.common.EntityReference;
@@ -58,6 +59,12 @@ public List<T> loadBlocking(List<EntityReference> references) {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<List<T>> loadAsync(List<EntityReference> references) {
+		// Loading entities requires the Hibernate ORM Session, which cannot be used without blocking
+		throw log.cannotLoadEntitiesAsynchronously();
+	}
+
 	private HibernateOrmComposableEntityLoader<? extends T> getDelegate(Class<?> entityType) {
 		HibernateOrmComposableEntityLoader<? extends T> delegate = delegatesByConcreteType.get( entityType );
 		if ( delegate == null ) {
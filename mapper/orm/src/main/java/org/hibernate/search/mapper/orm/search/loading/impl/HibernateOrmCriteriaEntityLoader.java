@@ -12,6 +12,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletionStage;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -59,6 +60,12 @@ private HibernateOrmCriteriaEntityLoader(
 		this.loadingOptions = loadingOptions;
 	}
 
+	@Override
+	public CompletionStage<List<E>> loadAsync(List<EntityReference> references) {
+		// Loading entities requires the Hibernate ORM Session, which cannot be used without blocking
+		throw log.cannotLoadEntitiesAsynchronously();
+	}
+
 	@Override
 	public void loadBlocking(List<EntityReference> references, Map<? super EntityReference, ? super E> entitiesByReference) {
 		Map<Object, EntityReference> documentIdSourceValueToReference = new HashMap<>();
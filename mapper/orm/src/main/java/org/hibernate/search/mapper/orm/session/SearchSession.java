@@ -13,6 +13,7 @@
 import javax.persistence.EntityManager;
 
 import org.hibernate.Session;
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
 import org.hibernate.search.mapper.orm.scope.SearchScope;
 import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
 import org.hibernate.search.mapper.orm.work.SearchWorkspace;
@@ -59,6 +60,15 @@ default <T> HibernateOrmSearchQueryHitTypeStep<T> search(Class<T> type) {
 	 */
 	<T> HibernateOrmSearchQueryHitTypeStep<T> search(SearchScope<T> scope);
 
+	/**
+	 * Initiate the building of a multi-query,
+	 * i.e. a set of search queries executed together, e.g. in a single round-trip to the backend.
+	 *
+	 * @return A {@link SearchMultiQuery}, to which queries can be added before fetching all results at once.
+	 * @see SearchMultiQuery
+	 */
+	SearchMultiQuery multiSearch();
+
 	/**
 	 * Create a {@link SearchWorkspace} for the indexes mapped to all indexed types.
 	 *
@@ -26,6 +26,11 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
+import org.hibernate.search.engine.search.query.spi.DefaultSearchMultiQuery;
+import org.hibernate.search.mapper.orm.automaticindexing.impl.HibernateOrmOutboxMappingContext;
+import org.hibernate.search.mapper.orm.automaticindexing.impl.OutboxIndexingPlan;
+import org.hibernate.search.mapper.orm.automaticindexing.impl.OutboxTable;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
@@ -94,6 +99,8 @@ public static HibernateOrmSearchSession get(HibernateOrmSearchSessionMappingCont
 	private final HibernateOrmSearchSessionMappingContext mappingContext;
 	private final HibernateOrmSessionTypeContextProvider typeContextProvider;
 	private final HibernateOrmSessionContextImpl sessionContext;
+	private final HibernateOrmOutboxMappingContext outboxMappingContext;
+	private final OutboxTable outboxTable;
 	private ConfiguredAutomaticIndexingSynchronizationStrategy configuredAutomaticIndexingSynchronizationStrategy;
 
 	/*
@@ -114,6 +121,8 @@ private HibernateOrmSearchSession(HibernateOrmSearchSessionBuilder builder,
 		this.mappingContext = builder.mappingContext;
 		this.typeContextProvider = builder.typeContextProvider;
 		this.sessionContext = backendSessionContext;
+		this.outboxMappingContext = builder.outboxMappingContext;
+		this.outboxTable = builder.outboxTable;
 		setAutomaticIndexingSynchronizationStrategy( builder.automaticIndexingSynchronizationStrategy );
 	}
 
@@ -131,6 +140,12 @@ public <T> HibernateOrmSearchQueryHitTypeStep<T> search(SearchScope<T> scope) {
 		return search( (SearchScopeImpl<T>) scope );
 	}
 
+	@Override
+	public SearchMultiQuery multiSearch() {
+		checkOrmSessionIsOpen();
+		return new DefaultSearchMultiQuery();
+	}
+
 	private <T> HibernateOrmSearchQueryHitTypeStep<T> search(SearchScopeImpl<T> scope) {
 		return scope.search( this );
 	}
@@ -245,10 +260,16 @@ public PojoIndexingPlan getCurrentIndexingPlan(boolean createIfDoesNotExist) {
 
 		ConfiguredAutomaticIndexingSynchronizationStrategy currentSynchronizationStrategy =
 				configuredAutomaticIndexingSynchronizationStrategy;
-		plan = createIndexingPlan(
-				currentSynchronizationStrategy.getDocumentCommitStrategy(),
-				currentSynchronizationStrategy.getDocumentRefreshStrategy()
-		);
+		DocumentCommitStrategy commitStrategy = currentSynchronizationStrategy.getDocumentCommitStrategy();
+		DocumentRefreshStrategy refreshStrategy = currentSynchronizationStrategy.getDocumentRefreshStrategy();
+		if ( outboxTable != null ) {
+			// Entity changes will be written to the outbox table, and indexed asynchronously
+			plan = new OutboxIndexingPlan( outboxMappingContext, outboxTable, sessionImplementor,
+					() -> createIndexingPlan( commitStrategy, refreshStrategy ) );
+		}
+		else {
+			plan = createIndexingPlan( commitStrategy, refreshStrategy );
+		}
 		planPerTransaction.put( transactionIdentifier, plan );
 
 		if ( sessionImplementor.isTransactionInProgress() ) {
@@ -266,6 +287,19 @@ public ConfiguredAutomaticIndexingSynchronizationStrategy getConfiguredAutomatic
 		return configuredAutomaticIndexingSynchronizationStrategy;
 	}
 
+	/**
+	 * @return A new indexing plan, independent from the current transaction,
+	 * to reindex entities whose changes were written to the outbox table.
+	 * Indexes are committed before the plan reports success,
+	 * so that processed events can be safely deleted from the outbox table.
+	 */
+	public PojoIndexingPlan createOutboxProcessingIndexingPlan() {
+		return createIndexingPlan(
+				DocumentCommitStrategy.FORCE,
+				configuredAutomaticIndexingSynchronizationStrategy.getDocumentRefreshStrategy()
+		);
+	}
+
 	private PojoIndexingPlan createIndexingPlan(DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
 		return getDelegate().createIndexingPlan( commitStrategy, refreshStrategy );
 	}
@@ -343,17 +377,23 @@ public static class HibernateOrmSearchSessionBuilder extends AbstractBuilder<Hib
 		private final HibernateOrmSessionTypeContextProvider typeContextProvider;
 		private final SessionImplementor sessionImplementor;
 		private final AutomaticIndexingSynchronizationStrategy automaticIndexingSynchronizationStrategy;
+		private final HibernateOrmOutboxMappingContext outboxMappingContext;
+		private final OutboxTable outboxTable;
 
 		public HibernateOrmSearchSessionBuilder(PojoMappingDelegate mappingDelegate,
 				HibernateOrmSearchSessionMappingContext mappingContext,
 				HibernateOrmSessionTypeContextProvider typeContextProvider,
 				SessionImplementor sessionImplementor,
-				AutomaticIndexingSynchronizationStrategy automaticIndexingSynchronizationStrategy) {
+				AutomaticIndexingSynchronizationStrategy automaticIndexingSynchronizationStrategy,
+				HibernateOrmOutboxMappingContext outboxMappingContext,
+				OutboxTable outboxTable) {
 			super( mappingDelegate );
 			this.mappingContext = mappingContext;
 			this.typeContextProvider = typeContextProvider;
 			this.sessionImplementor = sessionImplementor;
 			this.automaticIndexingSynchronizationStrategy = automaticIndexingSynchronizationStrategy;
+			this.outboxMappingContext = outboxMappingContext;
+			this.outboxTable = outboxTable;
 		}
 
 		private HibernateOrmSessionContextImpl buildBackendSessionContext() {
@@ -13,6 +13,7 @@
 
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.scope.SearchScope;
 import org.hibernate.search.mapper.orm.search.query.dsl.HibernateOrmSearchQueryHitTypeStep;
@@ -49,6 +50,11 @@ public <T> HibernateOrmSearchQueryHitTypeStep<T> search(SearchScope<T> scope) {
 		return getDelegate().search( scope );
 	}
 
+	@Override
+	public SearchMultiQuery multiSearch() {
+		return getDelegate().multiSearch();
+	}
+
 	@Override
 	public SearchWorkspace workspace(Collection<? extends Class<?>> types) {
 		return getDelegate().workspace( types );
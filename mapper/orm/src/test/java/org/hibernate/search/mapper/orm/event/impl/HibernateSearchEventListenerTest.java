@@ -0,0 +1,101 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.event.impl;
+
+import static org.easymock.EasyMock.expect;
+
+import java.util.BitSet;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class HibernateSearchEventListenerTest extends EasyMockSupport {
+
+	private static final Integer ENTITY_ID = 42;
+
+	private final HibernateOrmListenerContextProvider contextProvider =
+			createMock( HibernateOrmListenerContextProvider.class );
+	private final HibernateOrmListenerTypeContext typeContext = createMock( HibernateOrmListenerTypeContext.class );
+	private final PojoIndexingPlan plan = createMock( PojoIndexingPlan.class );
+	private final EventSource session = createMock( EventSource.class );
+	private final EntityPersister persister = createMock( EntityPersister.class );
+
+	private final Entity entity = new Entity();
+
+	@Test
+	public void postUpdate_dirtyProperties() {
+		HibernateSearchEventListener listener = createListener( true );
+		BitSet dirtyPaths = new BitSet();
+		dirtyPaths.set( 1 );
+
+		resetAll();
+		expectUpdateContext();
+		expect( typeContext.toDirtyPathOrdinals( new int[] { 0, 2 } ) ).andReturn( dirtyPaths );
+		plan.addOrUpdate( ENTITY_ID, entity, dirtyPaths );
+		replayAll();
+		listener.onPostUpdate( postUpdateEvent( new int[] { 0, 2 } ) );
+		verifyAll();
+	}
+
+	@Test
+	public void postUpdate_noDirtyProperties() {
+		HibernateSearchEventListener listener = createListener( true );
+
+		// e.g. session.update() on a detached entity: the whole entity must be considered dirty
+		resetAll();
+		expectUpdateContext();
+		plan.addOrUpdate( ENTITY_ID, entity );
+		replayAll();
+		listener.onPostUpdate( postUpdateEvent( null ) );
+		verifyAll();
+
+		resetAll();
+		expectUpdateContext();
+		plan.addOrUpdate( ENTITY_ID, entity );
+		replayAll();
+		listener.onPostUpdate( postUpdateEvent( new int[0] ) );
+		verifyAll();
+	}
+
+	@Test
+	public void postUpdate_dirtyCheckingDisabled() {
+		HibernateSearchEventListener listener = createListener( false );
+
+		resetAll();
+		expectUpdateContext();
+		plan.addOrUpdate( ENTITY_ID, entity );
+		replayAll();
+		listener.onPostUpdate( postUpdateEvent( new int[] { 0, 2 } ) );
+		verifyAll();
+	}
+
+	private HibernateSearchEventListener createListener(boolean dirtyCheckingEnabled) {
+		return new HibernateSearchEventListener( CompletableFuture.completedFuture( contextProvider ),
+				dirtyCheckingEnabled );
+	}
+
+	private void expectUpdateContext() {
+		expect( contextProvider.getTypeContext( Entity.class ) ).andReturn( typeContext );
+		expect( contextProvider.getCurrentIndexingPlan( session, true ) ).andReturn( plan );
+		expect( typeContext.toIndexingPlanProvidedId( ENTITY_ID ) ).andReturn( ENTITY_ID );
+	}
+
+	private PostUpdateEvent postUpdateEvent(int[] dirtyProperties) {
+		return new PostUpdateEvent( entity, ENTITY_ID, new Object[0], new Object[0], dirtyProperties,
+				persister, session );
+	}
+
+	private static class Entity {
+	}
+}
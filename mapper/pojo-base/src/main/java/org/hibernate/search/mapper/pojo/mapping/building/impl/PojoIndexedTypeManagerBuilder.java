@@ -7,9 +7,9 @@
 package org.hibernate.search.mapper.pojo.mapping.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappedIndexManagerBuilder;
@@ -119,10 +119,11 @@ void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
 		 * TODO offer more flexibility to mapper implementations, allowing them to define their own dirtiness state?
 		 * Note this will require to allow them to define their own indexing plan APIs.
 		 */
-		PojoPathFilterFactory<Set<String>> pathFilterFactory = typeAdditionalMetadata
-				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( typeModel ) )
-				.getPathFilterFactory();
-		Optional<PojoImplicitReindexingResolver<E, Set<String>>> reindexingResolverOptional =
+		PojoEntityTypeAdditionalMetadata entityTypeMetadata = typeAdditionalMetadata
+				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( typeModel ) );
+		extendedMappingCollector.dirtyPathOrdinals( entityTypeMetadata.getPathOrdinals() );
+		PojoPathFilterFactory<BitSet> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
+		Optional<PojoImplicitReindexingResolver<E, BitSet>> reindexingResolverOptional =
 				reindexingResolverBuildingHelper.build( typeModel, pathFilterFactory );
 
 		PojoIndexedTypeManager<?, E, D> typeManager = new PojoIndexedTypeManager<>(
@@ -131,6 +132,7 @@ void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
 				identityMappingCollector.routingKeyProvider,
 				preBuiltIndexingProcessor,
 				indexManagerBuilder.build(),
+				entityTypeMetadata.getPathOrdinals(),
 				reindexingResolverOptional.orElseGet( PojoImplicitReindexingResolver::noOp )
 		);
 		log.createdPojoIndexedTypeManager( typeManager );
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+
 /**
  * A collector of extended mapping information.
  * <p>
@@ -14,4 +16,12 @@
  */
 public interface PojoContainedTypeExtendedMappingCollector {
 
+	/**
+	 * @param pathOrdinals The ordinals assigned to dirty paths of this type,
+	 * to be used when passing dirty paths as a {@link java.util.BitSet} to
+	 * {@link org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan#addOrUpdate(Object, Object, java.util.BitSet)}.
+	 * No new ordinal must be assigned through this object.
+	 */
+	void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
 import org.hibernate.search.mapper.pojo.bridge.mapping.spi.IdentifierMapping;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 
 /**
@@ -21,4 +22,12 @@ public interface PojoIndexedTypeExtendedMappingCollector {
 
 	void identifierMapping(IdentifierMapping identifierMapping);
 
+	/**
+	 * @param pathOrdinals The ordinals assigned to dirty paths of this type,
+	 * to be used when passing dirty paths as a {@link java.util.BitSet} to
+	 * {@link org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan#addOrUpdate(Object, Object, java.util.BitSet)}.
+	 * No new ordinal must be assigned through this object.
+	 */
+	void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals);
+
 }
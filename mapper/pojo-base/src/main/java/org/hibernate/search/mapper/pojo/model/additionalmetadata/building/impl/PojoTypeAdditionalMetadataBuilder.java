@@ -6,11 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.building.impl;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
@@ -22,6 +22,7 @@
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoPropertyAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.reporting.impl.PojoEventContexts;
 
@@ -55,10 +56,10 @@ public PojoRawTypeModel<?> getType() {
 
 	@Override
 	public PojoEntityTypeAdditionalMetadataBuilder markAsEntity(String entityName,
-			PojoPathFilterFactory<Set<String>> pathFilterFactory) {
+			PojoPathFilterFactory<BitSet> pathFilterFactory, PojoPathOrdinals pathOrdinals) {
 		if ( entityTypeMetadataBuilder == null ) {
 			entityTypeMetadataBuilder = new PojoEntityTypeAdditionalMetadataBuilder(
-					this, entityName, pathFilterFactory
+					this, entityName, pathFilterFactory, pathOrdinals
 			);
 		}
 		else {
@@ -6,21 +6,24 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.impl;
 
+import java.util.BitSet;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 public class PojoEntityTypeAdditionalMetadata {
 	private final String entityName;
-	private final PojoPathFilterFactory<Set<String>> pathFilterFactory;
+	private final PojoPathFilterFactory<BitSet> pathFilterFactory;
+	private final PojoPathOrdinals pathOrdinals;
 	private final Optional<String> entityIdPropertyName;
 
 	public PojoEntityTypeAdditionalMetadata(String entityName,
-			PojoPathFilterFactory<Set<String>> pathFilterFactory,
+			PojoPathFilterFactory<BitSet> pathFilterFactory, PojoPathOrdinals pathOrdinals,
 			Optional<String> entityIdPropertyName) {
 		this.entityName = entityName;
 		this.pathFilterFactory = pathFilterFactory;
+		this.pathOrdinals = pathOrdinals;
 		this.entityIdPropertyName = entityIdPropertyName;
 	}
 
@@ -31,10 +34,17 @@ public String getEntityName() {
 	/**
 	 * @return A path filter factory for this type.
 	 */
-	public PojoPathFilterFactory<Set<String>> getPathFilterFactory() {
+	public PojoPathFilterFactory<BitSet> getPathFilterFactory() {
 		return pathFilterFactory;
 	}
 
+	/**
+	 * @return The ordinals of dirty paths for this type, used by filters created by the {@link #getPathFilterFactory() path filter factory}.
+	 */
+	public PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
 	public Optional<String> getEntityIdPropertyName() {
 		return entityIdPropertyName;
 	}
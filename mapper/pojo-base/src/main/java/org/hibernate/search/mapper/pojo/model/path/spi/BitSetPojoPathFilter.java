@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.BitSet;
+import java.util.Set;
+
+/**
+ * A filter expecting dirty paths represented as a {@link BitSet}
+ * of ordinals assigned by a {@link PojoPathOrdinals}.
+ * <p>
+ * Testing this filter is a single intersection of bitsets.
+ */
+public final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	private final PojoPathOrdinals ordinals;
+	private final BitSet acceptedPaths;
+
+	/**
+	 * @param ordinals The ordinals to assign to accepted paths.
+	 * Dirty paths passed to {@link #test(BitSet)} must use the same ordinals.
+	 * @param acceptedPaths The string representation of accepted paths.
+	 */
+	public BitSetPojoPathFilter(PojoPathOrdinals ordinals, Set<String> acceptedPaths) {
+		this.ordinals = ordinals;
+		this.acceptedPaths = new BitSet();
+		for ( String path : acceptedPaths ) {
+			this.acceptedPaths.set( ordinals.toOrdinal( path ) );
+		}
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		// Return true if the sets have at least one path in common
+		return acceptedPaths.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder( getClass().getSimpleName() ).append( "[" );
+		boolean first = true;
+		for ( int i = acceptedPaths.nextSetBit( 0 ); i >= 0; i = acceptedPaths.nextSetBit( i + 1 ) ) {
+			if ( !first ) {
+				builder.append( ", " );
+			}
+			first = false;
+			builder.append( ordinals.toPath( i ) );
+		}
+		return builder.append( "]" ).toString();
+	}
+}
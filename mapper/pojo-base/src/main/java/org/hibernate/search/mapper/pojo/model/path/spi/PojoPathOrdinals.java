@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bidirectional mapping between string representations of paths and integer ordinals,
+ * for a given entity type.
+ * <p>
+ * Ordinals allow to represent a set of dirty paths as a {@link BitSet},
+ * so that testing a {@link PojoPathFilter} against a set of dirty paths
+ * is a simple intersection of bitsets instead of multiple hash lookups.
+ * <p>
+ * Ordinals must only be assigned during bootstrap, through {@link #toOrdinal(String)},
+ * typically by the {@link PojoPathFilterFactory} when creating filters.
+ * After bootstrap, instances are only read from, and thus safe for concurrent use.
+ */
+public final class PojoPathOrdinals {
+
+	private final Map<String, Integer> ordinalByPath = new HashMap<>();
+	private final List<String> pathByOrdinal = new ArrayList<>();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + pathByOrdinal + "]";
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal for the given path, assigning a new ordinal if necessary.
+	 * Must only be called during bootstrap.
+	 */
+	public int toOrdinal(String path) {
+		Integer ordinal = ordinalByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = pathByOrdinal.size();
+			pathByOrdinal.add( path );
+			ordinalByPath.put( path, ordinal );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal for the given path, or {@code null} if no ordinal was assigned to that path,
+	 * meaning no filter will ever accept it.
+	 */
+	public Integer toExistingOrdinal(String path) {
+		return ordinalByPath.get( path );
+	}
+
+	/**
+	 * @param ordinal An ordinal assigned by this object.
+	 * @return The string representation of the path with the given ordinal.
+	 */
+	public String toPath(int ordinal) {
+		return pathByOrdinal.get( ordinal );
+	}
+
+}
@@ -7,10 +7,9 @@
 package org.hibernate.search.mapper.pojo.work.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
@@ -54,6 +53,12 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getPlan( providedId ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
+		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
+		getPlan( providedId ).update( entitySupplier, dirtyPaths );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
@@ -87,7 +92,11 @@ private class ContainedEntityIndexingPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		/*
+		 * Ordinals of dirty paths, as assigned by typeContext.getPathOrdinals().
+		 * Null until the first dirty path is added.
+		 */
+		private BitSet dirtyPaths;
 
 		void add(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
@@ -115,6 +124,14 @@ void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			}
 		}
 
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty ) {
+				addDirtyPaths( dirtyPaths );
+			}
+		}
+
 		void delete(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
 			if ( createdInThisPlan == null ) {
@@ -154,9 +171,20 @@ private void doUpdate(Supplier<E> entitySupplier) {
 
 		private void addDirtyPath(String dirtyPath) {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
+			}
+			Integer ordinal = typeContext.getPathOrdinals().toExistingOrdinal( dirtyPath );
+			// Paths without an ordinal are not accepted by any filter: they can be ignored
+			if ( ordinal != null ) {
+				dirtyPaths.set( ordinal );
+			}
+		}
+
+		private void addDirtyPaths(BitSet dirtyPathOrdinals) {
+			if ( dirtyPaths == null ) {
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			dirtyPaths.or( dirtyPathOrdinals );
 		}
 	}
 
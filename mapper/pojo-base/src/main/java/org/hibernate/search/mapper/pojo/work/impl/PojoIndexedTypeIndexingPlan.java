@@ -6,10 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -62,6 +61,13 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getPlan( identifier ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
+		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
+		I identifier = typeContext.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		getPlan( identifier ).update( entitySupplier, dirtyPaths );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
@@ -144,7 +150,11 @@ private class IndexedEntityIndexingPlan {
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
 		private boolean updatedBecauseOfContained;
-		private Set<String> dirtyPaths;
+		/*
+		 * Ordinals of dirty paths, as assigned by typeContext.getPathOrdinals().
+		 * Null until the first dirty path is added.
+		 */
+		private BitSet dirtyPaths;
 
 		private IndexedEntityIndexingPlan(I identifier) {
 			this.identifier = identifier;
@@ -173,6 +183,14 @@ void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			}
 		}
 
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty ) {
+				addDirtyPaths( dirtyPaths );
+			}
+		}
+
 		void updateBecauseOfContained(Supplier<E> entitySupplier) {
 			doUpdate( entitySupplier );
 			updatedBecauseOfContained = true;
@@ -262,9 +280,20 @@ private void doUpdate(Supplier<E> entitySupplier) {
 
 		private void addDirtyPath(String dirtyPath) {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
+			}
+			Integer ordinal = typeContext.getPathOrdinals().toExistingOrdinal( dirtyPath );
+			// Paths without an ordinal are not accepted by any filter: they can be ignored
+			if ( ordinal != null ) {
+				dirtyPaths.set( ordinal );
+			}
+		}
+
+		private void addDirtyPaths(BitSet dirtyPathOrdinals) {
+			if ( dirtyPaths == null ) {
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			dirtyPaths.or( dirtyPathOrdinals );
 		}
 	}
 
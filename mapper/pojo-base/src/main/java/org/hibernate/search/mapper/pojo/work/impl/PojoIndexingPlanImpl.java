@@ -8,16 +8,19 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
 import org.hibernate.search.mapper.pojo.session.context.spi.AbstractPojoBackendSessionContext;
@@ -91,6 +94,13 @@ public void addOrUpdate(Object providedId, Object entity, String... dirtyPaths)
 		delegate.update( providedId, entity, dirtyPaths );
 	}
 
+	@Override
+	public void addOrUpdate(Object providedId, Object entity, BitSet dirtyPaths) {
+		Class<?> clazz = getIntrospector().getClass( entity );
+		AbstractPojoTypeIndexingPlan delegate = getDelegate( clazz );
+		delegate.update( providedId, entity, dirtyPaths );
+	}
+
 	@Override
 	public void delete(Object entity) {
 		delete( null, entity );
@@ -109,6 +119,17 @@ public void purge(Class<?> clazz, Object providedId) {
 		delegate.purge( providedId );
 	}
 
+	@Override
+	public void resolveContainingEntities(Consumer<Object> containingEntityConsumer) {
+		PojoReindexingCollector collector = containingEntityConsumer::accept;
+		for ( PojoContainedTypeIndexingPlan<?> delegate : containedTypeDelegates.values() ) {
+			delegate.resolveDirty( collector );
+		}
+		for ( PojoIndexedTypeIndexingPlan<?, ?, ?> delegate : indexedTypeDelegates.values() ) {
+			delegate.resolveDirty( collector );
+		}
+	}
+
 	@Override
 	public void process() {
 		if ( isProcessing ) {
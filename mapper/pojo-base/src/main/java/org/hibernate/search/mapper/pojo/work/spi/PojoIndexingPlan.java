@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.work.spi;
 
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
 
@@ -100,6 +102,25 @@ public interface PojoIndexingPlan {
 	 */
 	void addOrUpdate(Object providedId, Object entity, String... dirtyPaths);
 
+	/**
+	 * Update an entity in the index, or add it if it's absent from the index,
+	 * but try to avoid reindexing if the given dirty paths
+	 * are known not to impact the indexed form of that entity.
+	 * <p>
+	 * Equivalent to {@link #addOrUpdate(Object, Object, String...)},
+	 * but avoids converting the string representation of each dirty path on every call.
+	 *
+	 * @param providedId A value to extract the document ID from.
+	 * Generally the expected value is the entity ID, but a different value may be expected depending on the mapping.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to update in the index.
+	 * @param dirtyPaths The ordinals of the paths to consider dirty,
+	 * as assigned by the {@link org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals}
+	 * passed to the mapper for the type of {@code entity} at bootstrap.
+	 * The bitset is not modified nor retained by this method.
+	 */
+	void addOrUpdate(Object providedId, Object entity, BitSet dirtyPaths);
+
 	/**
 	 * Delete an entity from the index.
 	 * <p>
@@ -134,6 +155,19 @@ public interface PojoIndexingPlan {
 	 */
 	void purge(Class<?> clazz, Object providedId);
 
+	/**
+	 * Resolve the entities that must be reindexed because they contain entities
+	 * added or updated in this plan so far,
+	 * and pass them to the given consumer instead of reindexing them.
+	 * <p>
+	 * No document is built and nothing is sent to the index:
+	 * this is only useful when the actual indexing happens later, e.g. in another session.
+	 * The plan should be discarded afterwards.
+	 *
+	 * @param containingEntityConsumer A consumer for the entities to reindex.
+	 */
+	void resolveContainingEntities(Consumer<Object> containingEntityConsumer);
+
 	/**
 	 * Extract all data from objects passed to the indexing plan so far,
 	 * create documents to be indexed and put them into an internal buffer,
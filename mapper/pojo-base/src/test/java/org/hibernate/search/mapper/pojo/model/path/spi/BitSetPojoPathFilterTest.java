@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+
+import org.junit.Test;
+
+public class BitSetPojoPathFilterTest {
+
+	private final PojoPathOrdinals ordinals = new PojoPathOrdinals();
+
+	@Test
+	public void test() {
+		BitSetPojoPathFilter filter1 = filter( "foo", "bar" );
+		BitSetPojoPathFilter filter2 = filter( "bar", "baz.qux" );
+		// Ordinals are shared across filters
+		assertThat( ordinals.toExistingOrdinal( "bar" ) ).isEqualTo( 1 );
+		assertThat( ordinals.toExistingOrdinal( "unknown" ) ).isNull();
+
+		assertThat( filter1.test( dirty( "foo" ) ) ).isTrue();
+		assertThat( filter1.test( dirty( "bar" ) ) ).isTrue();
+		assertThat( filter1.test( dirty( "baz.qux" ) ) ).isFalse();
+		assertThat( filter1.test( dirty() ) ).isFalse();
+
+		assertThat( filter2.test( dirty( "foo" ) ) ).isFalse();
+		assertThat( filter2.test( dirty( "foo", "baz.qux" ) ) ).isTrue();
+
+		assertThat( filter2 ).hasToString( "BitSetPojoPathFilter[bar, baz.qux]" );
+	}
+
+	private BitSetPojoPathFilter filter(String... paths) {
+		return new BitSetPojoPathFilter( ordinals, new LinkedHashSet<>( Arrays.asList( paths ) ) );
+	}
+
+	private BitSet dirty(String... paths) {
+		BitSet result = new BitSet();
+		for ( String path : paths ) {
+			result.set( ordinals.toExistingOrdinal( path ) );
+		}
+		return result;
+	}
+}
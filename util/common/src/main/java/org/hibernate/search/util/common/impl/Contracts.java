@@ -49,6 +49,12 @@ public static void assertStrictlyPositive(int number, String objectDescription)
 		}
 	}
 
+	public static void assertStrictlyPositive(long number, String objectDescription) {
+		if ( number <= 0 ) {
+			throw log.mustBeStrictlyPositive( objectDescription );
+		}
+	}
+
 	public static void assertNotNullNorEmpty(String object, String objectDescription) {
 		if ( object == null || object.isEmpty() ) {
 			throw log.stringMustNotBeNullNorEmpty( objectDescription );
@@ -14,6 +14,7 @@
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionContext;
@@ -63,4 +64,9 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 	public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		throw new UnsupportedOperationException( "Scrolling is not supported by the stub backend" );
+	}
 }
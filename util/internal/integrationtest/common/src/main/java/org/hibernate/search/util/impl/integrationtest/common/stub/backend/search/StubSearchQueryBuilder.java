@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -46,6 +48,26 @@ public void addRoutingKey(String routingKey) {
 		workBuilder.routingKey( routingKey );
 	}
 
+	@Override
+	public void failAfter(long timeout, TimeUnit timeUnit) {
+		workBuilder.timeout( timeout, timeUnit, true );
+	}
+
+	@Override
+	public void truncateAfter(long timeout, TimeUnit timeUnit) {
+		workBuilder.timeout( timeout, timeUnit, false );
+	}
+
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		workBuilder.totalHitCountThreshold( totalHitCountThreshold );
+	}
+
+	@Override
+	public void constantScore() {
+		workBuilder.constantScore();
+	}
+
 	@Override
 	public SearchQuery<H> build() {
 		return new StubSearchQuery<>(
@@ -9,6 +9,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class StubSearchWork {
 
@@ -26,12 +27,22 @@ public static Builder builder(ResultType resultType) {
 	private final List<String> routingKeys;
 	private final Integer offset;
 	private final Integer limit;
+	private final Long timeout;
+	private final TimeUnit timeUnit;
+	private final Boolean exceptionOnTimeout;
+	private final Long totalHitCountThreshold;
+	private final boolean constantScore;
 
 	private StubSearchWork(Builder builder) {
 		this.resultType = builder.resultType;
 		this.routingKeys = Collections.unmodifiableList( new ArrayList<>( builder.routingKeys ) );
 		this.offset = builder.offset;
 		this.limit = builder.limit;
+		this.timeout = builder.timeout;
+		this.timeUnit = builder.timeUnit;
+		this.exceptionOnTimeout = builder.exceptionOnTimeout;
+		this.totalHitCountThreshold = builder.totalHitCountThreshold;
+		this.constantScore = builder.constantScore;
 	}
 
 	public ResultType getResultType() {
@@ -50,12 +61,37 @@ public Integer getLimit() {
 		return limit;
 	}
 
+	public Long getTimeout() {
+		return timeout;
+	}
+
+	public TimeUnit getTimeUnit() {
+		return timeUnit;
+	}
+
+	public Boolean getExceptionOnTimeout() {
+		return exceptionOnTimeout;
+	}
+
+	public Long getTotalHitCountThreshold() {
+		return totalHitCountThreshold;
+	}
+
+	public boolean isConstantScore() {
+		return constantScore;
+	}
+
 	@Override
 	public String toString() {
 		return "StubSearchWork[" +
 				", routingKeys=" + routingKeys +
 				", offset=" + offset +
 				", limit=" + limit +
+				", timeout=" + timeout +
+				", timeUnit=" + timeUnit +
+				", exceptionOnTimeout=" + exceptionOnTimeout +
+				", totalHitCountThreshold=" + totalHitCountThreshold +
+				", constantScore=" + constantScore +
 				']';
 	}
 
@@ -65,6 +101,11 @@ public static class Builder {
 		private final List<String> routingKeys = new ArrayList<>();
 		private Integer offset;
 		private Integer limit;
+		private Long timeout;
+		private TimeUnit timeUnit;
+		private Boolean exceptionOnTimeout;
+		private Long totalHitCountThreshold;
+		private boolean constantScore;
 
 		private Builder(ResultType resultType) {
 			this.resultType = resultType;
@@ -85,6 +126,23 @@ public Builder limit(Integer limit) {
 			return this;
 		}
 
+		public Builder timeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+			this.timeout = timeout;
+			this.timeUnit = timeUnit;
+			this.exceptionOnTimeout = exceptionOnTimeout;
+			return this;
+		}
+
+		public Builder totalHitCountThreshold(long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
+		public Builder constantScore() {
+			this.constantScore = true;
+			return this;
+		}
+
 		public StubSearchWork build() {
 			return new StubSearchWork( this );
 		}